@@ -0,0 +1,50 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitAccessInfo;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Put an empty cache for the access information of documentation units into the reactor context of
+ * every request. The {@link AuthService} loads the access information of a documentation unit only
+ * once per request, even if it is checked several times. Handlers which only need the access
+ * information, e.g. the key of the attached file, reuse the access information of the check.
+ */
+@Component
+public class AccessInfoCacheWebFilter implements WebFilter {
+  static final String CONTEXT_KEY = AccessInfoCacheWebFilter.class.getName();
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    return chain
+        .filter(exchange)
+        .contextWrite(
+            context ->
+                context.put(
+                    CONTEXT_KEY, new ConcurrentHashMap<Object, Mono<DocumentUnitAccessInfo>>()));
+  }
+
+  /**
+   * Get the access information from the cache of the current request. If the request has no cache,
+   * the access information is loaded every time.
+   *
+   * @param key uuid or document number of the documentation unit
+   * @param loader loads the access information if it isn't in the cache yet
+   * @return the access information of the documentation unit
+   */
+  static Mono<DocumentUnitAccessInfo> getCached(
+      Object key, Supplier<Mono<DocumentUnitAccessInfo>> loader) {
+    return Mono.deferContextual(
+        context ->
+            context
+                .<Map<Object, Mono<DocumentUnitAccessInfo>>>getOrEmpty(CONTEXT_KEY)
+                .map(cache -> cache.computeIfAbsent(key, k -> loader.get().cache()))
+                .orElseGet(loader));
+  }
+}
@@ -3,7 +3,7 @@ package de.bund.digitalservice.ris.caselaw.adapter;
 import static de.bund.digitalservice.ris.caselaw.domain.PublicationStatus.PUBLISHED;
 import static de.bund.digitalservice.ris.caselaw.domain.PublicationStatus.PUBLISHING;
 
-import de.bund.digitalservice.ris.caselaw.domain.DocumentUnit;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitAccessInfo;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitService;
 import de.bund.digitalservice.ris.caselaw.domain.UserService;
 import java.util.UUID;
@@ -34,8 +34,7 @@ public class AuthService {
     return documentNumber ->
         Mono.defer(
             () ->
-                documentUnitService
-                    .getByDocumentNumber(documentNumber)
+                getAccessInfoByDocumentNumber(documentNumber)
                     .flatMap(this::userHasReadAccess)
                     .switchIfEmpty(Mono.just(false)));
   }
@@ -45,8 +44,7 @@ public class AuthService {
     return uuid ->
         Mono.defer(
             () ->
-                documentUnitService
-                    .getByUuid(uuid)
+                getAccessInfoByUuid(uuid)
                     .flatMap(this::userHasReadAccess)
                     .switchIfEmpty(Mono.just(false)));
   }
@@ -56,24 +54,40 @@ public class AuthService {
     return uuid ->
         Mono.defer(
             () ->
-                documentUnitService
-                    .getByUuid(uuid)
+                getAccessInfoByUuid(uuid)
                     .flatMap(this::userHasSameDocOfficeAsDocument)
                     .defaultIfEmpty(false)
                     .onErrorReturn(false));
   }
 
-  private Mono<Boolean> userHasReadAccess(DocumentUnit documentUnit) {
-    return (documentUnit.status() != null // legacy documents are published
-                && (documentUnit.status().publicationStatus() == PUBLISHED
-                    || documentUnit.status().publicationStatus() == PUBLISHING)
+  /**
+   * Get the access information of the documentation unit with the given uuid. The access
+   * information is loaded only once per request.
+   *
+   * @param uuid uuid of the documentation unit
+   * @return the access information or an empty mono if the documentation unit doesn't exist
+   */
+  public Mono<DocumentUnitAccessInfo> getAccessInfoByUuid(UUID uuid) {
+    return AccessInfoCacheWebFilter.getCached(
+        uuid, () -> documentUnitService.getAccessInfoByUuid(uuid));
+  }
+
+  private Mono<DocumentUnitAccessInfo> getAccessInfoByDocumentNumber(String documentNumber) {
+    return AccessInfoCacheWebFilter.getCached(
+        documentNumber, () -> documentUnitService.getAccessInfoByDocumentNumber(documentNumber));
+  }
+
+  private Mono<Boolean> userHasReadAccess(DocumentUnitAccessInfo accessInfo) {
+    return (accessInfo.status() != null // legacy documents are published
+                && (accessInfo.status().publicationStatus() == PUBLISHED
+                    || accessInfo.status().publicationStatus() == PUBLISHING)
             ? Mono.just(true)
-            : userHasSameDocOfficeAsDocument(documentUnit))
+            : userHasSameDocOfficeAsDocument(accessInfo))
         .defaultIfEmpty(false)
         .onErrorReturn(false);
   }
 
-  private Mono<Boolean> userHasSameDocOfficeAsDocument(DocumentUnit documentUnit) {
+  private Mono<Boolean> userHasSameDocOfficeAsDocument(DocumentUnitAccessInfo accessInfo) {
     return ReactiveSecurityContextHolder.getContext()
         .map(SecurityContext::getAuthentication)
         .map(Authentication::getPrincipal)
@@ -81,9 +95,7 @@ public class AuthService {
             principal ->
                 userService
                     .getDocumentationOffice((OidcUser) principal)
-                    .map(
-                        userOffice ->
-                            documentUnit.coreData().documentationOffice().equals(userOffice)))
+                    .map(userOffice -> userOffice.equals(accessInfo.documentationOffice())))
         .defaultIfEmpty(false);
   }
 }
@@ -0,0 +1,134 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import de.bund.digitalservice.ris.caselaw.domain.ConverterService;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitRepository;
+import de.bund.digitalservice.ris.caselaw.domain.FileConversion;
+import de.bund.digitalservice.ris.caselaw.domain.FileConversionService;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.Sinks.EmitResult;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
+
+/**
+ * Converts attached files in the background, so that the first view of a file doesn't have to wait
+ * for the conversion. The converted file is put into the conversion cache, duration and error of
+ * the conversion are saved for the documentation unit.
+ *
+ * <p>Requested conversions are queued in a bounded sink and processed on an own scheduler with a
+ * limited concurrency. If the queue is full or the conversion is rejected because of too many
+ * parallel conversions, the file is converted on the first view.
+ */
+@Service
+@Slf4j
+public class BackgroundFileConversionService implements FileConversionService {
+  private final ConverterService converterService;
+  private final DocumentUnitRepository repository;
+  private final Sinks.Many<ConversionRequest> requests;
+  private final Set<String> queuedFiles = ConcurrentHashMap.newKeySet();
+  private final Scheduler scheduler;
+  private final Disposable subscription;
+
+  public BackgroundFileConversionService(
+      ConverterService converterService,
+      DocumentUnitRepository repository,
+      @Value("${docx.conversion.background.queue-size:100}") int queueSize,
+      @Value("${docx.conversion.background.concurrency:2}") int concurrency) {
+    this.converterService = converterService;
+    this.repository = repository;
+    this.requests =
+        Sinks.many().unicast().onBackpressureBuffer(Queues.<ConversionRequest>get(queueSize).get());
+    this.scheduler = Schedulers.newSingle("file-conversion");
+    this.subscription =
+        requests.asFlux().publishOn(scheduler).flatMap(this::convert, concurrency).subscribe();
+  }
+
+  @PreDestroy
+  public void stop() {
+    subscription.dispose();
+    scheduler.dispose();
+  }
+
+  @Override
+  public Mono<Void> requestConversion(UUID documentUnitUuid, String fileUuid) {
+    return Mono.fromRunnable(() -> queue(new ConversionRequest(documentUnitUuid, fileUuid)));
+  }
+
+  private void queue(ConversionRequest request) {
+    if (!queuedFiles.add(request.fileUuid())) {
+      return;
+    }
+
+    EmitResult result;
+    synchronized (requests) {
+      result = requests.tryEmitNext(request);
+    }
+
+    if (result.isFailure()) {
+      queuedFiles.remove(request.fileUuid());
+      log.warn(
+          "Couldn't queue the conversion of '{}' ({}), it's converted on the first view",
+          request.fileUuid(),
+          result);
+    }
+  }
+
+  private Mono<Void> convert(ConversionRequest request) {
+    return Mono.fromSupplier(System::nanoTime)
+        .flatMap(
+            start ->
+                converterService
+                    .getConvertedObject(request.fileUuid())
+                    .then(
+                        Mono.fromSupplier(
+                            () -> buildFileConversion(request.fileUuid(), start, null)))
+                    .onErrorResume(
+                        ex -> !(ex instanceof ResponseStatusException),
+                        ex -> {
+                          log.error(
+                              "Couldn't convert the attached file '{}'", request.fileUuid(), ex);
+                          return Mono.just(buildFileConversion(request.fileUuid(), start, ex));
+                        }))
+        .flatMap(
+            fileConversion ->
+                repository.saveFileConversion(request.documentUnitUuid(), fileConversion))
+        .onErrorResume(
+            ex -> {
+              log.warn(
+                  "Couldn't convert the attached file '{}' after the upload",
+                  request.fileUuid(),
+                  ex);
+              return Mono.empty();
+            })
+        .doFinally(signal -> queuedFiles.remove(request.fileUuid()));
+  }
+
+  private FileConversion buildFileConversion(String fileUuid, long start, Throwable error) {
+    String errorMessage = null;
+    if (error != null) {
+      errorMessage =
+          error.getMessage() == null ? error.getClass().getSimpleName() : error.getMessage();
+    }
+
+    return FileConversion.builder()
+        .s3path(fileUuid)
+        .durationInMilliseconds(Duration.ofNanos(System.nanoTime() - start).toMillis())
+        .errorMessage(errorMessage)
+        .convertedAt(Instant.now())
+        .build();
+  }
+
+  private record ConversionRequest(UUID documentUnitUuid, String fileUuid) {}
+}
@@ -1,6 +1,8 @@
 package de.bund.digitalservice.ris.caselaw.adapter;
 
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentUnitLatestStatusRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentUnitStatusRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitLatestStatusDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitStatusDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.PostgresDocumentUnitRepositoryImpl;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnit;
@@ -12,6 +14,7 @@ import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
 @Service
@@ -19,19 +22,22 @@ import reactor.core.publisher.Mono;
 public class DatabaseDocumentUnitStatusService implements DocumentUnitStatusService {
 
   private final DatabaseDocumentUnitStatusRepository repository;
+  private final DatabaseDocumentUnitLatestStatusRepository latestStatusRepository;
   private final PostgresDocumentUnitRepositoryImpl documentUnitRepository;
 
   public DatabaseDocumentUnitStatusService(
       DatabaseDocumentUnitStatusRepository repository,
+      DatabaseDocumentUnitLatestStatusRepository latestStatusRepository,
       PostgresDocumentUnitRepositoryImpl documentUnitRepository) {
     this.repository = repository;
+    this.latestStatusRepository = latestStatusRepository;
     this.documentUnitRepository = documentUnitRepository;
   }
 
   @Override
+  @Transactional(transactionManager = "connectionFactoryTransactionManager")
   public Mono<DocumentUnit> setInitialStatus(DocumentUnit documentUnit) {
-    return repository
-        .save(
+    return appendStatus(
             DocumentUnitStatusDTO.builder()
                 .newEntry(true)
                 .id(UUID.randomUUID())
@@ -44,10 +50,10 @@ public class DatabaseDocumentUnitStatusService implements DocumentUnitStatusServ
   }
 
   @Override
+  @Transactional(transactionManager = "connectionFactoryTransactionManager")
   public Mono<DocumentUnit> setToPublishing(
       DocumentUnit documentUnit, Instant publishDate, String issuerAddress) {
-    return repository
-        .save(
+    return appendStatus(
             DocumentUnitStatusDTO.builder()
                 .newEntry(true)
                 .id(UUID.randomUUID())
@@ -61,6 +67,7 @@ public class DatabaseDocumentUnitStatusService implements DocumentUnitStatusServ
   }
 
   @Override
+  @Transactional(transactionManager = "connectionFactoryTransactionManager")
   public Mono<Void> update(String documentNumber, DocumentUnitStatus status) {
     return getLatestPublishing(documentNumber)
         .flatMap(previousStatusDTO -> saveStatus(status, previousStatusDTO))
@@ -68,6 +75,7 @@ public class DatabaseDocumentUnitStatusService implements DocumentUnitStatusServ
   }
 
   @Override
+  @Transactional(transactionManager = "connectionFactoryTransactionManager")
   public Mono<Void> update(UUID documentUuid, DocumentUnitStatus status) {
     return getLatestPublishing(documentUuid)
         .flatMap(previousStatusDTO -> saveStatus(status, previousStatusDTO))
@@ -77,7 +85,7 @@ public class DatabaseDocumentUnitStatusService implements DocumentUnitStatusServ
   @NotNull
   private Mono<DocumentUnitStatusDTO> saveStatus(
       DocumentUnitStatus status, DocumentUnitStatusDTO previousStatusDTO) {
-    return repository.save(
+    return appendStatus(
         DocumentUnitStatusDTO.builder()
             .newEntry(true)
             .id(UUID.randomUUID())
@@ -89,15 +97,33 @@ public class DatabaseDocumentUnitStatusService implements DocumentUnitStatusServ
             .build());
   }
 
+  /**
+   * Append a status to the status history and set it as the latest status of the documentation
+   * unit. Has to be called inside a transaction to keep history and latest status consistent.
+   */
+  private Mono<DocumentUnitStatusDTO> appendStatus(DocumentUnitStatusDTO statusDTO) {
+    return repository
+        .save(statusDTO)
+        .flatMap(
+            savedStatusDTO ->
+                latestStatusRepository
+                    .upsert(
+                        savedStatusDTO.getDocumentUnitId(),
+                        savedStatusDTO.getPublicationStatus(),
+                        savedStatusDTO.isWithError(),
+                        savedStatusDTO.getCreatedAt())
+                    .thenReturn(savedStatusDTO));
+  }
+
   public Mono<String> getLatestIssuerAddress(String documentNumber) {
     return getLatestPublishing(documentNumber).map(DocumentUnitStatusDTO::getIssuerAddress);
   }
 
   @Override
   public Mono<PublicationStatus> getLatestStatus(UUID documentUuid) {
-    return repository
-        .findFirstByDocumentUnitIdOrderByCreatedAtDesc(documentUuid)
-        .map(DocumentUnitStatusDTO::getPublicationStatus);
+    return latestStatusRepository
+        .findById(documentUuid)
+        .map(DocumentUnitLatestStatusDTO::getPublicationStatus);
   }
 
   private Mono<DocumentUnitStatusDTO> getLatestPublishing(String documentNumber) {
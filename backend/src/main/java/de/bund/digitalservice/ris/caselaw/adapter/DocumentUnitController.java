@@ -2,13 +2,19 @@ package de.bund.digitalservice.ris.caselaw.adapter;
 
 import de.bund.digitalservice.ris.caselaw.domain.ConverterService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnit;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitAccessInfo;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitListCursor;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitListEntry;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitListSlice;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitService;
 import de.bund.digitalservice.ris.caselaw.domain.LinkedDocumentationUnit;
 import de.bund.digitalservice.ris.caselaw.domain.Publication;
+import de.bund.digitalservice.ris.caselaw.domain.PublicationHistoryEntry;
 import de.bund.digitalservice.ris.caselaw.domain.PublicationHistoryRecord;
+import de.bund.digitalservice.ris.caselaw.domain.PublicationReport;
 import de.bund.digitalservice.ris.caselaw.domain.SingleNormValidationInfo;
 import de.bund.digitalservice.ris.caselaw.domain.UserService;
+import de.bund.digitalservice.ris.caselaw.domain.XmlPublication;
 import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
 import de.bund.digitalservice.ris.norms.framework.adapter.input.restapi.OpenApiConfiguration;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,6 +22,8 @@ import jakarta.validation.Valid;
 import java.nio.ByteBuffer;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpHeaders;
@@ -36,6 +44,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -47,11 +56,16 @@ public class DocumentUnitController {
   private final DocumentUnitService service;
   private final UserService userService;
   private final ConverterService converterService;
+  private final AuthService authService;
 
   public DocumentUnitController(
-      DocumentUnitService service, UserService userService, ConverterService converterService) {
+      DocumentUnitService service,
+      UserService userService,
+      ConverterService converterService,
+      AuthService authService) {
     this.service = service;
     this.userService = userService;
+    this.authService = authService;
     this.converterService = converterService;
   }
 
@@ -103,6 +117,35 @@ public class DocumentUnitController {
         .flatMap(user -> service.getAll(PageRequest.of(page, size), user));
   }
 
+  @GetMapping(value = "", params = "!pg")
+  @PreAuthorize("isAuthenticated()")
+  // Access rights are being enforced through SQL filtering
+  public Mono<ResponseEntity<DocumentUnitListSlice>> getAllAfter(
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam("sz") int size,
+      @RequestParam(value = "count", defaultValue = "false") boolean withCount,
+      @AuthenticationPrincipal OidcUser oidcUser) {
+
+    if (size < 1) {
+      return Mono.just(ResponseEntity.unprocessableEntity().build());
+    }
+
+    DocumentUnitListCursor listCursor = null;
+    if (cursor != null) {
+      try {
+        listCursor = DocumentUnitListCursor.decode(cursor);
+      } catch (IllegalArgumentException ex) {
+        return Mono.just(ResponseEntity.unprocessableEntity().build());
+      }
+    }
+
+    DocumentUnitListCursor finalListCursor = listCursor;
+    return userService
+        .getDocumentationOffice(oidcUser)
+        .flatMap(user -> service.getAllAfter(finalListCursor, size, withCount, user))
+        .map(ResponseEntity::ok);
+  }
+
   @GetMapping(value = "/{documentNumber}")
   @PreAuthorize("@userHasReadAccessByDocumentNumber.apply(#documentNumber)")
   public Mono<ResponseEntity<DocumentUnit>> getByDocumentNumber(
@@ -161,6 +204,40 @@ public class DocumentUnitController {
     return service.getPublicationHistory(uuid);
   }
 
+  @GetMapping(value = "/{uuid}/publish/history", produces = MediaType.APPLICATION_JSON_VALUE)
+  @PreAuthorize("@userHasReadAccessByDocumentUnitUuid.apply(#uuid)")
+  public Mono<Page<PublicationHistoryEntry>> getPagedPublicationHistory(
+      @PathVariable UUID uuid, @RequestParam("pg") int page, @RequestParam("sz") int size) {
+
+    return service.getPublicationHistory(uuid, PageRequest.of(page, size));
+  }
+
+  @GetMapping(
+      value = "/{uuid}/publish/history/publications/{publicationId}",
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  @PreAuthorize("@userHasReadAccessByDocumentUnitUuid.apply(#uuid)")
+  public Mono<ResponseEntity<XmlPublication>> getPublication(
+      @PathVariable UUID uuid, @PathVariable Long publicationId) {
+
+    return service
+        .getPublication(uuid, publicationId)
+        .map(ResponseEntity::ok)
+        .defaultIfEmpty(ResponseEntity.notFound().build());
+  }
+
+  @GetMapping(
+      value = "/{uuid}/publish/history/reports/{reportUuid}",
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  @PreAuthorize("@userHasReadAccessByDocumentUnitUuid.apply(#uuid)")
+  public Mono<ResponseEntity<PublicationReport>> getPublicationReport(
+      @PathVariable UUID uuid, @PathVariable UUID reportUuid) {
+
+    return service
+        .getPublicationReport(uuid, reportUuid)
+        .map(ResponseEntity::ok)
+        .defaultIfEmpty(ResponseEntity.notFound().build());
+  }
+
   @PutMapping(value = "/search")
   @PreAuthorize("isAuthenticated()")
   public Mono<Page<LinkedDocumentationUnit>> searchByLinkedDocumentationUnit(
@@ -175,14 +252,36 @@ public class DocumentUnitController {
   @GetMapping(value = "/{uuid}/docx", produces = MediaType.APPLICATION_JSON_VALUE)
   @PreAuthorize("@userHasReadAccessByDocumentUnitUuid.apply(#uuid)")
   public Mono<ResponseEntity<Docx2Html>> html(@PathVariable UUID uuid) {
-    return service
-        .getByUuid(uuid)
-        .map(DocumentUnit::s3path)
+    // the access info is already loaded by the access check of this request
+    return authService
+        .getAccessInfoByUuid(uuid)
+        .map(DocumentUnitAccessInfo::s3path)
         .flatMap(converterService::getConvertedObject)
         .map(ResponseEntity::ok)
+        .onErrorResume(
+            ResponseStatusException.class,
+            ex -> Mono.just(ResponseEntity.status(ex.getStatusCode()).build()))
         .onErrorReturn(ResponseEntity.internalServerError().build());
   }
 
+  /**
+   * Get the html of the attached docx file as text/html. Unlike {@link #html(UUID)} the html isn't
+   * wrapped into json. The html is rendered and cached as a whole, only the encoding into the
+   * response is done in chunks.
+   *
+   * @param uuid uuid of the documentation unit
+   * @return the html of the attached docx file
+   */
+  @GetMapping(value = "/{uuid}/docx/html", produces = MediaType.TEXT_HTML_VALUE)
+  @PreAuthorize("@userHasReadAccessByDocumentUnitUuid.apply(#uuid)")
+  public Flux<DataBuffer> htmlText(@PathVariable UUID uuid) {
+    return authService
+        .getAccessInfoByUuid(uuid)
+        .mapNotNull(DocumentUnitAccessInfo::s3path)
+        .flatMapMany(converterService::getConvertedHtml)
+        .map(DefaultDataBufferFactory.sharedInstance::wrap);
+  }
+
   @PostMapping(value = "/validateSingleNorm")
   @PreAuthorize("isAuthenticated()")
   public Mono<ResponseEntity<String>> validateSingleNorm(
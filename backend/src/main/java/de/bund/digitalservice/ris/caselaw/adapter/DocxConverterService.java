@@ -1,21 +1,30 @@
 package de.bund.digitalservice.ris.caselaw.adapter;
 
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ConversionContext;
 import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocumentUnitDocxListUtils;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConversionCache;
 import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConverter;
 import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConverterException;
 import de.bund.digitalservice.ris.caselaw.domain.ConverterService;
 import de.bund.digitalservice.ris.caselaw.domain.docx.DocumentUnitDocx;
 import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
 import de.bund.digitalservice.ris.caselaw.domain.docx.DocxImagePart;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.xml.parsers.DocumentBuilder;
@@ -34,13 +43,18 @@ import org.docx4j.openpackaging.parts.WordprocessingML.ImageJpegPart;
 import org.docx4j.openpackaging.parts.WordprocessingML.ImagePngPart;
 import org.docx4j.openpackaging.parts.WordprocessingML.MetafileEmfPart;
 import org.docx4j.wml.Style;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 import org.w3c.dom.Document;
 import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
@@ -53,20 +67,42 @@ import software.amazon.awssdk.services.s3.model.S3Object;
 @Service
 @Slf4j
 public class DocxConverterService implements ConverterService {
+  private static final int HTML_CHUNK_SIZE = 64 * 1024;
+
   private final S3AsyncClient client;
   private final DocumentBuilderFactory documentBuilderFactory;
   private final DocxConverter converter;
+  private final Scheduler conversionScheduler;
+  private final DocxConversionCache conversionCache;
+  private final Timer queueWaitTimer;
+  private final Timer conversionTimer;
 
   @Value("${otc.obs.bucket-name}")
   private String bucketName;
 
+  @Value("${docx.conversion.cache.bucket-prefix:converted/}")
+  private String conversionCachePrefix;
+
   public DocxConverterService(
       S3AsyncClient client,
       DocumentBuilderFactory documentBuilderFactory,
-      DocxConverter converter) {
+      DocxConverter converter,
+      @Qualifier("docxConversionScheduler") Scheduler conversionScheduler,
+      DocxConversionCache conversionCache,
+      MeterRegistry meterRegistry) {
     this.client = client;
     this.documentBuilderFactory = documentBuilderFactory;
     this.converter = converter;
+    this.conversionScheduler = conversionScheduler;
+    this.conversionCache = conversionCache;
+    this.queueWaitTimer =
+        Timer.builder("docx.conversion.queue.wait")
+            .description("Time a docx conversion waits for a free conversion thread")
+            .register(meterRegistry);
+    this.conversionTimer =
+        Timer.builder("docx.conversion.duration")
+            .description("Time to load a docx file and convert it into html")
+            .register(meterRegistry);
   }
 
   public String getOriginalText(WordprocessingMLPackage mlPackage) {
@@ -106,33 +142,132 @@ public class DocxConverterService implements ConverterService {
     CompletableFuture<ListObjectsV2Response> futureResponse = client.listObjectsV2(request);
 
     return Mono.fromFuture(futureResponse)
-        .map(response -> response.contents().stream().map(S3Object::key).toList());
+        .map(
+            response ->
+                response.contents().stream()
+                    .map(S3Object::key)
+                    .filter(key -> !key.startsWith(conversionCachePrefix))
+                    .toList());
   }
 
+  /**
+   * Get the html of an attached docx file. The html is taken from the conversion cache. Only if it
+   * isn't cached yet, the file is loaded from the bucket and converted.
+   *
+   * @param fileName key of the docx file in the bucket
+   * @return the html of the docx file
+   */
   public Mono<Docx2Html> getConvertedObject(String fileName) {
+    return conversionCache
+        .get(fileName)
+        .switchIfEmpty(
+            Mono.defer(
+                () ->
+                    loadAndConvert(fileName)
+                        .flatMap(
+                            docx2Html ->
+                                conversionCache.put(fileName, docx2Html).thenReturn(docx2Html))));
+  }
+
+  /**
+   * Get the html of an attached docx file as utf-8 encoded chunks. The html is taken from the
+   * conversion cache or converted as a whole like in {@link #getConvertedObject(String)}, only the
+   * encoding is done chunk by chunk while the chunks are written to the response. So the encoded
+   * html is never held at once in addition to the html string.
+   *
+   * @param fileName key of the docx file in the bucket
+   * @return the html of the docx file in chunks
+   */
+  public Flux<ByteBuffer> getConvertedHtml(String fileName) {
+    return getConvertedObject(fileName)
+        .flatMapMany(
+            docx2Html -> toChunks(docx2Html.content() == null ? "" : docx2Html.content()));
+  }
+
+  private static Flux<ByteBuffer> toChunks(String content) {
+    return Flux.generate(
+        () -> 0,
+        (start, sink) -> {
+          if (start >= content.length()) {
+            sink.complete();
+            return start;
+          }
+
+          int end = Math.min(start + HTML_CHUNK_SIZE, content.length());
+          if (end < content.length() && Character.isHighSurrogate(content.charAt(end - 1))) {
+            end--;
+          }
+          sink.next(StandardCharsets.UTF_8.encode(CharBuffer.wrap(content, start, end)));
+          return end;
+        });
+  }
+
+  public Mono<Void> invalidateConvertedObject(String fileName) {
+    if (fileName == null) {
+      return Mono.empty();
+    }
+
+    return conversionCache.evict(fileName);
+  }
+
+  private Mono<Docx2Html> loadAndConvert(String fileName) {
     GetObjectRequest request = GetObjectRequest.builder().bucket(bucketName).key(fileName).build();
 
     CompletableFuture<ResponseBytes<GetObjectResponse>> futureResponse =
         client.getObject(request, AsyncResponseTransformer.toBytes());
 
     return Mono.fromFuture(futureResponse)
-        .map(response -> parseAsDocumentUnitDocxList(response.asInputStream()))
-        .map(
-            documentUnitDocxList -> {
-              List<DocumentUnitDocx> packedList =
-                  DocumentUnitDocxListUtils.packList(documentUnitDocxList);
-              String content = null;
-              if (!packedList.isEmpty()) {
-                content =
-                    packedList.stream()
-                        .map(DocumentUnitDocx::toHtmlString)
-                        .collect(Collectors.joining());
-              }
-              return new Docx2Html(content);
-            })
+        .flatMap(this::convert)
         .doOnError(ex -> log.error("Couldn't convert docx", ex));
   }
 
+  /**
+   * Convert the docx file on the conversion scheduler. If all conversion threads are busy and the
+   * queue is full, the conversion is rejected with the status 429 (Too Many Requests).
+   *
+   * @param response the response of the bucket with the docx file
+   * @return the html representation of the docx file
+   */
+  private Mono<Docx2Html> convert(ResponseBytes<GetObjectResponse> response) {
+    return Mono.defer(
+        () -> {
+          long submitted = System.nanoTime();
+          return Mono.fromCallable(
+                  () -> {
+                    long started = System.nanoTime();
+                    queueWaitTimer.record(started - submitted, TimeUnit.NANOSECONDS);
+                    try {
+                      return toHtml(parseAsDocumentUnitDocxList(response.asInputStream()));
+                    } finally {
+                      conversionTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                    }
+                  })
+              .subscribeOn(conversionScheduler)
+              .onErrorMap(
+                  RejectedExecutionException.class,
+                  ex ->
+                      new ResponseStatusException(
+                          HttpStatus.TOO_MANY_REQUESTS, "Too many docx conversions", ex));
+        });
+  }
+
+  private Docx2Html toHtml(List<DocumentUnitDocx> documentUnitDocxList) {
+    List<DocumentUnitDocx> packedList = DocumentUnitDocxListUtils.packList(documentUnitDocxList);
+    if (packedList.isEmpty()) {
+      return Docx2Html.EMPTY;
+    }
+
+    StringBuilder sb = new StringBuilder();
+    try {
+      for (DocumentUnitDocx documentUnitDocx : packedList) {
+        documentUnitDocx.renderTo(sb);
+      }
+    } catch (IOException e) {
+      throw new DocxConverterException("Couldn't render docx as html!", e);
+    }
+    return new Docx2Html(sb.toString());
+  }
+
   public List<DocumentUnitDocx> parseAsDocumentUnitDocxList(InputStream inputStream) {
     if (inputStream == null) {
       return Collections.emptyList();
@@ -145,13 +280,13 @@ public class DocxConverterService implements ConverterService {
       throw new DocxConverterException("Couldn't load docx file!", e);
     }
 
-    converter.setStyles(readStyles(mlPackage));
-    converter.setImages(readImages(mlPackage));
-    converter.setNumbering(readNumbering(mlPackage));
+    ConversionContext context =
+        new ConversionContext(
+            readStyles(mlPackage), readImages(mlPackage), readNumbering(mlPackage));
 
     List<DocumentUnitDocx> documentUnitDocxList =
         mlPackage.getMainDocumentPart().getContent().stream()
-            .map(converter::convert)
+            .map(part -> converter.convert(part, context))
             .filter(Objects::nonNull)
             .toList();
 
@@ -0,0 +1,234 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import com.sun.mail.imap.IMAPFolder;
+import com.sun.mail.imap.IMAPStore;
+import de.bund.digitalservice.ris.caselaw.domain.MailStoreFactory;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.Folder;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Store;
+import jakarta.mail.event.MessageCountAdapter;
+import jakarta.mail.event.MessageCountEvent;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Triggers the processing of the juris response mails. By default the inbox is polled. With
+ * mail.exporter.response.idle.enabled the listener keeps one IMAP IDLE connection to the inbox
+ * and processes the inbox as soon as the server reports a new mail. The connection is opened
+ * again with an exponential backoff after it's lost. While the connection is up the poll only
+ * keeps it alive. If the server doesn't support IDLE, the listener falls back to polling.
+ */
+@Component
+@Slf4j
+public class JurisResponseMailListener {
+  private final JurisXmlExporterResponseProcessor responseProcessor;
+  private final MailStoreFactory storeFactory;
+  private final boolean idleEnabled;
+  private final Duration minReconnectDelay;
+  private final Duration maxReconnectDelay;
+
+  private final ReentrantLock processing = new ReentrantLock();
+  private final AtomicBoolean processingRequested = new AtomicBoolean();
+  private final AtomicBoolean processingScheduled = new AtomicBoolean();
+  private final AtomicReference<IMAPFolder> idleFolder = new AtomicReference<>();
+  private final AtomicReference<Store> idleStore = new AtomicReference<>();
+  private final ExecutorService idleExecutor =
+      Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "juris-response-idle"));
+  private final ExecutorService processingExecutor =
+      Executors.newSingleThreadExecutor(
+          runnable -> new Thread(runnable, "juris-response-processing"));
+  private volatile boolean running;
+
+  public JurisResponseMailListener(
+      JurisXmlExporterResponseProcessor responseProcessor,
+      MailStoreFactory storeFactory,
+      @Value("${mail.exporter.response.idle.enabled:false}") boolean idleEnabled,
+      @Value("${mail.exporter.response.idle.min-reconnect-delay:PT1S}")
+          Duration minReconnectDelay,
+      @Value("${mail.exporter.response.idle.max-reconnect-delay:PT5M}")
+          Duration maxReconnectDelay) {
+    this.responseProcessor = responseProcessor;
+    this.storeFactory = storeFactory;
+    this.idleEnabled = idleEnabled;
+    this.minReconnectDelay = minReconnectDelay;
+    this.maxReconnectDelay = maxReconnectDelay;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (!idleEnabled || running) {
+      return;
+    }
+
+    running = true;
+    idleExecutor.execute(this::listen);
+  }
+
+  @PreDestroy
+  public void stop() {
+    running = false;
+    closeIdleStore();
+    idleExecutor.shutdownNow();
+    processingExecutor.shutdownNow();
+  }
+
+  /**
+   * Poll the inbox, if there is no IDLE connection. Otherwise the poll keeps the IDLE connection
+   * alive and closes it, if the server doesn't answer, so that it's opened again.
+   */
+  @Scheduled(
+      fixedDelayString = "${mail.exporter.response.poll-interval:PT1M}",
+      initialDelayString = "${mail.exporter.response.poll-interval:PT1M}")
+  public void poll() {
+    IMAPFolder folder = idleFolder.get();
+    if (folder == null) {
+      process();
+      return;
+    }
+
+    try {
+      // aborts the IDLE command and sends a NOOP, the listener starts IDLE again afterwards
+      folder.getMessageCount();
+    } catch (MessagingException | RuntimeException e) {
+      log.warn("IDLE connection to the juris response inbox doesn't answer", e);
+      closeIdleStore();
+    }
+  }
+
+  public boolean isListening() {
+    return idleFolder.get() != null;
+  }
+
+  /**
+   * Process the inbox. Requests which arrive while the inbox is processed are merged into one
+   * further run, so that a mail is never left in the inbox until the next trigger.
+   */
+  void process() {
+    processingRequested.set(true);
+    while (processingRequested.get() && processing.tryLock()) {
+      try {
+        while (processingRequested.getAndSet(false)) {
+          readEmails();
+        }
+      } finally {
+        processing.unlock();
+      }
+    }
+  }
+
+  private void readEmails() {
+    try {
+      responseProcessor.readEmails();
+    } catch (RuntimeException e) {
+      log.error("Couldn't process the juris response inbox", e);
+    }
+  }
+
+  private void listen() {
+    Duration reconnectDelay = minReconnectDelay;
+
+    while (running) {
+      try (Store store = storeFactory.createStore()) {
+        idleStore.set(store);
+        Folder inbox = store.getFolder("INBOX");
+        if (!(store instanceof IMAPStore imapStore)
+            || !imapStore.hasCapability("IDLE")
+            || !(inbox instanceof IMAPFolder imapFolder)) {
+          log.warn("Mail server doesn't support IDLE, poll the juris response inbox");
+          return;
+        }
+
+        imapFolder.open(Folder.READ_ONLY);
+        imapFolder.addMessageCountListener(
+            new MessageCountAdapter() {
+              @Override
+              public void messagesAdded(MessageCountEvent event) {
+                processInBackground();
+              }
+            });
+        idleFolder.set(imapFolder);
+        reconnectDelay = minReconnectDelay;
+        log.info("Listen for juris responses with IMAP IDLE");
+
+        // mails which arrived while there was no connection
+        processInBackground();
+        while (running && imapFolder.isOpen()) {
+          imapFolder.idle();
+        }
+      } catch (MessagingException | RuntimeException e) {
+        if (running) {
+          log.warn("Lost IDLE connection, reconnect in {}", reconnectDelay, e);
+        }
+      } finally {
+        idleFolder.set(null);
+        idleStore.set(null);
+      }
+
+      if (running && !sleep(reconnectDelay)) {
+        return;
+      }
+      reconnectDelay = min(reconnectDelay.multipliedBy(2), maxReconnectDelay);
+    }
+  }
+
+  /**
+   * Process the inbox on the processing thread. Only one run is queued at a time, further new mail
+   * events are covered by the queued run. The run is marked as started before it reads the inbox,
+   * so a mail which arrives while the inbox is read queues the next run.
+   */
+  void processInBackground() {
+    if (!processingScheduled.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      processingExecutor.execute(
+          () -> {
+            processingScheduled.set(false);
+            process();
+          });
+    } catch (RejectedExecutionException e) {
+      processingScheduled.set(false);
+      log.debug("Listener is stopped, don't process the juris response inbox", e);
+    }
+  }
+
+  private void closeIdleStore() {
+    Store store = idleStore.get();
+    if (store == null) {
+      return;
+    }
+
+    try {
+      store.close();
+    } catch (MessagingException e) {
+      log.warn("Couldn't close the IDLE connection", e);
+    }
+  }
+
+  private static boolean sleep(Duration duration) {
+    try {
+      Thread.sleep(duration.toMillis());
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static Duration min(Duration first, Duration second) {
+    return first.compareTo(second) <= 0 ? first : second;
+  }
+}
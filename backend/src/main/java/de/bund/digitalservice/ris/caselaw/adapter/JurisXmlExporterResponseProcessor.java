@@ -11,6 +11,7 @@ import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
 import de.bund.digitalservice.ris.domain.export.juris.response.ImportMessageWrapper;
 import de.bund.digitalservice.ris.domain.export.juris.response.MessageWrapper;
 import de.bund.digitalservice.ris.domain.export.juris.response.StatusImporterException;
+import jakarta.mail.FetchProfile;
 import jakarta.mail.Flags.Flag;
 import jakarta.mail.Folder;
 import jakarta.mail.Message;
@@ -18,23 +19,45 @@ import jakarta.mail.MessagingException;
 import jakarta.mail.Store;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import org.owasp.html.HtmlPolicyBuilder;
 import org.owasp.html.PolicyFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Component
 public class JurisXmlExporterResponseProcessor {
 
   private static final Logger LOGGER =
       LoggerFactory.getLogger(JurisXmlExporterResponseProcessor.class);
+  private static final int BATCH_SIZE = 50;
+  private static final int CONCURRENCY = 4;
+  private static final PolicyFactory POLICY =
+      new HtmlPolicyBuilder()
+          .allowElements(
+              "a", "img", "br", "h2", "table", "tbody", "tr", "td", "hr", "p", "strong", "i",
+              "font")
+          .allowUrlProtocols("https")
+          .allowAttributes("src", "align")
+          .onElements("img")
+          .allowAttributes("width", "align", "hspace", "cellSpacing", "border")
+          .onElements("td", "hr", "table")
+          .allowAttributes("color")
+          .onElements("font")
+          .toFactory();
+
   private final HttpMailSender mailSender;
   private final DocumentUnitStatusService statusService;
   private final PublicationReportRepository reportRepository;
@@ -54,7 +77,7 @@ public class JurisXmlExporterResponseProcessor {
     this.wrapperFactory = wrapperFactory;
   }
 
-  @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+  /** Process the inbox. Triggered by the {@link JurisResponseMailListener}. */
   public void readEmails() {
     try (Store store = storeFactory.createStore()) {
       processInbox(store);
@@ -63,74 +86,123 @@ public class JurisXmlExporterResponseProcessor {
     }
   }
 
+  /**
+   * Process the inbox in batches. The envelopes of all messages are fetched at once to sort the
+   * messages, the content is fetched per batch. All messages of a document number are processed
+   * in order by the same worker, import messages first, while the messages of different document
+   * numbers are processed concurrently. Processed messages are moved after every batch. A failed
+   * message is reported after all batches and stays in the inbox with the following messages of
+   * its document number.
+   */
   private void processInbox(Store store) {
     try {
       Folder inbox = store.getFolder("INBOX");
       inbox.open(Folder.READ_WRITE);
+      Folder processed = store.getFolder("processed");
+
+      Message[] messages = inbox.getMessages();
+      inbox.fetch(messages, createFetchProfile(FetchProfile.Item.ENVELOPE));
 
-      List<MessageWrapper> processedMessages =
-          Arrays.stream(inbox.getMessages())
+      List<MessageWrapper> messageWrappers =
+          Arrays.stream(messages)
               .map(wrapperFactory::getResponsibleWrapper)
               .flatMap(Optional::stream)
               .sorted(
                   Comparator.comparing(wrapper -> wrapper instanceof ImportMessageWrapper ? 0 : 1))
-              .map(this::processMessage)
               .toList();
-      moveMessages(processedMessages, inbox, store.getFolder("processed"));
+
+      Queue<StatusImporterException> errors = new ConcurrentLinkedQueue<>();
+      List<List<MessageWrapper>> batch = new ArrayList<>();
+      int batchSize = 0;
+      for (List<MessageWrapper> documentMessages : groupByDocumentNumber(messageWrappers)) {
+        batch.add(documentMessages);
+        batchSize += documentMessages.size();
+        if (batchSize >= BATCH_SIZE) {
+          processBatch(batch, inbox, processed, errors);
+          batch = new ArrayList<>();
+          batchSize = 0;
+        }
+      }
+      processBatch(batch, inbox, processed, errors);
+
+      if (!errors.isEmpty()) {
+        throw errors.peek();
+      }
     } catch (MessagingException e) {
       throw new StatusImporterException("Error processing inbox: " + e);
     }
   }
 
-  private MessageWrapper processMessage(MessageWrapper messageWrapper) {
-    return Mono.just(messageWrapper)
-        .flatMap(this::forwardMessage)
-        .flatMap(this::setPublicationStatus)
-        .flatMap(this::saveAttachments)
+  private void processBatch(
+      List<List<MessageWrapper>> batch,
+      Folder inbox,
+      Folder processed,
+      Queue<StatusImporterException> errors)
+      throws MessagingException {
+
+    if (batch.isEmpty()) return;
+
+    inbox.fetch(
+        batch.stream()
+            .flatMap(List::stream)
+            .map(MessageWrapper::getMessage)
+            .toArray(Message[]::new),
+        createFetchProfile(FetchProfile.Item.CONTENT_INFO, FetchProfile.Item.FLAGS));
+
+    List<MessageWrapper> processedMessages =
+        Flux.fromIterable(batch)
+            .flatMapSequential(
+                documentMessages -> processDocumentMessages(documentMessages, errors), CONCURRENCY)
+            .collectList()
+            .block();
+    moveMessages(processedMessages, inbox, processed);
+  }
+
+  private Flux<MessageWrapper> processDocumentMessages(
+      List<MessageWrapper> documentMessages, Queue<StatusImporterException> errors) {
+
+    return Flux.fromIterable(documentMessages)
+        .concatMap(this::processMessage)
+        .onErrorResume(
+            e -> {
+              errors.add(
+                  e instanceof StatusImporterException statusImporterException
+                      ? statusImporterException
+                      : new StatusImporterException("Error processing message: " + e));
+              return Mono.empty();
+            });
+  }
+
+  private Mono<MessageWrapper> processMessage(MessageWrapper messageWrapper) {
+    return Mono.fromCallable(() -> JurisResponse.of(messageWrapper))
+        .subscribeOn(Schedulers.boundedElastic())
+        .flatMap(
+            response ->
+                forwardMessage(response)
+                    .then(Mono.defer(() -> setPublicationStatus(response)))
+                    .then(Mono.defer(() -> saveAttachments(response))))
+        .thenReturn(messageWrapper)
         .doOnSuccess(result -> LOGGER.info("Message processed for: {}", messageWrapper))
-        .doOnError(e -> LOGGER.error("Error processing message: ", e))
-        .block();
-  }
-
-  private Mono<MessageWrapper> saveAttachments(MessageWrapper messageWrapper) {
-    PolicyFactory policy =
-        new HtmlPolicyBuilder()
-            .allowElements(
-                "a", "img", "br", "h2", "table", "tbody", "tr", "td", "hr", "p", "strong", "i",
-                "font")
-            .allowUrlProtocols("https")
-            .allowAttributes("src", "align")
-            .onElements("img")
-            .allowAttributes("width", "align", "hspace", "cellSpacing", "border")
-            .onElements("td", "hr", "table")
-            .allowAttributes("color")
-            .onElements("font")
-            .toFactory();
+        .doOnError(e -> LOGGER.error("Error processing message: ", e));
+  }
 
-    try {
-      List<Attachment> attachments = collectAttachments(messageWrapper);
-      String documentNumber = messageWrapper.getDocumentNumber();
-      Instant receivedDate = messageWrapper.getReceivedDate();
-      return reportRepository
-          .saveAll(
-              attachments.stream()
-                  .map(
-                      attachment ->
-                          PublicationReport.builder()
-                              .documentNumber(documentNumber)
-                              .receivedDate(receivedDate)
-                              .content(
-                                  policy.sanitize(
-                                      attachment.fileName().endsWith(".html")
-                                          ? attachment.fileContent()
-                                          : stringToHTML(attachment.fileContent())))
-                              .build())
-                  .toList())
-          .collectList()
-          .thenReturn(messageWrapper);
-    } catch (MessagingException | IOException e) {
-      return Mono.error(new StatusImporterException("Error saving attachments"));
-    }
+  private Mono<Void> saveAttachments(JurisResponse response) {
+    return reportRepository
+        .saveAll(
+            response.attachments().stream()
+                .map(
+                    attachment ->
+                        PublicationReport.builder()
+                            .documentNumber(response.documentNumber())
+                            .receivedDate(response.receivedDate())
+                            .content(
+                                POLICY.sanitize(
+                                    attachment.fileName().endsWith(".html")
+                                        ? attachment.fileContent()
+                                        : stringToHTML(attachment.fileContent())))
+                            .build())
+                .toList())
+        .then();
   }
 
   public static String stringToHTML(String input) {
@@ -141,7 +213,7 @@ public class JurisXmlExporterResponseProcessor {
         + "</html>";
   }
 
-  private List<Attachment> collectAttachments(MessageWrapper messageWrapper)
+  private static List<Attachment> collectAttachments(MessageWrapper messageWrapper)
       throws MessagingException, IOException {
     return messageWrapper.getAttachments().stream()
         .map(
@@ -153,50 +225,39 @@ public class JurisXmlExporterResponseProcessor {
         .toList();
   }
 
-  private Mono<MessageWrapper> setPublicationStatus(MessageWrapper messageWrapper) {
-    try {
-      return statusService
-          .update(
-              messageWrapper.getDocumentNumber(),
-              DocumentUnitStatus.builder()
-                  .publicationStatus(getPublicationStatus(messageWrapper.isPublished()))
-                  .withError(messageWrapper.hasErrors())
-                  .build())
-          .thenReturn(messageWrapper);
-    } catch (MessagingException | IOException e) {
-      return Mono.error(new StatusImporterException("Could not update publicationStatus" + e));
-    }
+  private Mono<Void> setPublicationStatus(JurisResponse response) {
+    return statusService.update(
+        response.documentNumber(),
+        DocumentUnitStatus.builder()
+            .publicationStatus(response.publicationStatus())
+            .withError(response.withError())
+            .build());
   }
 
-  private Mono<MessageWrapper> forwardMessage(MessageWrapper messageWrapper) {
-    try {
-      String documentNumber = messageWrapper.getDocumentNumber();
-      String subject = messageWrapper.getSubject();
-      List<Attachment> attachments = collectAttachments(messageWrapper);
-
-      return statusService
-          .getLatestIssuerAddress(documentNumber)
-          .flatMap(
-              issuerAddress ->
-                  Mono.fromRunnable(
-                      () ->
-                          mailSender.sendMail(
-                              storeFactory.getUsername(),
-                              issuerAddress,
-                              "FWD: " + subject,
-                              "Anbei weitergeleitet von der jDV:",
-                              attachments,
-                              "report-" + documentNumber)))
-          .switchIfEmpty(
-              Mono.fromRunnable(
-                  () ->
-                      LOGGER.info(
-                          "Could not forward JurisResponse (DocumentUnit not found): {}",
-                          documentNumber)))
-          .thenReturn(messageWrapper);
-    } catch (MessagingException | IOException e) {
-      return Mono.error(new StatusImporterException("Could not forward Message"));
-    }
+  private Mono<Void> forwardMessage(JurisResponse response) {
+    String documentNumber = response.documentNumber();
+
+    return statusService
+        .getLatestIssuerAddress(documentNumber)
+        .flatMap(
+            issuerAddress ->
+                Mono.fromRunnable(
+                        () ->
+                            mailSender.sendMail(
+                                storeFactory.getUsername(),
+                                issuerAddress,
+                                "FWD: " + response.subject(),
+                                "Anbei weitergeleitet von der jDV:",
+                                response.attachments(),
+                                "report-" + documentNumber))
+                    .subscribeOn(Schedulers.boundedElastic()))
+        .switchIfEmpty(
+            Mono.fromRunnable(
+                () ->
+                    LOGGER.info(
+                        "Could not forward JurisResponse (DocumentUnit not found): {}",
+                        documentNumber)))
+        .then();
   }
 
   private void moveMessages(List<MessageWrapper> messageWrappers, Folder from, Folder to) {
@@ -225,9 +286,55 @@ public class JurisXmlExporterResponseProcessor {
         });
   }
 
-  private PublicationStatus getPublicationStatus(Optional<Boolean> isPublished) {
+  private static List<List<MessageWrapper>> groupByDocumentNumber(
+      List<MessageWrapper> messageWrappers) {
+    Map<String, List<MessageWrapper>> messagesByDocumentNumber = new LinkedHashMap<>();
+    messageWrappers.forEach(
+        messageWrapper ->
+            messagesByDocumentNumber
+                .computeIfAbsent(getDocumentNumber(messageWrapper), key -> new ArrayList<>())
+                .add(messageWrapper));
+    return new ArrayList<>(messagesByDocumentNumber.values());
+  }
+
+  private static String getDocumentNumber(MessageWrapper messageWrapper) {
+    try {
+      return messageWrapper.getDocumentNumber();
+    } catch (Exception e) {
+      // the message fails again and is reported when it's processed
+      return null;
+    }
+  }
+
+  private static FetchProfile createFetchProfile(FetchProfile.Item... items) {
+    FetchProfile fetchProfile = new FetchProfile();
+    Arrays.stream(items).forEach(fetchProfile::add);
+    return fetchProfile;
+  }
+
+  private static PublicationStatus getPublicationStatus(Optional<Boolean> isPublished) {
     return isPublished
         .map(published -> published ? PublicationStatus.PUBLISHED : PublicationStatus.UNPUBLISHED)
         .orElse(PublicationStatus.PUBLISHING);
   }
+
+  /** Data of a response message, which is read from the mail once before it's processed. */
+  private record JurisResponse(
+      String documentNumber,
+      String subject,
+      Instant receivedDate,
+      PublicationStatus publicationStatus,
+      boolean withError,
+      List<Attachment> attachments) {
+
+    static JurisResponse of(MessageWrapper messageWrapper) throws MessagingException, IOException {
+      return new JurisResponse(
+          messageWrapper.getDocumentNumber(),
+          messageWrapper.getSubject(),
+          messageWrapper.getReceivedDate(),
+          getPublicationStatus(messageWrapper.isPublished()),
+          messageWrapper.hasErrors(),
+          collectAttachments(messageWrapper));
+    }
+  }
 }
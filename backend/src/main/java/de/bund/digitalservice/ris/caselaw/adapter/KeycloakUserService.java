@@ -4,16 +4,22 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumen
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
 import de.bund.digitalservice.ris.caselaw.domain.User;
 import de.bund.digitalservice.ris.caselaw.domain.UserService;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
 @Service
 public class KeycloakUserService implements UserService {
+  private static final Duration DOCUMENTATION_OFFICE_CACHE_DURATION = Duration.ofMinutes(10);
+
   private final DatabaseDocumentationOfficeRepository documentationOfficeRepository;
+  private final Map<String, Mono<DocumentationOffice>> documentationOffices =
+      new ConcurrentHashMap<>();
 
   private static final Map<String, String> documentationCenterClaims =
       Map.ofEntries(
@@ -64,13 +70,34 @@ public class KeycloakUserService implements UserService {
             .map(documentationCenterClaims::get)
             .orElse(null);
 
+    if (documentationOfficeKey == null) {
+      return Mono.empty();
+    }
+
+    return documentationOffices.computeIfAbsent(
+        documentationOfficeKey, this::loadDocumentationOffice);
+  }
+
+  /**
+   * Load the documentation office with the given label. The result is cached for a limited time,
+   * because the documentation office is needed for nearly every request. Errors and unknown labels
+   * aren't cached.
+   *
+   * @param label label of the documentation office
+   * @return the documentation office or an empty mono if no office with the label exists
+   */
+  private Mono<DocumentationOffice> loadDocumentationOffice(String label) {
     return documentationOfficeRepository
-        .findByLabel(documentationOfficeKey)
+        .findByLabel(label)
         .map(
             documentationOfficeDTO ->
                 DocumentationOffice.builder()
                     .label(documentationOfficeDTO.getLabel())
                     .abbreviation(documentationOfficeDTO.getAbbreviation())
-                    .build());
+                    .build())
+        .cache(
+            documentationOffice -> DOCUMENTATION_OFFICE_CACHE_DURATION,
+            error -> Duration.ZERO,
+            () -> Duration.ZERO);
   }
 }
@@ -11,6 +11,8 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.Cit
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.CourtDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseCitationStyleRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseCourtRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.FieldOfLawCache;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.LookupTableCache;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.StateDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.StateRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.FieldOfLawTransformer;
@@ -51,6 +53,8 @@ public class LookupTableImporterService {
   private final DatabaseCitationStyleRepository databaseCitationStyleRepository;
   private final JPAFieldOfLawRepository jpaFieldOfLawRepository;
   private final JPAFieldOfLawLinkRepository jpaFieldOfLawLinkRepository;
+  private final LookupTableCache lookupTableCache;
+  private final FieldOfLawCache fieldOfLawCache;
   private static final Pattern FIELD_OF_LAW_NUMBER_PATTERN =
       Pattern.compile("\\p{Lu}{2}(-\\d{2})+(?![\\p{L}\\d-])");
 
@@ -60,13 +64,17 @@ public class LookupTableImporterService {
       StateRepository stateRepository,
       DatabaseCitationStyleRepository databaseCitationStyleRepository,
       JPAFieldOfLawRepository jpaFieldOfLawRepository,
-      JPAFieldOfLawLinkRepository jpaFieldOfLawLinkRepository) {
+      JPAFieldOfLawLinkRepository jpaFieldOfLawLinkRepository,
+      LookupTableCache lookupTableCache,
+      FieldOfLawCache fieldOfLawCache) {
     this.jpaDocumentTypeRepository = jpaDocumentTypeRepository;
     this.databaseCourtRepository = databaseCourtRepository;
     this.stateRepository = stateRepository;
     this.databaseCitationStyleRepository = databaseCitationStyleRepository;
     this.jpaFieldOfLawRepository = jpaFieldOfLawRepository;
     this.jpaFieldOfLawLinkRepository = jpaFieldOfLawLinkRepository;
+    this.lookupTableCache = lookupTableCache;
+    this.fieldOfLawCache = fieldOfLawCache;
   }
 
   @Transactional(transactionManager = "jpaTransactionManager")
@@ -83,7 +91,8 @@ public class LookupTableImporterService {
 
     importDocumentTypeJPA(documentTypesXML);
 
-    return Mono.just("Successfully imported the document type lookup table");
+    return Mono.just("Successfully imported the document type lookup table")
+        .doOnSuccess(result -> lookupTableCache.invalidate());
   }
 
   public void importDocumentTypeJPA(DocumentTypesXML documentTypesXML) {
@@ -167,7 +176,8 @@ public class LookupTableImporterService {
         .deleteAll()
         .thenMany(databaseCourtRepository.saveAll(courtsDTO))
         .collectList()
-        .map(list -> "Successfully imported the court lookup table");
+        .map(list -> "Successfully imported the court lookup table")
+        .doOnSuccess(result -> lookupTableCache.invalidate());
   }
 
   public Mono<String> importStateLookupTable(ByteBuffer byteBuffer) {
@@ -198,7 +208,8 @@ public class LookupTableImporterService {
         .deleteAll()
         .thenMany(stateRepository.saveAll(statesDTO))
         .collectList()
-        .map(list -> "Successfully imported the state lookup table");
+        .map(list -> "Successfully imported the state lookup table")
+        .doOnSuccess(result -> lookupTableCache.invalidate());
   }
 
   public Mono<String> importCitationStyleLookupTable(ByteBuffer byteBuffer) {
@@ -236,7 +247,8 @@ public class LookupTableImporterService {
     return databaseCitationStyleRepository
         .deleteAll()
         .thenMany(databaseCitationStyleRepository.saveAll(citationsDTO))
-        .then(Mono.just("Successfully imported the citation lookup table"));
+        .then(Mono.just("Successfully imported the citation lookup table"))
+        .doOnSuccess(result -> lookupTableCache.invalidate());
   }
 
   @Transactional(transactionManager = "jpaTransactionManager")
@@ -253,7 +265,8 @@ public class LookupTableImporterService {
 
     importFieldOfLawJPA(fieldsOfLawXml);
 
-    return Mono.just("Successfully imported the fieldOfLaw lookup table");
+    return Mono.just("Successfully imported the fieldOfLaw lookup table")
+        .doOnSuccess(result -> fieldOfLawCache.invalidate());
   }
 
   private void importFieldOfLawJPA(FieldsOfLawXml fieldsOfLawXml) {
@@ -2,18 +2,32 @@ package de.bund.digitalservice.ris.caselaw.adapter;
 
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.NormAbbreviation;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.NormAbbreviationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Service
+@Slf4j
 public class NormAbbreviationService {
   private final NormAbbreviationRepository repository;
+  private final AtomicReference<Instant> lastRefresh = new AtomicReference<>();
 
-  public NormAbbreviationService(NormAbbreviationRepository repository) {
+  public NormAbbreviationService(
+      NormAbbreviationRepository repository, MeterRegistry meterRegistry) {
     this.repository = repository;
+    Gauge.builder("norm_abbreviation.search.age", this::getSearchAgeInSeconds)
+        .description("Seconds since the last refresh of the norm abbreviation search")
+        .baseUnit("seconds")
+        .register(meterRegistry);
   }
 
   public Mono<NormAbbreviation> getNormAbbreviationById(UUID uuid) {
@@ -42,7 +56,39 @@ public class NormAbbreviationService {
     return repository.findByAwesomeSearchQuery(query, size, pageOffset);
   }
 
+  /**
+   * Refresh the search view of the norm abbreviations. The view is refreshed concurrently, so the
+   * search keeps answering with the old data until the refresh is finished.
+   *
+   * @return a mono which completes after the refresh
+   */
   public Mono<Void> refreshMaterializedViews() {
-    return repository.refreshMaterializedViews();
+    return repository
+        .refreshMaterializedViews()
+        .doOnSuccess(unused -> lastRefresh.set(Instant.now()));
+  }
+
+  /**
+   * Refresh the search view in the background, so that imported norm abbreviations are found
+   * without a manual refresh.
+   */
+  @Scheduled(
+      fixedDelayString = "${norm-abbreviation.search.refresh-interval:PT30M}",
+      initialDelayString = "${norm-abbreviation.search.refresh-initial-delay:PT1M}")
+  public void refreshMaterializedViewsInBackground() {
+    try {
+      refreshMaterializedViews().block();
+    } catch (Exception ex) {
+      log.error("Couldn't refresh the norm abbreviation search", ex);
+    }
+  }
+
+  private double getSearchAgeInSeconds() {
+    Instant refreshed = lastRefresh.get();
+    if (refreshed == null) {
+      return Double.NaN;
+    }
+
+    return Duration.between(refreshed, Instant.now()).toMillis() / 1000.0;
   }
 }
@@ -6,6 +6,7 @@ import de.bund.digitalservice.ris.caselaw.domain.HttpMailSender;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import sendinblue.ApiClient;
 import sendinblue.ApiException;
 import sendinblue.Configuration;
@@ -31,6 +32,18 @@ public class SendInBlueHttpMailSender implements HttpMailSender {
       String content,
       List<Attachment> attachments,
       String tag) {
+    sendMail(senderAddress, receiverAddress, subject, content, attachments, tag, null);
+  }
+
+  @Override
+  public void sendMail(
+      String senderAddress,
+      String receiverAddress,
+      String subject,
+      String content,
+      List<Attachment> attachments,
+      String tag,
+      String idempotencyKey) {
 
     ApiClient defaultClient = Configuration.getDefaultApiClient();
     ApiKeyAuth apiKeyAuth = (ApiKeyAuth) defaultClient.getAuthentication("api-key");
@@ -62,6 +75,9 @@ public class SendInBlueHttpMailSender implements HttpMailSender {
     sendSmtpEmail.setSubject(subject);
     sendSmtpEmail.setAttachment(attachmentList);
     sendSmtpEmail.setTags(tags);
+    if (idempotencyKey != null) {
+      sendSmtpEmail.setHeaders(Map.of("idempotencyKey", idempotencyKey));
+    }
 
     try {
       api.sendTransacEmail(sendSmtpEmail);
@@ -1,12 +1,11 @@
 package de.bund.digitalservice.ris.caselaw.adapter;
 
-import de.bund.digitalservice.ris.caselaw.domain.Attachment;
 import de.bund.digitalservice.ris.caselaw.domain.CoreData;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnit;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitPublishException;
 import de.bund.digitalservice.ris.caselaw.domain.EmailPublishService;
-import de.bund.digitalservice.ris.caselaw.domain.HttpMailSender;
 import de.bund.digitalservice.ris.caselaw.domain.Publication;
+import de.bund.digitalservice.ris.caselaw.domain.PublicationHistoryEntry;
 import de.bund.digitalservice.ris.caselaw.domain.XmlExporter;
 import de.bund.digitalservice.ris.caselaw.domain.XmlPublication;
 import de.bund.digitalservice.ris.caselaw.domain.XmlPublicationRepository;
@@ -24,7 +23,7 @@ import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.TransformerException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -36,17 +35,10 @@ public class XmlEMailPublishService implements EmailPublishService {
 
   private final XmlExporter xmlExporter;
 
-  private final HttpMailSender mailSender;
-
   private final XmlPublicationRepository repository;
 
-  @Value("${mail.exporter.senderAddress:export.test@neuris}")
-  private String senderAddress;
-
-  public XmlEMailPublishService(
-      XmlExporter xmlExporter, HttpMailSender mailSender, XmlPublicationRepository repository) {
+  public XmlEMailPublishService(XmlExporter xmlExporter, XmlPublicationRepository repository) {
     this.xmlExporter = xmlExporter;
-    this.mailSender = mailSender;
     this.repository = repository;
   }
 
@@ -63,7 +55,6 @@ public class XmlEMailPublishService implements EmailPublishService {
         .map(
             mailSubject ->
                 generateXmlPublication(documentUnit.uuid(), receiverAddress, mailSubject, xml))
-        .doOnNext(this::generateAndSendMail)
         .flatMap(this::savePublishInformation)
         .doOnError(ex -> LOGGER.error("Error by generation of mail message", ex));
   }
@@ -73,6 +64,22 @@ public class XmlEMailPublishService implements EmailPublishService {
     return repository.getPublicationsByDocumentUnitUuid(documentUnitUuid);
   }
 
+  @Override
+  public Mono<XmlPublication> getPublication(UUID documentUnitUuid, Long id) {
+    return repository.getXmlPublication(documentUnitUuid, id);
+  }
+
+  @Override
+  public Flux<PublicationHistoryEntry> getPublicationHistory(
+      UUID documentUnitUuid, Pageable pageable) {
+    return repository.getPublicationHistory(documentUnitUuid, pageable);
+  }
+
+  @Override
+  public Mono<Long> countPublicationHistory(UUID documentUnitUuid) {
+    return repository.countPublicationHistory(documentUnitUuid);
+  }
+
   private Mono<String> generateMailSubject(DocumentUnit documentUnit) {
     if (documentUnit.documentNumber() == null) {
       return Mono.error(
@@ -95,33 +102,6 @@ public class XmlEMailPublishService implements EmailPublishService {
     return Mono.just(subject);
   }
 
-  private void generateAndSendMail(XmlPublication xmlPublication)
-      throws DocumentUnitPublishException {
-    if (xmlPublication == null) {
-      throw new DocumentUnitPublishException("No xml mail is set");
-    }
-
-    if (xmlPublication.getStatusCode().equals("400")) {
-      return;
-    }
-
-    if (xmlPublication.receiverAddress() == null) {
-      throw new DocumentUnitPublishException("No receiver mail address is set");
-    }
-
-    mailSender.sendMail(
-        senderAddress,
-        xmlPublication.receiverAddress(),
-        xmlPublication.mailSubject(),
-        "neuris",
-        Collections.singletonList(
-            Attachment.builder()
-                .fileName(xmlPublication.fileName())
-                .fileContent(xmlPublication.xml())
-                .build()),
-        xmlPublication.documentUnitUuid().toString());
-  }
-
   private XmlPublication generateXmlPublication(
       UUID documentUnitUuid, String receiverAddress, String mailSubject, XmlResultObject xml) {
     var publicationBuilder =
@@ -143,11 +123,20 @@ public class XmlEMailPublishService implements EmailPublishService {
         .build();
   }
 
+  /**
+   * Save the publication with a pending mail. The mail is sent in the background by the {@link
+   * XmlPublicationMailDispatcher}, so publishing doesn't wait for the mail provider.
+   */
   private Mono<XmlPublication> savePublishInformation(XmlPublication xmlPublication) {
     if (xmlPublication.getStatusCode().equals("400")) {
       return Mono.just(xmlPublication);
     }
-    return repository.save(xmlPublication);
+
+    if (xmlPublication.receiverAddress() == null) {
+      return Mono.error(new DocumentUnitPublishException("No receiver mail address is set"));
+    }
+
+    return repository.saveWithPendingMail(xmlPublication);
   }
 
   private DocumentUnit getTestDocumentUnit(DocumentUnit documentUnit) {
@@ -0,0 +1,241 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseXmlPublicationMailRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.PendingXmlPublicationMailDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.XmlPublicationMailState;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.XmlPublicationMailStateCountDTO;
+import de.bund.digitalservice.ris.caselaw.domain.Attachment;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitStatus;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitStatusService;
+import de.bund.digitalservice.ris.caselaw.domain.HttpMailSender;
+import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Sends the publication mails of the outbox. Publishing only saves the mail, the dispatcher claims
+ * due mails in the background, sends them on the publication mail scheduler and retries failed
+ * mails with an exponential backoff. After the last attempt the documentation unit gets an error
+ * status, like for an error which is reported by the mail tracking.
+ *
+ * <p>The number of open mails per state is exported as gauge. It is counted in an own, less
+ * frequent task, so that not every poll of the outbox runs a count.
+ */
+@Service
+@Slf4j
+public class XmlPublicationMailDispatcher {
+  private static final int MAX_BACKOFF_EXPONENT = 20;
+  private static final Set<XmlPublicationMailState> OPEN_STATES =
+      EnumSet.of(
+          XmlPublicationMailState.PENDING,
+          XmlPublicationMailState.SENDING,
+          XmlPublicationMailState.RETRY);
+
+  private final DatabaseXmlPublicationMailRepository repository;
+  private final HttpMailSender mailSender;
+  private final DocumentUnitStatusService statusService;
+  private final Scheduler mailScheduler;
+  private final Map<XmlPublicationMailState, AtomicLong> stateCounts =
+      new EnumMap<>(XmlPublicationMailState.class);
+  private final Counter sentCounter;
+  private final Counter retryCounter;
+  private final Counter failedCounter;
+
+  @Value("${mail.exporter.senderAddress:export.test@neuris}")
+  private String senderAddress;
+
+  @Value("${mail.exporter.outbox.batch-size:20}")
+  private int batchSize;
+
+  @Value("${mail.exporter.outbox.concurrency:4}")
+  private int concurrency;
+
+  @Value("${mail.exporter.outbox.max-attempts:8}")
+  private int maxAttempts;
+
+  @Value("${mail.exporter.outbox.initial-backoff:PT30S}")
+  private Duration initialBackoff;
+
+  @Value("${mail.exporter.outbox.max-backoff:PT1H}")
+  private Duration maxBackoff;
+
+  @Value("${mail.exporter.outbox.lease:PT5M}")
+  private Duration lease;
+
+  public XmlPublicationMailDispatcher(
+      DatabaseXmlPublicationMailRepository repository,
+      HttpMailSender mailSender,
+      DocumentUnitStatusService statusService,
+      @Qualifier("publicationMailScheduler") Scheduler mailScheduler,
+      MeterRegistry meterRegistry) {
+    this.repository = repository;
+    this.mailSender = mailSender;
+    this.statusService = statusService;
+    this.mailScheduler = mailScheduler;
+
+    for (XmlPublicationMailState state : OPEN_STATES) {
+      AtomicLong count = new AtomicLong();
+      stateCounts.put(state, count);
+      Gauge.builder("xml_publication.mail.outbox", count, AtomicLong::get)
+          .description("Number of open publication mails in the outbox by state")
+          .tag("state", state.name().toLowerCase())
+          .register(meterRegistry);
+    }
+    this.sentCounter = registerAttemptCounter(meterRegistry, "sent");
+    this.retryCounter = registerAttemptCounter(meterRegistry, "retry");
+    this.failedCounter = registerAttemptCounter(meterRegistry, "failed");
+  }
+
+  /**
+   * Send the due mails of the outbox.
+   *
+   * @return a mono which completes after all claimed mails are sent or rescheduled
+   */
+  public Mono<Void> dispatch() {
+    Instant now = Instant.now();
+    return repository
+        .claimDueMails(now, now.plus(lease), batchSize)
+        .flatMap(this::send, concurrency)
+        .then();
+  }
+
+  @Scheduled(
+      fixedDelayString = "${mail.exporter.outbox.poll-interval:PT5S}",
+      initialDelayString = "${mail.exporter.outbox.poll-interval:PT5S}")
+  public void dispatchInBackground() {
+    try {
+      dispatch().block();
+    } catch (Exception ex) {
+      log.error("Couldn't dispatch the publication mails", ex);
+    }
+  }
+
+  private Mono<Void> send(PendingXmlPublicationMailDTO mail) {
+    return Mono.fromRunnable(
+            () ->
+                mailSender.sendMail(
+                    senderAddress,
+                    mail.getReceiverAddress(),
+                    mail.getMailSubject(),
+                    "neuris",
+                    Collections.singletonList(
+                        Attachment.builder()
+                            .fileName(mail.getFileName())
+                            .fileContent(mail.getXml())
+                            .build()),
+                    mail.getDocumentUnitUuid().toString(),
+                    mail.getIdempotencyKey().toString()))
+        .subscribeOn(mailScheduler)
+        .then(Mono.defer(() -> repository.markSent(mail.getId(), Instant.now())))
+        .doOnSuccess(updated -> sentCounter.increment())
+        .then()
+        .onErrorResume(ex -> handleFailedAttempt(mail, ex))
+        .onErrorResume(
+            ex -> {
+              // the mail is claimed again after the lease
+              log.error("Couldn't update the publication mail {}", mail.getId(), ex);
+              return Mono.empty();
+            });
+  }
+
+  private Mono<Void> handleFailedAttempt(PendingXmlPublicationMailDTO mail, Throwable ex) {
+    if (mail.getAttempts() >= maxAttempts) {
+      log.error(
+          "Couldn't send the publication mail for {} after {} attempts",
+          mail.getDocumentUnitUuid(),
+          mail.getAttempts(),
+          ex);
+      failedCounter.increment();
+      return repository
+          .markFailedAttempt(
+              mail.getId(), XmlPublicationMailState.FAILED.name(), Instant.now(), ex.getMessage())
+          .then(setErrorStatus(mail.getDocumentUnitUuid()));
+    }
+
+    Duration backoff = getBackoff(mail.getAttempts());
+    log.warn(
+        "Couldn't send the publication mail for {}, try again in {}",
+        mail.getDocumentUnitUuid(),
+        backoff,
+        ex);
+    retryCounter.increment();
+    return repository
+        .markFailedAttempt(
+            mail.getId(),
+            XmlPublicationMailState.RETRY.name(),
+            Instant.now().plus(backoff),
+            ex.getMessage())
+        .then();
+  }
+
+  private Mono<Void> setErrorStatus(UUID documentUnitUuid) {
+    return statusService
+        .getLatestStatus(documentUnitUuid)
+        .filter(status -> status == PublicationStatus.PUBLISHING)
+        .flatMap(
+            status ->
+                statusService.update(
+                    documentUnitUuid,
+                    DocumentUnitStatus.builder()
+                        .publicationStatus(status)
+                        .withError(true)
+                        .build()));
+  }
+
+  Duration getBackoff(int attempts) {
+    int exponent = Math.min(Math.max(attempts - 1, 0), MAX_BACKOFF_EXPONENT);
+    Duration backoff = initialBackoff.multipliedBy(1L << exponent);
+    return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+  }
+
+  /**
+   * Count the open mails of the outbox for the gauges.
+   *
+   * @return a mono which completes after the gauges are updated
+   */
+  public Mono<Void> updateStateCounts() {
+    return repository
+        .countOpenByState()
+        .collectMap(
+            XmlPublicationMailStateCountDTO::getState, XmlPublicationMailStateCountDTO::getCount)
+        .doOnNext(
+            counts ->
+                stateCounts.forEach((state, count) -> count.set(counts.getOrDefault(state, 0L))))
+        .then();
+  }
+
+  @Scheduled(
+      fixedDelayString = "${mail.exporter.outbox.count-interval:PT1M}",
+      initialDelayString = "${mail.exporter.outbox.poll-interval:PT5S}")
+  public void updateStateCountsInBackground() {
+    try {
+      updateStateCounts().block();
+    } catch (Exception ex) {
+      log.error("Couldn't count the publication mails of the outbox", ex);
+    }
+  }
+
+  private static Counter registerAttemptCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("xml_publication.mail.attempts")
+        .description("Number of attempts to send a publication mail by result")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
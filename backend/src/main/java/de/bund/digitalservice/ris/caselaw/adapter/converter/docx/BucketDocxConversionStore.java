@@ -0,0 +1,79 @@
+package de.bund.digitalservice.ris.caselaw.adapter.converter.docx;
+
+import java.nio.charset.StandardCharsets;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+/**
+ * Stores the html of converted docx files in the bucket of the original files. All keys get a
+ * prefix, so that the html files could be separated from the attached docx files.
+ */
+public class BucketDocxConversionStore implements DocxConversionStore {
+  private final S3AsyncClient client;
+  private final String bucketName;
+  private final String keyPrefix;
+
+  /**
+   * @param client client of the bucket
+   * @param bucketName name of the bucket
+   * @param keyPrefix prefix of all keys of the stored html
+   */
+  public BucketDocxConversionStore(S3AsyncClient client, String bucketName, String keyPrefix) {
+    this.client = client;
+    this.bucketName = bucketName;
+    this.keyPrefix = keyPrefix;
+  }
+
+  @Override
+  public Mono<String> load(String key) {
+    GetObjectRequest request =
+        GetObjectRequest.builder().bucket(bucketName).key(keyPrefix + key).build();
+
+    return Mono.fromFuture(() -> client.getObject(request, AsyncResponseTransformer.toBytes()))
+        .map(response -> response.asString(StandardCharsets.UTF_8))
+        .onErrorResume(NoSuchKeyException.class, ex -> Mono.empty());
+  }
+
+  @Override
+  public Mono<Void> store(String key, String html) {
+    PutObjectRequest request =
+        PutObjectRequest.builder()
+            .bucket(bucketName)
+            .key(keyPrefix + key)
+            .contentType("text/html; charset=utf-8")
+            .build();
+    AsyncRequestBody body = AsyncRequestBody.fromString(html, StandardCharsets.UTF_8);
+
+    return Mono.fromFuture(() -> client.putObject(request, body)).then();
+  }
+
+  @Override
+  public Flux<String> list(String prefix) {
+    ListObjectsV2Request request =
+        ListObjectsV2Request.builder().bucket(bucketName).prefix(keyPrefix + prefix).build();
+
+    return Mono.fromFuture(() -> client.listObjectsV2(request))
+        .flatMapIterable(ListObjectsV2Response::contents)
+        .map(S3Object::key)
+        .filter(key -> key.startsWith(keyPrefix))
+        .map(key -> key.substring(keyPrefix.length()));
+  }
+
+  @Override
+  public Mono<Void> delete(String key) {
+    DeleteObjectRequest request =
+        DeleteObjectRequest.builder().bucket(bucketName).key(keyPrefix + key).build();
+
+    return Mono.fromFuture(() -> client.deleteObject(request)).then();
+  }
+}
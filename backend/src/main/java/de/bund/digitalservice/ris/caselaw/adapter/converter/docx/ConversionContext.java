@@ -0,0 +1,44 @@
+package de.bund.digitalservice.ris.caselaw.adapter.converter.docx;
+
+import de.bund.digitalservice.ris.caselaw.domain.docx.DocxImagePart;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.docx4j.model.listnumbering.ListNumberingDefinition;
+import org.docx4j.wml.Style;
+
+/**
+ * Information of one docx document which is needed to convert its parts: the style definitions,
+ * the images and the numbering definitions. A context is created for every converted document and
+ * passed to the builders, so that documents can be converted concurrently with one converter.
+ *
+ * @param styles style definitions by style id
+ * @param images images by relationship id
+ * @param listNumberingDefinitions numbering definitions by numbering id
+ */
+public record ConversionContext(
+    Map<String, Style> styles,
+    Map<String, DocxImagePart> images,
+    Map<String, ListNumberingDefinition> listNumberingDefinitions) {
+
+  private static final ConversionContext EMPTY =
+      new ConversionContext(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+
+  public ConversionContext {
+    styles = copyOf(styles);
+    images = copyOf(images);
+    listNumberingDefinitions = copyOf(listNumberingDefinitions);
+  }
+
+  public static ConversionContext empty() {
+    return EMPTY;
+  }
+
+  private static <T> Map<String, T> copyOf(Map<String, T> map) {
+    if (map == null || map.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    return Collections.unmodifiableMap(new HashMap<>(map));
+  }
+}
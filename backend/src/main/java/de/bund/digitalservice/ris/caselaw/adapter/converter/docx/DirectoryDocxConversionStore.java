@@ -0,0 +1,95 @@
+package de.bund.digitalservice.ris.caselaw.adapter.converter.docx;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.stream.Stream;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Stores the html of converted docx files in a local directory. Useful for local development with
+ * the S3AsyncMockClient or for instances with a persistent volume.
+ */
+public class DirectoryDocxConversionStore implements DocxConversionStore {
+  private static final String TEMP_SUFFIX = ".tmp";
+
+  private final Path directory;
+
+  public DirectoryDocxConversionStore(Path directory) {
+    this.directory = directory.toAbsolutePath();
+  }
+
+  @Override
+  public Mono<String> load(String key) {
+    return Mono.fromCallable(
+            () -> {
+              Path file = resolve(key);
+              if (!Files.exists(file)) {
+                return null;
+              }
+
+              return Files.readString(file, StandardCharsets.UTF_8);
+            })
+        .subscribeOn(Schedulers.boundedElastic());
+  }
+
+  @Override
+  public Mono<Void> store(String key, String html) {
+    return Mono.fromRunnable(
+            () -> {
+              try {
+                Path file = resolve(key);
+                Path parent = file.getParent();
+                Files.createDirectories(parent);
+                Path tempFile =
+                    Files.createTempFile(parent, file.getFileName().toString(), TEMP_SUFFIX);
+                Files.writeString(tempFile, html, StandardCharsets.UTF_8);
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+              } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+              }
+            })
+        .subscribeOn(Schedulers.boundedElastic())
+        .then();
+  }
+
+  @Override
+  public Flux<String> list(String prefix) {
+    return Flux.using(
+            () -> Files.exists(directory) ? Files.walk(directory) : Stream.<Path>empty(),
+            Flux::fromStream)
+        .filter(Files::isRegularFile)
+        .map(file -> directory.relativize(file).toString().replace(File.separatorChar, '/'))
+        .filter(key -> key.startsWith(prefix) && !key.endsWith(TEMP_SUFFIX))
+        .subscribeOn(Schedulers.boundedElastic());
+  }
+
+  @Override
+  public Mono<Void> delete(String key) {
+    return Mono.fromRunnable(
+            () -> {
+              try {
+                Files.deleteIfExists(resolve(key));
+              } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+              }
+            })
+        .subscribeOn(Schedulers.boundedElastic())
+        .then();
+  }
+
+  private Path resolve(String key) {
+    Path file = directory.resolve(key).normalize();
+    if (!file.startsWith(directory)) {
+      throw new IllegalArgumentException("Key must not leave the cache directory: " + key);
+    }
+
+    return file;
+  }
+}
@@ -190,7 +190,7 @@ public class DocumentUnitDocxBuilder extends DocxBuilder {
     ListNumberingDefinition listNumberingDefinition = null;
     if (numPr != null && numPr.getNumId() != null && numPr.getNumId().getVal() != null) {
       numId = numPr.getNumId().getVal().toString();
-      listNumberingDefinition = listNumberingDefinitions.get(numId);
+      listNumberingDefinition = context.listNumberingDefinitions().get(numId);
     }
 
     if (numPr != null && numPr.getIlvl() != null && numPr.getIlvl().getVal() != null) {
@@ -368,7 +368,7 @@ public class DocumentUnitDocxBuilder extends DocxBuilder {
   }
 
   private void parseCTImageData(ParagraphElement parent, CTImageData imageData, String style) {
-    DocxImagePart image = images.get(imageData.getId());
+    DocxImagePart image = context.images().get(imageData.getId());
     AnchorImageElement imageElement = new AnchorImageElement();
     imageElement.setContentType(image.contentType());
     var base64 = Base64.getEncoder().encodeToString(image.bytes());
@@ -493,7 +493,7 @@ public class DocumentUnitDocxBuilder extends DocxBuilder {
 
     if (pic != null) {
       var embed = pic.getBlipFill().getBlip().getEmbed();
-      var image = images.get(embed);
+      var image = context.images().get(embed);
 
       if (image != null) {
         addImageContent(imageElement, image, size);
@@ -533,7 +533,7 @@ public class DocumentUnitDocxBuilder extends DocxBuilder {
 
     var pStyle = pPr.getPStyle();
     if (pStyle != null && pStyle.getVal() != null) {
-      Style style = styles.get(pStyle.getVal());
+      Style style = context.styles().get(pStyle.getVal());
       if (style != null && style.getPPr() != null) {
         jc = style.getPPr().getJc();
       }
@@ -569,7 +569,7 @@ public class DocumentUnitDocxBuilder extends DocxBuilder {
       if (paragraph != null
           && paragraph.getPPr() != null
           && paragraph.getPPr().getPStyle() != null) {
-        var style = styles.get(paragraph.getPPr().getPStyle().getVal());
+        var style = context.styles().get(paragraph.getPPr().getPStyle().getVal());
 
         if (style != null && style.getRPr() != null) {
           RunElementStyleAdapter.addStyles(textElement, style.getRPr());
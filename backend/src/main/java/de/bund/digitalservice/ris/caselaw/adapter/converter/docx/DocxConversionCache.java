@@ -0,0 +1,156 @@
+package de.bund.digitalservice.ris.caselaw.adapter.converter.docx;
+
+import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Cache for the html of converted docx files. Attached files are never changed, a new upload gets a
+ * new key in the bucket. So the html can be cached by the key of the file and the version of the
+ * converter.
+ *
+ * <p>The first tier is a least recently used cache in memory, limited by the summed up length of
+ * the cached html. The optional second tier is a {@link DocxConversionStore}, which persists the
+ * html under '&lt;file name&gt;/&lt;converter version&gt;.html'. Html of other converter versions
+ * is removed from the store, if a file is converted again or evicted.
+ */
+@Slf4j
+public class DocxConversionCache {
+  private static final String STORE_KEY_SUFFIX = ".html";
+
+  private final Map<String, Docx2Html> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final long maxSize;
+  private final DocxConversionStore store;
+  private long size;
+
+  /**
+   * @param maxSize maximal summed up length of the html in the memory cache
+   * @param store second tier of the cache, could be null
+   */
+  public DocxConversionCache(long maxSize, DocxConversionStore store) {
+    this.maxSize = maxSize;
+    this.store = store;
+  }
+
+  /**
+   * Get the cached html of a converted docx file. Look first in memory and then in the store. A
+   * html found in the store is put into memory.
+   *
+   * @param fileName key of the docx file in the bucket
+   * @return the cached html or an empty mono if the file isn't converted yet
+   */
+  public Mono<Docx2Html> get(String fileName) {
+    String key = getKey(fileName);
+
+    Docx2Html docx2Html = getFromMemory(key);
+    if (docx2Html != null || store == null) {
+      return Mono.justOrEmpty(docx2Html);
+    }
+
+    return store
+        .load(getStoreKey(fileName))
+        .map(html -> html.isEmpty() ? Docx2Html.EMPTY : new Docx2Html(html))
+        .doOnNext(html -> putIntoMemory(key, html))
+        .onErrorResume(
+            ex -> {
+              log.warn("Couldn't load converted docx file '{}' from store", fileName, ex);
+              return Mono.empty();
+            });
+  }
+
+  /**
+   * Put the html of a converted docx file into the cache.
+   *
+   * @param fileName key of the docx file in the bucket
+   * @param docx2Html the html of the converted file
+   * @return an empty mono which completes after the html is cached in all tiers
+   */
+  public Mono<Void> put(String fileName, Docx2Html docx2Html) {
+    String key = getKey(fileName);
+
+    putIntoMemory(key, docx2Html);
+    if (store == null) {
+      return Mono.empty();
+    }
+
+    String html = docx2Html.content() == null ? "" : docx2Html.content();
+    String storeKey = getStoreKey(fileName);
+    return store
+        .store(storeKey, html)
+        .then(deleteFromStore(fileName, storeKey))
+        .onErrorResume(
+            ex -> {
+              log.warn("Couldn't store converted docx file '{}'", fileName, ex);
+              return Mono.empty();
+            });
+  }
+
+  /**
+   * Remove the html of a docx file from all tiers of the cache. The html of all converter versions
+   * is deleted from the store.
+   *
+   * @param fileName key of the docx file in the bucket
+   * @return an empty mono which completes after the html is removed from all tiers
+   */
+  public Mono<Void> evict(String fileName) {
+    String key = getKey(fileName);
+
+    removeFromMemory(key);
+    if (store == null) {
+      return Mono.empty();
+    }
+
+    return deleteFromStore(fileName, null);
+  }
+
+  private Mono<Void> deleteFromStore(String fileName, String retainedKey) {
+    return store
+        .list(fileName + "/")
+        .filter(storeKey -> !storeKey.equals(retainedKey))
+        .flatMap(store::delete)
+        .then();
+  }
+
+  private String getKey(String fileName) {
+    return fileName + "." + DocxConverter.VERSION;
+  }
+
+  private String getStoreKey(String fileName) {
+    return fileName + "/" + DocxConverter.VERSION + STORE_KEY_SUFFIX;
+  }
+
+  private synchronized Docx2Html getFromMemory(String key) {
+    return entries.get(key);
+  }
+
+  private synchronized void putIntoMemory(String key, Docx2Html docx2Html) {
+    long entrySize = getSize(docx2Html);
+    if (entrySize > maxSize) {
+      return;
+    }
+
+    Docx2Html previous = entries.put(key, docx2Html);
+    size += entrySize - getSize(previous);
+
+    Iterator<Docx2Html> iterator = entries.values().iterator();
+    while (size > maxSize && iterator.hasNext()) {
+      size -= getSize(iterator.next());
+      iterator.remove();
+    }
+  }
+
+  private synchronized void removeFromMemory(String key) {
+    size -= getSize(entries.remove(key));
+  }
+
+  private static long getSize(Docx2Html docx2Html) {
+    if (docx2Html == null) {
+      return 0;
+    }
+
+    return docx2Html.content() == null ? 1 : docx2Html.content().length() + 1L;
+  }
+}
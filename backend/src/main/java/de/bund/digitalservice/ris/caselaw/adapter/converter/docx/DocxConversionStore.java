@@ -0,0 +1,45 @@
+package de.bund.digitalservice.ris.caselaw.adapter.converter.docx;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Persistent store for the html of converted docx files. Used as second tier of the {@link
+ * DocxConversionCache}, so that converted files survive a restart and are shared between
+ * instances.
+ */
+public interface DocxConversionStore {
+
+  /**
+   * Load the stored html.
+   *
+   * @param key key of the converted file
+   * @return the html or an empty mono if nothing is stored for the key
+   */
+  Mono<String> load(String key);
+
+  /**
+   * Store the html of a converted file.
+   *
+   * @param key key of the converted file
+   * @param html the html
+   * @return an empty mono which completes when the html is stored
+   */
+  Mono<Void> store(String key, String html);
+
+  /**
+   * List the keys of all stored html starting with the given prefix.
+   *
+   * @param prefix prefix of the keys
+   * @return the keys of the stored html
+   */
+  Flux<String> list(String prefix);
+
+  /**
+   * Delete the stored html.
+   *
+   * @param key key of the converted file
+   * @return an empty mono which completes when the html is deleted
+   */
+  Mono<Void> delete(String key);
+}
@@ -1,34 +1,24 @@
 package de.bund.digitalservice.ris.caselaw.adapter.converter.docx;
 
-import de.bund.digitalservice.ris.caselaw.domain.Converter;
 import de.bund.digitalservice.ris.caselaw.domain.docx.DocumentUnitDocx;
-import de.bund.digitalservice.ris.caselaw.domain.docx.DocxImagePart;
 import de.bund.digitalservice.ris.caselaw.domain.docx.ErrorElement;
 import jakarta.xml.bind.JAXBElement;
-import java.util.Map;
-import org.docx4j.model.listnumbering.ListNumberingDefinition;
 import org.docx4j.wml.P;
-import org.docx4j.wml.Style;
 import org.docx4j.wml.Tbl;
 
-public class DocxConverter implements Converter<DocumentUnitDocx> {
-  Map<String, Style> styles;
-  Map<String, DocxImagePart> images;
-  Map<String, ListNumberingDefinition> listNumberingDefinitions;
-
-  public void setImages(Map<String, DocxImagePart> images) {
-    this.images = images;
-  }
-
-  public void setStyles(Map<String, Style> styles) {
-    this.styles = styles;
-  }
-
-  public void setNumbering(Map<String, ListNumberingDefinition> listNumberingDefinitions) {
-    this.listNumberingDefinitions = listNumberingDefinitions;
-  }
-
-  public DocumentUnitDocx convert(Object part) {
+/**
+ * Converts the parts of a docx document into {@link DocumentUnitDocx} elements. The converter has
+ * no state, all document specific information is given by the {@link ConversionContext}. One
+ * instance can be used for concurrent conversions.
+ */
+public class DocxConverter {
+  /**
+   * Version of the conversion. Converted files are cached by this version, so it has to be
+   * increased by every change of the generated html.
+   */
+  public static final String VERSION = "1";
+
+  public DocumentUnitDocx convert(Object part, ConversionContext context) {
     DocxBuilder builder;
     if (part instanceof P p) {
       builder = convertP(p);
@@ -38,12 +28,7 @@ public class DocxConverter implements Converter<DocumentUnitDocx> {
       return new ErrorElement(part.getClass().getName());
     }
 
-    builder
-        .useStyles(styles)
-        .useImages(images)
-        .useListNumberingDefinitions(listNumberingDefinitions);
-
-    return builder.build();
+    return builder.useContext(context).build();
   }
 
   private DocxBuilder convertP(P part) {
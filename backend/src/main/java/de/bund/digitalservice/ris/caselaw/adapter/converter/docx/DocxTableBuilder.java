@@ -66,7 +66,7 @@ public class DocxTableBuilder extends DocxBuilder {
       return;
     }
 
-    Style style = styles.get(table.getTblPr().getTblStyle().getVal());
+    Style style = context.styles().get(table.getTblPr().getTblStyle().getVal());
     if (style == null) {
       return;
     }
@@ -368,7 +368,7 @@ public class DocxTableBuilder extends DocxBuilder {
 
     if (table.getTblPr().getTblStyle() != null) {
       var tblStyleKey = table.getTblPr().getTblStyle().getVal();
-      Style style = styles.get(tblStyleKey);
+      Style style = context.styles().get(tblStyleKey);
       addTableProperties(tableElement, style.getTblPr());
     }
 
@@ -507,7 +507,7 @@ public class DocxTableBuilder extends DocxBuilder {
 
     if (table.getTblPr().getTblStyle() != null) {
       String tableStyleKey = table.getTblPr().getTblStyle().getVal();
-      Style style = styles.get(tableStyleKey);
+      Style style = context.styles().get(tableStyleKey);
       if (style.getTblPr() != null) {
         addBordersToCells(cells, style.getTblPr().getTblBorders());
       }
@@ -555,10 +555,7 @@ public class DocxTableBuilder extends DocxBuilder {
             element -> {
               if (element instanceof P p) {
                 DocumentUnitDocxBuilder paragraphBuilder = DocumentUnitDocxBuilder.newInstance();
-                paragraphBuilder
-                    .useImages(images)
-                    .useStyles(styles)
-                    .useListNumberingDefinitions(listNumberingDefinitions);
+                paragraphBuilder.useContext(context);
                 paragraphBuilder.setParagraph(p);
                 paragraphElements.add(paragraphBuilder.build());
               } else {
@@ -575,7 +572,7 @@ public class DocxTableBuilder extends DocxBuilder {
   private void addTcStyle(TableCellElement cellElement, Tc tc) {
     if (table.getTblPr().getTblStyle() != null) {
       var tblStyleKey = table.getTblPr().getTblStyle().getVal();
-      Style style = styles.get(tblStyleKey);
+      Style style = context.styles().get(tblStyleKey);
       addTcStyle(cellElement, style.getTcPr());
     }
 
@@ -10,4 +10,6 @@ public interface DatabaseDeviatingDecisionDateRepository
   Mono<Void> deleteAllByDocumentUnitId(Long documentUnitId);
 
   Flux<DeviatingDecisionDateDTO> findAllByDocumentUnitId(Long documentUnitId);
+
+  Flux<DeviatingDecisionDateDTO> findAllByDocumentUnitIdOrderById(Long documentUnitId);
 }
@@ -0,0 +1,36 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
+
+import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface DatabaseDocumentUnitLatestStatusRepository
+    extends R2dbcRepository<DocumentUnitLatestStatusDTO, UUID> {
+
+  /**
+   * Set the latest status of a documentation unit. A status which is older than the stored one is
+   * ignored.
+   */
+  @Modifying
+  @Query(
+      "INSERT INTO latest_status (document_unit_id, publication_status, with_error, created_at) "
+          + "VALUES (:documentUnitId, :publicationStatus, :withError, :createdAt) "
+          + "ON CONFLICT (document_unit_id) DO UPDATE SET "
+          + "    publication_status = EXCLUDED.publication_status, "
+          + "    with_error = EXCLUDED.with_error, "
+          + "    created_at = EXCLUDED.created_at "
+          + "WHERE latest_status.created_at IS NULL "
+          + "    OR EXCLUDED.created_at IS NULL "
+          + "    OR latest_status.created_at <= EXCLUDED.created_at")
+  Mono<Integer> upsert(
+      UUID documentUnitId,
+      PublicationStatus publicationStatus,
+      boolean withError,
+      Instant createdAt);
+}
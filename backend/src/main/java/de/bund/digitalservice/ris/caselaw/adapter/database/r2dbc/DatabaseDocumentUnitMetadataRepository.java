@@ -14,11 +14,7 @@ public interface DatabaseDocumentUnitMetadataRepository
     extends R2dbcRepository<DocumentUnitMetadataDTO, Long> {
 
   String SEARCH_QUERY =
-      "LEFT JOIN ( "
-          + "    SELECT DISTINCT ON (document_unit_id) document_unit_id, publication_status "
-          + "    FROM public.status "
-          + "    ORDER BY document_unit_id, created_at DESC "
-          + ") status ON uuid = status.document_unit_id "
+      "LEFT JOIN latest_status status ON uuid = status.document_unit_id "
           + "WHERE "
           + "(:courtType IS NULL OR gerichtstyp = :courtType) AND "
           + "(:courtLocation IS NULL OR gerichtssitz = :courtLocation) AND"
@@ -28,28 +24,103 @@ public interface DatabaseDocumentUnitMetadataRepository
           + "(status.publication_status IS NULL OR status.publication_status IN ('PUBLISHED', 'PUBLISHING')) AND "
           + "data_source in ('NEURIS', 'MIGRATION') ";
   String ALL_QUERY =
-      "LEFT JOIN ( "
-          + "    SELECT DISTINCT ON (document_unit_id) document_unit_id, publication_status "
-          + "    FROM public.status "
-          + "    ORDER BY document_unit_id, created_at DESC "
-          + ") status ON uuid = status.document_unit_id "
+      "LEFT JOIN latest_status status ON uuid = status.document_unit_id "
           + "WHERE data_source = :dataSource AND ( "
           + "    documentation_office_id = :documentationOfficeId OR"
           + "    status.publication_status IS NULL OR "
           + "    status.publication_status IN ('PUBLISHED', 'PUBLISHING') )";
+  String LIST_ENTRY_QUERY =
+      "SELECT du.id, du.uuid, du.documentnumber, du.creationtimestamp, du.data_source, "
+          + "    du.filename, du.gerichtstyp AS court_type, du.gerichtssitz AS court_location, "
+          + "    file_number.file_number, "
+          + "    document_type.juris_shortcut AS document_type_juris_shortcut, "
+          + "    document_type.label AS document_type_label, "
+          + "    documentation_office.label AS documentation_office_label, "
+          + "    documentation_office.abbreviation AS documentation_office_abbreviation, "
+          + "    status.publication_status, status.with_error "
+          + "FROM doc_unit du "
+          + "LEFT JOIN LATERAL ( "
+          + "    SELECT file_number FROM file_number "
+          + "    WHERE document_unit_id = du.id AND is_deviating = FALSE "
+          + "    ORDER BY id LIMIT 1 "
+          + ") file_number ON TRUE "
+          + "LEFT JOIN lookuptable_documenttype document_type "
+          + "    ON document_type.id = du.document_type_id "
+          + "LEFT JOIN documentation_office "
+          + "    ON documentation_office.id = du.documentation_office_id "
+          + "LEFT JOIN latest_status status ON status.document_unit_id = du.uuid "
+          + "WHERE du.data_source = :dataSource AND ( "
+          + "    du.documentation_office_id = :documentationOfficeId OR "
+          + "    status.publication_status IS NULL OR "
+          + "    status.publication_status IN ('PUBLISHED', 'PUBLISHING') ) ";
+  String ACCESS_INFO_QUERY =
+      "SELECT du.uuid, du.documentnumber, du.s3path, "
+          + "    documentation_office.label AS documentation_office_label, "
+          + "    documentation_office.abbreviation AS documentation_office_abbreviation, "
+          + "    status.publication_status, status.with_error "
+          + "FROM doc_unit du "
+          + "LEFT JOIN documentation_office "
+          + "    ON documentation_office.id = du.documentation_office_id "
+          + "LEFT JOIN latest_status status ON status.document_unit_id = du.uuid ";
 
   Mono<DocumentUnitMetadataDTO> findByUuid(UUID documentUnitUuid);
 
+  @Query(ACCESS_INFO_QUERY + "WHERE du.uuid = :uuid")
+  Mono<DocumentUnitAccessInfoDTO> findAccessInfoByUuid(UUID uuid);
+
+  @Query(ACCESS_INFO_QUERY + "WHERE du.documentnumber = :documentNumber")
+  Mono<DocumentUnitAccessInfoDTO> findAccessInfoByDocumentNumber(String documentNumber);
+
   @Query(
-      "SELECT * FROM doc_unit "
+      "SELECT status.publication_status, status.with_error, "
+          + "    file_conversion.s3path, file_conversion.duration_in_milliseconds, "
+          + "    file_conversion.error_message, file_conversion.converted_at "
+          + "FROM doc_unit du "
+          + "LEFT JOIN latest_status status ON status.document_unit_id = du.uuid "
+          + "LEFT JOIN file_conversion "
+          + "    ON file_conversion.document_unit_id = du.uuid "
+          + "    AND file_conversion.s3path = du.s3path "
+          + "WHERE du.uuid = :uuid")
+  Mono<DocumentUnitStatusAndFileConversionDTO> findStatusAndFileConversionByUuid(UUID uuid);
+
+  @Query("SELECT * FROM doc_unit WHERE uuid = ANY(:documentUnitUuids)")
+  Flux<DocumentUnitMetadataDTO> findAllByUuids(UUID[] documentUnitUuids);
+
+  @Query(
+      "SELECT doc_unit.* FROM doc_unit "
           + ALL_QUERY
           + "ORDER BY creationtimestamp DESC "
           + "LIMIT :pageSize OFFSET :offset")
   Flux<DocumentUnitMetadataDTO> findAllByDataSourceAndDocumentationOfficeId(
       String dataSource, UUID documentationOfficeId, Integer pageSize, Long offset);
 
+  /**
+   * Load the first page of the start page list. The list is ordered by the creation timestamp and
+   * the id, both descending.
+   */
+  @Query(LIST_ENTRY_QUERY + "ORDER BY du.creationtimestamp DESC, du.id DESC LIMIT :pageSize")
+  Flux<DocumentUnitListEntryDTO> findFirstListEntriesByDataSourceAndDocumentationOfficeId(
+      String dataSource, UUID documentationOfficeId, Integer pageSize);
+
+  /**
+   * Load the page of the start page list after the given position. The row comparison on the
+   * creation timestamp and the id is the only condition on the position, so the index on both
+   * columns is used to seek to the position.
+   */
+  @Query(
+      LIST_ENTRY_QUERY
+          + "AND (du.creationtimestamp, du.id) < (:creationTimestamp, :id) "
+          + "ORDER BY du.creationtimestamp DESC, du.id DESC "
+          + "LIMIT :pageSize")
+  Flux<DocumentUnitListEntryDTO> findListEntriesByDataSourceAndDocumentationOfficeIdAfter(
+      String dataSource,
+      UUID documentationOfficeId,
+      Instant creationTimestamp,
+      Long id,
+      Integer pageSize);
+
   @Query(
-      "SELECT * FROM doc_unit "
+      "SELECT doc_unit.* FROM doc_unit "
           + SEARCH_QUERY
           + "ORDER BY decision_date DESC, id DESC "
           + "LIMIT :pageSize OFFSET :offset")
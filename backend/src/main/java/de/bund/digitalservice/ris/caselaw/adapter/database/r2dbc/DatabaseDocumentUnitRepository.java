@@ -13,4 +13,7 @@ public interface DatabaseDocumentUnitRepository extends R2dbcRepository<Document
 
   @Query("SELECT * FROM doc_unit WHERE uuid = $1")
   Mono<DocumentUnitDTO> findByUuid(UUID uuid);
+
+  @Query("SELECT id FROM doc_unit WHERE uuid = $1")
+  Mono<Long> findIdByUuid(UUID uuid);
 }
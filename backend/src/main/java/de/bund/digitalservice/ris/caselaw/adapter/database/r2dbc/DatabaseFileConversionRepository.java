@@ -0,0 +1,37 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
+
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface DatabaseFileConversionRepository
+    extends R2dbcRepository<FileConversionDTO, UUID> {
+
+  /**
+   * Set the conversion result of the attached file. Only the result of the currently attached file
+   * is stored, so a result of a file which is replaced in the meantime is ignored.
+   */
+  @Modifying
+  @Query(
+      "INSERT INTO file_conversion "
+          + "    (document_unit_id, s3path, duration_in_milliseconds, error_message, converted_at) "
+          + "SELECT uuid, s3path, :durationInMilliseconds, :errorMessage, :convertedAt "
+          + "FROM doc_unit "
+          + "WHERE uuid = :documentUnitId AND s3path = :s3path "
+          + "ON CONFLICT (document_unit_id) DO UPDATE SET "
+          + "    s3path = EXCLUDED.s3path, "
+          + "    duration_in_milliseconds = EXCLUDED.duration_in_milliseconds, "
+          + "    error_message = EXCLUDED.error_message, "
+          + "    converted_at = EXCLUDED.converted_at")
+  Mono<Integer> upsert(
+      UUID documentUnitId,
+      String s3path,
+      Long durationInMilliseconds,
+      String errorMessage,
+      Instant convertedAt);
+}
@@ -9,4 +9,6 @@ public interface DatabaseIncorrectCourtRepository extends R2dbcRepository<Incorr
   Mono<Void> deleteAllByDocumentUnitId(Long documentUnitId);
 
   Flux<IncorrectCourtDTO> findAllByDocumentUnitId(Long documentUnitId);
+
+  Flux<IncorrectCourtDTO> findAllByDocumentUnitIdOrderById(Long documentUnitId);
 }
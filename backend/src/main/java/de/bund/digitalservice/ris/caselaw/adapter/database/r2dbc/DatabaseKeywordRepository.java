@@ -1,5 +1,6 @@
 package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
 
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
@@ -10,4 +11,46 @@ public interface DatabaseKeywordRepository extends R2dbcRepository<KeywordDTO, L
   Flux<KeywordDTO> findAllByDocumentUnitIdOrderById(Long documentUnitId);
 
   Mono<KeywordDTO> findByDocumentUnitIdAndKeyword(Long documentUnitId, String keyword);
+
+  /**
+   * Add the keyword to the documentation unit, if it doesn't have it yet, and return all keywords
+   * of the documentation unit in one statement. The select doesn't see the row inserted by the same
+   * statement, so the inserted keyword is appended from the returned row.
+   *
+   * @param documentUnitId the id of the documentation unit
+   * @param keyword the keyword to add
+   * @return all keywords of the documentation unit in the order they were added
+   */
+  @Query(
+      "WITH inserted AS ( "
+          + "    INSERT INTO keyword (document_unit_id, keyword) "
+          + "    VALUES (:documentUnitId, :keyword) "
+          + "    ON CONFLICT (document_unit_id, keyword) DO NOTHING "
+          + "    RETURNING id, keyword) "
+          + "SELECT keyword "
+          + "FROM (SELECT id, keyword FROM keyword WHERE document_unit_id = :documentUnitId "
+          + "      UNION ALL "
+          + "      SELECT id, keyword FROM inserted) AS keywords "
+          + "ORDER BY id")
+  Flux<String> addAndFindAllByDocumentUnitId(Long documentUnitId, String keyword);
+
+  /**
+   * Delete the keyword from the documentation unit and return the remaining keywords of the
+   * documentation unit in one statement.
+   *
+   * @param documentUnitId the id of the documentation unit
+   * @param keyword the keyword to delete
+   * @return the remaining keywords of the documentation unit in the order they were added
+   */
+  @Query(
+      "WITH deleted AS ( "
+          + "    DELETE FROM keyword "
+          + "    WHERE document_unit_id = :documentUnitId AND keyword = :keyword "
+          + "    RETURNING id) "
+          + "SELECT keyword "
+          + "FROM keyword "
+          + "WHERE document_unit_id = :documentUnitId "
+          + "  AND id NOT IN (SELECT id FROM deleted) "
+          + "ORDER BY id")
+  Flux<String> deleteAndFindAllByDocumentUnitId(Long documentUnitId, String keyword);
 }
@@ -1,10 +1,29 @@
 package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
 
 import java.util.UUID;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface DatabasePublicationReportRepository
     extends R2dbcRepository<PublicationReportDTO, UUID> {
   Flux<PublicationReportDTO> findAllByDocumentUnitId(UUID documentUnitId);
+
+  Mono<PublicationReportDTO> findByIdAndDocumentUnitId(UUID id, UUID documentUnitId);
+
+  /**
+   * Insert the reports with one statement. The arrays hold one element per report. The document
+   * numbers are resolved to the documentation units in the same statement, reports for unknown
+   * document numbers are skipped. The received dates are ISO-8601 strings.
+   */
+  @Query(
+      "INSERT INTO publication_report (id, document_unit_id, content, received_date) "
+          + "SELECT report.id, doc_unit.uuid, report.content, report.received_date::timestamptz "
+          + "FROM unnest(:ids, :documentNumbers, :contents, :receivedDates) "
+          + "AS report(id, documentnumber, content, received_date) "
+          + "JOIN doc_unit ON doc_unit.documentnumber = report.documentnumber "
+          + "RETURNING *")
+  Flux<PublicationReportDTO> insertAllByDocumentNumber(
+      UUID[] ids, String[] documentNumbers, String[] contents, String[] receivedDates);
 }
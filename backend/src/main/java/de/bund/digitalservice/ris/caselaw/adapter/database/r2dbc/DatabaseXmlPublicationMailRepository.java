@@ -0,0 +1,73 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
+
+import java.time.Instant;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface DatabaseXmlPublicationMailRepository
+    extends R2dbcRepository<XmlPublicationMailDTO, Long> {
+
+  Mono<XmlPublicationMailDTO> findByXmlPublicationId(Long xmlPublicationId);
+
+  /**
+   * Claim the due mails of the outbox. Claimed mails are set to SENDING until the lease is over, so
+   * that a mail of a crashed dispatcher is claimed again after the lease. Rows which are locked by
+   * another dispatcher are skipped.
+   *
+   * @param now the current time
+   * @param leaseUntil end of the lease of the claimed mails
+   * @param batchSize maximal number of claimed mails
+   * @return the claimed mails with the data of their publication
+   */
+  @Query(
+      "WITH claimed AS ( "
+          + "    UPDATE xml_publication_mail "
+          + "    SET state = 'SENDING', attempts = attempts + 1, next_attempt_at = :leaseUntil "
+          + "    WHERE id IN ( "
+          + "        SELECT id FROM xml_publication_mail "
+          + "        WHERE state IN ('PENDING', 'RETRY', 'SENDING') AND next_attempt_at <= :now "
+          + "        ORDER BY next_attempt_at "
+          + "        LIMIT :batchSize "
+          + "        FOR UPDATE SKIP LOCKED) "
+          + "    RETURNING id, xml_publication_id, idempotency_key, attempts) "
+          + "SELECT claimed.id, claimed.idempotency_key, claimed.attempts, "
+          + "    doc_unit.uuid AS document_unit_uuid, xml_publication.receiver_address, "
+          + "    xml_publication.mail_subject, xml_publication.xml, xml_publication.file_name "
+          + "FROM claimed "
+          + "JOIN xml_publication ON xml_publication.id = claimed.xml_publication_id "
+          + "JOIN doc_unit ON doc_unit.id = xml_publication.document_unit_id")
+  Flux<PendingXmlPublicationMailDTO> claimDueMails(Instant now, Instant leaseUntil, int batchSize);
+
+  @Modifying
+  @Query(
+      "UPDATE xml_publication_mail "
+          + "SET state = 'SENT', sent_at = :sentAt, last_error = NULL "
+          + "WHERE id = :id")
+  Mono<Integer> markSent(Long id, Instant sentAt);
+
+  @Modifying
+  @Query(
+      "UPDATE xml_publication_mail "
+          + "SET state = :state, next_attempt_at = :nextAttemptAt, last_error = :lastError "
+          + "WHERE id = :id")
+  Mono<Integer> markFailedAttempt(
+      Long id, String state, Instant nextAttemptAt, String lastError);
+
+  /**
+   * Count the mails which aren't sent or failed yet by their state. The sent and failed mails stay
+   * in the table and aren't counted, so the count only reads the entries of the open states from
+   * the index on state and next attempt.
+   *
+   * @return the number of mails per open state, states without mails are missing
+   */
+  @Query(
+      "SELECT state, count(*) AS count FROM xml_publication_mail "
+          + "WHERE state IN ('PENDING', 'SENDING', 'RETRY') "
+          + "GROUP BY state")
+  Flux<XmlPublicationMailStateCountDTO> countOpenByState();
+}
@@ -1,5 +1,8 @@
 package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
 
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -9,4 +12,69 @@ public interface DatabaseXmlPublicationRepository extends R2dbcRepository<XmlPub
   Mono<XmlPublicationDTO> findTopByDocumentUnitIdOrderByPublishDateDesc(Long documentUnitId);
 
   Flux<XmlPublicationDTO> findAllByDocumentUnitIdOrderByPublishDateDesc(Long documentUnitId);
+
+  @Query(
+      "SELECT xml_publication.* FROM xml_publication "
+          + "JOIN doc_unit ON doc_unit.id = xml_publication.document_unit_id "
+          + "WHERE xml_publication.id = :id AND doc_unit.uuid = :documentUnitUuid")
+  Mono<XmlPublicationDTO> findByIdAndDocumentUnitUuid(Long id, UUID documentUnitUuid);
+
+  /**
+   * Get one page of the publications and publication reports of a documentation unit, newest
+   * first. Only the summary of an entry is loaded, not the xml or the content of a report.
+   */
+  @Query(
+      "SELECT CAST(xml_publication.id AS TEXT) AS id, 'PUBLICATION' AS type, "
+          + "    xml_publication.publish_date AS date, xml_publication.receiver_address, "
+          + "    xml_publication.mail_subject, xml_publication.file_name, "
+          + "    xml_publication.status_code, xml_publication.status_messages "
+          + "FROM xml_publication "
+          + "JOIN doc_unit ON doc_unit.id = xml_publication.document_unit_id "
+          + "WHERE doc_unit.uuid = :documentUnitUuid "
+          + "UNION ALL "
+          + "SELECT CAST(id AS TEXT), 'PUBLICATION_REPORT', received_date, NULL, NULL, NULL, "
+          + "    NULL, NULL "
+          + "FROM publication_report "
+          + "WHERE document_unit_id = :documentUnitUuid "
+          + "ORDER BY date DESC, id "
+          + "LIMIT :limit OFFSET :offset")
+  Flux<PublicationHistoryEntryDTO> findPublicationHistory(
+      UUID documentUnitUuid, int limit, long offset);
+
+  @Query(
+      "SELECT (SELECT count(*) FROM xml_publication "
+          + "    JOIN doc_unit ON doc_unit.id = xml_publication.document_unit_id "
+          + "    WHERE doc_unit.uuid = :documentUnitUuid) "
+          + "+ (SELECT count(*) FROM publication_report "
+          + "    WHERE document_unit_id = :documentUnitUuid)")
+  Mono<Long> countPublicationHistory(UUID documentUnitUuid);
+
+  /**
+   * Save the publication and a pending mail for it in the outbox in one statement, so that there
+   * is no publication without a mail and no mail without a publication.
+   *
+   * @return the saved publication
+   */
+  @Query(
+      "WITH publication AS ( "
+          + "    INSERT INTO xml_publication (document_unit_id, receiver_address, mail_subject, "
+          + "        xml, status_code, status_messages, file_name, publish_date) "
+          + "    VALUES (:documentUnitId, :receiverAddress, :mailSubject, :xml, :statusCode, "
+          + "        :statusMessages, :fileName, :publishDate) "
+          + "    RETURNING *), "
+          + "mail AS ( "
+          + "    INSERT INTO xml_publication_mail (xml_publication_id, idempotency_key, state, "
+          + "        next_attempt_at) "
+          + "    SELECT id, :idempotencyKey, 'PENDING', now() FROM publication) "
+          + "SELECT * FROM publication")
+  Mono<XmlPublicationDTO> saveWithPendingMail(
+      Long documentUnitId,
+      String receiverAddress,
+      String mailSubject,
+      String xml,
+      String statusCode,
+      String statusMessages,
+      String fileName,
+      Instant publishDate,
+      UUID idempotencyKey);
 }
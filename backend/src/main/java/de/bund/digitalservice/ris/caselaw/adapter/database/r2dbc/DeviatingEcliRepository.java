@@ -9,4 +9,6 @@ public interface DeviatingEcliRepository extends R2dbcRepository<DeviatingEcliDT
   Mono<Void> deleteAllByDocumentUnitId(Long documentUnitId);
 
   Flux<DeviatingEcliDTO> findAllByDocumentUnitId(Long documentUnitId);
+
+  Flux<DeviatingEcliDTO> findAllByDocumentUnitIdOrderById(Long documentUnitId);
 }
@@ -0,0 +1,23 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
+
+import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Projection of a documentation unit with the columns which are needed for access checks. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentUnitAccessInfoDTO {
+  private UUID uuid;
+  private String documentnumber;
+  private String s3path;
+  private String documentationOfficeLabel;
+  private String documentationOfficeAbbreviation;
+  private PublicationStatus publicationStatus;
+  private Boolean withError;
+}
@@ -57,4 +57,5 @@ public class DocumentUnitDTO extends DocumentUnitMetadataDTO {
   @Transient List<KeywordDTO> keywords;
   @Transient List<FieldOfLawDTO> fieldsOfLaw;
   @Transient List<DocumentUnitNormDTO> norms;
+  @Transient FileConversionDTO fileConversion;
 }
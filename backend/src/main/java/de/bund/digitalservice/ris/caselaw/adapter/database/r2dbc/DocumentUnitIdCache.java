@@ -0,0 +1,80 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Cache of the internal database ids of the documentation units by their uuid. The endpoints
+ * address a documentation unit by its uuid, the tables which belong to it reference the internal
+ * id. The id of a documentation unit never changes, so a resolved id stays valid until the
+ * documentation unit is deleted.
+ *
+ * <p>The cache holds the ids of the last used 10,000 documentation units. The repositories which
+ * delete documentation units evict them from the cache.
+ */
+@Component
+@Slf4j
+public class DocumentUnitIdCache {
+  private static final int MAX_SIZE = 10_000;
+
+  private final DatabaseDocumentUnitRepository repository;
+  private final Map<UUID, Long> ids =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, Long> eldest) {
+          return size() > MAX_SIZE;
+        }
+      };
+
+  public DocumentUnitIdCache(DatabaseDocumentUnitRepository repository) {
+    this.repository = repository;
+  }
+
+  /**
+   * Get the internal id of the documentation unit.
+   *
+   * @param documentUnitUuid the uuid of the documentation unit
+   * @return the id, empty if no documentation unit with the uuid exists
+   */
+  public Mono<Long> getId(UUID documentUnitUuid) {
+    if (documentUnitUuid == null) {
+      return Mono.empty();
+    }
+
+    Long id;
+    synchronized (ids) {
+      id = ids.get(documentUnitUuid);
+    }
+    if (id != null) {
+      return Mono.just(id);
+    }
+
+    return repository
+        .findIdByUuid(documentUnitUuid)
+        .doOnNext(
+            loadedId -> {
+              synchronized (ids) {
+                ids.put(documentUnitUuid, loadedId);
+              }
+            });
+  }
+
+  /**
+   * Remove the id of a deleted documentation unit.
+   *
+   * @param documentUnitUuid the uuid of the deleted documentation unit
+   */
+  public void evict(UUID documentUnitUuid) {
+    if (log.isDebugEnabled()) {
+      log.debug("evict documentation unit id: {}", documentUnitUuid);
+    }
+
+    synchronized (ids) {
+      ids.remove(documentUnitUuid);
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
+
+import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Latest entry of the status history of a documentation unit. Kept up to date by {@link
+ * de.bund.digitalservice.ris.caselaw.adapter.DatabaseDocumentUnitStatusService} on every new
+ * status, so that list and search queries don't have to search the whole status history.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("latest_status")
+public class DocumentUnitLatestStatusDTO {
+  @Id
+  @Column("document_unit_id")
+  private UUID documentUnitId;
+
+  private PublicationStatus publicationStatus;
+
+  private boolean withError;
+
+  @Column("created_at")
+  private Instant createdAt;
+}
@@ -0,0 +1,37 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
+
+import de.bund.digitalservice.ris.caselaw.domain.DataSource;
+import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Projection of a documentation unit with all information which is shown in the list of the start
+ * page. Read by one statement joining the documentation unit with its first file number, document
+ * type, documentation office and latest status.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentUnitListEntryDTO {
+  private Long id;
+  private UUID uuid;
+  private String documentnumber;
+  private Instant creationtimestamp;
+  private DataSource dataSource;
+  private String filename;
+  private String courtType;
+  private String courtLocation;
+  private String fileNumber;
+  private String documentTypeJurisShortcut;
+  private String documentTypeLabel;
+  private String documentationOfficeLabel;
+  private String documentationOfficeAbbreviation;
+  private PublicationStatus publicationStatus;
+  private Boolean withError;
+}
@@ -0,0 +1,25 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
+
+import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Projection of the latest status of a documentation unit and the conversion result of its
+ * attached file. The conversion columns are empty, if there is no result for the attached file.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentUnitStatusAndFileConversionDTO {
+  private PublicationStatus publicationStatus;
+  private Boolean withError;
+  private String s3path;
+  private Long durationInMilliseconds;
+  private String errorMessage;
+  private Instant convertedAt;
+}
@@ -0,0 +1,34 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
+
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/** Result of the conversion of the docx file attached to a documentation unit. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("file_conversion")
+public class FileConversionDTO {
+  @Id
+  @Column("document_unit_id")
+  private UUID documentUnitId;
+
+  private String s3path;
+
+  @Column("duration_in_milliseconds")
+  private Long durationInMilliseconds;
+
+  @Column("error_message")
+  private String errorMessage;
+
+  @Column("converted_at")
+  private Instant convertedAt;
+}
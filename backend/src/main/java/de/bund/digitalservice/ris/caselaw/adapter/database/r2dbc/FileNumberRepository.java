@@ -1,5 +1,6 @@
 package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
 
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -10,11 +11,22 @@ public interface FileNumberRepository extends R2dbcRepository<FileNumberDTO, Lon
 
   Flux<FileNumberDTO> findAllByDocumentUnitId(Long documentUnitId);
 
+  Flux<FileNumberDTO> findAllByDocumentUnitIdOrderById(Long documentUnitId);
+
+  @Query(
+      "SELECT * FROM file_number WHERE document_unit_id = ANY(:documentUnitIds) "
+          + "AND is_deviating = :isDeviating ORDER BY id")
+  Flux<FileNumberDTO> findAllByDocumentUnitIdsAndIsDeviating(
+      Long[] documentUnitIds, boolean isDeviating);
+
   Mono<FileNumberDTO> findFirstByDocumentUnitIdAndIsDeviating(
       Long documentUnitId, Boolean isDeviating);
 
   Flux<FileNumberDTO> findAllByDocumentUnitIdAndIsDeviating(
       Long documentUnitId, boolean isDeviating);
 
+  Flux<FileNumberDTO> findAllByDocumentUnitIdAndIsDeviatingOrderById(
+      Long documentUnitId, boolean isDeviating);
+
   Flux<FileNumberDTO> findByFileNumber(String fileNumber);
 }
@@ -0,0 +1,23 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Projection of a claimed outbox entry with the publication data which is needed for the mail. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingXmlPublicationMailDTO {
+  private Long id;
+  private UUID idempotencyKey;
+  private Integer attempts;
+  private UUID documentUnitUuid;
+  private String receiverAddress;
+  private String mailSubject;
+  private String xml;
+  private String fileName;
+}
@@ -1,19 +1,19 @@
 package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
 
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitDTO.DocumentUnitDTOBuilder;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.CitationStyleDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.CourtDTO;
-import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseCitationStyleRepository;
-import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseCourtRepository;
-import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseDocumentTypeRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseFieldOfLawRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseNormAbbreviationRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DocumentTypeDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.LookupTableCache;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.NormAbbreviationDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.StateDTO;
-import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.StateRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.ActiveCitationTransformer;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.DeviatingDecisionDateTransformer;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.DocumentTypeTransformer;
+import de.bund.digitalservice.ris.caselaw.adapter.transformer.DocumentUnitAccessInfoTransformer;
+import de.bund.digitalservice.ris.caselaw.adapter.transformer.DocumentUnitListEntryTransformer;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.DocumentUnitTransformer;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.DocumentationOfficeTransformer;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.DocumentationUnitLinkTransformer;
@@ -22,7 +22,10 @@ import de.bund.digitalservice.ris.caselaw.adapter.transformer.LinkedDocumentatio
 import de.bund.digitalservice.ris.caselaw.domain.ActiveCitation;
 import de.bund.digitalservice.ris.caselaw.domain.DataSource;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnit;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitAccessInfo;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitListCursor;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitListEntry;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitListSlice;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitNorm;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitRepository;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitStatus;
@@ -30,6 +33,7 @@ import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitException;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitLink;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitLinkType;
+import de.bund.digitalservice.ris.caselaw.domain.FileConversion;
 import de.bund.digitalservice.ris.caselaw.domain.LegalEffect;
 import de.bund.digitalservice.ris.caselaw.domain.LinkedDocumentationUnit;
 import de.bund.digitalservice.ris.caselaw.domain.ProceedingDecision;
@@ -39,14 +43,20 @@ import de.bund.digitalservice.ris.caselaw.domain.lookuptable.documenttype.Docume
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
@@ -61,18 +71,16 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
   private final DeviatingEcliRepository deviatingEcliRepository;
   private final DatabaseDeviatingDecisionDateRepository deviatingDecisionDateRepository;
   private final DatabaseIncorrectCourtRepository incorrectCourtRepository;
-  private final DatabaseCourtRepository databaseCourtRepository;
-  private final StateRepository stateRepository;
-  private final DatabaseDocumentTypeRepository databaseDocumentTypeRepository;
   private final DatabaseFieldOfLawRepository fieldOfLawRepository;
   private final DatabaseDocumentUnitFieldsOfLawRepository documentUnitFieldsOfLawRepository;
   private final DatabaseKeywordRepository keywordRepository;
   private final DatabaseDocumentUnitNormRepository documentUnitNormRepository;
-  private final DatabaseDocumentationOfficeRepository documentationOfficeRepository;
-  private final DatabaseDocumentUnitStatusRepository databaseDocumentUnitStatusRepository;
+  private final DatabaseDocumentUnitLatestStatusRepository latestStatusRepository;
   private final DatabaseNormAbbreviationRepository normAbbreviationRepository;
   private final DatabaseDocumentationUnitLinkRepository documentationUnitLinkRepository;
-  private final DatabaseCitationStyleRepository citationStyleRepository;
+  private final DatabaseFileConversionRepository fileConversionRepository;
+  private final LookupTableCache lookupTableCache;
+  private final DocumentUnitIdCache documentUnitIdCache;
 
   public PostgresDocumentUnitRepositoryImpl(
       DatabaseDocumentUnitRepository repository,
@@ -81,18 +89,16 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
       DeviatingEcliRepository deviatingEcliRepository,
       DatabaseDeviatingDecisionDateRepository deviatingDecisionDateRepository,
       DatabaseIncorrectCourtRepository incorrectCourtRepository,
-      DatabaseCourtRepository databaseCourtRepository,
-      StateRepository stateRepository,
-      DatabaseDocumentTypeRepository databaseDocumentTypeRepository,
       DatabaseFieldOfLawRepository fieldOfLawRepository,
       DatabaseDocumentUnitFieldsOfLawRepository documentUnitFieldsOfLawRepository,
       DatabaseKeywordRepository keywordRepository,
       DatabaseDocumentUnitNormRepository documentUnitNormRepository,
-      DatabaseDocumentationOfficeRepository documentationOfficeRepository,
-      DatabaseDocumentUnitStatusRepository databaseDocumentUnitStatusRepository,
+      DatabaseDocumentUnitLatestStatusRepository latestStatusRepository,
       DatabaseNormAbbreviationRepository normAbbreviationRepository,
       DatabaseDocumentationUnitLinkRepository documentationUnitLinkRepository,
-      DatabaseCitationStyleRepository citationStyleRepository) {
+      DatabaseFileConversionRepository fileConversionRepository,
+      LookupTableCache lookupTableCache,
+      DocumentUnitIdCache documentUnitIdCache) {
 
     this.repository = repository;
     this.metadataRepository = metadataRepository;
@@ -100,18 +106,16 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
     this.deviatingEcliRepository = deviatingEcliRepository;
     this.deviatingDecisionDateRepository = deviatingDecisionDateRepository;
     this.incorrectCourtRepository = incorrectCourtRepository;
-    this.databaseCourtRepository = databaseCourtRepository;
-    this.stateRepository = stateRepository;
-    this.databaseDocumentTypeRepository = databaseDocumentTypeRepository;
     this.fieldOfLawRepository = fieldOfLawRepository;
     this.documentUnitFieldsOfLawRepository = documentUnitFieldsOfLawRepository;
     this.keywordRepository = keywordRepository;
     this.documentUnitNormRepository = documentUnitNormRepository;
-    this.documentationOfficeRepository = documentationOfficeRepository;
-    this.databaseDocumentUnitStatusRepository = databaseDocumentUnitStatusRepository;
+    this.latestStatusRepository = latestStatusRepository;
     this.normAbbreviationRepository = normAbbreviationRepository;
     this.documentationUnitLinkRepository = documentationUnitLinkRepository;
-    this.citationStyleRepository = citationStyleRepository;
+    this.fileConversionRepository = fileConversionRepository;
+    this.lookupTableCache = lookupTableCache;
+    this.documentUnitIdCache = documentUnitIdCache;
   }
 
   @Override
@@ -138,12 +142,26 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
         .map(DocumentUnitTransformer::transformDTO);
   }
 
+  @Override
+  public Mono<DocumentUnitAccessInfo> findAccessInfoByUuid(UUID uuid) {
+    return metadataRepository
+        .findAccessInfoByUuid(uuid)
+        .map(DocumentUnitAccessInfoTransformer::transformToDomain);
+  }
+
+  @Override
+  public Mono<DocumentUnitAccessInfo> findAccessInfoByDocumentNumber(String documentNumber) {
+    return metadataRepository
+        .findAccessInfoByDocumentNumber(documentNumber)
+        .map(DocumentUnitAccessInfoTransformer::transformToDomain);
+  }
+
   @Override
   public Mono<DocumentUnit> createNewDocumentUnit(
       String documentNumber, DocumentationOffice documentationOffice) {
 
-    return documentationOfficeRepository
-        .findByLabel(documentationOffice.label())
+    return lookupTableCache
+        .findDocumentationOfficeByLabel(documentationOffice.label())
         .flatMap(
             documentationOfficeDTO ->
                 metadataRepository.save(
@@ -177,23 +195,19 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
         .flatMap(documentUnitDTO -> enrichRegion(documentUnitDTO, documentUnit))
         .map(documentUnitDTO -> DocumentUnitTransformer.enrichDTO(documentUnitDTO, documentUnit))
         .flatMap(repository::save)
-        .flatMap(
-            documentUnitDTO -> {
-              List<String> fileNumbers = Collections.emptyList();
-              if (documentUnit.coreData() != null
-                  && documentUnit.coreData().fileNumbers() != null) {
-                fileNumbers = documentUnit.coreData().fileNumbers();
-              }
-              return saveFileNumbers(documentUnitDTO, fileNumbers);
-            })
-        .flatMap(documentUnitDTO -> saveDeviatingFileNumbers(documentUnitDTO, documentUnit))
+        .flatMap(documentUnitDTO -> saveAllFileNumbers(documentUnitDTO, documentUnit))
         .flatMap(documentUnitDTO -> saveDeviatingEcli(documentUnitDTO, documentUnit))
         .flatMap(documentUnitDTO -> saveDeviatingDecisionDate(documentUnitDTO, documentUnit))
         .flatMap(documentUnitDTO -> saveIncorrectCourt(documentUnitDTO, documentUnit))
         .flatMap(documentUnitDTO -> saveNorms(documentUnitDTO, documentUnit))
-        .flatMap(this::injectStatus)
-        .flatMap(this::injectKeywords)
-        .flatMap(this::injectFieldsOfLaw)
+        // status, keywords and fields of law aren't changed by the save, so they are only read.
+        .flatMap(
+            documentUnitDTO ->
+                Mono.zip(
+                    stages -> documentUnitDTO,
+                    injectStatus(documentUnitDTO),
+                    injectKeywords(documentUnitDTO),
+                    injectFieldsOfLaw(documentUnitDTO)))
         .flatMap(documentUnitDTO -> saveActiveCitations(documentUnitDTO, documentUnit))
         .flatMap(documentUnitDTO -> saveProceedingDecisions(documentUnitDTO, documentUnit))
         .map(DocumentUnitTransformer::transformDTO);
@@ -206,8 +220,8 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
       return Mono.just(documentUnitDTO);
     }
 
-    return databaseDocumentTypeRepository
-        .findByJurisShortcut(documentType.jurisShortcut())
+    return lookupTableCache
+        .findDocumentTypeByJurisShortcut(documentType.jurisShortcut())
         .map(
             documentTypeDTO -> {
               if (!documentTypeDTO.getLabel().equals(documentType.label())) {
@@ -254,8 +268,8 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
               if (courtDTO.getFederalstate() == null) {
                 return Mono.just(StateDTO.builder().label(courtDTO.getRegion()).build());
               }
-              return stateRepository
-                  .findByJurisshortcut(courtDTO.getFederalstate())
+              return lookupTableCache
+                  .findStateByJurisShortcut(courtDTO.getFederalstate())
                   .defaultIfEmpty(StateDTO.builder().build());
             })
         .map(
@@ -272,126 +286,189 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
       return Mono.just(CourtDTO.builder().build());
     }
 
-    return databaseCourtRepository
-        .findByCourttypeAndCourtlocation(
+    return lookupTableCache
+        .findCourtByTypeAndLocation(
             documentUnit.coreData().court().type(), documentUnit.coreData().court().location())
         .defaultIfEmpty(CourtDTO.builder().build());
   }
 
+  /**
+   * Bring the stored rows of a child collection in line with the given values. Rows and values are
+   * matched by their position, so the stored rows have to be read in the order of their id, like
+   * all reads of the collection. Only rows with a changed value are updated, missing rows are
+   * inserted and all surplus rows are deleted with one statement. An unchanged collection doesn't
+   * cause any write.
+   *
+   * @param storedDTOs the stored rows of the collection ordered by id
+   * @param values the new values of the collection
+   * @param hasValue check if a stored row already contains a value
+   * @param update write a value into a stored row
+   * @param create create a new row for a value
+   * @param childRepository repository of the rows
+   * @return all rows of the collection in the order of the values
+   */
+  private <T, V> Mono<List<T>> saveChildCollection(
+      List<T> storedDTOs,
+      List<V> values,
+      BiPredicate<T, V> hasValue,
+      BiFunction<T, V, T> update,
+      Function<V, T> create,
+      R2dbcRepository<T, Long> childRepository) {
+
+    List<Mono<T>> stages = new ArrayList<>();
+    for (int i = 0; i < values.size(); i++) {
+      V value = values.get(i);
+      if (i >= storedDTOs.size()) {
+        stages.add(childRepository.save(create.apply(value)));
+      } else if (hasValue.test(storedDTOs.get(i), value)) {
+        stages.add(Mono.just(storedDTOs.get(i)));
+      } else {
+        stages.add(childRepository.save(update.apply(storedDTOs.get(i), value)));
+      }
+    }
+
+    Mono<Void> delete = Mono.empty();
+    if (storedDTOs.size() > values.size()) {
+      delete = childRepository.deleteAll(storedDTOs.subList(values.size(), storedDTOs.size()));
+    }
+
+    return delete.then(Flux.concat(stages).collectList());
+  }
+
   public Mono<DocumentUnitDTO> saveFileNumbers(
       DocumentUnitDTO documentUnitDTO, List<String> fileNumbers) {
     return fileNumberRepository
-        .findAllByDocumentUnitIdAndIsDeviating(documentUnitDTO.getId(), false)
+        .findAllByDocumentUnitIdAndIsDeviatingOrderById(documentUnitDTO.getId(), false)
         .collectList()
         .flatMap(
-            fileNumberDTOs -> {
-              AtomicInteger fileNumberIndex = new AtomicInteger(0);
-              List<FileNumberDTO> toSave = new ArrayList<>();
-              List<FileNumberDTO> toDelete = new ArrayList<>();
-
-              fileNumberDTOs.forEach(
-                  fileNumberDTO -> {
-                    if (fileNumberIndex.get() < fileNumbers.size()) {
-                      fileNumberDTO.fileNumber = fileNumbers.get(fileNumberIndex.getAndIncrement());
-                      fileNumberDTO.isDeviating = false;
-                      toSave.add(fileNumberDTO);
-                    } else {
-                      toDelete.add(fileNumberDTO);
-                    }
-                  });
+            fileNumberDTOs ->
+                saveFileNumbers(documentUnitDTO.getId(), fileNumberDTOs, fileNumbers, false))
+        .map(
+            savedFileNumberList -> {
+              documentUnitDTO.setFileNumbers(savedFileNumberList);
+              return documentUnitDTO;
+            });
+  }
 
-              while (fileNumberIndex.get() < fileNumbers.size()) {
-                FileNumberDTO fileNumberDTO =
-                    FileNumberDTO.builder()
-                        .fileNumber(fileNumbers.get(fileNumberIndex.getAndIncrement()))
-                        .documentUnitId(documentUnitDTO.getId())
-                        .isDeviating(false)
-                        .build();
-                toSave.add(fileNumberDTO);
-              }
+  /**
+   * Save the file numbers and the deviating file numbers of a documentation unit. Both are read
+   * with one statement.
+   */
+  private Mono<DocumentUnitDTO> saveAllFileNumbers(
+      DocumentUnitDTO documentUnitDTO, DocumentUnit documentUnit) {
+    List<String> fileNumbers = new ArrayList<>();
+    List<String> deviatingFileNumbers = new ArrayList<>();
+    if (documentUnit.coreData() != null) {
+      if (documentUnit.coreData().fileNumbers() != null) {
+        fileNumbers.addAll(documentUnit.coreData().fileNumbers());
+      }
+      if (documentUnit.coreData().deviatingFileNumbers() != null) {
+        deviatingFileNumbers.addAll(documentUnit.coreData().deviatingFileNumbers());
+      }
+    }
 
-              return fileNumberRepository
-                  .deleteAll(toDelete)
-                  .then(fileNumberRepository.saveAll(toSave).collectList())
-                  .map(
-                      savedFileNumberList -> {
-                        documentUnitDTO.setFileNumbers(savedFileNumberList);
-                        return documentUnitDTO;
-                      });
+    return fileNumberRepository
+        .findAllByDocumentUnitIdOrderById(documentUnitDTO.getId())
+        .collectList()
+        .flatMap(
+            allFileNumberDTOs -> {
+              List<FileNumberDTO> fileNumberDTOs =
+                  allFileNumberDTOs.stream()
+                      .filter(fileNumberDTO -> !Boolean.TRUE.equals(fileNumberDTO.isDeviating))
+                      .toList();
+              List<FileNumberDTO> deviatingFileNumberDTOs =
+                  allFileNumberDTOs.stream()
+                      .filter(fileNumberDTO -> Boolean.TRUE.equals(fileNumberDTO.isDeviating))
+                      .toList();
+
+              return saveFileNumbers(documentUnitDTO.getId(), fileNumberDTOs, fileNumbers, false)
+                  .zipWhen(
+                      savedFileNumberList ->
+                          saveFileNumbers(
+                              documentUnitDTO.getId(),
+                              deviatingFileNumberDTOs,
+                              deviatingFileNumbers,
+                              true));
+            })
+        .map(
+            tuple -> {
+              documentUnitDTO.setFileNumbers(tuple.getT1());
+              documentUnitDTO.setDeviatingFileNumbers(tuple.getT2());
+              return documentUnitDTO;
             });
   }
 
+  private Mono<List<FileNumberDTO>> saveFileNumbers(
+      Long documentUnitId,
+      List<FileNumberDTO> fileNumberDTOs,
+      List<String> fileNumbers,
+      boolean isDeviating) {
+    return saveChildCollection(
+        fileNumberDTOs,
+        fileNumbers,
+        (fileNumberDTO, fileNumber) -> Objects.equals(fileNumberDTO.fileNumber, fileNumber),
+        (fileNumberDTO, fileNumber) -> {
+          fileNumberDTO.fileNumber = fileNumber;
+          fileNumberDTO.isDeviating = isDeviating;
+          return fileNumberDTO;
+        },
+        fileNumber ->
+            FileNumberDTO.builder()
+                .fileNumber(fileNumber)
+                .documentUnitId(documentUnitId)
+                .isDeviating(isDeviating)
+                .build(),
+        fileNumberRepository);
+  }
+
   public Mono<DocumentUnitDTO> saveNorms(
       DocumentUnitDTO documentUnitDTO, DocumentUnit documentUnit) {
 
+    if (documentUnit.contentRelatedIndexing() == null
+        || documentUnit.contentRelatedIndexing().norms() == null) {
+      return Mono.just(documentUnitDTO);
+    }
+
     return documentUnitNormRepository
         .findAllByDocumentUnitIdOrderById(documentUnitDTO.getId())
         .collectList()
         .flatMap(
             documentUnitNormDTOs -> {
               List<DocumentUnitNorm> documentUnitNorms = new ArrayList<>();
-              if (documentUnit.contentRelatedIndexing() == null
-                  || documentUnit.contentRelatedIndexing().norms() == null)
-                return Mono.just(documentUnitDTO);
-
-              documentUnitNorms.addAll(documentUnit.contentRelatedIndexing().norms());
-
-              AtomicInteger normIndex = new AtomicInteger(0);
-              List<DocumentUnitNormDTO> toSave = new ArrayList<>();
-              List<DocumentUnitNormDTO> toDelete = new ArrayList<>();
-
-              documentUnitNormDTOs.forEach(
-                  documentUnitNormDTO -> {
-                    int index = normIndex.getAndIncrement();
-                    UUID normAbbreviationId = null;
-                    if (index < documentUnitNorms.size()) {
-                      DocumentUnitNorm currentNorm = documentUnitNorms.get(index);
-                      if (currentNorm.normAbbreviation() != null) {
-                        normAbbreviationId = currentNorm.normAbbreviation().id();
-                      }
-                      documentUnitNormDTO.normAbbreviationUuid = normAbbreviationId;
-                      documentUnitNormDTO.singleNorm = currentNorm.singleNorm();
-                      documentUnitNormDTO.dateOfVersion = currentNorm.dateOfVersion();
-                      documentUnitNormDTO.dateOfRelevance = currentNorm.dateOfRelevance();
-                      toSave.add(documentUnitNormDTO);
-                    } else {
-                      toDelete.add(documentUnitNormDTO);
-                    }
-                  });
-
-              while (normIndex.get() < documentUnitNorms.size()) {
-                int index = normIndex.getAndIncrement();
-                DocumentUnitNorm currentNorm = documentUnitNorms.get(index);
-                if (isEmptyNorm(currentNorm)) {
-                  continue;
-                }
-                UUID normAbbreviationId = null;
-                if (currentNorm.normAbbreviation() != null) {
-                  normAbbreviationId = currentNorm.normAbbreviation().id();
+              List<DocumentUnitNorm> norms = documentUnit.contentRelatedIndexing().norms();
+              for (int i = 0; i < norms.size(); i++) {
+                // empty norms are only stored if they replace an existing norm
+                if (i < documentUnitNormDTOs.size() || !isEmptyNorm(norms.get(i))) {
+                  documentUnitNorms.add(norms.get(i));
                 }
-                DocumentUnitNormDTO documentUnitNormDTO =
-                    DocumentUnitNormDTO.builder()
-                        .normAbbreviationUuid(normAbbreviationId)
-                        .singleNorm(currentNorm.singleNorm())
-                        .dateOfVersion(currentNorm.dateOfVersion())
-                        .dateOfRelevance(currentNorm.dateOfRelevance())
-                        .documentUnitId(documentUnitDTO.getId())
-                        .build();
-                toSave.add(documentUnitNormDTO);
               }
 
-              return documentUnitNormRepository
-                  .deleteAll(toDelete)
-                  .then(
-                      documentUnitNormRepository
-                          .saveAll(toSave)
-                          .flatMapSequential(this::injectNormAbbreviation)
-                          .collectList())
-                  .map(
-                      savedNormList -> {
-                        documentUnitDTO.setNorms(savedNormList);
-                        return documentUnitDTO;
-                      });
+              return saveChildCollection(
+                  documentUnitNormDTOs,
+                  documentUnitNorms,
+                  this::isSameNorm,
+                  (documentUnitNormDTO, norm) -> {
+                    documentUnitNormDTO.normAbbreviationUuid = getNormAbbreviationId(norm);
+                    documentUnitNormDTO.singleNorm = norm.singleNorm();
+                    documentUnitNormDTO.dateOfVersion = norm.dateOfVersion();
+                    documentUnitNormDTO.dateOfRelevance = norm.dateOfRelevance();
+                    return documentUnitNormDTO;
+                  },
+                  norm ->
+                      DocumentUnitNormDTO.builder()
+                          .normAbbreviationUuid(getNormAbbreviationId(norm))
+                          .singleNorm(norm.singleNorm())
+                          .dateOfVersion(norm.dateOfVersion())
+                          .dateOfRelevance(norm.dateOfRelevance())
+                          .documentUnitId(documentUnitDTO.getId())
+                          .build(),
+                  documentUnitNormRepository);
+            })
+        .flatMap(this::injectNormAbbreviations)
+        .map(
+            savedNormList -> {
+              documentUnitDTO.setNorms(savedNormList);
+              return documentUnitDTO;
             });
   }
 
@@ -402,205 +479,112 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
         && currentNorm.dateOfVersion() == null;
   }
 
-  private Mono<DocumentUnitDTO> saveDeviatingFileNumbers(
-      DocumentUnitDTO documentUnitDTO, DocumentUnit documentUnit) {
-    return fileNumberRepository
-        .findAllByDocumentUnitIdAndIsDeviating(documentUnitDTO.getId(), true)
-        .collectList()
-        .flatMap(
-            deviatingFileNumberDTOs -> {
-              List<String> deviatingFileNumbers = new ArrayList<>();
-              if (documentUnit.coreData() != null
-                  && documentUnit.coreData().deviatingFileNumbers() != null) {
-                deviatingFileNumbers.addAll(documentUnit.coreData().deviatingFileNumbers());
-              }
-
-              AtomicInteger deviatingFileNumberIndex = new AtomicInteger(0);
-              List<FileNumberDTO> toSave = new ArrayList<>();
-              List<FileNumberDTO> toDelete = new ArrayList<>();
-
-              deviatingFileNumberDTOs.forEach(
-                  fileNumberDTO -> {
-                    if (deviatingFileNumberIndex.get() < deviatingFileNumbers.size()) {
-                      fileNumberDTO.fileNumber =
-                          deviatingFileNumbers.get(deviatingFileNumberIndex.getAndIncrement());
-                      fileNumberDTO.isDeviating = true;
-                      toSave.add(fileNumberDTO);
-                    } else {
-                      toDelete.add(fileNumberDTO);
-                    }
-                  });
-
-              while (deviatingFileNumberIndex.get() < deviatingFileNumbers.size()) {
-                FileNumberDTO fileNumberDTO =
-                    FileNumberDTO.builder()
-                        .fileNumber(
-                            deviatingFileNumbers.get(deviatingFileNumberIndex.getAndIncrement()))
-                        .documentUnitId(documentUnitDTO.getId())
-                        .isDeviating(true)
-                        .build();
-                toSave.add(fileNumberDTO);
-              }
+  private boolean isSameNorm(DocumentUnitNormDTO documentUnitNormDTO, DocumentUnitNorm norm) {
+    return Objects.equals(documentUnitNormDTO.normAbbreviationUuid, getNormAbbreviationId(norm))
+        && Objects.equals(documentUnitNormDTO.singleNorm, norm.singleNorm())
+        && Objects.equals(documentUnitNormDTO.dateOfVersion, norm.dateOfVersion())
+        && Objects.equals(documentUnitNormDTO.dateOfRelevance, norm.dateOfRelevance());
+  }
 
-              return fileNumberRepository
-                  .deleteAll(toDelete)
-                  .then(fileNumberRepository.saveAll(toSave).collectList())
-                  .map(
-                      savedDeviatingFileNumberList -> {
-                        documentUnitDTO.setDeviatingFileNumbers(savedDeviatingFileNumberList);
-                        return documentUnitDTO;
-                      });
-            });
+  private UUID getNormAbbreviationId(DocumentUnitNorm norm) {
+    if (norm.normAbbreviation() == null) {
+      return null;
+    }
+    return norm.normAbbreviation().id();
   }
 
   private Mono<DocumentUnitDTO> saveDeviatingEcli(
       DocumentUnitDTO documentUnitDTO, DocumentUnit documentUnit) {
+    List<String> deviatingEclis = new ArrayList<>();
+    if (documentUnit.coreData() != null && documentUnit.coreData().deviatingEclis() != null) {
+      deviatingEclis.addAll(documentUnit.coreData().deviatingEclis());
+    }
+
     return deviatingEcliRepository
-        .findAllByDocumentUnitId(documentUnitDTO.getId())
+        .findAllByDocumentUnitIdOrderById(documentUnitDTO.getId())
         .collectList()
         .flatMap(
-            deviatingEcliDTOs -> {
-              List<String> deviatingEclis = new ArrayList<>();
-              if (documentUnit.coreData() != null
-                  && documentUnit.coreData().deviatingEclis() != null) {
-                deviatingEclis.addAll(documentUnit.coreData().deviatingEclis());
-              }
-
-              AtomicInteger deviatingEcliIndex = new AtomicInteger(0);
-              List<DeviatingEcliDTO> toSave = new ArrayList<>();
-              List<DeviatingEcliDTO> toDelete = new ArrayList<>();
-
-              deviatingEcliDTOs.forEach(
-                  deviatingEcliDTO -> {
-                    if (deviatingEcliIndex.get() < deviatingEclis.size()) {
-                      deviatingEcliDTO.ecli =
-                          deviatingEclis.get(deviatingEcliIndex.getAndIncrement());
-                      toSave.add(deviatingEcliDTO);
-                    } else {
-                      toDelete.add(deviatingEcliDTO);
-                    }
-                  });
-
-              while (deviatingEcliIndex.get() < deviatingEclis.size()) {
-                DeviatingEcliDTO deviatingEcliDTO =
-                    DeviatingEcliDTO.builder()
-                        .ecli(deviatingEclis.get(deviatingEcliIndex.getAndIncrement()))
-                        .documentUnitId(documentUnitDTO.getId())
-                        .build();
-                toSave.add(deviatingEcliDTO);
-              }
-
-              return deviatingEcliRepository
-                  .deleteAll(toDelete)
-                  .then(deviatingEcliRepository.saveAll(toSave).collectList())
-                  .map(
-                      savedDeviatingEcliList -> {
-                        documentUnitDTO.setDeviatingEclis(savedDeviatingEcliList);
-                        return documentUnitDTO;
-                      });
+            deviatingEcliDTOs ->
+                saveChildCollection(
+                    deviatingEcliDTOs,
+                    deviatingEclis,
+                    (deviatingEcliDTO, ecli) -> Objects.equals(deviatingEcliDTO.ecli, ecli),
+                    (deviatingEcliDTO, ecli) -> {
+                      deviatingEcliDTO.ecli = ecli;
+                      return deviatingEcliDTO;
+                    },
+                    ecli ->
+                        DeviatingEcliDTO.builder()
+                            .ecli(ecli)
+                            .documentUnitId(documentUnitDTO.getId())
+                            .build(),
+                    deviatingEcliRepository))
+        .map(
+            savedDeviatingEcliList -> {
+              documentUnitDTO.setDeviatingEclis(savedDeviatingEcliList);
+              return documentUnitDTO;
             });
   }
 
   private Mono<DocumentUnitDTO> saveDeviatingDecisionDate(
       DocumentUnitDTO documentUnitDTO, DocumentUnit documentUnit) {
+    List<Instant> deviatingDecisionDates = new ArrayList<>();
+    if (documentUnit.coreData() != null
+        && documentUnit.coreData().deviatingDecisionDates() != null) {
+      deviatingDecisionDates.addAll(documentUnit.coreData().deviatingDecisionDates());
+    }
+
     return deviatingDecisionDateRepository
-        .findAllByDocumentUnitId(documentUnitDTO.getId())
+        .findAllByDocumentUnitIdOrderById(documentUnitDTO.getId())
         .collectList()
         .flatMap(
-            deviatingDecisionDateDTOs -> {
-              List<Instant> deviatingDecisionDates = new ArrayList<>();
-              if (documentUnit.coreData() != null
-                  && documentUnit.coreData().deviatingDecisionDates() != null) {
-                deviatingDecisionDates.addAll(documentUnit.coreData().deviatingDecisionDates());
-              }
-
-              AtomicInteger deviatingDecisionDateIndex = new AtomicInteger(0);
-              List<DeviatingDecisionDateDTO> toSave = new ArrayList<>();
-              List<DeviatingDecisionDateDTO> toDelete = new ArrayList<>();
-
-              deviatingDecisionDateDTOs.forEach(
-                  deviatingDecisionDateDTO -> {
-                    if (deviatingDecisionDateIndex.get() < deviatingDecisionDates.size()) {
-                      deviatingDecisionDateDTO =
-                          DeviatingDecisionDateTransformer.enrichDTO(
-                              deviatingDecisionDateDTO,
-                              deviatingDecisionDates.get(
-                                  deviatingDecisionDateIndex.getAndIncrement()));
-                      toSave.add(deviatingDecisionDateDTO);
-                    } else {
-                      toDelete.add(deviatingDecisionDateDTO);
-                    }
-                  });
-
-              while (deviatingDecisionDateIndex.get() < deviatingDecisionDates.size()) {
-                DeviatingDecisionDateDTO deviatingDecisionDateDTO =
-                    DeviatingDecisionDateDTO.builder()
-                        .decisionDate(
-                            deviatingDecisionDates.get(
-                                deviatingDecisionDateIndex.getAndIncrement()))
-                        .documentUnitId(documentUnitDTO.getId())
-                        .build();
-                toSave.add(deviatingDecisionDateDTO);
-              }
-
-              return deviatingDecisionDateRepository
-                  .deleteAll(toDelete)
-                  .then(deviatingDecisionDateRepository.saveAll(toSave).collectList())
-                  .map(
-                      savedDeviatingDecisionDateList -> {
-                        documentUnitDTO.setDeviatingDecisionDates(savedDeviatingDecisionDateList);
-                        return documentUnitDTO;
-                      });
+            deviatingDecisionDateDTOs ->
+                saveChildCollection(
+                    deviatingDecisionDateDTOs,
+                    deviatingDecisionDates,
+                    (deviatingDecisionDateDTO, decisionDate) ->
+                        Objects.equals(deviatingDecisionDateDTO.decisionDate(), decisionDate),
+                    DeviatingDecisionDateTransformer::enrichDTO,
+                    decisionDate ->
+                        DeviatingDecisionDateDTO.builder()
+                            .decisionDate(decisionDate)
+                            .documentUnitId(documentUnitDTO.getId())
+                            .build(),
+                    deviatingDecisionDateRepository))
+        .map(
+            savedDeviatingDecisionDateList -> {
+              documentUnitDTO.setDeviatingDecisionDates(savedDeviatingDecisionDateList);
+              return documentUnitDTO;
             });
   }
 
   private Mono<DocumentUnitDTO> saveIncorrectCourt(
       DocumentUnitDTO documentUnitDTO, DocumentUnit documentUnit) {
+    List<String> incorrectCourts = new ArrayList<>();
+    if (documentUnit.coreData() != null && documentUnit.coreData().incorrectCourts() != null) {
+      incorrectCourts.addAll(documentUnit.coreData().incorrectCourts());
+    }
+
     return incorrectCourtRepository
-        .findAllByDocumentUnitId(documentUnitDTO.getId())
+        .findAllByDocumentUnitIdOrderById(documentUnitDTO.getId())
         .collectList()
         .flatMap(
-            incorrectCourtDTOs -> {
-              List<String> incorrectCourts = new ArrayList<>();
-              if (documentUnit.coreData() != null
-                  && documentUnit.coreData().incorrectCourts() != null) {
-                incorrectCourts.addAll(documentUnit.coreData().incorrectCourts());
-              }
-
-              AtomicInteger incorrectCourtIndex = new AtomicInteger(0);
-              List<IncorrectCourtDTO> toSave = new ArrayList<>();
-              List<IncorrectCourtDTO> toDelete = new ArrayList<>();
-
-              incorrectCourtDTOs.forEach(
-                  incorrectCourtDTO -> {
-                    if (incorrectCourtIndex.get() < incorrectCourts.size()) {
-                      incorrectCourtDTO =
-                          IncorrectCourtTransformer.enrichDTO(
-                              incorrectCourtDTO,
-                              incorrectCourts.get(incorrectCourtIndex.getAndIncrement()));
-                      toSave.add(incorrectCourtDTO);
-                    } else {
-                      toDelete.add(incorrectCourtDTO);
-                    }
-                  });
-
-              while (incorrectCourtIndex.get() < incorrectCourts.size()) {
-                IncorrectCourtDTO incorrectCourtDTO =
-                    IncorrectCourtDTO.builder()
-                        .court(incorrectCourts.get(incorrectCourtIndex.getAndIncrement()))
-                        .documentUnitId(documentUnitDTO.getId())
-                        .build();
-                toSave.add(incorrectCourtDTO);
-              }
-
-              return incorrectCourtRepository
-                  .deleteAll(toDelete)
-                  .then(incorrectCourtRepository.saveAll(toSave).collectList())
-                  .map(
-                      savedIncorrectCourtList -> {
-                        documentUnitDTO.setIncorrectCourts(savedIncorrectCourtList);
-                        return documentUnitDTO;
-                      });
+            incorrectCourtDTOs ->
+                saveChildCollection(
+                    incorrectCourtDTOs,
+                    incorrectCourts,
+                    (incorrectCourtDTO, court) -> Objects.equals(incorrectCourtDTO.court(), court),
+                    IncorrectCourtTransformer::enrichDTO,
+                    court ->
+                        IncorrectCourtDTO.builder()
+                            .court(court)
+                            .documentUnitId(documentUnitDTO.getId())
+                            .build(),
+                    incorrectCourtRepository))
+        .map(
+            savedIncorrectCourtList -> {
+              documentUnitDTO.setIncorrectCourts(savedIncorrectCourtList);
+              return documentUnitDTO;
             });
   }
 
@@ -650,6 +634,12 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
                                     citationStyleUuid = activeCitation.getCitationStyle().uuid();
                                   }
 
+                                  if (Objects.equals(
+                                      documentationUnitLinkDTO.getCitationStyleUuid(),
+                                      citationStyleUuid)) {
+                                    return Mono.just(documentationUnitLinkDTO);
+                                  }
+
                                   return documentationUnitLinkRepository.save(
                                       documentationUnitLinkDTO.toBuilder()
                                           .citationStyleUuid(citationStyleUuid)
@@ -812,11 +802,24 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
         .map(DocumentUnitTransformer::transformDTO);
   }
 
+  @Override
+  public Mono<Void> saveFileConversion(UUID documentUnitUuid, FileConversion fileConversion) {
+    return fileConversionRepository
+        .upsert(
+            documentUnitUuid,
+            fileConversion.s3path(),
+            fileConversion.durationInMilliseconds(),
+            fileConversion.errorMessage(),
+            fileConversion.convertedAt())
+        .then();
+  }
+
   @Override
   public Mono<Void> delete(DocumentUnit documentUnit) {
     return repository
         .findByUuid(documentUnit.uuid())
-        .flatMap(documentUnitDTO -> repository.deleteById(documentUnitDTO.getId()));
+        .flatMap(documentUnitDTO -> repository.deleteById(documentUnitDTO.getId()))
+        .doOnSuccess(deleted -> documentUnitIdCache.evict(documentUnit.uuid()));
   }
 
   private Mono<DocumentUnitDTO> injectAdditionalInformation(DocumentUnitDTO documentUnitDTO) {
@@ -824,38 +827,121 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
       log.debug("inject additional information: {}", documentUnitDTO.getUuid());
     }
 
-    return injectMetadataInformation(documentUnitDTO)
-        .flatMap(this::injectDeviatingFileNumbers)
-        .flatMap(this::injectProceedingDecisions)
-        .flatMap(this::injectDeviatingEclis)
-        .flatMap(this::injectDeviatingDecisionDates)
-        .flatMap(this::injectIncorrectCourt)
-        .flatMap(this::injectKeywords)
-        .flatMap(this::injectNorms)
-        .flatMap(this::injectFieldsOfLaw)
-        .flatMap(this::injectDocumentationOffice)
-        .flatMap(this::injectStatus)
-        .flatMap(this::injectActiveCitations);
-  }
-
-  private <T extends DocumentUnitMetadataDTO> Mono<T> injectMetadataInformation(
-      T documentUnitMetadataDTO) {
+    // all stages only depend on the id/uuid of the loaded documentation unit and write
+    // disjoint fields, so they are subscribed at once instead of chaining round trips
+    return Mono.zip(
+        stages -> documentUnitDTO,
+        injectAllFileNumbers(documentUnitDTO),
+        injectDocumentType(documentUnitDTO),
+        injectProceedingDecisions(documentUnitDTO),
+        injectDeviatingEclis(documentUnitDTO),
+        injectDeviatingDecisionDates(documentUnitDTO),
+        injectIncorrectCourt(documentUnitDTO),
+        injectKeywords(documentUnitDTO),
+        injectNorms(documentUnitDTO),
+        injectFieldsOfLaw(documentUnitDTO),
+        injectDocumentationOffice(documentUnitDTO),
+        injectActiveCitations(documentUnitDTO),
+        injectStatusAndFileConversion(documentUnitDTO));
+  }
+
+  /**
+   * Load the metadata of all child documentation units of the given links with a fixed number of
+   * queries: one for the documentation units, one for their file numbers and one for their
+   * document types.
+   *
+   * @param links the links to the child documentation units
+   * @return the child documentation units by their uuid
+   */
+  private Mono<Map<UUID, DocumentUnitMetadataDTO>> findLinkedDocumentUnitMetadata(
+      List<DocumentationUnitLinkDTO> links) {
+
+    UUID[] childUuids =
+        links.stream()
+            .map(DocumentationUnitLinkDTO::getChildDocumentationUnitUuid)
+            .distinct()
+            .toArray(UUID[]::new);
+    if (childUuids.length == 0) {
+      return Mono.just(Collections.emptyMap());
+    }
+
+    return metadataRepository
+        .findAllByUuids(childUuids)
+        .collectList()
+        .flatMap(this::injectMetadataInformation)
+        .flatMapIterable(Function.identity())
+        .collectMap(DocumentUnitMetadataDTO::getUuid);
+  }
+
+  private <T extends DocumentUnitMetadataDTO> Mono<List<T>> injectMetadataInformation(
+      List<T> documentUnitMetadataDTOs) {
 
     if (log.isDebugEnabled()) {
-      log.debug("inject metadata information: {}", documentUnitMetadataDTO.getUuid());
+      log.debug("inject metadata information for {} units", documentUnitMetadataDTOs.size());
     }
 
-    return injectFileNumbers(documentUnitMetadataDTO).flatMap(this::injectDocumentType);
+    if (documentUnitMetadataDTOs.isEmpty()) {
+      return Mono.just(documentUnitMetadataDTOs);
+    }
+
+    Long[] documentUnitIds =
+        documentUnitMetadataDTOs.stream().map(DocumentUnitMetadataDTO::getId).toArray(Long[]::new);
+    List<Long> documentTypeIds =
+        documentUnitMetadataDTOs.stream()
+            .map(DocumentUnitMetadataDTO::getDocumentTypeId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+
+    Mono<Map<Long, Collection<FileNumberDTO>>> fileNumbers =
+        fileNumberRepository
+            .findAllByDocumentUnitIdsAndIsDeviating(documentUnitIds, false)
+            .collectMultimap(FileNumberDTO::getDocumentUnitId);
+    Mono<Map<Long, DocumentTypeDTO>> documentTypes =
+        documentTypeIds.isEmpty()
+            ? Mono.just(Collections.emptyMap())
+            : lookupTableCache
+                .findAllDocumentTypesById(documentTypeIds)
+                .collectMap(DocumentTypeDTO::getId);
+
+    return Mono.zip(fileNumbers, documentTypes)
+        .map(
+            tuple -> {
+              documentUnitMetadataDTOs.forEach(
+                  documentUnitMetadataDTO -> {
+                    documentUnitMetadataDTO.setFileNumbers(
+                        new ArrayList<>(
+                            tuple
+                                .getT1()
+                                .getOrDefault(
+                                    documentUnitMetadataDTO.getId(), Collections.emptyList())));
+                    if (documentUnitMetadataDTO.getDocumentTypeId() != null) {
+                      documentUnitMetadataDTO.setDocumentTypeDTO(
+                          tuple
+                              .getT2()
+                              .getOrDefault(
+                                  documentUnitMetadataDTO.getDocumentTypeId(),
+                                  DocumentTypeDTO.builder().build()));
+                    }
+                  });
+              return documentUnitMetadataDTOs;
+            });
   }
 
   private Mono<DocumentUnitDTO> injectProceedingDecisions(DocumentUnitDTO documentUnitDTO) {
     return documentationUnitLinkRepository
         .findAllByParentDocumentationUnitUuidAndTypeOrderByIdAsc(
             documentUnitDTO.getUuid(), DocumentationUnitLinkType.PREVIOUS_DECISION)
-        .map(DocumentationUnitLinkDTO::getChildDocumentationUnitUuid)
-        .flatMap(metadataRepository::findByUuid)
-        .flatMap(this::injectMetadataInformation)
         .collectList()
+        .flatMap(
+            links ->
+                findLinkedDocumentUnitMetadata(links)
+                    .map(
+                        children ->
+                            links.stream()
+                                .map(link -> children.get(link.getChildDocumentationUnitUuid()))
+                                .filter(Objects::nonNull)
+                                .toList()))
         .map(
             proceedingDecisionDTOs -> {
               documentUnitDTO.setProceedingDecisions(proceedingDecisionDTOs);
@@ -871,11 +957,34 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
     return documentationUnitLinkRepository
         .findAllByParentDocumentationUnitUuidAndTypeOrderByIdAsc(
             parentDTO.getUuid(), DocumentationUnitLinkType.ACTIVE_CITATION)
-        .map(DocumentationUnitLinkDTO::getChildDocumentationUnitUuid)
-        .flatMapSequential(metadataRepository::findByUuid)
-        .flatMapSequential(this::injectMetadataInformation)
-        .flatMapSequential(childDTO -> injectCitationStyle(parentDTO.getUuid(), childDTO))
         .collectList()
+        .flatMap(
+            links ->
+                Mono.zip(
+                    Mono.just(links),
+                    lookupTableCache
+                        .findAllCitationStylesByUuid(
+                            links.stream()
+                                .map(DocumentationUnitLinkDTO::getCitationStyleUuid)
+                                .filter(Objects::nonNull)
+                                .distinct()
+                                .toList())
+                        .collectMap(CitationStyleDTO::getUuid)))
+        .flatMap(
+            tuple ->
+                findLinkedDocumentUnitMetadata(tuple.getT1())
+                    .map(
+                        children ->
+                            tuple.getT1().stream()
+                                .filter(
+                                    link ->
+                                        children.containsKey(link.getChildDocumentationUnitUuid()))
+                                .map(
+                                    link ->
+                                        ActiveCitationTransformer.transformToDomain(
+                                            children.get(link.getChildDocumentationUnitUuid()),
+                                            injectCitationStyle(link, tuple.getT2())))
+                                .toList()))
         .map(
             activeCitations -> {
               parentDTO.setActiveCitations(activeCitations);
@@ -883,39 +992,23 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
             });
   }
 
-  private Mono<ActiveCitation> injectCitationStyle(
-      UUID parentUUID, DocumentUnitMetadataDTO documentUnitMetadataDTO) {
-    if (log.isDebugEnabled()) {
-      log.debug(
-          "inject citation style in child '{}' for parent '{}'",
-          documentUnitMetadataDTO.getUuid(),
-          parentUUID);
+  private DocumentationUnitLinkDTO injectCitationStyle(
+      DocumentationUnitLinkDTO documentationUnitLinkDTO,
+      Map<UUID, CitationStyleDTO> citationStyles) {
+
+    if (documentationUnitLinkDTO.getCitationStyleUuid() == null
+        || !citationStyles.containsKey(documentationUnitLinkDTO.getCitationStyleUuid())) {
+      return documentationUnitLinkDTO;
     }
 
-    return documentationUnitLinkRepository
-        .findByParentDocumentationUnitUuidAndChildDocumentationUnitUuidAndType(
-            parentUUID,
-            documentUnitMetadataDTO.getUuid(),
-            DocumentationUnitLinkType.ACTIVE_CITATION)
-        .flatMap(
-            documentationUnitLinkDTO ->
-                citationStyleRepository
-                    .findByUuid(documentationUnitLinkDTO.getCitationStyleUuid())
-                    .map(
-                        citationStyleDTO ->
-                            documentationUnitLinkDTO.toBuilder()
-                                .citationStyleDTO(citationStyleDTO)
-                                .build())
-                    .defaultIfEmpty(documentationUnitLinkDTO))
-        .map(
-            documentationUnitLinkDTO ->
-                ActiveCitationTransformer.transformToDomain(
-                    documentUnitMetadataDTO, documentationUnitLinkDTO));
+    return documentationUnitLinkDTO.toBuilder()
+        .citationStyleDTO(citationStyles.get(documentationUnitLinkDTO.getCitationStyleUuid()))
+        .build();
   }
 
   private <T extends DocumentUnitMetadataDTO> Mono<T> injectFileNumbers(T documentUnitMetadataDTO) {
     return fileNumberRepository
-        .findAllByDocumentUnitId(documentUnitMetadataDTO.getId())
+        .findAllByDocumentUnitIdOrderById(documentUnitMetadataDTO.getId())
         .collectList()
         .map(
             fileNumbers -> {
@@ -927,21 +1020,25 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
             });
   }
 
-  private Mono<DocumentUnitDTO> injectDeviatingFileNumbers(DocumentUnitDTO documentUnitDTO) {
+  private Mono<DocumentUnitDTO> injectAllFileNumbers(DocumentUnitDTO documentUnitDTO) {
     return fileNumberRepository
-        .findAllByDocumentUnitId(documentUnitDTO.getId())
+        .findAllByDocumentUnitIdOrderById(documentUnitDTO.getId())
         .collectList()
-        .flatMap(
+        .map(
             fileNumbers -> {
+              documentUnitDTO.setFileNumbers(
+                  fileNumbers.stream()
+                      .filter(fileNumberDTO -> !fileNumberDTO.getIsDeviating())
+                      .toList());
               documentUnitDTO.setDeviatingFileNumbers(
                   fileNumbers.stream().filter(FileNumberDTO::getIsDeviating).toList());
-              return Mono.just(documentUnitDTO);
+              return documentUnitDTO;
             });
   }
 
   private Mono<DocumentUnitDTO> injectDeviatingEclis(DocumentUnitDTO documentUnitDTO) {
     return deviatingEcliRepository
-        .findAllByDocumentUnitId(documentUnitDTO.getId())
+        .findAllByDocumentUnitIdOrderById(documentUnitDTO.getId())
         .collectList()
         .flatMap(
             deviatingEcliDTOs -> {
@@ -952,7 +1049,7 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
 
   private Mono<DocumentUnitDTO> injectDeviatingDecisionDates(DocumentUnitDTO documentUnitDTO) {
     return deviatingDecisionDateRepository
-        .findAllByDocumentUnitId(documentUnitDTO.getId())
+        .findAllByDocumentUnitIdOrderById(documentUnitDTO.getId())
         .collectList()
         .flatMap(
             deviatingDecisionDateDTOs -> {
@@ -966,8 +1063,8 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
     if (documentUnitMetadataDTO.getDocumentTypeId() == null) {
       return Mono.just(documentUnitMetadataDTO);
     }
-    return databaseDocumentTypeRepository
-        .findById(documentUnitMetadataDTO.getDocumentTypeId())
+    return lookupTableCache
+        .findDocumentTypeById(documentUnitMetadataDTO.getDocumentTypeId())
         .defaultIfEmpty(DocumentTypeDTO.builder().build())
         .map(
             documentTypeDTO -> {
@@ -978,7 +1075,7 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
 
   private Mono<DocumentUnitDTO> injectIncorrectCourt(DocumentUnitDTO documentUnitDTO) {
     return incorrectCourtRepository
-        .findAllByDocumentUnitId(documentUnitDTO.getId())
+        .findAllByDocumentUnitIdOrderById(documentUnitDTO.getId())
         .collectList()
         .map(
             incorrectCourtDTOs -> {
@@ -994,7 +1091,11 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
         .collectList()
         .flatMapMany(fieldOfLawRepository::findAllById)
         .collectList()
-        .map(fieldsOfLaw -> documentUnitDTO.toBuilder().fieldsOfLaw(fieldsOfLaw).build());
+        .map(
+            fieldsOfLaw -> {
+              documentUnitDTO.setFieldsOfLaw(fieldsOfLaw);
+              return documentUnitDTO;
+            });
   }
 
   private Mono<DocumentUnitDTO> injectKeywords(DocumentUnitDTO documentUnitDTO) {
@@ -1011,8 +1112,8 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
   private Mono<DocumentUnitDTO> injectNorms(DocumentUnitDTO documentUnitDTO) {
     return documentUnitNormRepository
         .findAllByDocumentUnitIdOrderById(documentUnitDTO.getId())
-        .flatMapSequential(this::injectNormAbbreviation)
         .collectList()
+        .flatMap(this::injectNormAbbreviations)
         .map(
             documentUnitNormDTOs -> {
               documentUnitDTO.setNorms(documentUnitNormDTOs);
@@ -1020,19 +1121,33 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
             });
   }
 
-  private Mono<DocumentUnitNormDTO> injectNormAbbreviation(
-      DocumentUnitNormDTO documentUnitNormDTO) {
-    if (documentUnitNormDTO.getNormAbbreviationUuid() == null) {
-      return Mono.just(documentUnitNormDTO);
+  private Mono<List<DocumentUnitNormDTO>> injectNormAbbreviations(
+      List<DocumentUnitNormDTO> documentUnitNormDTOs) {
+    List<UUID> normAbbreviationUuids =
+        documentUnitNormDTOs.stream()
+            .map(DocumentUnitNormDTO::getNormAbbreviationUuid)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+    if (normAbbreviationUuids.isEmpty()) {
+      return Mono.just(documentUnitNormDTOs);
     }
 
     return normAbbreviationRepository
-        .findById(documentUnitNormDTO.getNormAbbreviationUuid())
-        .defaultIfEmpty(NormAbbreviationDTO.builder().build())
+        .findAllById(normAbbreviationUuids)
+        .collectMap(NormAbbreviationDTO::getId)
         .map(
-            normAbbreviationDTO -> {
-              documentUnitNormDTO.setNormAbbreviation(normAbbreviationDTO);
-              return documentUnitNormDTO;
+            normAbbreviations -> {
+              documentUnitNormDTOs.stream()
+                  .filter(
+                      documentUnitNormDTO -> documentUnitNormDTO.getNormAbbreviationUuid() != null)
+                  .forEach(
+                      documentUnitNormDTO ->
+                          documentUnitNormDTO.setNormAbbreviation(
+                              normAbbreviations.getOrDefault(
+                                  documentUnitNormDTO.getNormAbbreviationUuid(),
+                                  NormAbbreviationDTO.builder().build())));
+              return documentUnitNormDTOs;
             });
   }
 
@@ -1042,8 +1157,8 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
       return Mono.just(documentUnitMetadataDTO);
     }
 
-    return documentationOfficeRepository
-        .findById(documentUnitMetadataDTO.getDocumentationOfficeId())
+    return lookupTableCache
+        .findDocumentationOfficeById(documentUnitMetadataDTO.getDocumentationOfficeId())
         .defaultIfEmpty(DocumentationOfficeDTO.builder().build())
         .map(
             documentationOfficeDTO -> {
@@ -1057,8 +1172,8 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
     return Mono.just(documentUnitDTO)
         .flatMap(
             dto ->
-                databaseDocumentUnitStatusRepository
-                    .findFirstByDocumentUnitIdOrderByCreatedAtDesc(documentUnitDTO.uuid)
+                latestStatusRepository
+                    .findById(documentUnitDTO.uuid)
                     .map(
                         statusDTO -> {
                           dto.setStatus(
@@ -1080,6 +1195,45 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
                             })));
   }
 
+  /**
+   * Inject the latest status and the result of the conversion after the upload with one query. A
+   * missing status is treated as published, a result of a file which isn't attached anymore is
+   * ignored.
+   */
+  private Mono<DocumentUnitDTO> injectStatusAndFileConversion(DocumentUnitDTO documentUnitDTO) {
+    return metadataRepository
+        .findStatusAndFileConversionByUuid(documentUnitDTO.getUuid())
+        .defaultIfEmpty(DocumentUnitStatusAndFileConversionDTO.builder().build())
+        .map(
+            stateDTO -> {
+              if (stateDTO.getPublicationStatus() == null) {
+                documentUnitDTO.setStatus(
+                    DocumentUnitStatus.builder()
+                        .publicationStatus(PublicationStatus.PUBLISHED)
+                        .withError(false)
+                        .build());
+              } else {
+                documentUnitDTO.setStatus(
+                    DocumentUnitStatus.builder()
+                        .publicationStatus(stateDTO.getPublicationStatus())
+                        .withError(Boolean.TRUE.equals(stateDTO.getWithError()))
+                        .build());
+              }
+
+              if (stateDTO.getS3path() != null) {
+                documentUnitDTO.setFileConversion(
+                    FileConversionDTO.builder()
+                        .documentUnitId(documentUnitDTO.getUuid())
+                        .s3path(stateDTO.getS3path())
+                        .durationInMilliseconds(stateDTO.getDurationInMilliseconds())
+                        .errorMessage(stateDTO.getErrorMessage())
+                        .convertedAt(stateDTO.getConvertedAt())
+                        .build());
+              }
+              return documentUnitDTO;
+            });
+  }
+
   @Override
   public Flux<LinkedDocumentationUnit> searchByLinkedDocumentationUnit(
       LinkedDocumentationUnit linkedDocumentationUnit, Pageable pageable) {
@@ -1166,7 +1320,7 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
   private Mono<Long> extractDocumentTypeDTOId(LinkedDocumentationUnit linkedDocumentationUnit) {
     return Mono.justOrEmpty(linkedDocumentationUnit.getDocumentType())
         .map(DocumentType::jurisShortcut)
-        .flatMap(databaseDocumentTypeRepository::findByJurisShortcut)
+        .flatMap(lookupTableCache::findDocumentTypeByJurisShortcut)
         .mapNotNull(DocumentTypeDTO::getId)
         .switchIfEmpty(Mono.just(-1L));
   }
@@ -1181,8 +1335,8 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
       log.debug("find all");
     }
 
-    return documentationOfficeRepository
-        .findByLabel(documentationOffice.label())
+    return lookupTableCache
+        .findDocumentationOfficeByLabel(documentationOffice.label())
         .flatMapMany(
             docOffice ->
                 metadataRepository.findAllByDataSourceAndDocumentationOfficeId(
@@ -1234,15 +1388,55 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
 
     return documentationUnitLinkRepository
         .findAllByParentDocumentationUnitUuidAndTypeOrderByIdAsc(parentDocumentUnitUuid, type)
-        .flatMap(
-            linkDTO ->
-                metadataRepository
-                    .findByUuid(linkDTO.getChildDocumentationUnitUuid())
-                    .flatMap(this::injectAdditionalInformation)
-                    .zipWith(Mono.just(linkDTO)))
-        .map(
-            tuple ->
-                LinkedDocumentationUnitTransformer.transformToDomain(tuple.getT1(), tuple.getT2()));
+        .collectList()
+        .flatMapMany(
+            links ->
+                findLinkedDocumentUnitMetadata(links)
+                    .flatMap(children -> injectDocumentationOffices(children.values()))
+                    .flatMapIterable(
+                        children ->
+                            links.stream()
+                                .filter(
+                                    link ->
+                                        children.containsKey(link.getChildDocumentationUnitUuid()))
+                                .map(
+                                    link ->
+                                        LinkedDocumentationUnitTransformer.transformToDomain(
+                                            children.get(link.getChildDocumentationUnitUuid()),
+                                            link))
+                                .toList()));
+  }
+
+  private Mono<Map<UUID, DocumentUnitMetadataDTO>> injectDocumentationOffices(
+      Collection<DocumentUnitMetadataDTO> documentUnitMetadataDTOs) {
+    List<UUID> documentationOfficeIds =
+        documentUnitMetadataDTOs.stream()
+            .map(DocumentUnitMetadataDTO::getDocumentationOfficeId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+
+    Mono<Map<UUID, DocumentationOfficeDTO>> documentationOffices =
+        documentationOfficeIds.isEmpty()
+            ? Mono.just(Collections.emptyMap())
+            : lookupTableCache
+                .findAllDocumentationOfficesById(documentationOfficeIds)
+                .collectMap(DocumentationOfficeDTO::getId);
+
+    return documentationOffices.map(
+        offices -> {
+          Map<UUID, DocumentUnitMetadataDTO> result = new HashMap<>();
+          documentUnitMetadataDTOs.forEach(
+              documentUnitMetadataDTO -> {
+                DocumentationOfficeDTO documentationOfficeDTO =
+                    offices.get(documentUnitMetadataDTO.getDocumentationOfficeId());
+                if (documentationOfficeDTO != null && documentationOfficeDTO.getLabel() != null) {
+                  documentUnitMetadataDTO.setDocumentationOffice(documentationOfficeDTO);
+                }
+                result.put(documentUnitMetadataDTO.getUuid(), documentUnitMetadataDTO);
+              });
+          return result;
+        });
   }
 
   private Mono<DocumentUnitDTO> filterUnlinkedDocumentUnit(DocumentUnitDTO documentUnitDTO) {
@@ -1331,6 +1525,63 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
     return metadataRepository.count();
   }
 
+  /**
+   * Load one page of the documentation units of the start page with one statement. The page is
+   * selected by the position of the last documentation unit of the previous page (keyset
+   * pagination), so deep pages are as fast as the first one.
+   *
+   * @param cursor position of the last documentation unit of the previous page, null for the first
+   *     page
+   * @param pageSize number of documentation units of the page
+   * @param documentationOffice documentation office of the user
+   * @return the page with the cursor of the next page
+   */
+  @Override
+  public Mono<DocumentUnitListSlice> findAllAfter(
+      DocumentUnitListCursor cursor, int pageSize, DocumentationOffice documentationOffice) {
+    if (log.isDebugEnabled()) {
+      log.debug("find all after: {}", cursor);
+    }
+
+    return lookupTableCache
+        .findDocumentationOfficeByLabel(documentationOffice.label())
+        .flatMapMany(
+            docOffice -> {
+              if (cursor == null) {
+                return metadataRepository
+                    .findFirstListEntriesByDataSourceAndDocumentationOfficeId(
+                        DataSource.NEURIS.name(), docOffice.getId(), pageSize + 1);
+              }
+
+              return metadataRepository.findListEntriesByDataSourceAndDocumentationOfficeIdAfter(
+                  DataSource.NEURIS.name(),
+                  docOffice.getId(),
+                  cursor.creationTimestamp(),
+                  cursor.id(),
+                  pageSize + 1);
+            })
+        .collectList()
+        .map(
+            listEntryDTOs -> {
+              String nextCursor = null;
+              if (listEntryDTOs.size() > pageSize) {
+                listEntryDTOs = listEntryDTOs.subList(0, pageSize);
+                DocumentUnitListEntryDTO last = listEntryDTOs.get(pageSize - 1);
+                nextCursor =
+                    new DocumentUnitListCursor(last.getCreationtimestamp(), last.getId()).encode();
+              }
+
+              return DocumentUnitListSlice.builder()
+                  .content(
+                      listEntryDTOs.stream()
+                          .map(DocumentUnitListEntryTransformer::transformToDomain)
+                          .toList())
+                  .nextCursor(nextCursor)
+                  .build();
+            })
+        .defaultIfEmpty(DocumentUnitListSlice.builder().content(Collections.emptyList()).build());
+  }
+
   @Override
   public Mono<Long> countByDataSourceAndDocumentationOffice(
       DataSource dataSource, DocumentationOffice documentationOffice) {
@@ -1339,8 +1590,8 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
           "count by data source and documentation office: {}, {}", dataSource, documentationOffice);
     }
 
-    return documentationOfficeRepository
-        .findByLabel(documentationOffice.label())
+    return lookupTableCache
+        .findDocumentationOfficeByLabel(documentationOffice.label())
         .flatMap(
             docOffice ->
                 metadataRepository.countByDataSourceAndDocumentationOfficeId(
@@ -1360,6 +1611,7 @@ public class PostgresDocumentUnitRepositoryImpl implements DocumentUnitRepositor
                 DataSource.PROCEEDING_DECISION == childDocumentUnit.getDataSource()
                     || DataSource.ACTIVE_CITATION == childDocumentUnit.getDataSource())
         .flatMap(this::filterUnlinkedDocumentUnit)
-        .flatMap(repository::delete);
+        .flatMap(repository::delete)
+        .doOnSuccess(deleted -> documentUnitIdCache.evict(documentUnitUuid));
   }
 }
@@ -1,190 +1,149 @@
 package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
 
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseFieldOfLawRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.FieldOfLawCache;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.FieldOfLawDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.FieldOfLawKeywordDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.FieldOfLawKeywordRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.FieldOfLawLinkDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.FieldOfLawLinkRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.FieldOfLawScorer;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.NormDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.NormRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.FieldOfLawTransformer;
 import de.bund.digitalservice.ris.caselaw.domain.FieldOfLawRepository;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.FieldOfLaw;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Repository
+@Slf4j
 public class PostgresFieldOfLawRepositoryImpl implements FieldOfLawRepository {
 
   DatabaseFieldOfLawRepository databaseFieldOfLawRepository;
   FieldOfLawKeywordRepository fieldOfLawKeywordRepository;
   NormRepository normRepository;
   FieldOfLawLinkRepository fieldOfLawLinkRepository;
-  DatabaseDocumentUnitRepository databaseDocumentUnitRepository;
+  DocumentUnitIdCache documentUnitIdCache;
   DatabaseDocumentUnitFieldsOfLawRepository databaseDocumentUnitFieldsOfLawRepository;
+  FieldOfLawCache fieldOfLawCache;
 
   public PostgresFieldOfLawRepositoryImpl(
       DatabaseFieldOfLawRepository databaseFieldOfLawRepository,
       FieldOfLawKeywordRepository fieldOfLawKeywordRepository,
       NormRepository normRepository,
       FieldOfLawLinkRepository fieldOfLawLinkRepository,
-      DatabaseDocumentUnitRepository databaseDocumentUnitRepository,
-      DatabaseDocumentUnitFieldsOfLawRepository databaseDocumentUnitFieldsOfLawRepository) {
+      DocumentUnitIdCache documentUnitIdCache,
+      DatabaseDocumentUnitFieldsOfLawRepository databaseDocumentUnitFieldsOfLawRepository,
+      FieldOfLawCache fieldOfLawCache) {
 
     this.databaseFieldOfLawRepository = databaseFieldOfLawRepository;
     this.fieldOfLawKeywordRepository = fieldOfLawKeywordRepository;
     this.normRepository = normRepository;
     this.fieldOfLawLinkRepository = fieldOfLawLinkRepository;
-    this.databaseDocumentUnitRepository = databaseDocumentUnitRepository;
+    this.documentUnitIdCache = documentUnitIdCache;
     this.databaseDocumentUnitFieldsOfLawRepository = databaseDocumentUnitFieldsOfLawRepository;
+    this.fieldOfLawCache = fieldOfLawCache;
   }
 
   @Override
   public Flux<FieldOfLaw> findAllByOrderByIdentifierAsc(Pageable pageable) {
-    return databaseFieldOfLawRepository
-        .findAllByOrderByIdentifierAsc(pageable)
-        .flatMapSequential(this::injectAdditionalInformation)
-        .map(FieldOfLawTransformer::transformToDomain);
+    return readAllFromCache(
+        fieldOfLawCache.findAllByOrderByIdentifierAsc(pageable),
+        () -> databaseFieldOfLawRepository.findAllByOrderByIdentifierAsc(pageable));
   }
 
   @Override
   public Mono<FieldOfLaw> findByIdentifier(String identifier) {
-    return databaseFieldOfLawRepository
-        .findByIdentifier(identifier)
-        .flatMap(this::injectAdditionalInformation)
-        .map(FieldOfLawTransformer::transformToDomain);
+    return readFromCache(
+        fieldOfLawCache.findByIdentifier(identifier),
+        () -> databaseFieldOfLawRepository.findByIdentifier(identifier));
   }
 
   @Override
   public Mono<FieldOfLaw> findParentByChild(FieldOfLaw child) {
-    return databaseFieldOfLawRepository
-        .findByIdentifier(child.identifier())
-        .flatMap(
-            childDTO -> {
-              if (childDTO.getParentId() != null) {
-                return databaseFieldOfLawRepository.findById(childDTO.getParentId());
-              }
-              return Mono.just(childDTO);
-            })
-        .flatMap(this::injectAdditionalInformation)
-        .map(FieldOfLawTransformer::transformToDomain);
+    return readFromCache(
+        fieldOfLawCache.findParentByChildIdentifier(child.identifier()),
+        () ->
+            databaseFieldOfLawRepository
+                .findByIdentifier(child.identifier())
+                .flatMap(
+                    childDTO -> {
+                      if (childDTO.getParentId() != null) {
+                        return databaseFieldOfLawRepository.findById(childDTO.getParentId());
+                      }
+                      return Mono.just(childDTO);
+                    }));
   }
 
   @Override
   public Flux<FieldOfLaw> getTopLevelNodes() {
-    return databaseFieldOfLawRepository
-        .findAllByParentIdOrderByIdentifierAsc(null)
-        .flatMapSequential(this::injectAdditionalInformation)
-        .map(FieldOfLawTransformer::transformToDomain);
+    return readAllFromCache(
+        fieldOfLawCache.getTopLevelNodes(),
+        () -> databaseFieldOfLawRepository.findAllByParentIdOrderByIdentifierAsc(null));
   }
 
   @Override
   public Flux<FieldOfLaw> findAllByParentIdentifierOrderByIdentifierAsc(String identifier) {
-    return databaseFieldOfLawRepository
-        .findAllByParentIdentifierOrderByIdentifierAsc(identifier)
-        .flatMapSequential(this::injectAdditionalInformation)
-        .map(FieldOfLawTransformer::transformToDomain);
-  }
-
-  private Mono<FieldOfLawDTO> injectKeywords(FieldOfLawDTO fieldOfLawDTO) {
-    return fieldOfLawKeywordRepository
-        .findAllByFieldOfLawIdOrderByValueAsc(fieldOfLawDTO.getId())
-        .collectList()
-        .map(
-            keywords -> {
-              fieldOfLawDTO.setKeywords(keywords);
-              return fieldOfLawDTO;
-            });
-  }
-
-  private Mono<FieldOfLawDTO> injectNorms(FieldOfLawDTO fieldOfLawDTO) {
-    return normRepository
-        .findAllByFieldOfLawIdOrderByAbbreviationAscSingleNormDescriptionAsc(fieldOfLawDTO.getId())
-        .collectList()
-        .map(
-            norms -> {
-              fieldOfLawDTO.setNorms(norms);
-              return fieldOfLawDTO;
-            });
-  }
-
-  private Mono<FieldOfLawDTO> injectLinkedFields(FieldOfLawDTO fieldOfLawDTO) {
-    return fieldOfLawLinkRepository
-        .findAllByFieldOfLawId(fieldOfLawDTO.getId())
-        .map(FieldOfLawLinkDTO::getLinkedFieldOfLawId)
-        .flatMap(linkedFieldOfLawId -> databaseFieldOfLawRepository.findById(linkedFieldOfLawId))
-        .collectList()
-        .map(
-            fieldOfLawDTOS -> {
-              fieldOfLawDTO.setLinkedFieldsOfLaw(fieldOfLawDTOS);
-              return fieldOfLawDTO;
-            });
+    return readAllFromCache(
+        fieldOfLawCache.findChildrenByParentIdentifier(identifier),
+        () ->
+            databaseFieldOfLawRepository.findAllByParentIdentifierOrderByIdentifierAsc(identifier));
   }
 
   @Override
   public Mono<List<FieldOfLaw>> findAllForDocumentUnit(UUID documentUnitUuid) {
-    return databaseDocumentUnitRepository
-        .findByUuid(documentUnitUuid)
-        .map(DocumentUnitDTO::getId)
+    return documentUnitIdCache
+        .getId(documentUnitUuid)
         .flatMapMany(
             documentUnitId ->
                 databaseDocumentUnitFieldsOfLawRepository.findAllByDocumentUnitId(documentUnitId))
         .map(DocumentUnitFieldsOfLawDTO::fieldOfLawId)
-        .flatMap(databaseFieldOfLawRepository::findById)
-        .flatMap(this::injectAdditionalInformation)
+        .collectList()
+        .flatMapMany(databaseFieldOfLawRepository::findAllById)
+        .collectList()
+        .flatMapMany(this::injectAdditionalInformation)
         .map(FieldOfLawTransformer::transformToDomain)
         .collectList()
-        .map(
-            fieldOfLawList ->
-                fieldOfLawList.stream()
-                    .sorted(Comparator.comparing(FieldOfLaw::identifier))
-                    .toList());
+        .map(this::sortByIdentifier);
   }
 
+  /**
+   * Link the field of law to the documentation unit. The linked fields of law of the documentation
+   * unit are read once before the change. The returned list is this list with the added field of
+   * law, so it doesn't have to be read again.
+   */
   @Override
   public Mono<List<FieldOfLaw>> addFieldOfLawToDocumentUnit(
       UUID documentUnitUuid, String identifier) {
-    Mono<Long> documentUnitDTOId =
-        databaseDocumentUnitRepository.findByUuid(documentUnitUuid).map(DocumentUnitDTO::getId);
-
-    Mono<Long> fieldOfLawDTOId =
-        databaseFieldOfLawRepository
-            .findByIdentifier(identifier)
-            .mapNotNull(FieldOfLawDTO::getId)
-            .defaultIfEmpty(-1L);
+    return changeLinkedFieldsOfLaw(
+        documentUnitUuid,
+        identifier,
+        (documentUnitId, fieldOfLawId, links) -> {
+          List<Long> fieldOfLawIds = new ArrayList<>();
+          links.forEach(link -> fieldOfLawIds.add(link.fieldOfLawId()));
+          if (fieldOfLawId == null || fieldOfLawIds.contains(fieldOfLawId)) {
+            return Mono.just(fieldOfLawIds);
+          }
 
-    return documentUnitDTOId
-        .zipWith(fieldOfLawDTOId)
-        .flatMap(
-            t -> {
-              if (t.getT2() == -1L) {
-                return getLinkedFieldsOfLaw(t.getT1());
-              }
-
-              return databaseDocumentUnitFieldsOfLawRepository
-                  .findByDocumentUnitIdAndFieldOfLawId(t.getT1(), t.getT2())
-                  .switchIfEmpty(linkFieldOfLawToDocumentUnit(t.getT1(), t.getT2()))
-                  .map(DocumentUnitFieldsOfLawDTO::documentUnitId)
-                  .then(getLinkedFieldsOfLaw(t.getT1()));
-            });
-  }
-
-  private Mono<List<FieldOfLaw>> getLinkedFieldsOfLaw(Long documentUnitId) {
-    return databaseDocumentUnitFieldsOfLawRepository
-        .findAllByDocumentUnitId(documentUnitId)
-        .map(DocumentUnitFieldsOfLawDTO::fieldOfLawId)
-        .flatMapSequential(databaseFieldOfLawRepository::findById)
-        .map(FieldOfLawTransformer::transformToDomain)
-        .collectList()
-        .map(
-            fieldOfLawList ->
-                fieldOfLawList.stream()
-                    .sorted(Comparator.comparing(FieldOfLaw::identifier))
-                    .toList());
+          fieldOfLawIds.add(fieldOfLawId);
+          return linkFieldOfLawToDocumentUnit(documentUnitId, fieldOfLawId)
+              .thenReturn(fieldOfLawIds);
+        });
   }
 
   private Mono<DocumentUnitFieldsOfLawDTO> linkFieldOfLawToDocumentUnit(
@@ -198,11 +157,37 @@ public class PostgresFieldOfLawRepositoryImpl implements FieldOfLawRepository {
     return databaseDocumentUnitFieldsOfLawRepository.save(documentUnitFieldOfLaw);
   }
 
+  /**
+   * Remove the link of the field of law to the documentation unit. Like adding a field of law, the
+   * returned list is the list read before the change without the removed field of law.
+   */
   @Override
   public Mono<List<FieldOfLaw>> removeFieldOfLawToDocumentUnit(
       UUID documentUnitUuid, String identifier) {
-    Mono<Long> documentUnitDTOId =
-        databaseDocumentUnitRepository.findByUuid(documentUnitUuid).map(DocumentUnitDTO::getId);
+    return changeLinkedFieldsOfLaw(
+        documentUnitUuid,
+        identifier,
+        (documentUnitId, fieldOfLawId, links) -> {
+          List<DocumentUnitFieldsOfLawDTO> removedLinks =
+              links.stream().filter(link -> link.fieldOfLawId().equals(fieldOfLawId)).toList();
+          List<Long> fieldOfLawIds =
+              links.stream()
+                  .map(DocumentUnitFieldsOfLawDTO::fieldOfLawId)
+                  .filter(id -> !id.equals(fieldOfLawId))
+                  .toList();
+          if (removedLinks.isEmpty()) {
+            return Mono.just(fieldOfLawIds);
+          }
+
+          return databaseDocumentUnitFieldsOfLawRepository
+              .deleteAll(removedLinks)
+              .thenReturn(fieldOfLawIds);
+        });
+  }
+
+  private Mono<List<FieldOfLaw>> changeLinkedFieldsOfLaw(
+      UUID documentUnitUuid, String identifier, LinkedFieldsOfLawChange change) {
+    Mono<Long> documentUnitDTOId = documentUnitIdCache.getId(documentUnitUuid);
 
     Mono<Long> fieldOfLawDTOId =
         databaseFieldOfLawRepository
@@ -215,59 +200,212 @@ public class PostgresFieldOfLawRepositoryImpl implements FieldOfLawRepository {
         .flatMap(
             t ->
                 databaseDocumentUnitFieldsOfLawRepository
-                    .findByDocumentUnitIdAndFieldOfLawId(t.getT1(), t.getT2())
-                    .flatMap(dto -> databaseDocumentUnitFieldsOfLawRepository.delete(dto))
-                    .then(getLinkedFieldsOfLaw(t.getT1())));
+                    .findAllByDocumentUnitId(t.getT1())
+                    .collectList()
+                    .flatMap(
+                        links ->
+                            change.apply(t.getT1(), t.getT2() == -1L ? null : t.getT2(), links)))
+        .flatMap(this::getLinkedFieldsOfLaw);
+  }
+
+  private Mono<List<FieldOfLaw>> getLinkedFieldsOfLaw(List<Long> fieldOfLawIds) {
+    return databaseFieldOfLawRepository
+        .findAllById(fieldOfLawIds)
+        .map(FieldOfLawTransformer::transformToDomain)
+        .collectList()
+        .map(this::sortByIdentifier);
+  }
+
+  private List<FieldOfLaw> sortByIdentifier(List<FieldOfLaw> fieldOfLawList) {
+    return fieldOfLawList.stream().sorted(Comparator.comparing(FieldOfLaw::identifier)).toList();
   }
 
   @Override
   public Mono<Long> count() {
-    return databaseFieldOfLawRepository.count();
+    return fieldOfLawCache
+        .count()
+        .onErrorResume(
+            ex -> {
+              log.warn("Couldn't count the fields of law in the cache, use the database", ex);
+              return databaseFieldOfLawRepository.count();
+            });
   }
 
+  /**
+   * Search and score the fields of law in the cached catalogue. If the catalogue can't be loaded,
+   * all matches are read from the database and scored and ordered here.
+   */
   @Override
-  public Flux<FieldOfLaw> findBySearchTerms(String[] searchTerms) {
-    return databaseFieldOfLawRepository
-        .findBySearchTerms(searchTerms)
-        .flatMapSequential(this::injectAdditionalInformation)
-        .map(FieldOfLawTransformer::transformToDomain);
+  public Mono<Page<FieldOfLaw>> findBySearchTermsAndNormStrOrderByScore(
+      String[] searchTerms, String normStr, Pageable pageable) {
+    return fieldOfLawCache
+        .findBySearchTermsAndNormStrOrderByScore(searchTerms, normStr, pageable)
+        .onErrorResume(
+            ex -> {
+              log.warn("Couldn't search the fields of law in the cache, use the database", ex);
+              return findInDatabase(searchTerms, normStr)
+                  .collectList()
+                  .flatMapMany(this::injectAdditionalInformation)
+                  .map(FieldOfLawTransformer::transformToDomain)
+                  .collectList()
+                  .map(
+                      fieldsOfLaw ->
+                          orderByScore(
+                              fieldsOfLaw, new FieldOfLawScorer(searchTerms, normStr), pageable));
+            });
   }
 
-  @Override
-  public Flux<FieldOfLaw> findByNormStr(String normStr) {
-    return databaseFieldOfLawRepository
-        .findByNormStr(normStr)
-        .flatMapSequential(this::injectAdditionalInformation)
-        .map(FieldOfLawTransformer::transformToDomain);
+  private Flux<FieldOfLawDTO> findInDatabase(String[] searchTerms, String normStr) {
+    if (normStr == null) {
+      return databaseFieldOfLawRepository.findBySearchTerms(searchTerms);
+    }
+
+    if (searchTerms == null) {
+      return databaseFieldOfLawRepository.findByNormStr(normStr);
+    }
+
+    return databaseFieldOfLawRepository.findByNormStrAndSearchTerms(normStr, searchTerms);
   }
 
-  @Override
-  public Flux<FieldOfLaw> findByNormStrAndSearchTerms(String normStr, String[] searchTerms) {
-    return databaseFieldOfLawRepository
-        .findByNormStrAndSearchTerms(normStr, searchTerms)
-        .flatMapSequential(this::injectAdditionalInformation)
-        .map(FieldOfLawTransformer::transformToDomain);
+  private static Page<FieldOfLaw> orderByScore(
+      List<FieldOfLaw> fieldsOfLaw, FieldOfLawScorer scorer, Pageable pageable) {
+    List<FieldOfLaw> ordered =
+        fieldsOfLaw.stream()
+            .map(fieldOfLaw -> fieldOfLaw.toBuilder().score(scorer.score(fieldOfLaw)).build())
+            .sorted(Comparator.comparing(FieldOfLaw::score).reversed())
+            .toList();
+
+    if (pageable.isUnpaged()) {
+      return new PageImpl<>(ordered, pageable, ordered.size());
+    }
+
+    int from = (int) Math.min(pageable.getOffset(), ordered.size());
+    int to = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), ordered.size());
+    return new PageImpl<>(ordered.subList(from, to), pageable, ordered.size());
+  }
+
+  /**
+   * Read from the cached field of law catalogue. If the catalogue can't be loaded, the read falls
+   * back to the database.
+   */
+  private Flux<FieldOfLaw> readAllFromCache(
+      Mono<List<FieldOfLaw>> cachedResult, Supplier<Flux<FieldOfLawDTO>> databaseRead) {
+    return cachedResult
+        .flatMapIterable(Function.identity())
+        .onErrorResume(
+            ex -> {
+              log.warn("Couldn't read the fields of law from the cache, use the database", ex);
+              return databaseRead
+                  .get()
+                  .collectList()
+                  .flatMapMany(this::injectAdditionalInformation)
+                  .map(FieldOfLawTransformer::transformToDomain);
+            });
+  }
+
+  private Mono<FieldOfLaw> readFromCache(
+      Mono<FieldOfLaw> cachedResult, Supplier<Mono<FieldOfLawDTO>> databaseRead) {
+    return cachedResult.onErrorResume(
+        ex -> {
+          log.warn("Couldn't read the field of law from the cache, use the database", ex);
+          return databaseRead
+              .get()
+              .flatMap(fieldOfLawDTO -> injectAdditionalInformation(List.of(fieldOfLawDTO)).next())
+              .map(FieldOfLawTransformer::transformToDomain);
+        });
   }
 
   @Override
   public Flux<FieldOfLaw> getAllLimitedOrderByIdentifierLength() {
-    return databaseFieldOfLawRepository
-        .getAllLimitedOrderByIdentifierLength()
-        .flatMapSequential(this::injectAdditionalInformation)
-        .map(FieldOfLawTransformer::transformToDomain);
+    return readAllFromCache(
+        fieldOfLawCache.getAllLimitedOrderByIdentifierLength(),
+        databaseFieldOfLawRepository::getAllLimitedOrderByIdentifierLength);
   }
 
   @Override
   public Flux<FieldOfLaw> findByIdentifierSearch(String searchStr) {
+    return readAllFromCache(
+        fieldOfLawCache.findByIdentifierSearch(searchStr),
+        () -> databaseFieldOfLawRepository.findByIdentifierSearch(searchStr));
+  }
+
+  /**
+   * Load the keywords, the norms and the linked fields of law of the given fields of law. The
+   * details of all fields of law are loaded together with four queries, independent of the number
+   * of fields of law.
+   *
+   * @param fieldOfLawDTOs the fields of law
+   * @return the fields of law with their details in the given order
+   */
+  private Flux<FieldOfLawDTO> injectAdditionalInformation(List<FieldOfLawDTO> fieldOfLawDTOs) {
+    if (fieldOfLawDTOs.isEmpty()) {
+      return Flux.empty();
+    }
+
+    List<Long> ids = fieldOfLawDTOs.stream().map(FieldOfLawDTO::getId).toList();
+
+    Mono<Map<Long, Collection<FieldOfLawKeywordDTO>>> keywords =
+        fieldOfLawKeywordRepository
+            .findAllByFieldOfLawIdInOrderByValueAsc(ids)
+            .collectMultimap(FieldOfLawKeywordDTO::getFieldOfLawId);
+    Mono<Map<Long, Collection<NormDTO>>> norms =
+        normRepository
+            .findAllByFieldOfLawIdInOrderByAbbreviationAscSingleNormDescriptionAsc(ids)
+            .collectMultimap(NormDTO::getFieldOfLawId);
+    Mono<Map<Long, Collection<FieldOfLawDTO>>> linkedFieldsOfLaw =
+        fieldOfLawLinkRepository
+            .findAllByFieldOfLawIdInOrderById(ids)
+            .collectList()
+            .flatMap(this::resolveLinkedFieldsOfLaw);
+
+    return Mono.zip(keywords, norms, linkedFieldsOfLaw)
+        .flatMapIterable(
+            tuple -> {
+              fieldOfLawDTOs.forEach(
+                  fieldOfLawDTO -> {
+                    Long id = fieldOfLawDTO.getId();
+                    fieldOfLawDTO.setKeywords(toList(tuple.getT1().get(id)));
+                    fieldOfLawDTO.setNorms(toList(tuple.getT2().get(id)));
+                    fieldOfLawDTO.setLinkedFieldsOfLaw(toList(tuple.getT3().get(id)));
+                  });
+              return fieldOfLawDTOs;
+            });
+  }
+
+  private Mono<Map<Long, Collection<FieldOfLawDTO>>> resolveLinkedFieldsOfLaw(
+      List<FieldOfLawLinkDTO> links) {
+    if (links.isEmpty()) {
+      return Mono.just(Map.of());
+    }
+
     return databaseFieldOfLawRepository
-        .findByIdentifierSearch(searchStr)
-        .flatMapSequential(this::injectAdditionalInformation)
-        .map(FieldOfLawTransformer::transformToDomain);
+        .findAllById(
+            links.stream().map(FieldOfLawLinkDTO::getLinkedFieldOfLawId).distinct().toList())
+        .collectMap(FieldOfLawDTO::getId)
+        .map(
+            linkedFieldsOfLawById -> {
+              Map<Long, Collection<FieldOfLawDTO>> linkedFieldsOfLaw = new HashMap<>();
+              links.forEach(
+                  link -> {
+                    FieldOfLawDTO linkedFieldOfLaw =
+                        linkedFieldsOfLawById.get(link.getLinkedFieldOfLawId());
+                    if (linkedFieldOfLaw != null) {
+                      linkedFieldsOfLaw
+                          .computeIfAbsent(link.getFieldOfLawId(), id -> new ArrayList<>())
+                          .add(linkedFieldOfLaw);
+                    }
+                  });
+              return linkedFieldsOfLaw;
+            });
+  }
+
+  private static <T> List<T> toList(Collection<T> values) {
+    return values == null ? new ArrayList<>() : new ArrayList<>(values);
   }
 
-  private Mono<FieldOfLawDTO> injectAdditionalInformation(FieldOfLawDTO fieldOfLawDTO) {
-    return injectKeywords(fieldOfLawDTO)
-        .flatMap(this::injectNorms)
-        .flatMap(this::injectLinkedFields);
+  @FunctionalInterface
+  private interface LinkedFieldsOfLawChange {
+    Mono<List<Long>> apply(
+        Long documentUnitId, Long fieldOfLawId, List<DocumentUnitFieldsOfLawDTO> links);
   }
 }
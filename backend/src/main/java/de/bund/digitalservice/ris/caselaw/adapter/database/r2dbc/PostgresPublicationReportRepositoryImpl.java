@@ -3,42 +3,35 @@ package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
 import de.bund.digitalservice.ris.caselaw.domain.PublicationReport;
 import de.bund.digitalservice.ris.caselaw.domain.PublicationReportRepository;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Repository
 public class PostgresPublicationReportRepositoryImpl implements PublicationReportRepository {
 
   private final DatabasePublicationReportRepository repository;
-  private final DatabaseDocumentUnitRepository documentUnitRepository;
-
-  public PostgresPublicationReportRepositoryImpl(
-      DatabasePublicationReportRepository repository,
-      DatabaseDocumentUnitRepository documentUnitRepository) {
 
+  public PostgresPublicationReportRepositoryImpl(DatabasePublicationReportRepository repository) {
     this.repository = repository;
-    this.documentUnitRepository = documentUnitRepository;
   }
 
   @Override
   public Flux<PublicationReport> saveAll(List<PublicationReport> reports) {
-    return Flux.fromIterable(reports)
-        .flatMap(
-            report ->
-                documentUnitRepository
-                    .findByDocumentnumber(report.documentNumber())
-                    .map(
-                        documentUnit ->
-                            PublicationReportDTO.builder()
-                                .id(UUID.randomUUID())
-                                .documentUnitId(documentUnit.getUuid())
-                                .receivedDate(report.receivedDate())
-                                .content(report.content())
-                                .newEntry(true)
-                                .build()))
-        .collectList()
-        .flatMapMany(repository::saveAll)
+    if (reports.isEmpty()) {
+      return Flux.empty();
+    }
+
+    return repository
+        .insertAllByDocumentNumber(
+            reports.stream().map(report -> UUID.randomUUID()).toArray(UUID[]::new),
+            reports.stream().map(PublicationReport::documentNumber).toArray(String[]::new),
+            reports.stream().map(PublicationReport::content).toArray(String[]::new),
+            reports.stream()
+                .map(report -> Objects.toString(report.receivedDate(), null))
+                .toArray(String[]::new))
         .map(
             report ->
                 PublicationReport.builder()
@@ -58,4 +51,16 @@ public class PostgresPublicationReportRepositoryImpl implements PublicationRepor
                     .content(report.getContent())
                     .build());
   }
+
+  @Override
+  public Mono<PublicationReport> getByUuid(UUID documentUnitUuid, UUID uuid) {
+    return repository
+        .findByIdAndDocumentUnitId(uuid, documentUnitUuid)
+        .map(
+            report ->
+                PublicationReport.builder()
+                    .receivedDate(report.getReceivedDate())
+                    .content(report.getContent())
+                    .build());
+  }
 }
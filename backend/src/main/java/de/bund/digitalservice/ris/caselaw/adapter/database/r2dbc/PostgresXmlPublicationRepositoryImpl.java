@@ -2,9 +2,11 @@ package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
 
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.XmlPublicationTransformer;
 import de.bund.digitalservice.ris.caselaw.domain.Publication;
+import de.bund.digitalservice.ris.caselaw.domain.PublicationHistoryEntry;
 import de.bund.digitalservice.ris.caselaw.domain.XmlPublication;
 import de.bund.digitalservice.ris.caselaw.domain.XmlPublicationRepository;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -26,10 +28,10 @@ public class PostgresXmlPublicationRepositoryImpl implements XmlPublicationRepos
   @Override
   public Mono<XmlPublication> save(XmlPublication xmlPublication) {
     return documentUnitRepository
-        .findByUuid(xmlPublication.documentUnitUuid())
+        .findIdByUuid(xmlPublication.documentUnitUuid())
         .map(
-            documentUnitDTO ->
-                XmlPublicationTransformer.transformToDTO(xmlPublication, documentUnitDTO.getId()))
+            documentUnitId ->
+                XmlPublicationTransformer.transformToDTO(xmlPublication, documentUnitId))
         .flatMap(repository::save)
         .map(
             xmlPublicationDTO ->
@@ -37,13 +39,36 @@ public class PostgresXmlPublicationRepositoryImpl implements XmlPublicationRepos
                     xmlPublicationDTO, xmlPublication.documentUnitUuid()));
   }
 
+  @Override
+  public Mono<XmlPublication> saveWithPendingMail(XmlPublication xmlPublication) {
+    return documentUnitRepository
+        .findIdByUuid(xmlPublication.documentUnitUuid())
+        .map(
+            documentUnitId ->
+                XmlPublicationTransformer.transformToDTO(xmlPublication, documentUnitId))
+        .flatMap(
+            xmlPublicationDTO ->
+                repository.saveWithPendingMail(
+                    xmlPublicationDTO.documentUnitId(),
+                    xmlPublicationDTO.receiverAddress(),
+                    xmlPublicationDTO.mailSubject(),
+                    xmlPublicationDTO.xml(),
+                    xmlPublicationDTO.statusCode(),
+                    xmlPublicationDTO.statusMessages(),
+                    xmlPublicationDTO.fileName(),
+                    xmlPublicationDTO.publishDate(),
+                    UUID.randomUUID()))
+        .map(
+            xmlPublicationDTO ->
+                XmlPublicationTransformer.transformToDomain(
+                    xmlPublicationDTO, xmlPublication.documentUnitUuid()));
+  }
+
   @Override
   public Flux<Publication> getPublicationsByDocumentUnitUuid(UUID documentUnitUuid) {
     return documentUnitRepository
-        .findByUuid(documentUnitUuid)
-        .flatMapMany(
-            documentUnitDTO ->
-                repository.findAllByDocumentUnitIdOrderByPublishDateDesc(documentUnitDTO.getId()))
+        .findIdByUuid(documentUnitUuid)
+        .flatMapMany(repository::findAllByDocumentUnitIdOrderByPublishDateDesc)
         .map(
             xmlPublicationDTO ->
                 XmlPublicationTransformer.transformToDomain(xmlPublicationDTO, documentUnitUuid));
@@ -52,12 +77,32 @@ public class PostgresXmlPublicationRepositoryImpl implements XmlPublicationRepos
   @Override
   public Mono<XmlPublication> getLastXmlPublication(UUID documentUnitUuid) {
     return documentUnitRepository
-        .findByUuid(documentUnitUuid)
-        .flatMap(
-            documentUnitDTO ->
-                repository.findTopByDocumentUnitIdOrderByPublishDateDesc(documentUnitDTO.getId()))
+        .findIdByUuid(documentUnitUuid)
+        .flatMap(repository::findTopByDocumentUnitIdOrderByPublishDateDesc)
         .map(
             xmlPublicationDTO ->
                 XmlPublicationTransformer.transformToDomain(xmlPublicationDTO, documentUnitUuid));
   }
+
+  @Override
+  public Mono<XmlPublication> getXmlPublication(UUID documentUnitUuid, Long id) {
+    return repository
+        .findByIdAndDocumentUnitUuid(id, documentUnitUuid)
+        .map(
+            xmlPublicationDTO ->
+                XmlPublicationTransformer.transformToDomain(xmlPublicationDTO, documentUnitUuid));
+  }
+
+  @Override
+  public Flux<PublicationHistoryEntry> getPublicationHistory(
+      UUID documentUnitUuid, Pageable pageable) {
+    return repository
+        .findPublicationHistory(documentUnitUuid, pageable.getPageSize(), pageable.getOffset())
+        .map(XmlPublicationTransformer::transformToDomain);
+  }
+
+  @Override
+  public Mono<Long> countPublicationHistory(UUID documentUnitUuid) {
+    return repository.countPublicationHistory(documentUnitUuid);
+  }
 }
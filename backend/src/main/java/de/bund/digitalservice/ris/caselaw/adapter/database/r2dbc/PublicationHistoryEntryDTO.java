@@ -0,0 +1,27 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
+
+import de.bund.digitalservice.ris.caselaw.domain.PublicationHistoryRecordType;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Projection of a publication or a publication report in the publication history. The xml of the
+ * publication and the content of the report are not part of the projection.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublicationHistoryEntryDTO {
+  private String id;
+  private PublicationHistoryRecordType type;
+  private Instant date;
+  private String receiverAddress;
+  private String mailSubject;
+  private String fileName;
+  private String statusCode;
+  private String statusMessages;
+}
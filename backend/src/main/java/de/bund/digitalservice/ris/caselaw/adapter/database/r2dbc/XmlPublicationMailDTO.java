@@ -0,0 +1,23 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
+
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Builder;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Outbox entry of the mail to juris for a xml publication. The idempotency key is passed to the
+ * mail provider, so that a mail which is sent again after a lost answer is only delivered once.
+ */
+@Builder(toBuilder = true)
+@Table(name = "xml_publication_mail")
+public record XmlPublicationMailDTO(
+    @Id Long id,
+    Long xmlPublicationId,
+    UUID idempotencyKey,
+    XmlPublicationMailState state,
+    Integer attempts,
+    Instant nextAttemptAt,
+    String lastError,
+    Instant sentAt) {}
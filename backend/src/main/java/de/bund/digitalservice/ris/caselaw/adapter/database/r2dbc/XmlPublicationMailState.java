@@ -0,0 +1,15 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
+
+/** State of a publication mail in the outbox of the mail dispatcher. */
+public enum XmlPublicationMailState {
+  /** Saved with the publication and not tried to send yet. */
+  PENDING,
+  /** Claimed by a dispatcher, which is sending the mail. */
+  SENDING,
+  /** Sending failed, the mail is sent again after a backoff. */
+  RETRY,
+  /** The mail is sent. */
+  SENT,
+  /** Sending failed too often, the mail isn't sent again. */
+  FAILED
+}
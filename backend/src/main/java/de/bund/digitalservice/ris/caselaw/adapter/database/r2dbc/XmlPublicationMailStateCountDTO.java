@@ -0,0 +1,16 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Projection of the number of outbox entries in a state. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class XmlPublicationMailStateCountDTO {
+  private XmlPublicationMailState state;
+  private Long count;
+}
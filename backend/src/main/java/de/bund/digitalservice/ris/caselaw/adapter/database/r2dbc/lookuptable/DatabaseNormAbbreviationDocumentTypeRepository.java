@@ -1,10 +1,30 @@
 package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable;
 
+import java.util.Collection;
 import java.util.UUID;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import reactor.core.publisher.Flux;
 
 public interface DatabaseNormAbbreviationDocumentTypeRepository
     extends R2dbcRepository<NormAbbreviationDocumentTypeDTO, UUID> {
   Flux<NormAbbreviationDocumentTypeDTO> findAllByNormAbbreviationId(UUID normAbbreviationId);
+
+  @Query(
+      "SELECT nadt.norm_abbreviation_id,"
+          + " dt.id AS document_type_id,"
+          + " dt.abbreviation,"
+          + " dt.label,"
+          + " dt.multiple,"
+          + " dt.super_label_1,"
+          + " dt.super_label_2,"
+          + " dt.document_category_id,"
+          + " dc.label AS category_label"
+          + " FROM norm_abbreviation_document_type nadt"
+          + " JOIN document_type dt ON dt.id = nadt.document_type_id"
+          + " LEFT JOIN document_category dc ON dc.id = dt.document_category_id"
+          + " WHERE nadt.norm_abbreviation_id IN (:normAbbreviationIds)"
+          + " ORDER BY dt.abbreviation, dt.id")
+  Flux<NormAbbreviationDocumentTypeInfoDTO> findAllInfoByNormAbbreviationIds(
+      Collection<UUID> normAbbreviationIds);
 }
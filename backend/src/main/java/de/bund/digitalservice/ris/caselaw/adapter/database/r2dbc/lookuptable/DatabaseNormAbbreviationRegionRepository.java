@@ -1,10 +1,24 @@
 package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable;
 
+import java.util.Collection;
 import java.util.UUID;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import reactor.core.publisher.Flux;
 
 public interface DatabaseNormAbbreviationRegionRepository
     extends R2dbcRepository<NormAbbreviationRegionDTO, UUID> {
   Flux<NormAbbreviationRegionDTO> findAllByNormAbbreviationId(UUID normAbbreviationId);
+
+  @Query(
+      "SELECT nar.norm_abbreviation_id,"
+          + " r.id AS region_id,"
+          + " r.code,"
+          + " r.label"
+          + " FROM norm_abbreviation_region nar"
+          + " JOIN region r ON r.id = nar.region_id"
+          + " WHERE nar.norm_abbreviation_id IN (:normAbbreviationIds)"
+          + " ORDER BY r.code, r.id")
+  Flux<NormAbbreviationRegionInfoDTO> findAllInfoByNormAbbreviationIds(
+      Collection<UUID> normAbbreviationIds);
 }
@@ -16,91 +16,89 @@ public interface DatabaseNormAbbreviationRepository
       "select * from norm_abbreviation where abbreviation like :query||'%' order by abbreviation limit :size offset :pageOffset")
   Flux<NormAbbreviationDTO> findBySearchQuery(String query, Integer size, Integer pageOffset);
 
+  /**
+   * Search norm abbreviations in one statement. The matches are ordered by:
+   *
+   * <ol>
+   *   <li>abbreviation is the direct input
+   *   <li>official letter abbreviation is the direct input
+   *   <li>abbreviation starts with the direct input
+   *   <li>official letter abbreviation starts with the direct input
+   *   <li>full text match of the search view, ordered by the text rank
+   * </ol>
+   *
+   * A norm abbreviation which matches more than one of these classes is returned once in its
+   * first class. Every class is limited to the rows of the requested pages before the classes are
+   * merged.
+   *
+   * @param directInput lower case search string for the abbreviation matches
+   * @param tsQuery full text search query
+   * @param maxResults maximum number of rows of every class, page offset plus page size
+   * @param size page size
+   * @param pageOffset number of skipped rows
+   * @return the requested page of the ranked norm abbreviations
+   */
   @Query(
-      "select"
-          + " id,"
-          + " abbreviation,"
-          + " decision_date,"
-          + " document_id,"
-          + " document_number,"
-          + " official_letter_abbreviation,"
-          + " official_long_title,"
-          + " official_short_title,"
-          + " source"
-          + " from norm_abbreviation"
-          + " where lower(abbreviation) = :directInput"
-          + " limit :size")
-  Flux<NormAbbreviationDTO> findByAwesomeSearchQuery_rank4(String directInput, Integer size);
-
-  @Query(
-      "select"
-          + " id,"
-          + " abbreviation,"
-          + " decision_date,"
-          + " document_id,"
-          + " document_number,"
-          + " official_letter_abbreviation,"
-          + " official_long_title,"
-          + " official_short_title,"
-          + " source"
-          + " from norm_abbreviation"
-          + " where lower(official_letter_abbreviation) = :directInput"
-          + " limit :size")
-  Flux<NormAbbreviationDTO> findByAwesomeSearchQuery_rank3(String directInput, Integer size);
-
-  @Query(
-      "select"
-          + " id,"
-          + " abbreviation,"
-          + " decision_date,"
-          + " document_id,"
-          + " document_number,"
-          + " official_letter_abbreviation,"
-          + " official_long_title,"
-          + " official_short_title,"
-          + " source"
-          + " from norm_abbreviation"
-          + " where lower(abbreviation) like :directInput || '%'"
-          + " limit :size")
-  Flux<NormAbbreviationDTO> findByAwesomeSearchQuery_rank2(String directInput, Integer size);
-
-  @Query(
-      "select"
-          + " id,"
-          + " abbreviation,"
-          + " decision_date,"
-          + " document_id,"
-          + " document_number,"
-          + " official_letter_abbreviation,"
-          + " official_long_title,"
-          + " official_short_title,"
-          + " source"
-          + " from norm_abbreviation"
-          + " where lower(official_letter_abbreviation) like :directInput || '%'"
-          + " limit :size")
-  Flux<NormAbbreviationDTO> findByAwesomeSearchQuery_rank1(String directInput, Integer size);
-
-  @Query(
-      "select"
-          + " id,"
-          + " abbreviation,"
-          + " decision_date,"
-          + " document_id,"
-          + " document_number,"
-          + " official_letter_abbreviation,"
-          + " official_long_title,"
-          + " official_short_title,"
-          + " source,"
-          + " ts_rank_cd(weighted_vector, to_tsquery('german', '' || :tsQuery || '')) rank"
-          + " from norm_abbreviation_search"
-          + " where weighted_vector @@ to_tsquery('german', '' || :tsQuery || '')"
-          + " order by rank desc"
-          + " limit :size")
-  Flux<NormAbbreviationDTO> findByAwesomeSearchQuery_rankWeightedVector(
-      String tsQuery, Integer size);
+      "WITH candidates AS ("
+          + " (SELECT id, 4 AS rank_class, CAST(0 AS real) AS text_rank"
+          + " FROM norm_abbreviation"
+          + " WHERE lower(abbreviation) = :directInput"
+          + " ORDER BY lower(abbreviation), id"
+          + " LIMIT :maxResults)"
+          + " UNION ALL"
+          + " (SELECT id, 3, 0"
+          + " FROM norm_abbreviation"
+          + " WHERE lower(official_letter_abbreviation) = :directInput"
+          + " ORDER BY lower(abbreviation), id"
+          + " LIMIT :maxResults)"
+          + " UNION ALL"
+          + " (SELECT id, 2, 0"
+          + " FROM norm_abbreviation"
+          + " WHERE lower(abbreviation) LIKE :directInput || '%'"
+          + " ORDER BY lower(abbreviation), id"
+          + " LIMIT :maxResults)"
+          + " UNION ALL"
+          + " (SELECT id, 1, 0"
+          + " FROM norm_abbreviation"
+          + " WHERE lower(official_letter_abbreviation) LIKE :directInput || '%'"
+          + " ORDER BY lower(abbreviation), id"
+          + " LIMIT :maxResults)"
+          + " UNION ALL"
+          + " (SELECT id, 0, max(ts_rank_cd(weighted_vector, to_tsquery('german', :tsQuery)))"
+          + " FROM norm_abbreviation_search"
+          + " WHERE weighted_vector @@ to_tsquery('german', :tsQuery)"
+          + " GROUP BY id, abbreviation"
+          + " ORDER BY 3 DESC, lower(abbreviation), id"
+          + " LIMIT :maxResults)),"
+          + " best_rank AS ("
+          + " SELECT DISTINCT ON (id) id, rank_class, text_rank"
+          + " FROM candidates"
+          + " ORDER BY id, rank_class DESC, text_rank DESC)"
+          + " SELECT"
+          + " na.id,"
+          + " na.abbreviation,"
+          + " na.decision_date,"
+          + " na.document_id,"
+          + " na.document_number,"
+          + " na.official_letter_abbreviation,"
+          + " na.official_long_title,"
+          + " na.official_short_title,"
+          + " na.source,"
+          + " best_rank.rank_class,"
+          + " best_rank.text_rank"
+          + " FROM best_rank"
+          + " JOIN norm_abbreviation na ON na.id = best_rank.id"
+          + " ORDER BY best_rank.rank_class DESC,"
+          + " best_rank.text_rank DESC,"
+          + " lower(na.abbreviation),"
+          + " na.id"
+          + " LIMIT :size"
+          + " OFFSET :pageOffset")
+  Flux<NormAbbreviationDTO> findByAwesomeSearchQuery(
+      String directInput, String tsQuery, Integer maxResults, Integer size, Integer pageOffset);
 
   Mono<NormAbbreviationDTO> findById(UUID normAbbreviationUuid);
 
-  @Query("REFRESH MATERIALIZED VIEW norm_abbreviation_search")
+  @Query("REFRESH MATERIALIZED VIEW CONCURRENTLY norm_abbreviation_search")
   Mono<Void> refreshMaterializedViews();
 }
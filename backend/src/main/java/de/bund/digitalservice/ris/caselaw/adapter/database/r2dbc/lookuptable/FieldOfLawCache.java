@@ -0,0 +1,551 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable;
+
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.FieldOfLawScorer.ScoringText;
+import de.bund.digitalservice.ris.caselaw.adapter.transformer.FieldOfLawTransformer;
+import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.FieldOfLaw;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * In-process cache of the field of law catalogue with its keywords, norms and linked fields of law.
+ * The catalogue is loaded at the start of the application and answers the search for fields of
+ * law and the navigation in the field of law tree, so that neither loads rows and their details
+ * from the database.
+ *
+ * <p>A loaded catalogue is immutable. The tree is held as arrays of the parent and the children of
+ * every field of law, so the path from a field of law to its root takes one step per level. The
+ * catalogue only changes with an import of the field of law lookup table. After the import a new
+ * version of the catalogue is loaded and replaces the old one with a single reference swap. At the
+ * latest the catalogue is reloaded after one hour.
+ */
+@Component
+@Slf4j
+public class FieldOfLawCache {
+  private static final Duration MAX_AGE = Duration.ofHours(1);
+  private static final Comparator<String> NULLS_LAST = Comparator.nullsLast(String::compareTo);
+  private static final int MAX_IDENTIFIER_SEARCH_RESULTS = 50;
+
+  private final DatabaseFieldOfLawRepository fieldOfLawRepository;
+  private final FieldOfLawKeywordRepository keywordRepository;
+  private final NormRepository normRepository;
+  private final FieldOfLawLinkRepository linkRepository;
+
+  private final AtomicReference<Mono<FieldOfLawCatalog>> catalog = new AtomicReference<>();
+  private final AtomicLong versions = new AtomicLong();
+
+  public FieldOfLawCache(
+      DatabaseFieldOfLawRepository fieldOfLawRepository,
+      FieldOfLawKeywordRepository keywordRepository,
+      NormRepository normRepository,
+      FieldOfLawLinkRepository linkRepository) {
+    this.fieldOfLawRepository = fieldOfLawRepository;
+    this.keywordRepository = keywordRepository;
+    this.normRepository = normRepository;
+    this.linkRepository = linkRepository;
+    invalidate();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    getCatalog()
+        .subscribe(
+            loaded ->
+                log.info(
+                    "Field of law cache loaded: version {}, {} fields of law",
+                    loaded.version(),
+                    loaded.size()),
+            ex -> log.error("Couldn't load the field of law cache", ex));
+  }
+
+  /**
+   * Load the field of law catalogue again.
+   *
+   * @return a mono which completes when the catalogue is loaded
+   */
+  public Mono<Void> reload() {
+    invalidate();
+    return getCatalog().then();
+  }
+
+  /** Drop the loaded catalogue. It is loaded again with the next access. */
+  public void invalidate() {
+    if (log.isDebugEnabled()) {
+      log.debug("invalidate field of law cache");
+    }
+
+    catalog.set(
+        Mono.defer(this::loadCatalog)
+            .cache(loaded -> MAX_AGE, ex -> Duration.ZERO, () -> Duration.ZERO));
+  }
+
+  /**
+   * Find the fields of law which match the search terms and the norm string and order them by
+   * their score. Fields of law with the same score are ordered by their identifier.
+   *
+   * <p>Without a norm string the fields of law have to contain all search terms in their identifier
+   * or text. Without search terms they need a norm which contains the norm string, compared with
+   * the abbreviation followed by the single norm description and the other way round. With both
+   * they have to contain all search terms and have a norm whose single norm description followed
+   * by the abbreviation contains the norm string.
+   *
+   * <p>All matches are scored and counted over the prepared texts of the catalogue, but only the
+   * best offset plus page size matches are kept and only the fields of law of the requested page
+   * are copied.
+   *
+   * @param searchTerms the search terms, null if only the norm string is searched
+   * @param normStr the norm string, null if only the search terms are searched
+   * @param pageable the requested page, unpaged for all matches
+   * @return the page of the matching fields of law with their score
+   */
+  public Mono<Page<FieldOfLaw>> findBySearchTermsAndNormStrOrderByScore(
+      String[] searchTerms, String normStr, Pageable pageable) {
+    Predicate<CatalogEntry> filter = buildFilter(searchTerms, normStr);
+    FieldOfLawScorer scorer = new FieldOfLawScorer(searchTerms, normStr);
+    return getCatalog().map(loaded -> loaded.searchOrderedByScore(filter, scorer, pageable));
+  }
+
+  /**
+   * Find all fields of law whose identifier contains the search string. Fields of law whose
+   * identifier starts with the search string come first, then the shorter identifiers. The case is
+   * ignored.
+   *
+   * @param searchStr the search string
+   * @return the first 50 matching fields of law
+   */
+  public Mono<List<FieldOfLaw>> findByIdentifierSearch(String searchStr) {
+    return getCatalog().map(loaded -> loaded.searchIdentifier(searchStr));
+  }
+
+  /**
+   * Get the first 50 fields of law ordered by the length of their identifier.
+   *
+   * @return the fields of law with the shortest identifiers
+   */
+  public Mono<List<FieldOfLaw>> getAllLimitedOrderByIdentifierLength() {
+    return getCatalog().map(FieldOfLawCatalog::shortestIdentifiers);
+  }
+
+  /**
+   * Get a page of all fields of law ordered by their identifier.
+   *
+   * @param pageable the requested page, unpaged for all fields of law
+   * @return the fields of law of the page
+   */
+  public Mono<List<FieldOfLaw>> findAllByOrderByIdentifierAsc(Pageable pageable) {
+    return getCatalog().map(loaded -> loaded.page(pageable));
+  }
+
+  public Mono<Long> count() {
+    return getCatalog().map(loaded -> (long) loaded.size());
+  }
+
+  public Mono<FieldOfLaw> findByIdentifier(String identifier) {
+    return getCatalog().mapNotNull(loaded -> loaded.findByIdentifier(identifier));
+  }
+
+  /**
+   * Find the parent of the field of law with the given identifier. A top level field of law is its
+   * own parent.
+   *
+   * @param identifier the identifier of the child
+   * @return the parent, empty if the child or its parent is unknown
+   */
+  public Mono<FieldOfLaw> findParentByChildIdentifier(String identifier) {
+    return getCatalog().mapNotNull(loaded -> loaded.findParent(identifier));
+  }
+
+  /**
+   * Get the fields of law without a parent.
+   *
+   * @return the top level fields of law, ordered by their identifier
+   */
+  public Mono<List<FieldOfLaw>> getTopLevelNodes() {
+    return getCatalog().map(FieldOfLawCatalog::topLevelNodes);
+  }
+
+  /**
+   * Get the children of the field of law with the given identifier.
+   *
+   * @param identifier the identifier of the parent
+   * @return the children, ordered by their identifier
+   */
+  public Mono<List<FieldOfLaw>> findChildrenByParentIdentifier(String identifier) {
+    return getCatalog().map(loaded -> loaded.findChildren(identifier));
+  }
+
+  private static Predicate<CatalogEntry> buildFilter(String[] searchTerms, String normStr) {
+    if (normStr == null) {
+      List<String> terms = normalize(searchTerms);
+      return entry -> entry.containsAll(terms);
+    }
+
+    String term = normalize(normStr);
+    if (searchTerms == null) {
+      return entry ->
+          entry.hasNormContaining(term, CatalogEntry::abbreviationFirstNormTexts)
+              || entry.hasNormContaining(term, CatalogEntry::descriptionFirstNormTexts);
+    }
+
+    List<String> terms = normalize(searchTerms);
+    return entry ->
+        entry.containsAll(terms)
+            && entry.hasNormContaining(term, CatalogEntry::descriptionFirstNormTexts);
+  }
+
+  private Mono<FieldOfLawCatalog> getCatalog() {
+    return catalog.get();
+  }
+
+  private Mono<FieldOfLawCatalog> loadCatalog() {
+    Mono<List<FieldOfLawDTO>> fieldsOfLaw = fieldOfLawRepository.findAll().collectList();
+    Mono<Map<Long, List<FieldOfLawKeywordDTO>>> keywords =
+        keywordRepository
+            .findAll()
+            .filter(keyword -> keyword.getFieldOfLawId() != null)
+            .collect(Collectors.groupingBy(FieldOfLawKeywordDTO::getFieldOfLawId));
+    Mono<Map<Long, List<NormDTO>>> norms =
+        normRepository
+            .findAll()
+            .filter(norm -> norm.getFieldOfLawId() != null)
+            .collect(Collectors.groupingBy(NormDTO::getFieldOfLawId));
+    Mono<Map<Long, List<FieldOfLawLinkDTO>>> links =
+        linkRepository
+            .findAll()
+            .filter(link -> link.getFieldOfLawId() != null)
+            .collect(Collectors.groupingBy(FieldOfLawLinkDTO::getFieldOfLawId));
+
+    return Mono.zip(fieldsOfLaw, keywords, norms, links)
+        .map(
+            tuple -> {
+              Map<Long, FieldOfLawDTO> fieldsOfLawById =
+                  tuple.getT1().stream()
+                      .collect(Collectors.toMap(FieldOfLawDTO::getId, Function.identity()));
+
+              List<CatalogEntry> entries =
+                  tuple.getT1().stream()
+                      .sorted(Comparator.comparing(FieldOfLawDTO::getIdentifier, NULLS_LAST))
+                      .map(
+                          fieldOfLawDTO -> {
+                            Long id = fieldOfLawDTO.getId();
+                            return buildEntry(
+                                fieldOfLawDTO.toBuilder()
+                                    .keywords(sortKeywords(tuple.getT2().get(id)))
+                                    .norms(sortNorms(tuple.getT3().get(id)))
+                                    .linkedFieldsOfLaw(
+                                        resolveLinks(tuple.getT4().get(id), fieldsOfLawById))
+                                    .build());
+                          })
+                      .toList();
+
+              return new FieldOfLawCatalog(versions.incrementAndGet(), entries);
+            });
+  }
+
+  private static List<FieldOfLawKeywordDTO> sortKeywords(List<FieldOfLawKeywordDTO> keywords) {
+    if (keywords == null) {
+      return List.of();
+    }
+
+    return keywords.stream()
+        .sorted(Comparator.comparing(FieldOfLawKeywordDTO::getValue, NULLS_LAST))
+        .toList();
+  }
+
+  private static List<NormDTO> sortNorms(List<NormDTO> norms) {
+    if (norms == null) {
+      return List.of();
+    }
+
+    return norms.stream()
+        .sorted(
+            Comparator.comparing(NormDTO::getAbbreviation, NULLS_LAST)
+                .thenComparing(NormDTO::getSingleNormDescription, NULLS_LAST))
+        .toList();
+  }
+
+  private static List<FieldOfLawDTO> resolveLinks(
+      List<FieldOfLawLinkDTO> links, Map<Long, FieldOfLawDTO> fieldsOfLawById) {
+    if (links == null) {
+      return List.of();
+    }
+
+    return links.stream()
+        .map(link -> fieldsOfLawById.get(link.getLinkedFieldOfLawId()))
+        .filter(Objects::nonNull)
+        .toList();
+  }
+
+  private static CatalogEntry buildEntry(FieldOfLawDTO fieldOfLawDTO) {
+    List<NormDTO> norms = fieldOfLawDTO.getNorms();
+    FieldOfLaw fieldOfLaw = FieldOfLawTransformer.transformToDomain(fieldOfLawDTO);
+
+    return new CatalogEntry(
+        fieldOfLaw,
+        fieldOfLawDTO.getParentId(),
+        ScoringText.of(fieldOfLaw),
+        normalize(
+            Objects.toString(fieldOfLawDTO.getIdentifier(), "")
+                + " "
+                + Objects.toString(fieldOfLawDTO.getText(), "")),
+        norms.stream()
+            .map(norm -> concat(norm.getAbbreviation(), norm.getSingleNormDescription()))
+            .toList(),
+        norms.stream()
+            .map(norm -> concat(norm.getSingleNormDescription(), norm.getAbbreviation()))
+            .toList());
+  }
+
+  /** Concatenate two columns with a space like the SQL function CONCAT, which ignores nulls. */
+  private static String concat(String first, String second) {
+    return normalize(Objects.toString(first, "") + " " + Objects.toString(second, ""));
+  }
+
+  private static String normalize(String value) {
+    return value.toLowerCase(Locale.GERMAN);
+  }
+
+  private static List<String> normalize(String[] values) {
+    return Arrays.stream(values).map(FieldOfLawCache::normalize).toList();
+  }
+
+  /**
+   * Copy the cached field of law, so that callers can't change the cached instance by adding
+   * children.
+   */
+  private static FieldOfLaw copy(FieldOfLaw fieldOfLaw) {
+    return fieldOfLaw.toBuilder().children(new ArrayList<>()).build();
+  }
+
+  private record CatalogEntry(
+      FieldOfLaw fieldOfLaw,
+      Long parentId,
+      ScoringText scoringText,
+      String searchText,
+      List<String> abbreviationFirstNormTexts,
+      List<String> descriptionFirstNormTexts) {
+
+    boolean containsAll(List<String> terms) {
+      return terms.stream().allMatch(searchText::contains);
+    }
+
+    boolean hasNormContaining(String term, Function<CatalogEntry, List<String>> normTexts) {
+      return normTexts.apply(this).stream().anyMatch(normText -> normText.contains(term));
+    }
+  }
+
+  private record ScoredIndex(int index, int score) {}
+
+  /**
+   * Immutable version of the field of law catalogue. The entries are ordered by their identifier.
+   * The tree refers to the entries by their position in this order.
+   */
+  private static final class FieldOfLawCatalog {
+    private static final int NO_PARENT = -1;
+    private static final int UNKNOWN_PARENT = -2;
+
+    private final long version;
+    private final List<CatalogEntry> entries;
+    private final Map<String, Integer> indexByIdentifier;
+    private final int[] parents;
+    private final int[][] children;
+    private final int[] topLevelNodes;
+    private final int[] byIdentifierLength;
+
+    FieldOfLawCatalog(long version, List<CatalogEntry> entries) {
+      this.version = version;
+      this.entries = entries;
+
+      int size = entries.size();
+      Map<Long, Integer> indexById = new HashMap<>();
+      Map<String, Integer> identifierIndex = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+        FieldOfLaw fieldOfLaw = entries.get(i).fieldOfLaw();
+        indexById.put(fieldOfLaw.id(), i);
+        if (fieldOfLaw.identifier() != null) {
+          identifierIndex.putIfAbsent(fieldOfLaw.identifier(), i);
+        }
+      }
+      this.indexByIdentifier = Map.copyOf(identifierIndex);
+
+      this.parents = new int[size];
+      int[] childrenCounts = new int[size];
+      for (int i = 0; i < size; i++) {
+        Long parentId = entries.get(i).parentId();
+        Integer parent = parentId == null ? null : indexById.get(parentId);
+        if (parentId == null) {
+          parents[i] = NO_PARENT;
+        } else if (parent == null) {
+          parents[i] = UNKNOWN_PARENT;
+        } else {
+          parents[i] = parent;
+          childrenCounts[parent]++;
+        }
+      }
+
+      // the entries are ordered by identifier, so the children are filled in in this order too
+      this.children = new int[size][];
+      for (int i = 0; i < size; i++) {
+        children[i] = new int[childrenCounts[i]];
+      }
+      int[] filled = new int[size];
+      for (int i = 0; i < size; i++) {
+        int parent = parents[i];
+        if (parent >= 0) {
+          children[parent][filled[parent]++] = i;
+        }
+      }
+
+      this.topLevelNodes = IntStream.range(0, size).filter(i -> parents[i] == NO_PARENT).toArray();
+      this.byIdentifierLength =
+          IntStream.range(0, size)
+              .filter(i -> entries.get(i).fieldOfLaw().identifier() != null)
+              .boxed()
+              .sorted(
+                  Comparator.comparingInt(
+                      (Integer i) -> entries.get(i).fieldOfLaw().identifier().length()))
+              .mapToInt(Integer::intValue)
+              .toArray();
+    }
+
+    long version() {
+      return version;
+    }
+
+    int size() {
+      return entries.size();
+    }
+
+    FieldOfLaw findByIdentifier(String identifier) {
+      Integer index = identifier == null ? null : indexByIdentifier.get(identifier);
+      return index == null ? null : get(index);
+    }
+
+    FieldOfLaw findParent(String identifier) {
+      Integer index = identifier == null ? null : indexByIdentifier.get(identifier);
+      if (index == null || parents[index] == UNKNOWN_PARENT) {
+        return null;
+      }
+
+      return get(parents[index] == NO_PARENT ? index : parents[index]);
+    }
+
+    List<FieldOfLaw> findChildren(String identifier) {
+      Integer index = identifier == null ? null : indexByIdentifier.get(identifier);
+      return index == null ? List.of() : get(children[index]);
+    }
+
+    List<FieldOfLaw> topLevelNodes() {
+      return get(topLevelNodes);
+    }
+
+    List<FieldOfLaw> page(Pageable pageable) {
+      if (pageable.isUnpaged()) {
+        return get(IntStream.range(0, size()).toArray());
+      }
+
+      long from = Math.min(pageable.getOffset(), size());
+      long to = Math.min(from + pageable.getPageSize(), size());
+      return get(IntStream.range((int) from, (int) to).toArray());
+    }
+
+    /**
+     * Score all matching entries, but keep only the best offset plus page size of them in a heap
+     * whose head is the worst kept entry. Entries with the same score are ordered by their
+     * position, which is the order of the identifiers.
+     */
+    Page<FieldOfLaw> searchOrderedByScore(
+        Predicate<CatalogEntry> filter, FieldOfLawScorer scorer, Pageable pageable) {
+      long offset = pageable.isUnpaged() ? 0 : pageable.getOffset();
+      long limit = pageable.isUnpaged() ? Long.MAX_VALUE : offset + pageable.getPageSize();
+      Comparator<ScoredIndex> worstFirst =
+          Comparator.comparingInt(ScoredIndex::score)
+              .thenComparing(Comparator.comparingInt(ScoredIndex::index).reversed());
+
+      PriorityQueue<ScoredIndex> best = new PriorityQueue<>(worstFirst);
+      int total = 0;
+      for (int i = 0; i < entries.size(); i++) {
+        CatalogEntry entry = entries.get(i);
+        if (!filter.test(entry)) {
+          continue;
+        }
+
+        total++;
+        ScoredIndex scored = new ScoredIndex(i, scorer.score(entry.scoringText()));
+        if (best.size() < limit) {
+          best.add(scored);
+        } else if (worstFirst.compare(scored, best.peek()) > 0) {
+          best.poll();
+          best.add(scored);
+        }
+      }
+
+      List<ScoredIndex> ordered = new ArrayList<>(best);
+      ordered.sort(worstFirst.reversed());
+      List<FieldOfLaw> content =
+          ordered.subList((int) Math.min(offset, ordered.size()), ordered.size()).stream()
+              .map(
+                  scored ->
+                      entries.get(scored.index()).fieldOfLaw().toBuilder()
+                          .children(new ArrayList<>())
+                          .score(scored.score())
+                          .build())
+              .toList();
+      return new PageImpl<>(content, pageable, total);
+    }
+
+    List<FieldOfLaw> shortestIdentifiers() {
+      return get(Arrays.stream(byIdentifierLength).limit(MAX_IDENTIFIER_SEARCH_RESULTS).toArray());
+    }
+
+    List<FieldOfLaw> searchIdentifier(String searchStr) {
+      String term = searchStr.toUpperCase(Locale.GERMAN);
+
+      List<FieldOfLaw> startsWith = new ArrayList<>();
+      List<FieldOfLaw> contains = new ArrayList<>();
+      for (int index : byIdentifierLength) {
+        String identifier = entries.get(index).fieldOfLaw().identifier().toUpperCase(Locale.GERMAN);
+        if (identifier.startsWith(term)) {
+          startsWith.add(get(index));
+          if (startsWith.size() == MAX_IDENTIFIER_SEARCH_RESULTS) {
+            break;
+          }
+        } else if (contains.size() < MAX_IDENTIFIER_SEARCH_RESULTS && identifier.contains(term)) {
+          contains.add(get(index));
+        }
+      }
+
+      startsWith.addAll(contains);
+      return startsWith.subList(0, Math.min(startsWith.size(), MAX_IDENTIFIER_SEARCH_RESULTS));
+    }
+
+    private FieldOfLaw get(int index) {
+      return copy(entries.get(index).fieldOfLaw());
+    }
+
+    private List<FieldOfLaw> get(int[] indexes) {
+      return Arrays.stream(indexes).mapToObj(this::get).toList();
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable;
 
+import java.util.Collection;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
@@ -10,4 +11,6 @@ public interface FieldOfLawKeywordRepository extends R2dbcRepository<FieldOfLawK
   Flux<FieldOfLawKeywordDTO> findAllByOrderByFieldOfLawIdAscValueAsc();
 
   Flux<FieldOfLawKeywordDTO> findAllByFieldOfLawIdOrderByValueAsc(Long fieldOfLawId);
+
+  Flux<FieldOfLawKeywordDTO> findAllByFieldOfLawIdInOrderByValueAsc(Collection<Long> fieldOfLawIds);
 }
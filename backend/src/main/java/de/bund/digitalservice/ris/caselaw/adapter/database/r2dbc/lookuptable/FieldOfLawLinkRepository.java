@@ -1,5 +1,6 @@
 package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable;
 
+import java.util.Collection;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
@@ -8,4 +9,6 @@ import reactor.core.publisher.Flux;
 public interface FieldOfLawLinkRepository extends R2dbcRepository<FieldOfLawLinkDTO, Long> {
 
   Flux<FieldOfLawLinkDTO> findAllByFieldOfLawId(Long fieldId);
+
+  Flux<FieldOfLawLinkDTO> findAllByFieldOfLawIdInOrderById(Collection<Long> fieldIds);
 }
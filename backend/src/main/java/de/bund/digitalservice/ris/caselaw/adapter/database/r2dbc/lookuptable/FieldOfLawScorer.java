@@ -0,0 +1,113 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable;
+
+import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.FieldOfLaw;
+import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.Norm;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Score of a field of law for the search by search terms and norm string. Matches in the
+ * identifier, at the start of the text and of words of the text and in the norms raise the score.
+ * The case is ignored.
+ *
+ * <p>The texts which are compared are prepared once per field of law as {@link ScoringText}, so
+ * the cached catalogue doesn't lowercase and split the texts again for every search.
+ */
+public class FieldOfLawScorer {
+  private final List<String> searchTerms;
+  private final String normStr;
+
+  /**
+   * @param searchTerms the search terms, null if only the norm string is searched
+   * @param normStr the norm string, null if only the search terms are searched
+   */
+  public FieldOfLawScorer(String[] searchTerms, String normStr) {
+    this.searchTerms =
+        searchTerms == null
+            ? List.of()
+            : Arrays.stream(searchTerms).map(FieldOfLawScorer::normalize).toList();
+    this.normStr = normStr == null ? null : normalize(normStr);
+  }
+
+  public int score(FieldOfLaw fieldOfLaw) {
+    return score(ScoringText.of(fieldOfLaw));
+  }
+
+  int score(ScoringText text) {
+    int score = 0;
+    for (String searchTerm : searchTerms) {
+      score += getScoreContributionFromSearchTerm(text, searchTerm);
+    }
+    if (normStr != null) {
+      score += getScoreContributionFromNormStr(text, normStr);
+    }
+    return score;
+  }
+
+  private static int getScoreContributionFromSearchTerm(ScoringText text, String searchTerm) {
+    int score = 0;
+    if (text.identifier().equals(searchTerm)) score += 8;
+    if (text.identifier().startsWith(searchTerm)) score += 5;
+    if (text.identifier().contains(searchTerm)) score += 2;
+
+    if (text.text().startsWith(searchTerm)) score += 5;
+    for (String textPart : text.textParts()) {
+      if (textPart.equals(searchTerm)) score += 4;
+      if (textPart.startsWith(searchTerm)) score += 3;
+      if (textPart.contains(searchTerm)) score += 1;
+    }
+    return score;
+  }
+
+  private static int getScoreContributionFromNormStr(ScoringText text, String normStr) {
+    int score = 0;
+    for (int i = 0; i < text.normDescriptions().size(); i++) {
+      String description = text.normDescriptions().get(i);
+      if (description.equals(normStr)) score += 8;
+      if (description.startsWith(normStr)) score += 5;
+      if (text.normTexts().get(i).contains(normStr)) score += 5;
+    }
+    return score;
+  }
+
+  private static String normalize(String value) {
+    return value == null ? "" : value.toLowerCase(Locale.GERMAN);
+  }
+
+  /**
+   * Lowercase texts of a field of law which are compared with the search terms and the norm string.
+   *
+   * @param identifier the identifier
+   * @param text the text
+   * @param textParts the words of the text, split by whitespace and hyphen
+   * @param normDescriptions the single norm descriptions of the norms
+   * @param normTexts the single norm descriptions followed by the abbreviations of the norms
+   */
+  record ScoringText(
+      String identifier,
+      String text,
+      List<String> textParts,
+      List<String> normDescriptions,
+      List<String> normTexts) {
+
+    static ScoringText of(FieldOfLaw fieldOfLaw) {
+      String text = normalize(fieldOfLaw.text());
+      List<Norm> norms = Objects.requireNonNullElse(fieldOfLaw.norms(), List.of());
+
+      return new ScoringText(
+          normalize(fieldOfLaw.identifier()),
+          text,
+          List.of(text.split("[\\s-]+")),
+          norms.stream().map(norm -> normalize(norm.singleNormDescription())).toList(),
+          norms.stream()
+              .map(
+                  norm ->
+                      normalize(norm.singleNormDescription())
+                          + " "
+                          + normalize(norm.abbreviation()))
+              .toList());
+    }
+  }
+}
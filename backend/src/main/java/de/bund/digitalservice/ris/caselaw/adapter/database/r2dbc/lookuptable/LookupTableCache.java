@@ -0,0 +1,259 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable;
+
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentationOfficeRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentationOfficeDTO;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * In-process cache of the small lookup tables which are needed to load and save documentation
+ * units: document types, courts, states, citation styles and documentation offices. All tables are
+ * loaded together at the start of the application and indexed by their id and their natural key.
+ *
+ * <p>The cache also holds the search indexes of the courts and of the caselaw document types, which
+ * answer the autocomplete of the comboboxes.
+ *
+ * <p>The cache is reloaded after an import of a lookup table and at the latest after one hour. A
+ * lookup which misses the cache is answered by the database, so rows which were inserted after the
+ * last load are found too.
+ */
+@Component
+@Slf4j
+public class LookupTableCache {
+  private static final Duration MAX_AGE = Duration.ofHours(1);
+
+  private final DatabaseDocumentTypeRepository documentTypeRepository;
+  private final DatabaseCourtRepository courtRepository;
+  private final StateRepository stateRepository;
+  private final DatabaseCitationStyleRepository citationStyleRepository;
+  private final DatabaseDocumentationOfficeRepository documentationOfficeRepository;
+
+  private final AtomicReference<Mono<LookupTables>> lookupTables = new AtomicReference<>();
+
+  public LookupTableCache(
+      DatabaseDocumentTypeRepository documentTypeRepository,
+      DatabaseCourtRepository courtRepository,
+      StateRepository stateRepository,
+      DatabaseCitationStyleRepository citationStyleRepository,
+      DatabaseDocumentationOfficeRepository documentationOfficeRepository) {
+    this.documentTypeRepository = documentTypeRepository;
+    this.courtRepository = courtRepository;
+    this.stateRepository = stateRepository;
+    this.citationStyleRepository = citationStyleRepository;
+    this.documentationOfficeRepository = documentationOfficeRepository;
+    invalidate();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    getLookupTables()
+        .subscribe(
+            tables -> log.info("Lookup table cache loaded"),
+            ex -> log.error("Couldn't load the lookup table cache", ex));
+  }
+
+  /**
+   * Load the lookup tables again.
+   *
+   * @return a mono which completes when the lookup tables are loaded
+   */
+  public Mono<Void> reload() {
+    invalidate();
+    return getLookupTables().then();
+  }
+
+  /** Drop the loaded lookup tables. They are loaded again with the next lookup. */
+  public void invalidate() {
+    if (log.isDebugEnabled()) {
+      log.debug("invalidate lookup table cache");
+    }
+
+    lookupTables.set(
+        loadLookupTables().cache(tables -> MAX_AGE, ex -> Duration.ZERO, () -> Duration.ZERO));
+  }
+
+  public Mono<DocumentTypeDTO> findDocumentTypeById(Long id) {
+    return find(LookupTables::documentTypesById, id, documentTypeRepository::findById);
+  }
+
+  public Mono<DocumentTypeDTO> findDocumentTypeByJurisShortcut(String jurisShortcut) {
+    return find(
+        LookupTables::documentTypesByJurisShortcut,
+        jurisShortcut,
+        documentTypeRepository::findByJurisShortcut);
+  }
+
+  public Flux<DocumentTypeDTO> findAllDocumentTypesById(Collection<Long> ids) {
+    return Flux.fromIterable(ids).flatMap(this::findDocumentTypeById);
+  }
+
+  public Mono<CourtDTO> findCourtByTypeAndLocation(String type, String location) {
+    return find(
+        LookupTables::courtsByTypeAndLocation,
+        new CourtKey(type, location),
+        key -> courtRepository.findByCourttypeAndCourtlocation(type, location));
+  }
+
+  /**
+   * Search the courts like {@link DatabaseCourtRepository#findBySearchStr(String)}. Courts which
+   * were inserted after the last load of the cache aren't found.
+   *
+   * @param searchStr the search string
+   * @return the ranked courts
+   */
+  public Mono<List<CourtDTO>> searchCourts(String searchStr) {
+    return getLookupTables().map(tables -> tables.courtSearchIndex().search(searchStr));
+  }
+
+  /**
+   * Search the caselaw document types like {@link
+   * DatabaseDocumentTypeRepository#findCaselawBySearchStr(String)}. Document types which were
+   * inserted after the last load of the cache aren't found.
+   *
+   * @param searchStr the search string
+   * @return the ranked document types
+   */
+  public Mono<List<DocumentTypeDTO>> searchCaselawDocumentTypes(String searchStr) {
+    return getLookupTables()
+        .map(tables -> tables.caselawDocumentTypeSearchIndex().search(searchStr));
+  }
+
+  public Mono<StateDTO> findStateByJurisShortcut(String jurisShortcut) {
+    return find(
+        LookupTables::statesByJurisShortcut, jurisShortcut, stateRepository::findByJurisshortcut);
+  }
+
+  public Mono<CitationStyleDTO> findCitationStyleByUuid(UUID uuid) {
+    return find(LookupTables::citationStylesByUuid, uuid, citationStyleRepository::findByUuid);
+  }
+
+  public Flux<CitationStyleDTO> findAllCitationStylesByUuid(Collection<UUID> uuids) {
+    return Flux.fromIterable(uuids).flatMap(this::findCitationStyleByUuid);
+  }
+
+  public Mono<DocumentationOfficeDTO> findDocumentationOfficeById(UUID id) {
+    return find(
+        LookupTables::documentationOfficesById, id, documentationOfficeRepository::findById);
+  }
+
+  public Mono<DocumentationOfficeDTO> findDocumentationOfficeByLabel(String label) {
+    return find(
+        LookupTables::documentationOfficesByLabel,
+        label,
+        documentationOfficeRepository::findByLabel);
+  }
+
+  public Flux<DocumentationOfficeDTO> findAllDocumentationOfficesById(Collection<UUID> ids) {
+    return Flux.fromIterable(ids).flatMap(this::findDocumentationOfficeById);
+  }
+
+  private <K, V> Mono<V> find(
+      Function<LookupTables, Map<K, V>> index, K key, Function<K, Mono<V>> loader) {
+    if (key == null) {
+      return Mono.empty();
+    }
+
+    return getLookupTables()
+        .onErrorResume(
+            ex -> {
+              log.warn("Couldn't load the lookup table cache, use the database", ex);
+              return Mono.empty();
+            })
+        .mapNotNull(tables -> index.apply(tables).get(key))
+        .switchIfEmpty(Mono.defer(() -> loader.apply(key)));
+  }
+
+  private Mono<LookupTables> getLookupTables() {
+    return lookupTables.get();
+  }
+
+  private Mono<LookupTables> loadLookupTables() {
+    return Mono.defer(this::loadAllRows);
+  }
+
+  private Mono<LookupTables> loadAllRows() {
+    Mono<List<DocumentTypeDTO>> documentTypes = documentTypeRepository.findAll().collectList();
+    Mono<List<CourtDTO>> courts = courtRepository.findAll().collectList();
+    Mono<List<StateDTO>> states = stateRepository.findAll().collectList();
+    Mono<List<CitationStyleDTO>> citationStyles = citationStyleRepository.findAll().collectList();
+    Mono<List<DocumentationOfficeDTO>> documentationOffices =
+        documentationOfficeRepository.findAll().collectList();
+
+    return Mono.zip(documentTypes, courts, states, citationStyles, documentationOffices)
+        .map(
+            tuple ->
+                new LookupTables(
+                    index(tuple.getT1(), DocumentTypeDTO::getId),
+                    index(tuple.getT1(), DocumentTypeDTO::getJurisShortcut),
+                    index(
+                        tuple.getT2(),
+                        courtDTO ->
+                            new CourtKey(courtDTO.getCourttype(), courtDTO.getCourtlocation())),
+                    index(tuple.getT3(), StateDTO::getJurisshortcut),
+                    index(tuple.getT4(), CitationStyleDTO::getUuid),
+                    index(tuple.getT5(), DocumentationOfficeDTO::getId),
+                    index(tuple.getT5(), DocumentationOfficeDTO::getLabel),
+                    new LookupTableSearchIndex<>(
+                        tuple.getT2(),
+                        courtDTO ->
+                            concat(courtDTO.getCourttype(), courtDTO.getCourtlocation())),
+                    new LookupTableSearchIndex<>(
+                        tuple.getT1().stream()
+                            .filter(documentTypeDTO -> documentTypeDTO.getDocumentType() == 'R')
+                            .toList(),
+                        documentTypeDTO ->
+                            concat(
+                                documentTypeDTO.getJurisShortcut(), documentTypeDTO.getLabel()))));
+  }
+
+  /**
+   * Build an index of the given rows. Keys which are used by more than one row aren't indexed, so
+   * that the lookup of these keys behaves like the database query.
+   */
+  private static <K, V> Map<K, V> index(List<V> rows, Function<V, K> keyExtractor) {
+    Map<K, V> index = new HashMap<>();
+    Set<K> duplicates = new HashSet<>();
+    rows.forEach(
+        row -> {
+          K key = keyExtractor.apply(row);
+          if (key != null && index.putIfAbsent(key, row) != null) {
+            duplicates.add(key);
+          }
+        });
+    duplicates.forEach(index::remove);
+    return Map.copyOf(index);
+  }
+
+  /** Concatenate two columns with a space like the SQL function CONCAT, which ignores nulls. */
+  private static String concat(String first, String second) {
+    return Objects.toString(first, "") + " " + Objects.toString(second, "");
+  }
+
+  private record CourtKey(String type, String location) {}
+
+  private record LookupTables(
+      Map<Long, DocumentTypeDTO> documentTypesById,
+      Map<String, DocumentTypeDTO> documentTypesByJurisShortcut,
+      Map<CourtKey, CourtDTO> courtsByTypeAndLocation,
+      Map<String, StateDTO> statesByJurisShortcut,
+      Map<UUID, CitationStyleDTO> citationStylesByUuid,
+      Map<UUID, DocumentationOfficeDTO> documentationOfficesById,
+      Map<String, DocumentationOfficeDTO> documentationOfficesByLabel,
+      LookupTableSearchIndex<CourtDTO> courtSearchIndex,
+      LookupTableSearchIndex<DocumentTypeDTO> caselawDocumentTypeSearchIndex) {}
+}
@@ -0,0 +1,30 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.relational.core.mapping.Column;
+
+/** Projection of a document type which is linked to a norm abbreviation, with its category. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NormAbbreviationDocumentTypeInfoDTO {
+  private UUID normAbbreviationId;
+  private UUID documentTypeId;
+  private String abbreviation;
+  private String label;
+  private boolean multiple;
+
+  @Column("super_label_1")
+  private String superLabel1;
+
+  @Column("super_label_2")
+  private String superLabel2;
+
+  private UUID documentCategoryId;
+  private Character categoryLabel;
+}
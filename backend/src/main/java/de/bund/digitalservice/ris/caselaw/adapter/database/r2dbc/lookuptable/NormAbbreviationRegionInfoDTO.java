@@ -0,0 +1,19 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Projection of a region which is linked to a norm abbreviation. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NormAbbreviationRegionInfoDTO {
+  private UUID normAbbreviationId;
+  private UUID regionId;
+  private String code;
+  private String label;
+}
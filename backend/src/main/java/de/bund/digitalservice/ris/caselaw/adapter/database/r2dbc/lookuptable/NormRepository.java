@@ -1,5 +1,6 @@
 package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable;
 
+import java.util.Collection;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
@@ -11,4 +12,7 @@ public interface NormRepository extends R2dbcRepository<NormDTO, Long> {
 
   Flux<NormDTO> findAllByFieldOfLawIdOrderByAbbreviationAscSingleNormDescriptionAsc(
       Long fieldOfLawId);
+
+  Flux<NormDTO> findAllByFieldOfLawIdInOrderByAbbreviationAscSingleNormDescriptionAsc(
+      Collection<Long> fieldOfLawIds);
 }
@@ -3,20 +3,31 @@ package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.CourtTransformer;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.court.Court;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.court.CourtRepository;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 
 @Repository
+@Slf4j
 public class PostgresCourtRepositoryImpl implements CourtRepository {
   private final DatabaseCourtRepository repository;
+  private final LookupTableCache lookupTableCache;
+  private final boolean inMemorySearch;
 
-  public PostgresCourtRepositoryImpl(DatabaseCourtRepository repository) {
+  public PostgresCourtRepositoryImpl(
+      DatabaseCourtRepository repository,
+      LookupTableCache lookupTableCache,
+      @Value("${lookup-table.search.in-memory:true}") boolean inMemorySearch) {
     this.repository = repository;
+    this.lookupTableCache = lookupTableCache;
+    this.inMemorySearch = inMemorySearch;
   }
 
   @Override
   public Flux<Court> findBySearchStr(String searchString) {
-    return repository.findBySearchStr(searchString).map(CourtTransformer::transformDTO);
+    return searchCourts(searchString).map(CourtTransformer::transformDTO);
   }
 
   @Override
@@ -25,4 +36,19 @@ public class PostgresCourtRepositoryImpl implements CourtRepository {
         .findAllByOrderByCourttypeAscCourtlocationAsc()
         .map(CourtTransformer::transformDTO);
   }
+
+  private Flux<CourtDTO> searchCourts(String searchString) {
+    if (!inMemorySearch) {
+      return repository.findBySearchStr(searchString);
+    }
+
+    return lookupTableCache
+        .searchCourts(searchString)
+        .flatMapIterable(Function.identity())
+        .onErrorResume(
+            ex -> {
+              log.warn("Couldn't search the courts in memory, use the database", ex);
+              return repository.findBySearchStr(searchString);
+            });
+  }
 }
@@ -3,22 +3,31 @@ package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.DocumentTypeTransformer;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentTypeRepository;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.documenttype.DocumentType;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 
 @Repository
+@Slf4j
 public class PostgresDocumentTypeRepositoryImpl implements DocumentTypeRepository {
   private final DatabaseDocumentTypeRepository repository;
+  private final LookupTableCache lookupTableCache;
+  private final boolean inMemorySearch;
 
-  public PostgresDocumentTypeRepositoryImpl(DatabaseDocumentTypeRepository repository) {
+  public PostgresDocumentTypeRepositoryImpl(
+      DatabaseDocumentTypeRepository repository,
+      LookupTableCache lookupTableCache,
+      @Value("${lookup-table.search.in-memory:true}") boolean inMemorySearch) {
     this.repository = repository;
+    this.lookupTableCache = lookupTableCache;
+    this.inMemorySearch = inMemorySearch;
   }
 
   @Override
   public Flux<DocumentType> findCaselawBySearchStr(String searchString) {
-    return repository
-        .findCaselawBySearchStr(searchString)
-        .map(DocumentTypeTransformer::transformDTO);
+    return searchCaselawDocumentTypes(searchString).map(DocumentTypeTransformer::transformDTO);
   }
 
   @Override
@@ -27,4 +36,19 @@ public class PostgresDocumentTypeRepositoryImpl implements DocumentTypeRepositor
         .findAllByDocumentTypeOrderByJurisShortcutAscLabelAsc(shortcut)
         .map(DocumentTypeTransformer::transformDTO);
   }
+
+  private Flux<DocumentTypeDTO> searchCaselawDocumentTypes(String searchString) {
+    if (!inMemorySearch) {
+      return repository.findCaselawBySearchStr(searchString);
+    }
+
+    return lookupTableCache
+        .searchCaselawDocumentTypes(searchString)
+        .flatMapIterable(Function.identity())
+        .onErrorResume(
+            ex -> {
+              log.warn("Couldn't search the document types in memory, use the database", ex);
+              return repository.findCaselawBySearchStr(searchString);
+            });
+  }
 }
@@ -3,7 +3,11 @@ package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.NormAbbreviationTransformer;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.NormAbbreviation;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.NormAbbreviationRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
@@ -12,34 +16,27 @@ import reactor.core.publisher.Mono;
 @Repository
 public class PostgresNormAbbreviationRepositoryImpl implements NormAbbreviationRepository {
   private final DatabaseNormAbbreviationRepository repository;
-  private final DatabaseDocumentTypeNewRepository documentTypeRepository;
   private final DatabaseNormAbbreviationDocumentTypeRepository
       normAbbreviationDocumentTypeRepository;
-  private final DatabaseRegionRepository regionRepository;
   private final DatabaseNormAbbreviationRegionRepository normAbbreviationRegionRepository;
-  private final DatabaseDocumentCategoryRepository documentCategoryRepository;
 
   public PostgresNormAbbreviationRepositoryImpl(
       DatabaseNormAbbreviationRepository repository,
-      DatabaseDocumentTypeNewRepository documentTypeRepository,
       DatabaseNormAbbreviationDocumentTypeRepository normAbbreviationDocumentTypeRepository,
-      DatabaseRegionRepository regionRepository,
-      DatabaseNormAbbreviationRegionRepository normAbbreviationRegionRepository,
-      DatabaseDocumentCategoryRepository documentCategoryRepository) {
+      DatabaseNormAbbreviationRegionRepository normAbbreviationRegionRepository) {
 
     this.repository = repository;
-    this.documentTypeRepository = documentTypeRepository;
     this.normAbbreviationDocumentTypeRepository = normAbbreviationDocumentTypeRepository;
-    this.regionRepository = regionRepository;
     this.normAbbreviationRegionRepository = normAbbreviationRegionRepository;
-    this.documentCategoryRepository = documentCategoryRepository;
   }
 
   @Override
   public Mono<NormAbbreviation> findById(UUID id) {
     return repository
         .findById(id)
-        .flatMap(this::injectAdditionalInformation)
+        .flatMap(normAbbreviationDTO -> injectAdditionalInformation(List.of(normAbbreviationDTO)))
+        .flatMapIterable(list -> list)
+        .next()
         .map(NormAbbreviationTransformer::transformDTO);
   }
 
@@ -47,13 +44,15 @@ public class PostgresNormAbbreviationRepositoryImpl implements NormAbbreviationR
   public Flux<NormAbbreviation> findBySearchQuery(String query, Integer size, Integer pageOffset) {
     return repository
         .findBySearchQuery(query, size, pageOffset)
-        .flatMapSequential(this::injectAdditionalInformation)
+        .collectList()
+        .flatMap(this::injectAdditionalInformation)
+        .flatMapIterable(list -> list)
         .map(NormAbbreviationTransformer::transformDTO);
   }
 
   @Override
   public Mono<List<NormAbbreviation>> findByAwesomeSearchQuery(
-      String query, Integer size, Integer page) {
+      String query, Integer size, Integer pageOffset) {
     String cleanedQuery =
         query
             .trim()
@@ -79,76 +78,16 @@ public class PostgresNormAbbreviationRepositoryImpl implements NormAbbreviationR
       tsQuery.append(queryBlocks[i]).append(":*");
     }
 
+    Integer maxResults = null;
+    if (size != null) {
+      maxResults = pageOffset == null ? size : pageOffset + size;
+    }
+
     return repository
-        .findByAwesomeSearchQuery_rank4(directInput, size)
+        .findByAwesomeSearchQuery(directInput, tsQuery.toString(), maxResults, size, pageOffset)
         .collectList()
-        .flatMap(
-            list -> {
-              if (list.size() < size) {
-                return repository
-                    .findByAwesomeSearchQuery_rank3(directInput, size - list.size())
-                    .collectList()
-                    .map(
-                        rank3list -> {
-                          rank3list.stream().filter(e -> !list.contains(e)).forEach(list::add);
-                          return list;
-                        });
-              }
-              return Mono.just(list);
-            })
-        .flatMap(
-            list -> {
-              if (list.size() < size) {
-                return repository
-                    .findByAwesomeSearchQuery_rank2(directInput, size - list.size())
-                    .collectList()
-                    .map(
-                        rank2list -> {
-                          rank2list.stream().filter(e -> !list.contains(e)).forEach(list::add);
-                          return list;
-                        });
-              }
-              return Mono.just(list);
-            })
-        .flatMap(
-            list -> {
-              if (list.size() < size) {
-                return repository
-                    .findByAwesomeSearchQuery_rank1(directInput, size - list.size())
-                    .collectList()
-                    .map(
-                        rank1list -> {
-                          rank1list.stream().filter(e -> !list.contains(e)).forEach(list::add);
-                          return list;
-                        });
-              }
-              return Mono.just(list);
-            })
-        .flatMap(
-            list -> {
-              if (list.size() < size) {
-                return repository
-                    .findByAwesomeSearchQuery_rankWeightedVector(
-                        tsQuery.toString(), size - list.size())
-                    .collectList()
-                    .map(
-                        rankWeightedList -> {
-                          rankWeightedList.stream()
-                              .filter(e -> !list.contains(e))
-                              .forEach(list::add);
-                          return list;
-                        });
-              }
-              return Mono.just(list);
-            })
-        .flatMap(
-            list ->
-                Flux.fromIterable(list)
-                    .flatMapSequential(
-                        normAbbreviationDTO ->
-                            injectAdditionalInformation(normAbbreviationDTO)
-                                .map(NormAbbreviationTransformer::transformDTO))
-                    .collectList());
+        .flatMap(this::injectAdditionalInformation)
+        .map(list -> list.stream().map(NormAbbreviationTransformer::transformDTO).toList());
   }
 
   @Override
@@ -156,46 +95,65 @@ public class PostgresNormAbbreviationRepositoryImpl implements NormAbbreviationR
     return repository.refreshMaterializedViews();
   }
 
-  private Mono<NormAbbreviationDTO> injectAdditionalInformation(
-      NormAbbreviationDTO normAbbreviationDTO) {
-    Mono<List<DocumentTypeNewDTO>> documentTypes =
+  /**
+   * Load the document types and the regions of all given norm abbreviations with one statement
+   * each.
+   */
+  private Mono<List<NormAbbreviationDTO>> injectAdditionalInformation(
+      List<NormAbbreviationDTO> normAbbreviationDTOs) {
+    if (normAbbreviationDTOs.isEmpty()) {
+      return Mono.just(normAbbreviationDTOs);
+    }
+
+    List<UUID> ids = normAbbreviationDTOs.stream().map(NormAbbreviationDTO::getId).toList();
+
+    Mono<Map<UUID, Collection<DocumentTypeNewDTO>>> documentTypes =
         normAbbreviationDocumentTypeRepository
-            .findAllByNormAbbreviationId(normAbbreviationDTO.getId())
-            .flatMapSequential(
-                normAbbreviationDocumentTypeDTO ->
-                    documentTypeRepository
-                        .findById(normAbbreviationDocumentTypeDTO.getDocumentTypeId())
-                        .flatMap(this::injectCategoryLabel))
-            .collectList();
-    Mono<List<RegionDTO>> regions =
+            .findAllInfoByNormAbbreviationIds(ids)
+            .collectMultimap(
+                NormAbbreviationDocumentTypeInfoDTO::getNormAbbreviationId,
+                PostgresNormAbbreviationRepositoryImpl::transformDocumentType);
+    Mono<Map<UUID, Collection<RegionDTO>>> regions =
         normAbbreviationRegionRepository
-            .findAllByNormAbbreviationId(normAbbreviationDTO.getId())
-            .flatMapSequential(
-                normAbbreviationRegionDTO ->
-                    regionRepository.findById(normAbbreviationRegionDTO.getRegionId()))
-            .collectList();
+            .findAllInfoByNormAbbreviationIds(ids)
+            .collectMultimap(
+                NormAbbreviationRegionInfoDTO::getNormAbbreviationId,
+                PostgresNormAbbreviationRepositoryImpl::transformRegion);
 
     return Mono.zip(documentTypes, regions)
         .map(
             tuple -> {
-              normAbbreviationDTO.setDocumentTypes(tuple.getT1());
-              normAbbreviationDTO.setRegions(tuple.getT2());
+              for (NormAbbreviationDTO normAbbreviationDTO : normAbbreviationDTOs) {
+                UUID id = normAbbreviationDTO.getId();
+                normAbbreviationDTO.setDocumentTypes(
+                    new ArrayList<>(tuple.getT1().getOrDefault(id, Collections.emptyList())));
+                normAbbreviationDTO.setRegions(
+                    new ArrayList<>(tuple.getT2().getOrDefault(id, Collections.emptyList())));
+              }
 
-              return normAbbreviationDTO;
+              return normAbbreviationDTOs;
             });
   }
 
-  private Mono<DocumentTypeNewDTO> injectCategoryLabel(DocumentTypeNewDTO documentTypeNewDTO) {
-    if (documentTypeNewDTO == null || documentTypeNewDTO.getDocumentCategoryId() == null) {
-      return Mono.just(documentTypeNewDTO);
-    }
+  private static DocumentTypeNewDTO transformDocumentType(
+      NormAbbreviationDocumentTypeInfoDTO documentTypeInfoDTO) {
+    return DocumentTypeNewDTO.builder()
+        .id(documentTypeInfoDTO.getDocumentTypeId())
+        .abbreviation(documentTypeInfoDTO.getAbbreviation())
+        .label(documentTypeInfoDTO.getLabel())
+        .multiple(documentTypeInfoDTO.isMultiple())
+        .superLabel1(documentTypeInfoDTO.getSuperLabel1())
+        .superLabel2(documentTypeInfoDTO.getSuperLabel2())
+        .documentCategoryId(documentTypeInfoDTO.getDocumentCategoryId())
+        .categoryLabel(documentTypeInfoDTO.getCategoryLabel())
+        .build();
+  }
 
-    return documentCategoryRepository
-        .findById(documentTypeNewDTO.getDocumentCategoryId())
-        .map(
-            documentCategoryDTO -> {
-              documentTypeNewDTO.setCategoryLabel(documentCategoryDTO.getLabel());
-              return documentTypeNewDTO;
-            });
+  private static RegionDTO transformRegion(NormAbbreviationRegionInfoDTO regionInfoDTO) {
+    return RegionDTO.builder()
+        .id(regionInfoDTO.getRegionId())
+        .code(regionInfoDTO.getCode())
+        .label(regionInfoDTO.getLabel())
+        .build();
   }
 }
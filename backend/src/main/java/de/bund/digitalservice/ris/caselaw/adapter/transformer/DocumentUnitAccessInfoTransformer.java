@@ -0,0 +1,49 @@
+package de.bund.digitalservice.ris.caselaw.adapter.transformer;
+
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitAccessInfoDTO;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitAccessInfo;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitStatus;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
+import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class DocumentUnitAccessInfoTransformer {
+  private DocumentUnitAccessInfoTransformer() {}
+
+  public static DocumentUnitAccessInfo transformToDomain(DocumentUnitAccessInfoDTO accessInfoDTO) {
+    if (log.isDebugEnabled()) {
+      log.debug("transform '{}' to document unit access info", accessInfoDTO.getUuid());
+    }
+
+    DocumentationOffice documentationOffice = null;
+    if (accessInfoDTO.getDocumentationOfficeLabel() != null) {
+      documentationOffice =
+          DocumentationOffice.builder()
+              .label(accessInfoDTO.getDocumentationOfficeLabel())
+              .abbreviation(accessInfoDTO.getDocumentationOfficeAbbreviation())
+              .build();
+    }
+
+    DocumentUnitStatus status =
+        DocumentUnitStatus.builder()
+            .publicationStatus(PublicationStatus.PUBLISHED)
+            .withError(false)
+            .build();
+    if (accessInfoDTO.getPublicationStatus() != null) {
+      status =
+          DocumentUnitStatus.builder()
+              .publicationStatus(accessInfoDTO.getPublicationStatus())
+              .withError(Boolean.TRUE.equals(accessInfoDTO.getWithError()))
+              .build();
+    }
+
+    return DocumentUnitAccessInfo.builder()
+        .uuid(accessInfoDTO.getUuid())
+        .documentNumber(accessInfoDTO.getDocumentnumber())
+        .s3path(accessInfoDTO.getS3path())
+        .documentationOffice(documentationOffice)
+        .status(status)
+        .build();
+  }
+}
@@ -0,0 +1,67 @@
+package de.bund.digitalservice.ris.caselaw.adapter.transformer;
+
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitListEntryDTO;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitListEntry;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitStatus;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
+import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
+import de.bund.digitalservice.ris.caselaw.domain.lookuptable.documenttype.DocumentType;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class DocumentUnitListEntryTransformer {
+  private DocumentUnitListEntryTransformer() {}
+
+  public static DocumentUnitListEntry transformToDomain(DocumentUnitListEntryDTO listEntryDTO) {
+    if (log.isDebugEnabled()) {
+      log.debug("transform '{}' to document unit list entry", listEntryDTO.getUuid());
+    }
+
+    DocumentType documentType = null;
+    if (listEntryDTO.getDocumentTypeJurisShortcut() != null
+        || listEntryDTO.getDocumentTypeLabel() != null) {
+      documentType =
+          DocumentType.builder()
+              .jurisShortcut(listEntryDTO.getDocumentTypeJurisShortcut())
+              .label(listEntryDTO.getDocumentTypeLabel())
+              .build();
+    }
+
+    DocumentationOffice documentationOffice = null;
+    if (listEntryDTO.getDocumentationOfficeLabel() != null) {
+      documentationOffice =
+          DocumentationOffice.builder()
+              .label(listEntryDTO.getDocumentationOfficeLabel())
+              .abbreviation(listEntryDTO.getDocumentationOfficeAbbreviation())
+              .build();
+    }
+
+    DocumentUnitStatus status =
+        DocumentUnitStatus.builder()
+            .publicationStatus(PublicationStatus.PUBLISHED)
+            .withError(false)
+            .build();
+    if (listEntryDTO.getPublicationStatus() != null) {
+      status =
+          DocumentUnitStatus.builder()
+              .publicationStatus(listEntryDTO.getPublicationStatus())
+              .withError(Boolean.TRUE.equals(listEntryDTO.getWithError()))
+              .build();
+    }
+
+    return DocumentUnitListEntry.builder()
+        .uuid(listEntryDTO.getUuid())
+        .documentNumber(listEntryDTO.getDocumentnumber())
+        .creationTimestamp(listEntryDTO.getCreationtimestamp())
+        .dataSource(listEntryDTO.getDataSource())
+        .fileName(listEntryDTO.getFilename())
+        .fileNumber(listEntryDTO.getFileNumber())
+        .documentType(documentType)
+        .court(
+            DocumentUnitTransformer.getCourtObject(
+                listEntryDTO.getCourtType(), listEntryDTO.getCourtLocation()))
+        .documentationOffice(documentationOffice)
+        .status(status)
+        .build();
+  }
+}
@@ -5,6 +5,7 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DeviatingEcliDT
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitMetadataDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentationOfficeDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.FileConversionDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.FileNumberDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.IncorrectCourtDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.KeywordDTO;
@@ -16,6 +17,7 @@ import de.bund.digitalservice.ris.caselaw.domain.DataSource;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnit;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitNorm;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
+import de.bund.digitalservice.ris.caselaw.domain.FileConversion;
 import de.bund.digitalservice.ris.caselaw.domain.ProceedingDecision;
 import de.bund.digitalservice.ris.caselaw.domain.Texts;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.court.Court;
@@ -149,6 +151,19 @@ public class DocumentUnitTransformer {
     return DocumentationOfficeTransformer.transformDTO(documentationOfficeDTO);
   }
 
+  private static FileConversion transformFileConversion(FileConversionDTO fileConversionDTO) {
+    if (fileConversionDTO == null) {
+      return null;
+    }
+
+    return FileConversion.builder()
+        .s3path(fileConversionDTO.getS3path())
+        .durationInMilliseconds(fileConversionDTO.getDurationInMilliseconds())
+        .errorMessage(fileConversionDTO.getErrorMessage())
+        .convertedAt(fileConversionDTO.getConvertedAt())
+        .build();
+  }
+
   public static DocumentUnit transformMetadataToDomain(
       DocumentUnitMetadataDTO documentUnitMetadataDTO) {
 
@@ -347,6 +362,7 @@ public class DocumentUnitTransformer {
         .s3path(documentUnitDTO.getS3path())
         .filetype(documentUnitDTO.getFiletype())
         .filename(documentUnitDTO.getFilename())
+        .fileConversion(transformFileConversion(documentUnitDTO.getFileConversion()))
         .coreData(coreData)
         .proceedingDecisions(proceedingDecisions)
         .texts(texts)
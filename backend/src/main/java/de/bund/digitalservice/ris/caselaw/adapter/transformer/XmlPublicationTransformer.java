@@ -1,6 +1,8 @@
 package de.bund.digitalservice.ris.caselaw.adapter.transformer;
 
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.PublicationHistoryEntryDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.XmlPublicationDTO;
+import de.bund.digitalservice.ris.caselaw.domain.PublicationHistoryEntry;
 import de.bund.digitalservice.ris.caselaw.domain.XmlPublication;
 import java.util.Arrays;
 import java.util.UUID;
@@ -35,4 +37,20 @@ public class XmlPublicationTransformer {
         .fileName(xmlPublicationDTO.fileName())
         .build();
   }
+
+  public static PublicationHistoryEntry transformToDomain(PublicationHistoryEntryDTO entryDTO) {
+    return PublicationHistoryEntry.builder()
+        .id(entryDTO.getId())
+        .type(entryDTO.getType())
+        .date(entryDTO.getDate())
+        .receiverAddress(entryDTO.getReceiverAddress())
+        .mailSubject(entryDTO.getMailSubject())
+        .fileName(entryDTO.getFileName())
+        .statusCode(entryDTO.getStatusCode())
+        .statusMessages(
+            entryDTO.getStatusMessages() == null
+                ? null
+                : Arrays.stream(entryDTO.getStatusMessages().split("\\|")).toList())
+        .build();
+  }
 }
@@ -5,15 +5,24 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import de.bund.digitalservice.ris.caselaw.adapter.JurisXmlExporterWrapper;
 import de.bund.digitalservice.ris.caselaw.adapter.MockXmlExporter;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.BucketDocxConversionStore;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DirectoryDocxConversionStore;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConversionCache;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConversionStore;
 import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConverter;
 import de.bund.digitalservice.ris.caselaw.domain.XmlExporter;
+import java.nio.file.Path;
 import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 
 @Configuration
 public class ConverterConfig {
@@ -22,6 +31,47 @@ public class ConverterConfig {
     return new DocxConverter();
   }
 
+  /**
+   * Scheduler for the conversion of docx files. Loading and converting a docx file is blocking and
+   * cpu intensive, so it must not run on the event loop. The number of threads and of waiting
+   * conversions is limited. If the queue is full, further conversions are rejected.
+   *
+   * @param threads maximal number of concurrent conversions
+   * @param queueSize maximal number of waiting conversions per thread
+   * @return the conversion scheduler
+   */
+  @Bean(destroyMethod = "dispose")
+  public Scheduler docxConversionScheduler(
+      @Value("${docx.conversion.threads:4}") int threads,
+      @Value("${docx.conversion.queue-size:10}") int queueSize) {
+    return Schedulers.newBoundedElastic(threads, queueSize, "docx-conversion");
+  }
+
+  /**
+   * Cache for the html of converted docx files. The second tier of the cache is chosen by the
+   * property docx.conversion.cache.store: 'bucket' stores the html in the bucket of the original
+   * files below the prefix docx.conversion.cache.bucket-prefix, 'directory' stores it in a local
+   * directory. Without the property only the memory cache is used.
+   */
+  @Bean
+  public DocxConversionCache docxConversionCache(
+      S3AsyncClient s3AsyncClient,
+      @Value("${otc.obs.bucket-name}") String bucketName,
+      @Value("${docx.conversion.cache.max-size:100000000}") long maxSize,
+      @Value("${docx.conversion.cache.store:none}") String store,
+      @Value("${docx.conversion.cache.bucket-prefix:converted/}") String bucketPrefix,
+      @Value("${docx.conversion.cache.directory:.local-storage/converted}") Path directory) {
+
+    DocxConversionStore conversionStore =
+        switch (store) {
+          case "bucket" -> new BucketDocxConversionStore(s3AsyncClient, bucketName, bucketPrefix);
+          case "directory" -> new DirectoryDocxConversionStore(directory);
+          default -> null;
+        };
+
+    return new DocxConversionCache(maxSize, conversionStore);
+  }
+
   @Bean
   public DocumentBuilderFactory documentBuilderFactory() {
     DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
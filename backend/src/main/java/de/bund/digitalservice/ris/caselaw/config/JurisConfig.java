@@ -12,6 +12,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 @Configuration
 public class JurisConfig {
@@ -43,6 +45,21 @@ public class JurisConfig {
     return new JurisStub(mailboxUsername, mailboxPassword);
   }
 
+  /**
+   * Scheduler for the blocking calls of the mail sender, so that sending the publication mails
+   * doesn't block the event loop.
+   *
+   * @param threads maximal number of concurrently sent mails
+   * @param queueSize maximal number of waiting mails per thread
+   * @return the mail scheduler
+   */
+  @Bean(destroyMethod = "dispose")
+  public Scheduler publicationMailScheduler(
+      @Value("${mail.exporter.outbox.concurrency:4}") int threads,
+      @Value("${mail.exporter.outbox.batch-size:20}") int queueSize) {
+    return Schedulers.newBoundedElastic(threads, queueSize, "publication-mail");
+  }
+
   @Bean
   public Class<ImportMessageWrapper> importMessageHandler() {
     return ImportMessageWrapper.class;
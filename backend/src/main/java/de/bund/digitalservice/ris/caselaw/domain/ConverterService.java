@@ -1,8 +1,14 @@
 package de.bund.digitalservice.ris.caselaw.domain;
 
 import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
+import java.nio.ByteBuffer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface ConverterService {
   Mono<Docx2Html> getConvertedObject(String fileName);
+
+  Flux<ByteBuffer> getConvertedHtml(String fileName);
+
+  Mono<Void> invalidateConvertedObject(String fileName);
 }
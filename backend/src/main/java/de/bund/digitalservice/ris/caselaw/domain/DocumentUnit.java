@@ -19,6 +19,7 @@ public record DocumentUnit(
     String s3path,
     String filetype,
     String filename,
+    FileConversion fileConversion,
     @Valid CoreData coreData,
     List<ProceedingDecision> proceedingDecisions,
     Texts texts,
@@ -0,0 +1,21 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * The information of a documentation unit which is needed to check the access of a user to it.
+ *
+ * @param uuid the uuid of the documentation unit
+ * @param documentNumber the document number of the documentation unit
+ * @param s3path the key of the attached docx file in the bucket, null if no file is attached
+ * @param documentationOffice the documentation office which owns the documentation unit
+ * @param status the latest status of the documentation unit, null for legacy documentation units
+ */
+@Builder
+public record DocumentUnitAccessInfo(
+    UUID uuid,
+    String documentNumber,
+    String s3path,
+    DocumentationOffice documentationOffice,
+    DocumentUnitStatus status) {}
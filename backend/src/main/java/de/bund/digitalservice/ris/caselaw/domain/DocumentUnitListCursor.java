@@ -0,0 +1,46 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import lombok.Builder;
+
+/**
+ * Position in the list of documentation units ordered by creation timestamp and id. The next page
+ * starts with the first documentation unit after this position.
+ */
+@Builder
+public record DocumentUnitListCursor(Instant creationTimestamp, Long id) {
+  private static final String SEPARATOR = "|";
+
+  /**
+   * Encode the cursor into an opaque string which can be handed out to the client.
+   *
+   * @return url safe representation of the cursor
+   */
+  public String encode() {
+    String value = creationTimestamp.toString() + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decode a cursor which was created by {@link #encode()}.
+   *
+   * @param cursor the encoded cursor
+   * @return the decoded cursor
+   * @throws IllegalArgumentException if the cursor can't be decoded
+   */
+  public static DocumentUnitListCursor decode(String cursor) {
+    try {
+      String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separatorIndex = value.lastIndexOf(SEPARATOR);
+      return new DocumentUnitListCursor(
+          Instant.parse(value.substring(0, separatorIndex)),
+          Long.parseLong(value.substring(separatorIndex + 1)));
+    } catch (RuntimeException ex) {
+      throw new IllegalArgumentException("Couldn't decode document unit list cursor", ex);
+    }
+  }
+}
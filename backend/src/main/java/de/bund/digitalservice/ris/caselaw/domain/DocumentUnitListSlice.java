@@ -0,0 +1,15 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * One page of the keyset paginated list of documentation units.
+ *
+ * @param content the documentation units of the page
+ * @param nextCursor cursor of the next page, null if this is the last page
+ * @param totalElements cached total number of documentation units, null if not requested
+ */
+@Builder(toBuilder = true)
+public record DocumentUnitListSlice(
+    List<DocumentUnitListEntry> content, String nextCursor, Long totalElements) {}
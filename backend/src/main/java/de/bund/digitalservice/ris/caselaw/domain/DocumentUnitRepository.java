@@ -13,6 +13,10 @@ public interface DocumentUnitRepository {
 
   Mono<DocumentUnit> findByUuid(UUID uuid);
 
+  Mono<DocumentUnitAccessInfo> findAccessInfoByUuid(UUID uuid);
+
+  Mono<DocumentUnitAccessInfo> findAccessInfoByDocumentNumber(String documentNumber);
+
   Mono<DocumentUnit> createNewDocumentUnit(
       String documentNumber, DocumentationOffice documentationOffice);
 
@@ -23,6 +27,8 @@ public interface DocumentUnitRepository {
 
   Mono<DocumentUnit> removeFile(UUID documentUnitId);
 
+  Mono<Void> saveFileConversion(UUID documentUnitUuid, FileConversion fileConversion);
+
   Mono<Void> delete(DocumentUnit documentUnit);
 
   <T extends LinkedDocumentationUnit> Flux<T> searchByLinkedDocumentationUnit(
@@ -37,6 +43,9 @@ public interface DocumentUnitRepository {
 
   Flux<DocumentUnitListEntry> findAll(Pageable pageable, DocumentationOffice documentationOfficeId);
 
+  Mono<DocumentUnitListSlice> findAllAfter(
+      DocumentUnitListCursor cursor, int pageSize, DocumentationOffice documentationOffice);
+
   <T extends LinkedDocumentationUnit>
       Flux<T> findAllLinkedDocumentUnitsByParentDocumentUnitUuidAndType(
           UUID parentDocumentUnitUuid, DocumentationUnitLinkType type);
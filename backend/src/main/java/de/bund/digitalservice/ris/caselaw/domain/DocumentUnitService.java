@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.zip.ZipEntry;
@@ -45,6 +46,7 @@ import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 @Service
 @Slf4j
 public class DocumentUnitService {
+  private static final Duration LIST_COUNT_CACHE_DURATION = Duration.ofMinutes(1);
 
   private final DocumentUnitRepository repository;
   private final PublicationReportRepository publicationReportRepository;
@@ -52,7 +54,10 @@ public class DocumentUnitService {
   private final S3AsyncClient s3AsyncClient;
   private final EmailPublishService publicationService;
   private final DocumentUnitStatusService documentUnitStatusService;
+  private final ConverterService converterService;
+  private final FileConversionService fileConversionService;
   private final Validator validator;
+  private final Map<DocumentationOffice, Mono<Long>> listCountCache = new ConcurrentHashMap<>();
 
   @Value("${otc.obs.bucket-name}")
   private String bucketName;
@@ -67,6 +72,8 @@ public class DocumentUnitService {
       EmailPublishService publicationService,
       DocumentUnitStatusService documentUnitStatusService,
       PublicationReportRepository publicationReportRepository,
+      ConverterService converterService,
+      FileConversionService fileConversionService,
       Validator validator) {
 
     this.repository = repository;
@@ -75,6 +82,8 @@ public class DocumentUnitService {
     this.publicationService = publicationService;
     this.documentUnitStatusService = documentUnitStatusService;
     this.publicationReportRepository = publicationReportRepository;
+    this.converterService = converterService;
+    this.fileConversionService = fileConversionService;
     this.validator = validator;
   }
 
@@ -108,7 +117,15 @@ public class DocumentUnitService {
                     fileName,
                     documentUnit.documentNumber()))
         .flatMap(
-            documentUnit -> repository.attachFile(documentUnitUuid, fileUuid, "docx", fileName))
+            documentUnit ->
+                converterService
+                    .invalidateConvertedObject(documentUnit.s3path())
+                    .then(repository.attachFile(documentUnitUuid, fileUuid, "docx", fileName)))
+        .flatMap(
+            documentUnit ->
+                fileConversionService
+                    .requestConversion(documentUnitUuid, fileUuid)
+                    .thenReturn(documentUnit))
         .doOnError(ex -> log.error("Couldn't upload the file to bucket", ex));
   }
 
@@ -120,7 +137,12 @@ public class DocumentUnitService {
               var fileUuid = documentUnit.s3path();
               return deleteObjectFromBucket(fileUuid)
                   .doOnNext(
-                      deleteObjectResponse -> log.debug("deleted file {} in bucket", fileUuid));
+                      deleteObjectResponse -> log.debug("deleted file {} in bucket", fileUuid))
+                  .flatMap(
+                      deleteObjectResponse ->
+                          converterService
+                              .invalidateConvertedObject(fileUuid)
+                              .thenReturn(deleteObjectResponse));
             })
         .doOnNext(response -> log.debug("removed file from DocumentUnitDTO {}", documentUnitId))
         .flatMap(response -> repository.removeFile(documentUnitId))
@@ -198,6 +220,43 @@ public class DocumentUnitService {
         .map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()));
   }
 
+  /**
+   * Get one page of the documentation units of the start page by keyset pagination.
+   *
+   * @param cursor cursor of the page returned with the previous page, null for the first page
+   * @param pageSize number of documentation units of the page
+   * @param withCount if true, the total number of documentation units is added. The number is
+   *     cached per documentation office for a short time and can therefore be slightly outdated.
+   * @param documentationOffice documentation office of the user
+   * @return the page of documentation units
+   */
+  public Mono<DocumentUnitListSlice> getAllAfter(
+      DocumentUnitListCursor cursor,
+      int pageSize,
+      boolean withCount,
+      DocumentationOffice documentationOffice) {
+    Mono<DocumentUnitListSlice> slice =
+        repository.findAllAfter(cursor, pageSize, documentationOffice);
+
+    if (!withCount) {
+      return slice;
+    }
+
+    return slice
+        .zipWith(getCachedListCount(documentationOffice))
+        .map(tuple -> tuple.getT1().toBuilder().totalElements(tuple.getT2()).build());
+  }
+
+  private Mono<Long> getCachedListCount(DocumentationOffice documentationOffice) {
+    return listCountCache.computeIfAbsent(
+        documentationOffice,
+        office ->
+            repository
+                .countByDataSourceAndDocumentationOffice(DataSource.NEURIS, office)
+                .defaultIfEmpty(0L)
+                .cache(LIST_COUNT_CACHE_DURATION, ex -> Duration.ZERO, () -> Duration.ZERO));
+  }
+
   public Mono<DocumentUnit> getByDocumentNumber(String documentNumber) {
     return repository.findByDocumentNumber(documentNumber);
   }
@@ -206,6 +265,14 @@ public class DocumentUnitService {
     return repository.findByUuid(documentUnitUuid);
   }
 
+  public Mono<DocumentUnitAccessInfo> getAccessInfoByUuid(UUID documentUnitUuid) {
+    return repository.findAccessInfoByUuid(documentUnitUuid);
+  }
+
+  public Mono<DocumentUnitAccessInfo> getAccessInfoByDocumentNumber(String documentNumber) {
+    return repository.findAccessInfoByDocumentNumber(documentNumber);
+  }
+
   public Mono<String> deleteByUuid(UUID documentUnitUuid) {
     AtomicInteger documentUnitsThisOneIsAChildOf = new AtomicInteger();
 
@@ -379,6 +446,23 @@ public class DocumentUnitService {
         .sort(Comparator.comparing(PublicationHistoryRecord::getDate).reversed());
   }
 
+  public Mono<Page<PublicationHistoryEntry>> getPublicationHistory(
+      UUID documentUuid, Pageable pageable) {
+    return publicationService
+        .getPublicationHistory(documentUuid, pageable)
+        .collectList()
+        .zipWith(publicationService.countPublicationHistory(documentUuid))
+        .map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()));
+  }
+
+  public Mono<XmlPublication> getPublication(UUID documentUuid, Long publicationId) {
+    return publicationService.getPublication(documentUuid, publicationId);
+  }
+
+  public Mono<PublicationReport> getPublicationReport(UUID documentUuid, UUID reportUuid) {
+    return publicationReportRepository.getByUuid(documentUuid, reportUuid);
+  }
+
   public <T extends LinkedDocumentationUnit> Mono<Page<T>> searchByLinkedDocumentationUnit(
       T linkedDocumentationUnit, Pageable pageable) {
 
@@ -1,6 +1,7 @@
 package de.bund.digitalservice.ris.caselaw.domain;
 
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -8,4 +9,10 @@ public interface EmailPublishService {
   Mono<XmlPublication> publish(DocumentUnit documentUnit, String receiverAddress);
 
   Flux<Publication> getPublications(UUID documentUnitUuid);
+
+  Mono<XmlPublication> getPublication(UUID documentUnitUuid, Long id);
+
+  Flux<PublicationHistoryEntry> getPublicationHistory(UUID documentUnitUuid, Pageable pageable);
+
+  Mono<Long> countPublicationHistory(UUID documentUnitUuid);
 }
@@ -3,6 +3,7 @@ package de.bund.digitalservice.ris.caselaw.domain;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.FieldOfLaw;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.NoRepositoryBean;
 import reactor.core.publisher.Flux;
@@ -28,11 +29,8 @@ public interface FieldOfLawRepository {
 
   Mono<Long> count();
 
-  Flux<FieldOfLaw> findBySearchTerms(String[] searchTerms);
-
-  Flux<FieldOfLaw> findByNormStr(String normStr);
-
-  Flux<FieldOfLaw> findByNormStrAndSearchTerms(String normStr, String[] searchTerms);
+  Mono<Page<FieldOfLaw>> findBySearchTermsAndNormStrOrderByScore(
+      String[] searchTerms, String normStr, Pageable pageable);
 
   Flux<FieldOfLaw> getAllLimitedOrderByIdentifierLength();
 
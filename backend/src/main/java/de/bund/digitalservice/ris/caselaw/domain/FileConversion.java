@@ -0,0 +1,16 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import java.time.Instant;
+import lombok.Builder;
+
+/**
+ * Result of the conversion of an attached docx file, which is done directly after the upload.
+ *
+ * @param s3path key of the converted file in the bucket
+ * @param durationInMilliseconds duration of the conversion
+ * @param errorMessage message of the conversion error, null if the conversion was successful
+ * @param convertedAt time of the conversion
+ */
+@Builder
+public record FileConversion(
+    String s3path, Long durationInMilliseconds, String errorMessage, Instant convertedAt) {}
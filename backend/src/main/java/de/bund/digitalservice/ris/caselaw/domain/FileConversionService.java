@@ -0,0 +1,18 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import java.util.UUID;
+import reactor.core.publisher.Mono;
+
+/** Converts attached files in the background directly after the upload. */
+public interface FileConversionService {
+
+  /**
+   * Queue the conversion of an attached file. The result of the conversion is saved for the
+   * documentation unit. A file which is already queued isn't queued again.
+   *
+   * @param documentUnitUuid the uuid of the documentation unit
+   * @param fileUuid the key of the attached file in the bucket
+   * @return an empty mono which completes when the conversion is queued
+   */
+  Mono<Void> requestConversion(UUID documentUnitUuid, String fileUuid);
+}
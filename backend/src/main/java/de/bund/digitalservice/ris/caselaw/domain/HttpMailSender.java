@@ -10,4 +10,19 @@ public interface HttpMailSender {
       String content,
       List<Attachment> attachments,
       String tag);
+
+  /**
+   * Send a mail which is delivered only once for the idempotency key, even if it is sent again,
+   * e.g. after a timeout. Mail senders without support for idempotency keys send the mail again.
+   */
+  default void sendMail(
+      String senderAddress,
+      String receiverAddress,
+      String subject,
+      String content,
+      List<Attachment> attachments,
+      String tag,
+      String idempotencyKey) {
+    sendMail(senderAddress, receiverAddress, subject, content, attachments, tag);
+  }
 }
@@ -0,0 +1,20 @@
+package de.bund.digitalservice.ris.caselaw.domain;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.Builder;
+
+/**
+ * Summary of a publication or a publication report in the publication history. The xml of a
+ * publication and the content of a report are loaded separately by the id of the entry.
+ */
+@Builder(toBuilder = true)
+public record PublicationHistoryEntry(
+    String id,
+    PublicationHistoryRecordType type,
+    Instant date,
+    String receiverAddress,
+    String mailSubject,
+    String fileName,
+    String statusCode,
+    List<String> statusMessages) {}
@@ -3,10 +3,13 @@ package de.bund.digitalservice.ris.caselaw.domain;
 import java.util.List;
 import java.util.UUID;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface PublicationReportRepository {
 
   Flux<PublicationReport> saveAll(List<PublicationReport> reports);
 
   Flux<PublicationReport> getAllByDocumentUnitUuid(UUID documentUnitUuid);
+
+  Mono<PublicationReport> getByUuid(UUID documentUnitUuid, UUID uuid);
 }
@@ -1,13 +1,37 @@
 package de.bund.digitalservice.ris.caselaw.domain;
 
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface XmlPublicationRepository {
   Mono<XmlPublication> save(XmlPublication xmlPublication);
 
+  /**
+   * Save the publication together with a pending mail to the receiver of the publication. The mail
+   * is sent in the background.
+   *
+   * @param xmlPublication the publication to save
+   * @return the saved publication
+   */
+  Mono<XmlPublication> saveWithPendingMail(XmlPublication xmlPublication);
+
   Flux<Publication> getPublicationsByDocumentUnitUuid(UUID documentUnitUuid);
 
   Mono<XmlPublication> getLastXmlPublication(UUID documentUnitUuid);
+
+  Mono<XmlPublication> getXmlPublication(UUID documentUnitUuid, Long id);
+
+  /**
+   * Get one page of the publication history of a documentation unit, newest first. The history
+   * contains the publications and the publication reports without their payload.
+   *
+   * @param documentUnitUuid the uuid of the documentation unit
+   * @param pageable the page to load
+   * @return the entries of the page
+   */
+  Flux<PublicationHistoryEntry> getPublicationHistory(UUID documentUnitUuid, Pageable pageable);
+
+  Mono<Long> countPublicationHistory(UUID documentUnitUuid);
 }
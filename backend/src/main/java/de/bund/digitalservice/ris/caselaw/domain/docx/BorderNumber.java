@@ -1,5 +1,6 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -18,22 +19,23 @@ public class BorderNumber implements DocumentUnitDocx {
 
   @Override
   public String toHtmlString() {
-    StringBuilder sb = new StringBuilder();
+    return DocumentUnitDocx.renderToString(this);
+  }
 
-    sb.append("<border-number>");
-    sb.append("<number>");
-    sb.append(number);
-    sb.append("</number>");
+  @Override
+  public void renderTo(Appendable appendable) throws IOException {
+    appendable.append("<border-number>");
+    appendable.append("<number>");
+    appendable.append(number);
+    appendable.append("</number>");
     if (!children.isEmpty()) {
-      sb.append("<content>");
+      appendable.append("<content>");
       for (DocumentUnitDocx child : children) {
-        sb.append(child.toHtmlString());
+        child.renderTo(appendable);
       }
-      sb.append("</content>");
+      appendable.append("</content>");
     }
-    sb.append("</border-number>");
-
-    return sb.toString();
+    appendable.append("</border-number>");
   }
 
   public void addChild(DocumentUnitDocx element) {
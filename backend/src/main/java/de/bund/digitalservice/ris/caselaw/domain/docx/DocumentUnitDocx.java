@@ -2,8 +2,39 @@ package de.bund.digitalservice.ris.caselaw.domain.docx;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 @JsonInclude(Include.NON_NULL)
 public interface DocumentUnitDocx {
   String toHtmlString();
+
+  /**
+   * Render the html of the element into the given appendable. Elements with children override this
+   * method and render their children into the same appendable, so that no intermediate strings of
+   * the children are created.
+   *
+   * @param appendable target of the html
+   * @throws IOException if the html couldn't be appended
+   */
+  default void renderTo(Appendable appendable) throws IOException {
+    appendable.append(toHtmlString());
+  }
+
+  /**
+   * Render the html of the element into a string. Used by the elements which implement {@link
+   * #renderTo(Appendable)} to implement {@link #toHtmlString()}.
+   *
+   * @param element element to render
+   * @return the html of the element
+   */
+  static String renderToString(DocumentUnitDocx element) {
+    StringBuilder sb = new StringBuilder();
+    try {
+      element.renderTo(sb);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return sb.toString();
+  }
 }
@@ -1,6 +1,7 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
 import java.awt.Dimension;
+import java.io.IOException;
 
 public class InlineImageElement extends StyledElement implements RunElement {
   private String contentType;
@@ -42,27 +43,36 @@ public class InlineImageElement extends StyledElement implements RunElement {
 
   @Override
   public String toHtmlString() {
+    return DocumentUnitDocx.renderToString(this);
+  }
+
+  @Override
+  public void renderTo(Appendable appendable) throws IOException {
     if (contentType == null || base64Representation == null) {
-      return "<span style=\"color: #FF0000;\">no image information</span>";
+      appendable.append("<span style=\"color: #FF0000;\">no image information</span>");
+      return;
     }
 
-    String html =
-        "<img src=\"data:"
-            + contentType
-            + ";base64, "
-            + base64Representation
-            + "\""
-            + (alternateText != null ? " alt=\"" + alternateText + "\"" : "");
+    appendable.append("<img src=\"data:");
+    appendable.append(contentType);
+    appendable.append(";base64, ");
+    appendable.append(base64Representation);
+    appendable.append("\"");
+    if (alternateText != null) {
+      appendable.append(" alt=\"").append(alternateText).append("\"");
+    }
 
     if (size != null) {
-      html += size.width > 0 ? " width=\"" + size.width + "\"" : "";
-      html += size.height > 0 ? " height=\"" + size.height + "\"" : "";
+      if (size.width > 0) {
+        appendable.append(" width=\"").append(String.valueOf(size.width)).append("\"");
+      }
+      if (size.height > 0) {
+        appendable.append(" height=\"").append(String.valueOf(size.height)).append("\"");
+      }
     }
 
-    html += super.getStyleString();
-
-    html += " />";
+    appendable.append(super.getStyleString());
 
-    return html;
+    appendable.append(" />");
   }
 }
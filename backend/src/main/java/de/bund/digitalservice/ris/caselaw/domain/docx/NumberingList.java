@@ -1,5 +1,6 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -29,70 +30,70 @@ public class NumberingList implements DocumentUnitDocx {
 
   @Override
   public String toHtmlString() {
-    StringBuilder sb = new StringBuilder();
+    return DocumentUnitDocx.renderToString(this);
+  }
+
+  @Override
+  public void renderTo(Appendable appendable) throws IOException {
     LinkedList<String> closeTags = new LinkedList<>();
-    int[] cLvl = {-1};
+    int cLvl = -1;
     List<DocumentUnitNumberingListNumberFormat> currentNumberFormat = new ArrayList<>();
     HashMap<Integer, Index> lvlTextIndex = new HashMap<>();
 
-    entries.forEach(
-        entry -> {
-          boolean resetLvlText = false;
-          /*Get level of list entry*/
-          int lvl = stringToInt(entry.numberingListEntryIndex().iLvl(), 0);
-
-          /*Open new List if change number format at lv 0*/
-          if (shouldCreateNewList(
-              cLvl[0], lvl, currentNumberFormat, entry.numberingListEntryIndex().numberFormat())) {
-            while (!closeTags.isEmpty()) {
-              sb.append(closeTags.removeFirst());
-            }
-            sb.append(getOpenListTag(entry.numberingListEntryIndex()));
-            closeTags.addFirst(getCloseListTag(entry.numberingListEntryIndex().numberFormat()));
-            cLvl[0] = lvl;
-            resetLvlText = true;
-          }
-
-          /* Open list/sub-list Tag*/
-          while (lvl > cLvl[0]) {
-            sb.append(getOpenListTag(entry.numberingListEntryIndex()));
-            closeTags.addFirst(getCloseListTag(entry.numberingListEntryIndex().numberFormat()));
-            cLvl[0]++;
-            resetLvlText = true;
-          }
-
-          /* Close list/sub-list Tag*/
-          while (lvl < cLvl[0]) {
-            sb.append(closeTags.removeFirst());
-            cLvl[0]--;
-          }
-
-          if (entry.numberingListEntryIndex().isLgl()) {
-            sb.append("<li style=\"list-style-type:decimal\">")
-                .append(entry.toHtmlString())
-                .append("</li>");
-          } else {
-            String strIndex =
-                getIndexWithFormat(
-                    lvlTextIndex, resetLvlText, cLvl[0], entry.numberingListEntryIndex());
-            sb.append("<li style=\"display:table-row\">")
-                .append(strIndex)
-                .append(entry.toHtmlString())
-                .append("</li>");
-          }
-
-          if (!currentNumberFormat.isEmpty()) {
-            currentNumberFormat.remove(0);
-          }
-          currentNumberFormat.add(entry.numberingListEntryIndex().numberFormat());
-          cLvl[0] = lvl;
-        });
+    for (NumberingListEntry entry : entries) {
+      boolean resetLvlText = false;
+      /*Get level of list entry*/
+      int lvl = stringToInt(entry.numberingListEntryIndex().iLvl(), 0);
+
+      /*Open new List if change number format at lv 0*/
+      if (shouldCreateNewList(
+          cLvl, lvl, currentNumberFormat, entry.numberingListEntryIndex().numberFormat())) {
+        while (!closeTags.isEmpty()) {
+          appendable.append(closeTags.removeFirst());
+        }
+        appendable.append(getOpenListTag(entry.numberingListEntryIndex()));
+        closeTags.addFirst(getCloseListTag(entry.numberingListEntryIndex().numberFormat()));
+        cLvl = lvl;
+        resetLvlText = true;
+      }
+
+      /* Open list/sub-list Tag*/
+      while (lvl > cLvl) {
+        appendable.append(getOpenListTag(entry.numberingListEntryIndex()));
+        closeTags.addFirst(getCloseListTag(entry.numberingListEntryIndex().numberFormat()));
+        cLvl++;
+        resetLvlText = true;
+      }
+
+      /* Close list/sub-list Tag*/
+      while (lvl < cLvl) {
+        appendable.append(closeTags.removeFirst());
+        cLvl--;
+      }
+
+      if (entry.numberingListEntryIndex().isLgl()) {
+        appendable.append("<li style=\"list-style-type:decimal\">");
+        entry.renderTo(appendable);
+        appendable.append("</li>");
+      } else {
+        String strIndex =
+            getIndexWithFormat(lvlTextIndex, resetLvlText, cLvl, entry.numberingListEntryIndex());
+        appendable.append("<li style=\"display:table-row\">").append(strIndex);
+        entry.renderTo(appendable);
+        appendable.append("</li>");
+      }
+
+      if (!currentNumberFormat.isEmpty()) {
+        currentNumberFormat.remove(0);
+      }
+      currentNumberFormat.add(entry.numberingListEntryIndex().numberFormat());
+      cLvl = lvl;
+    }
 
     /* Close all list/sub-list tag when last element*/
     while (!closeTags.isEmpty()) {
-      sb.append(closeTags.removeFirst());
+      appendable.append(closeTags.removeFirst());
     }
-    return sb.toString();
   }
 
   public enum DocumentUnitNumberingListNumberFormat {
@@ -1,5 +1,7 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
+import java.io.IOException;
+
 public record NumberingListEntry(
     DocumentUnitDocx paragraphElement, NumberingListEntryIndex numberingListEntryIndex)
     implements DocumentUnitDocx {
@@ -7,4 +9,9 @@ public record NumberingListEntry(
   public String toHtmlString() {
     return paragraphElement.toHtmlString();
   }
+
+  @Override
+  public void renderTo(Appendable appendable) throws IOException {
+    paragraphElement.renderTo(appendable);
+  }
 }
@@ -1,5 +1,6 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -29,19 +30,22 @@ public class ParagraphElement extends TextElement {
 
   @Override
   public String toHtmlString() {
-    StringBuilder sb = new StringBuilder("<p");
+    return DocumentUnitDocx.renderToString(this);
+  }
+
+  @Override
+  public void renderTo(Appendable appendable) throws IOException {
+    appendable.append("<p");
 
     if (clearfix) {
-      sb.append(" class=\"clearfix\"");
+      appendable.append(" class=\"clearfix\"");
     }
-    sb.append(getStyleString());
-    sb.append(">");
+    appendable.append(getStyleString());
+    appendable.append(">");
 
     for (RunElement element : runElements) {
-      sb.append(element.toHtmlString());
+      element.renderTo(appendable);
     }
-    sb.append("</p>");
-
-    return sb.toString();
+    appendable.append("</p>");
   }
 }
@@ -1,5 +1,7 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
+import java.io.IOException;
+
 public class RunTextElement extends TextElement implements RunElement {
   private String text;
 
@@ -13,22 +15,23 @@ public class RunTextElement extends TextElement implements RunElement {
 
   @Override
   public String toHtmlString() {
-    StringBuilder sb = new StringBuilder();
+    return DocumentUnitDocx.renderToString(this);
+  }
 
+  @Override
+  public void renderTo(Appendable appendable) throws IOException {
     boolean hasStyle = hasStyle();
     if (hasStyle) {
-      sb.append("<span");
-      sb.append(getStyleString());
-      sb.append(">");
+      appendable.append("<span");
+      appendable.append(getStyleString());
+      appendable.append(">");
     }
 
-    sb.append(text);
+    appendable.append(text);
 
     if (hasStyle) {
-      sb.append("</span>");
+      appendable.append("</span>");
     }
-
-    return sb.toString();
   }
 
   @Override
@@ -1,7 +1,7 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
+import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class TableCellElement extends BlockElement implements DocumentUnitDocx {
   public final List<DocumentUnitDocx> paragraphElements;
@@ -29,14 +29,18 @@ public class TableCellElement extends BlockElement implements DocumentUnitDocx {
 
   @Override
   public String toHtmlString() {
+    return DocumentUnitDocx.renderToString(this);
+  }
 
-    return "<td"
-        + columnSpanToHtmlString()
-        + super.getStyleString()
-        + ">"
-        + paragraphElements.stream()
-            .map(DocumentUnitDocx::toHtmlString)
-            .collect(Collectors.joining())
-        + "</td>";
+  @Override
+  public void renderTo(Appendable appendable) throws IOException {
+    appendable.append("<td");
+    appendable.append(columnSpanToHtmlString());
+    appendable.append(super.getStyleString());
+    appendable.append(">");
+    for (DocumentUnitDocx paragraphElement : paragraphElements) {
+      paragraphElement.renderTo(appendable);
+    }
+    appendable.append("</td>");
   }
 }
@@ -1,7 +1,7 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
+import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class TableElement extends BlockElement implements DocumentUnitDocx {
   public final List<TableRowElement> rows;
@@ -13,10 +13,17 @@ public class TableElement extends BlockElement implements DocumentUnitDocx {
 
   @Override
   public String toHtmlString() {
-    return "<table"
-        + super.getStyleString()
-        + ">"
-        + rows.stream().map(TableRowElement::toHtmlString).collect(Collectors.joining())
-        + "</table>";
+    return DocumentUnitDocx.renderToString(this);
+  }
+
+  @Override
+  public void renderTo(Appendable appendable) throws IOException {
+    appendable.append("<table");
+    appendable.append(super.getStyleString());
+    appendable.append(">");
+    for (TableRowElement row : rows) {
+      row.renderTo(appendable);
+    }
+    appendable.append("</table>");
   }
 }
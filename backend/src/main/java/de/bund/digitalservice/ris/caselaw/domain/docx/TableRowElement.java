@@ -1,12 +1,19 @@
 package de.bund.digitalservice.ris.caselaw.domain.docx;
 
+import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public record TableRowElement(List<TableCellElement> cells) implements DocumentUnitDocx {
   public String toHtmlString() {
-    return "<tr>"
-        + cells.stream().map(TableCellElement::toHtmlString).collect(Collectors.joining())
-        + "</tr>";
+    return DocumentUnitDocx.renderToString(this);
+  }
+
+  @Override
+  public void renderTo(Appendable appendable) throws IOException {
+    appendable.append("<tr>");
+    for (TableCellElement cell : cells) {
+      cell.renderTo(appendable);
+    }
+    appendable.append("</tr>");
   }
 }
@@ -12,7 +12,8 @@ public interface NormAbbreviationRepository {
 
   Flux<NormAbbreviation> findBySearchQuery(String query, Integer size, Integer page);
 
-  Mono<List<NormAbbreviation>> findByAwesomeSearchQuery(String query, Integer size, Integer page);
+  Mono<List<NormAbbreviation>> findByAwesomeSearchQuery(
+      String query, Integer size, Integer pageOffset);
 
   Mono<Void> refreshMaterializedViews();
 }
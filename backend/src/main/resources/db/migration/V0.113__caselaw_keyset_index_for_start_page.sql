@@ -0,0 +1,8 @@
+CREATE INDEX
+  IF NOT EXISTS document_unit_creationtimestamp_id_idx ON doc_unit (creationtimestamp DESC, id DESC);
+
+CREATE INDEX
+  IF NOT EXISTS status_document_unit_id_created_at_idx ON status (document_unit_id, created_at DESC);
+
+CREATE INDEX
+  IF NOT EXISTS file_number_document_unit_id_idx ON file_number (document_unit_id);
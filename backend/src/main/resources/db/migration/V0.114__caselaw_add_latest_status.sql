@@ -0,0 +1,27 @@
+CREATE TABLE IF NOT EXISTS
+  latest_status (
+    document_unit_id UUID NOT NULL PRIMARY KEY,
+    publication_status VARCHAR(255),
+    with_error BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP,
+    CONSTRAINT fk_document_unit FOREIGN KEY (document_unit_id) REFERENCES doc_unit (uuid) ON DELETE CASCADE
+  );
+
+INSERT INTO
+  latest_status (document_unit_id, publication_status, with_error, created_at)
+SELECT DISTINCT
+  ON (document_unit_id) document_unit_id,
+  publication_status,
+  with_error,
+  created_at
+FROM
+  status
+WHERE
+  document_unit_id IS NOT NULL
+ORDER BY
+  document_unit_id,
+  created_at DESC
+ON CONFLICT DO NOTHING;
+
+CREATE INDEX
+  IF NOT EXISTS latest_status_publication_status_idx ON latest_status (publication_status);
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS
+  file_conversion (
+    document_unit_id UUID NOT NULL PRIMARY KEY,
+    s3path VARCHAR(255) NOT NULL,
+    duration_in_milliseconds BIGINT,
+    error_message TEXT,
+    converted_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT fk_document_unit FOREIGN KEY (document_unit_id) REFERENCES doc_unit (uuid) ON DELETE CASCADE
+  );
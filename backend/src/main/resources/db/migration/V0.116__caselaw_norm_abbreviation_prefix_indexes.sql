@@ -0,0 +1,5 @@
+CREATE INDEX
+  IF NOT EXISTS norm_abbreviation_lower_abbreviation_idx ON norm_abbreviation (lower(abbreviation) text_pattern_ops);
+
+CREATE INDEX
+  IF NOT EXISTS norm_abbreviation_lower_official_letter_abbreviation_idx ON norm_abbreviation (lower(official_letter_abbreviation) text_pattern_ops);
@@ -0,0 +1,9 @@
+DELETE FROM
+  keyword duplicate USING keyword original
+WHERE
+  duplicate.document_unit_id = original.document_unit_id
+  AND duplicate.keyword = original.keyword
+  AND duplicate.id > original.id;
+
+CREATE UNIQUE INDEX
+  IF NOT EXISTS keyword_document_unit_id_keyword_idx ON keyword (document_unit_id, keyword);
@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS
+  xml_publication_mail (
+    id BIGSERIAL NOT NULL PRIMARY KEY,
+    xml_publication_id BIGINT NOT NULL,
+    idempotency_key UUID NOT NULL UNIQUE,
+    state VARCHAR(32) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    last_error TEXT,
+    sent_at TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT fk_xml_publication FOREIGN KEY (xml_publication_id) REFERENCES xml_publication (id) ON DELETE CASCADE
+  );
+
+CREATE INDEX
+  IF NOT EXISTS xml_publication_mail_state_next_attempt_at_idx ON xml_publication_mail (state, next_attempt_at);
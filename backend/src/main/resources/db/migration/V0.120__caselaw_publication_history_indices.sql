@@ -0,0 +1,5 @@
+CREATE INDEX
+  IF NOT EXISTS xml_publication_document_unit_id_publish_date_idx ON xml_publication (document_unit_id, publish_date DESC);
+
+CREATE INDEX
+  IF NOT EXISTS publication_report_document_unit_id_received_date_idx ON publication_report (document_unit_id, received_date DESC);
@@ -0,0 +1,24 @@
+package de.bund.digitalservice.ris.caselaw;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+@TestConfiguration
+public class StatementCountingConfig {
+
+  @Bean
+  public static BeanPostProcessor statementCountingPostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ConnectionFactory connectionFactory
+            && !(bean instanceof StatementCountingConnectionFactory)) {
+          return new StatementCountingConnectionFactory(connectionFactory);
+        }
+        return bean;
+      }
+    };
+  }
+}
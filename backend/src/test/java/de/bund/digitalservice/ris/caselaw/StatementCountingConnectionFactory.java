@@ -0,0 +1,81 @@
+package de.bund.digitalservice.ris.caselaw;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+
+/**
+ * Connection factory wrapper which counts the statements created on its connections. Used by the
+ * integration tests to assert the number of database round trips of a use case.
+ */
+public class StatementCountingConnectionFactory implements ConnectionFactory {
+  private final ConnectionFactory delegate;
+  private final AtomicInteger statementCount = new AtomicInteger();
+  private final List<String> writeStatements = new CopyOnWriteArrayList<>();
+
+  public StatementCountingConnectionFactory(ConnectionFactory delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public Publisher<? extends Connection> create() {
+    return Mono.from(delegate.create()).map(this::wrap);
+  }
+
+  @Override
+  public ConnectionFactoryMetadata getMetadata() {
+    return delegate.getMetadata();
+  }
+
+  public int getStatementCount() {
+    return statementCount.get();
+  }
+
+  /**
+   * @return the sql of all insert, update and delete statements since the last reset
+   */
+  public List<String> getWriteStatements() {
+    return List.copyOf(writeStatements);
+  }
+
+  public void reset() {
+    statementCount.set(0);
+    writeStatements.clear();
+  }
+
+  private Connection wrap(Connection connection) {
+    return (Connection)
+        Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+              if ("createStatement".equals(method.getName())) {
+                statementCount.incrementAndGet();
+                if (isWriteStatement((String) args[0])) {
+                  writeStatements.add((String) args[0]);
+                }
+              }
+
+              try {
+                return method.invoke(connection, args);
+              } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+              }
+            });
+  }
+
+  private static boolean isWriteStatement(String sql) {
+    String statement = sql.strip().toUpperCase(Locale.ROOT);
+    return statement.startsWith("INSERT")
+        || statement.startsWith("UPDATE")
+        || statement.startsWith("DELETE");
+  }
+}
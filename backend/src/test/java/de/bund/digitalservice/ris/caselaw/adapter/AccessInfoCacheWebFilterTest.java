@@ -0,0 +1,64 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitAccessInfo;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(SpringExtension.class)
+class AccessInfoCacheWebFilterTest {
+  private static final UUID TEST_UUID = UUID.fromString("88888888-4444-4444-4444-121212121212");
+
+  private final AccessInfoCacheWebFilter filter = new AccessInfoCacheWebFilter();
+  private final AtomicInteger loadCount = new AtomicInteger();
+
+  @Test
+  void testGetCached_twiceInOneRequest_shouldLoadOnce() {
+    StepVerifier.create(
+            filter.filter(
+                MockServerWebExchange.from(MockServerHttpRequest.get("/")),
+                exchange -> getCached().then(getCached()).then()))
+        .verifyComplete();
+
+    assertThat(loadCount).hasValue(1);
+  }
+
+  @Test
+  void testGetCached_inTwoRequests_shouldLoadTwice() {
+    for (int i = 0; i < 2; i++) {
+      StepVerifier.create(
+              filter.filter(
+                  MockServerWebExchange.from(MockServerHttpRequest.get("/")),
+                  exchange -> getCached().then()))
+          .verifyComplete();
+    }
+
+    assertThat(loadCount).hasValue(2);
+  }
+
+  @Test
+  void testGetCached_withoutRequest_shouldLoadEveryTime() {
+    StepVerifier.create(getCached().then(getCached())).expectNextCount(1).verifyComplete();
+
+    assertThat(loadCount).hasValue(2);
+  }
+
+  private Mono<DocumentUnitAccessInfo> getCached() {
+    return AccessInfoCacheWebFilter.getCached(
+        TEST_UUID,
+        () ->
+            Mono.fromSupplier(
+                () -> {
+                  loadCount.incrementAndGet();
+                  return DocumentUnitAccessInfo.builder().uuid(TEST_UUID).build();
+                }));
+  }
+}
@@ -0,0 +1,83 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.bund.digitalservice.ris.caselaw.domain.ConverterService;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitRepository;
+import de.bund.digitalservice.ris.caselaw.domain.FileConversion;
+import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class BackgroundFileConversionServiceTest {
+  private static final UUID TEST_UUID = UUID.fromString("88888888-4444-4444-4444-121212121212");
+
+  private final ConverterService converterService = mock(ConverterService.class);
+  private final DocumentUnitRepository repository = mock(DocumentUnitRepository.class);
+  private BackgroundFileConversionService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new BackgroundFileConversionService(converterService, repository, 10, 2);
+    when(repository.saveFileConversion(eq(TEST_UUID), any(FileConversion.class)))
+        .thenReturn(Mono.empty());
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.stop();
+  }
+
+  @Test
+  void testRequestConversion_shouldSaveConversionResult() {
+    when(converterService.getConvertedObject("file.docx")).thenReturn(Mono.just(Docx2Html.EMPTY));
+
+    StepVerifier.create(service.requestConversion(TEST_UUID, "file.docx")).verifyComplete();
+
+    var fileConversionCaptor = ArgumentCaptor.forClass(FileConversion.class);
+    verify(repository, timeout(1000))
+        .saveFileConversion(eq(TEST_UUID), fileConversionCaptor.capture());
+    assertThat(fileConversionCaptor.getValue().s3path()).isEqualTo("file.docx");
+    assertThat(fileConversionCaptor.getValue().errorMessage()).isNull();
+  }
+
+  @Test
+  void testRequestConversion_withBrokenFile_shouldSaveConversionError() {
+    when(converterService.getConvertedObject("file.docx"))
+        .thenReturn(Mono.error(new IllegalStateException("broken file")));
+
+    StepVerifier.create(service.requestConversion(TEST_UUID, "file.docx")).verifyComplete();
+
+    var fileConversionCaptor = ArgumentCaptor.forClass(FileConversion.class);
+    verify(repository, timeout(1000))
+        .saveFileConversion(eq(TEST_UUID), fileConversionCaptor.capture());
+    assertThat(fileConversionCaptor.getValue().errorMessage()).isEqualTo("broken file");
+  }
+
+  @Test
+  void testRequestConversion_withQueuedFile_shouldConvertFileOnce() {
+    Sinks.One<Docx2Html> conversion = Sinks.one();
+    when(converterService.getConvertedObject("file.docx")).thenReturn(conversion.asMono());
+
+    service.requestConversion(TEST_UUID, "file.docx").block();
+    verify(converterService, timeout(1000)).getConvertedObject("file.docx");
+    service.requestConversion(TEST_UUID, "file.docx").block();
+    conversion.tryEmitValue(Docx2Html.EMPTY);
+
+    verify(repository, timeout(1000)).saveFileConversion(eq(TEST_UUID), any(FileConversion.class));
+    verify(converterService, times(1)).getConvertedObject("file.docx");
+  }
+}
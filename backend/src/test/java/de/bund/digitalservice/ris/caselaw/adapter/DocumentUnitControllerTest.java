@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -17,13 +18,17 @@ import de.bund.digitalservice.ris.caselaw.adapter.transformer.DocumentUnitTransf
 import de.bund.digitalservice.ris.caselaw.config.SecurityConfig;
 import de.bund.digitalservice.ris.caselaw.domain.CoreData;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnit;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitAccessInfo;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitPublishException;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
 import de.bund.digitalservice.ris.caselaw.domain.LinkedDocumentationUnit;
+import de.bund.digitalservice.ris.caselaw.domain.PublicationHistoryEntry;
+import de.bund.digitalservice.ris.caselaw.domain.PublicationHistoryRecordType;
 import de.bund.digitalservice.ris.caselaw.domain.PublicationReport;
 import de.bund.digitalservice.ris.caselaw.domain.XmlPublication;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
@@ -37,12 +42,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.oauth2.client.registration.ReactiveClientRegistrationRepository;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -79,6 +87,13 @@ class DocumentUnitControllerTest {
                 DocumentUnit.builder()
                     .coreData(CoreData.builder().documentationOffice(docOffice).build())
                     .build()));
+    when(service.getAccessInfoByUuid(TEST_UUID))
+        .thenReturn(
+            Mono.just(
+                DocumentUnitAccessInfo.builder()
+                    .uuid(TEST_UUID)
+                    .documentationOffice(docOffice)
+                    .build()));
   }
 
   @Test
@@ -174,6 +189,13 @@ class DocumentUnitControllerTest {
 
   @Test
   void testGetByDocumentnumber() {
+    when(service.getAccessInfoByDocumentNumber("ABCD202200001"))
+        .thenReturn(
+            Mono.just(
+                DocumentUnitAccessInfo.builder()
+                    .documentNumber("ABCD202200001")
+                    .documentationOffice(docOffice)
+                    .build()));
     when(service.getByDocumentNumber("ABCD202200001"))
         .thenReturn(
             Mono.just(
@@ -189,13 +211,13 @@ class DocumentUnitControllerTest {
         .expectStatus()
         .isOk();
 
-    // once by the AuthService and once by the controller asking the service
-    verify(service, times(2)).getByDocumentNumber("ABCD202200001");
+    verify(service).getAccessInfoByDocumentNumber("ABCD202200001");
+    verify(service).getByDocumentNumber("ABCD202200001");
   }
 
   @Test
   void testGetByDocumentNumber_withInvalidDocumentNumber() {
-    when(service.getByDocumentNumber("abc")).thenReturn(Mono.empty());
+    when(service.getAccessInfoByDocumentNumber("abc")).thenReturn(Mono.empty());
 
     risWebClient
         .withDefaultLogin()
@@ -416,10 +438,68 @@ class DocumentUnitControllerTest {
         .expectStatus()
         .is5xxServerError();
 
-    verify(service).getByUuid(TEST_UUID);
+    verify(service).getAccessInfoByUuid(TEST_UUID);
     verify(service).getPublicationHistory(TEST_UUID);
   }
 
+  @Test
+  void testGetPagedPublicationHistory() {
+    when(service.getPublicationHistory(TEST_UUID, PageRequest.of(0, 10)))
+        .thenReturn(
+            Mono.just(
+                new PageImpl<>(
+                    List.of(
+                        PublicationHistoryEntry.builder()
+                            .id("1")
+                            .type(PublicationHistoryRecordType.PUBLICATION)
+                            .date(Instant.parse("2020-01-01T01:01:01.00Z"))
+                            .statusCode("200")
+                            .build()),
+                    PageRequest.of(0, 10),
+                    1)));
+
+    risWebClient
+        .withDefaultLogin()
+        .get()
+        .uri("/api/v1/caselaw/documentunits/" + TEST_UUID + "/publish/history?pg=0&sz=10")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("content[0].id")
+        .isEqualTo("1")
+        .jsonPath("content[0].type")
+        .isEqualTo("PUBLICATION")
+        .jsonPath("content[0].date")
+        .isEqualTo("2020-01-01T01:01:01Z")
+        .jsonPath("content[0].xml")
+        .doesNotExist()
+        .jsonPath("totalElements")
+        .isEqualTo(1);
+
+    verify(service).getPublicationHistory(TEST_UUID, PageRequest.of(0, 10));
+  }
+
+  @Test
+  void testGetPublicationReport_withUnknownReport_shouldReturnNotFound() {
+    UUID reportUuid = UUID.randomUUID();
+    when(service.getPublicationReport(TEST_UUID, reportUuid)).thenReturn(Mono.empty());
+
+    risWebClient
+        .withDefaultLogin()
+        .get()
+        .uri(
+            "/api/v1/caselaw/documentunits/"
+                + TEST_UUID
+                + "/publish/history/reports/"
+                + reportUuid)
+        .exchange()
+        .expectStatus()
+        .isNotFound();
+
+    verify(service).getPublicationReport(TEST_UUID, reportUuid);
+  }
+
   @Test
   void testSearchByLinkedDocumentationUnit() {
     LinkedDocumentationUnit linkedDocumentationUnit = LinkedDocumentationUnit.builder().build();
@@ -443,13 +523,7 @@ class DocumentUnitControllerTest {
 
   @Test
   void testHtml() {
-    when(service.getByUuid(TEST_UUID))
-        .thenReturn(
-            Mono.just(
-                DocumentUnit.builder()
-                    .s3path("123")
-                    .coreData(CoreData.builder().documentationOffice(docOffice).build())
-                    .build()));
+    mockAccessInfoWithFile("123");
     when(docxConverterService.getConvertedObject("123")).thenReturn(Mono.empty());
 
     risWebClient
@@ -460,8 +534,59 @@ class DocumentUnitControllerTest {
         .expectStatus()
         .isOk();
 
-    // once by the AuthService and once by the controller asking the service
-    verify(service, times(2)).getByUuid(TEST_UUID);
+    // the handler reuses the access info of the access check
+    verify(service, times(1)).getAccessInfoByUuid(TEST_UUID);
+    verify(service, never()).getByUuid(TEST_UUID);
     verify(docxConverterService).getConvertedObject("123");
   }
+
+  @Test
+  void testHtml_withTooManyConversions_shouldReturnTooManyRequests() {
+    mockAccessInfoWithFile("123");
+    when(docxConverterService.getConvertedObject("123"))
+        .thenReturn(Mono.error(new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS)));
+
+    risWebClient
+        .withDefaultLogin()
+        .get()
+        .uri("/api/v1/caselaw/documentunits/" + TEST_UUID + "/docx")
+        .exchange()
+        .expectStatus()
+        .isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+  }
+
+  @Test
+  void testHtmlText() {
+    mockAccessInfoWithFile("123");
+    when(docxConverterService.getConvertedHtml("123"))
+        .thenReturn(
+            Flux.just(
+                StandardCharsets.UTF_8.encode("<p>first chunk</p>"),
+                StandardCharsets.UTF_8.encode("<p>second chunk</p>")));
+
+    risWebClient
+        .withDefaultLogin()
+        .get()
+        .uri("/api/v1/caselaw/documentunits/" + TEST_UUID + "/docx/html")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(String.class)
+        .isEqualTo("<p>first chunk</p><p>second chunk</p>");
+
+    verify(service, times(1)).getAccessInfoByUuid(TEST_UUID);
+    verify(service, never()).getByUuid(TEST_UUID);
+    verify(docxConverterService).getConvertedHtml("123");
+  }
+
+  private void mockAccessInfoWithFile(String s3path) {
+    when(service.getAccessInfoByUuid(TEST_UUID))
+        .thenReturn(
+            Mono.just(
+                DocumentUnitAccessInfo.builder()
+                    .uuid(TEST_UUID)
+                    .s3path(s3path)
+                    .documentationOffice(docOffice)
+                    .build()));
+  }
 }
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -76,7 +77,8 @@ class FieldOfLawServiceTest {
   void testGetFieldsOfLaw_withQuery_shouldCallRepository() {
     Pageable pageable = PageRequest.of(0, 10);
     String[] searchTerms = new String[] {"test"};
-    when(repository.findBySearchTerms(searchTerms)).thenReturn(Flux.empty());
+    when(repository.findBySearchTermsAndNormStrOrderByScore(searchTerms, null, pageable))
+        .thenReturn(Mono.just(Page.empty(pageable)));
 
     StepVerifier.create(service.getFieldsOfLawBySearchQuery(Optional.of("test"), pageable))
         .consumeNextWith(
@@ -86,7 +88,8 @@ class FieldOfLawServiceTest {
             })
         .verifyComplete();
 
-    verify(repository, times(1)).findBySearchTerms(searchTerms);
+    verify(repository, times(1))
+        .findBySearchTermsAndNormStrOrderByScore(searchTerms, null, pageable);
     verify(repository, never()).findAllByOrderByIdentifierAsc(pageable);
   }
 
@@ -95,7 +98,8 @@ class FieldOfLawServiceTest {
       testGetFieldsOfLaw_withQueryWithWhitespaceAtTheStartAndTheEnd_shouldCallRepositoryWithTrimmedSearchString() {
     Pageable pageable = PageRequest.of(0, 10);
     String[] searchTerms = new String[] {"test"};
-    when(repository.findBySearchTerms(searchTerms)).thenReturn(Flux.empty());
+    when(repository.findBySearchTermsAndNormStrOrderByScore(searchTerms, null, pageable))
+        .thenReturn(Mono.just(Page.empty(pageable)));
 
     StepVerifier.create(service.getFieldsOfLawBySearchQuery(Optional.of(" test  \t"), pageable))
         .consumeNextWith(
@@ -105,7 +109,8 @@ class FieldOfLawServiceTest {
             })
         .verifyComplete();
 
-    verify(repository, times(1)).findBySearchTerms(searchTerms);
+    verify(repository, times(1))
+        .findBySearchTermsAndNormStrOrderByScore(searchTerms, null, pageable);
     verify(repository, never()).findAllByOrderByIdentifierAsc(pageable);
   }
 
@@ -183,9 +188,9 @@ class FieldOfLawServiceTest {
   }
 
   @Test
-  void testGetFieldsOfLaw_withSearchString() {
-    String searchString = "stext";
-    String[] searchTerms = new String[] {searchString};
+  void testGetFieldsOfLaw_withNormStrAndSearchTerms_shouldPassBothToRepository() {
+    Pageable pageable = PageRequest.of(0, 10);
+    String[] searchTerms = new String[] {"kündigung", "frist"};
     FieldOfLaw expectedFieldOfLaw =
         new FieldOfLaw(
             2L,
@@ -194,20 +199,35 @@ class FieldOfLawServiceTest {
             "stext 2",
             Collections.emptyList(),
             List.of(new Keyword("keyword")),
-            List.of(new Norm("abbr1", "description")),
+            List.of(new Norm("abbr1", "§ 1")),
             new ArrayList<>(),
             13);
-
-    Pageable pageable = PageRequest.of(0, 10);
     PageImpl<FieldOfLaw> page = new PageImpl<>(List.of(expectedFieldOfLaw), pageable, 1);
 
-    when(repository.findBySearchTerms(searchTerms)).thenReturn(Flux.just(expectedFieldOfLaw));
+    when(repository.findBySearchTermsAndNormStrOrderByScore(searchTerms, "§ 1", pageable))
+        .thenReturn(Mono.just(page));
 
-    StepVerifier.create(service.getFieldsOfLawBySearchQuery(Optional.of(searchString), pageable))
+    StepVerifier.create(
+            service.getFieldsOfLawBySearchQuery(
+                Optional.of("norm:\"§1\" kündigung frist"), pageable))
         .consumeNextWith(fieldOfLawPage -> assertThat(fieldOfLawPage).isEqualTo(page))
         .verifyComplete();
 
-    verify(repository).findBySearchTerms(searchTerms);
+    verify(repository).findBySearchTermsAndNormStrOrderByScore(searchTerms, "§ 1", pageable);
+  }
+
+  @Test
+  void testGetFieldsOfLaw_withOnlyNormStr_shouldPassNoSearchTermsToRepository() {
+    Pageable pageable = PageRequest.of(0, 10);
+    when(repository.findBySearchTermsAndNormStrOrderByScore(null, "§ 1 KSchG", pageable))
+        .thenReturn(Mono.just(Page.empty(pageable)));
+
+    StepVerifier.create(
+            service.getFieldsOfLawBySearchQuery(Optional.of("norm: \"§1 KSchG\""), pageable))
+        .consumeNextWith(fieldOfLawPage -> assertThat(fieldOfLawPage.getContent()).isEmpty())
+        .verifyComplete();
+
+    verify(repository).findBySearchTermsAndNormStrOrderByScore(null, "§ 1 KSchG", pageable);
   }
 
   @Test
@@ -233,16 +253,4 @@ class FieldOfLawServiceTest {
 
     verify(repository).findAllByParentIdentifierOrderByIdentifierAsc("TS-01-01");
   }
-
-  @Test
-  void testSearchAndOrderByScore_pageableOffsetGreaterThanResultListSize() {
-    FieldOfLaw databaseFieldOfLaw = FieldOfLaw.builder().build();
-
-    when(repository.findBySearchTerms(any(String[].class)))
-        .thenReturn(Flux.just(databaseFieldOfLaw));
-
-    StepVerifier.create(service.searchAndOrderByScore("foo", PageRequest.of(1, 5)))
-        .consumeNextWith(page -> assertThat(page.getContent()).isEmpty())
-        .verifyComplete();
-  }
 }
@@ -0,0 +1,136 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.bund.digitalservice.ris.caselaw.domain.Attachment;
+import de.bund.digitalservice.ris.caselaw.domain.MailStoreFactory;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Store;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+class JurisResponseMailListenerTest {
+  private static final String PUBLICATION_SUBJECT =
+      "id=juris name=NeuRIS da=R df=X dt=N mod=T ld=2023-01-01 vg=KORE123456789";
+  private static JurisStub jurisStub;
+
+  @Mock private JurisXmlExporterResponseProcessor responseProcessor;
+  @Mock private MailStoreFactory storeFactory;
+  @Mock private Store store;
+  private JurisResponseMailListener listener;
+
+  @BeforeAll
+  static void setUpJurisStub() {
+    jurisStub = new JurisStub("user@neuris.dev", "password");
+  }
+
+  @AfterEach
+  void tearDown() {
+    listener.stop();
+  }
+
+  @Test
+  void testNewMail_shouldBeProcessedWithoutPolling() {
+    listener = generateListener(jurisStub, true);
+    listener.start();
+    verify(responseProcessor, timeout(5000).times(1)).readEmails();
+    assertThat(listener.isListening()).isTrue();
+
+    jurisStub.sendMail(
+        "export@neuris",
+        "user@neuris.dev",
+        PUBLICATION_SUBJECT,
+        "neuris",
+        List.of(new Attachment("test.xml", "<xml></xml>")),
+        "tag");
+
+    verify(responseProcessor, timeout(5000).atLeast(2)).readEmails();
+  }
+
+  @Test
+  void testPoll_withIdleConnection_shouldOnlyKeepConnectionAlive() {
+    listener = generateListener(jurisStub, true);
+    listener.start();
+    verify(responseProcessor, timeout(5000).times(1)).readEmails();
+    clearInvocations(responseProcessor);
+
+    listener.poll();
+
+    verify(responseProcessor, times(0)).readEmails();
+    assertThat(listener.isListening()).isTrue();
+  }
+
+  @Test
+  void testPoll_withoutIdleSupport_shouldProcessInbox() throws MessagingException {
+    when(storeFactory.createStore()).thenReturn(store);
+    listener = generateListener(storeFactory, true);
+    listener.start();
+
+    verify(store, timeout(5000)).close();
+    listener.poll();
+
+    assertThat(listener.isListening()).isFalse();
+    verify(responseProcessor, times(1)).readEmails();
+  }
+
+  @Test
+  void testPoll_withIdleDisabled_shouldProcessInbox() {
+    listener = generateListener(storeFactory, false);
+    listener.start();
+
+    listener.poll();
+    listener.poll();
+
+    verify(responseProcessor, times(2)).readEmails();
+  }
+
+  @Test
+  void testProcessInBackground_withManyEvents_shouldQueueOneFurtherRun() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              started.countDown();
+              release.await(5, TimeUnit.SECONDS);
+              return null;
+            })
+        .when(responseProcessor)
+        .readEmails();
+    listener = generateListener(storeFactory, false);
+
+    listener.processInBackground();
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    for (int i = 0; i < 10; i++) {
+      listener.processInBackground();
+    }
+    release.countDown();
+
+    verify(responseProcessor, after(500).times(2)).readEmails();
+  }
+
+  private JurisResponseMailListener generateListener(
+      MailStoreFactory mailStoreFactory, boolean idleEnabled) {
+    return new JurisResponseMailListener(
+        responseProcessor,
+        mailStoreFactory,
+        idleEnabled,
+        Duration.ofMillis(100),
+        Duration.ofSeconds(1));
+  }
+}
@@ -24,6 +24,7 @@ import de.bund.digitalservice.ris.domain.export.juris.response.MessageAttachment
 import de.bund.digitalservice.ris.domain.export.juris.response.ProcessMessageWrapper;
 import de.bund.digitalservice.ris.domain.export.juris.response.StatusImporterException;
 import jakarta.mail.BodyPart;
+import jakarta.mail.FetchProfile;
 import jakarta.mail.Flags.Flag;
 import jakarta.mail.Folder;
 import jakarta.mail.Message;
@@ -56,6 +57,7 @@ import reactor.core.publisher.Mono;
 @Import({JurisXmlExporterResponseProcessor.class, JurisMessageWrapperFactory.class})
 class JurisXmlExporterResponseProcessorTest {
   private final String DOCUMENT_NUMBER = "KORE123456789";
+  private final String OTHER_DOCUMENT_NUMBER = "KORE987654321";
   @MockBean private DocumentUnitStatusService statusService;
   @MockBean private HttpMailSender mailSender;
   @MockBean private ImapStoreFactory storeFactory;
@@ -68,6 +70,8 @@ class JurisXmlExporterResponseProcessorTest {
   @Mock private ImportMessageWrapper importMessageWrapper;
   @Mock private Message processMessage;
   @Mock private ProcessMessageWrapper processMessageWrapper;
+  @Mock private Message otherImportMessage;
+  @Mock private ImportMessageWrapper otherImportMessageWrapper;
   @Mock private JurisMessageWrapperFactory wrapperFactory;
   private JurisXmlExporterResponseProcessor responseProcessor;
 
@@ -416,6 +420,57 @@ class JurisXmlExporterResponseProcessorTest {
     inOrder.verifyNoMoreInteractions();
   }
 
+  @Test
+  void testMessagesArePrefetched() throws MessagingException {
+    when(inbox.getMessages()).thenReturn(new Message[] {processMessage, importMessage});
+
+    responseProcessor.readEmails();
+
+    verify(inbox)
+        .fetch(
+            eq(new Message[] {processMessage, importMessage}),
+            argThat(fetchProfile -> fetchProfile.contains(FetchProfile.Item.ENVELOPE)));
+    verify(inbox)
+        .fetch(
+            eq(new Message[] {importMessage, processMessage}),
+            argThat(fetchProfile -> fetchProfile.contains(FetchProfile.Item.CONTENT_INFO)));
+  }
+
+  @Test
+  void testMessagesOfOtherDocumentNumbersGetProcessedAfterFailedMessage()
+      throws MessagingException {
+    when(inbox.getMessages()).thenReturn(new Message[] {importMessage, otherImportMessage});
+    when(importMessageWrapper.getSubject()).thenThrow(new MessagingException());
+    when(otherImportMessageWrapper.getMessage()).thenReturn(otherImportMessage);
+    when(otherImportMessageWrapper.getDocumentNumber()).thenReturn(OTHER_DOCUMENT_NUMBER);
+    when(wrapperFactory.getResponsibleWrapper(otherImportMessage))
+        .thenReturn(Optional.of(otherImportMessageWrapper));
+    when(statusService.getLatestIssuerAddress(OTHER_DOCUMENT_NUMBER))
+        .thenReturn(Mono.just("test@digitalservice.bund.de"));
+
+    assertThrows(StatusImporterException.class, () -> responseProcessor.readEmails());
+
+    verify(mailSender, times(1))
+        .sendMail(any(), any(), any(), any(), any(), eq("report-" + OTHER_DOCUMENT_NUMBER));
+    verify(inbox, times(1)).copyMessages(new Message[] {otherImportMessage}, processed);
+    verify(otherImportMessage, times(1)).setFlag(Flag.DELETED, true);
+    verify(importMessage, never()).setFlag(Flag.DELETED, true);
+  }
+
+  @Test
+  void testMessagesOfDocumentNumberAreNotProcessedAfterFailedImportMessage()
+      throws MessagingException {
+    when(inbox.getMessages()).thenReturn(new Message[] {processMessage, importMessage});
+    when(importMessageWrapper.getSubject()).thenThrow(new MessagingException());
+
+    assertThrows(StatusImporterException.class, () -> responseProcessor.readEmails());
+
+    verifyNoInteractions(mailSender);
+    verify(statusService, never()).update(anyString(), any(DocumentUnitStatus.class));
+    verify(inbox, never()).copyMessages(any(), any());
+    verify(processMessage, never()).setFlag(Flag.DELETED, true);
+  }
+
   @Test
   void testLoggingForUnknownDocumentNumber() throws MessagingException {
     when(inbox.getMessages()).thenReturn(new Message[] {processMessage});
@@ -0,0 +1,81 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentationOfficeRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentationOfficeDTO;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(SpringExtension.class)
+@Import({KeycloakUserService.class})
+class KeycloakUserServiceTest {
+  @Autowired KeycloakUserService service;
+
+  @MockBean DatabaseDocumentationOfficeRepository repository;
+
+  @Test
+  void testGetDocumentationOffice_calledTwice_shouldLoadOfficeOnce() {
+    when(repository.findByLabel("BGH"))
+        .thenReturn(
+            Mono.just(DocumentationOfficeDTO.builder().label("BGH").abbreviation("BH").build()));
+    OidcUser oidcUser = mockOidcUser("/caselaw/BGH");
+
+    DocumentationOffice expected =
+        DocumentationOffice.builder().label("BGH").abbreviation("BH").build();
+    StepVerifier.create(service.getDocumentationOffice(oidcUser))
+        .expectNext(expected)
+        .verifyComplete();
+    StepVerifier.create(service.getDocumentationOffice(oidcUser))
+        .expectNext(expected)
+        .verifyComplete();
+
+    verify(repository, times(1)).findByLabel("BGH");
+  }
+
+  @Test
+  void testGetDocumentationOffice_withUnknownOffice_shouldNotCacheEmptyResult() {
+    when(repository.findByLabel("BFH")).thenReturn(Mono.empty());
+    OidcUser oidcUser = mockOidcUser("/caselaw/BFH");
+
+    StepVerifier.create(service.getUser(oidcUser))
+        .expectNextMatches(user -> user.documentationOffice() == null)
+        .verifyComplete();
+    StepVerifier.create(service.getUser(oidcUser))
+        .expectNextMatches(user -> user.documentationOffice() == null)
+        .verifyComplete();
+
+    verify(repository, times(2)).findByLabel("BFH");
+  }
+
+  @Test
+  void testGetDocumentationOffice_withoutOfficeGroup_shouldNotAskRepository() {
+    OidcUser oidcUser = mockOidcUser("/unknown");
+
+    StepVerifier.create(service.getUser(oidcUser))
+        .expectNextMatches(user -> user.documentationOffice() == null)
+        .verifyComplete();
+
+    verify(repository, never()).findByLabel(anyString());
+  }
+
+  private OidcUser mockOidcUser(String group) {
+    OidcUser oidcUser = mock(OidcUser.class);
+    when(oidcUser.<List<String>>getAttribute("groups")).thenReturn(List.of(group));
+    return oidcUser;
+  }
+}
@@ -2,11 +2,13 @@ package de.bund.digitalservice.ris.caselaw.adapter;
 
 import static org.mockito.Mockito.when;
 
+import de.bund.digitalservice.ris.caselaw.domain.ConverterService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentNumberService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitRepository;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitStatusService;
 import de.bund.digitalservice.ris.caselaw.domain.EmailPublishService;
+import de.bund.digitalservice.ris.caselaw.domain.FileConversionService;
 import de.bund.digitalservice.ris.caselaw.domain.NormElement;
 import de.bund.digitalservice.ris.caselaw.domain.NormElementRepository;
 import de.bund.digitalservice.ris.caselaw.domain.PublicationReportRepository;
@@ -39,8 +41,10 @@ class SingleNormValidationTest {
   @MockBean private DocumentNumberService numberService;
   @MockBean private S3AsyncClient s3AsyncClient;
   @MockBean private EmailPublishService publishService;
+  @MockBean private FileConversionService fileConversionService;
   @MockBean private DocumentUnitStatusService statusService;
   @MockBean private PublicationReportRepository publicationReportRepository;
+  @MockBean private ConverterService converterService;
 
   @BeforeEach
   void setUp() {
@@ -2,14 +2,11 @@ package de.bund.digitalservice.ris.caselaw.adapter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import de.bund.digitalservice.ris.caselaw.domain.Attachment;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnit;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitPublishException;
 import de.bund.digitalservice.ris.caselaw.domain.HttpMailSender;
@@ -22,7 +19,6 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import javax.xml.parsers.ParserConfigurationException;
@@ -33,7 +29,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
-import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -41,10 +36,8 @@ import reactor.test.StepVerifier;
 
 @ExtendWith(SpringExtension.class)
 @Import({XmlEMailPublishService.class})
-@TestPropertySource(properties = "mail.exporter.senderAddress=export@neuris")
 class XmlEMailPublishServiceTest {
   private static final String RECEIVER_ADDRESS = "test-to@mail.com";
-  private static final String SENDER_ADDRESS = "export@neuris";
   private static final Instant PUBLISH_DATE = Instant.parse("2020-05-05T10:21:35.00Z");
   private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
   private static final String DELIVER_DATE =
@@ -94,7 +87,8 @@ class XmlEMailPublishServiceTest {
         DocumentUnit.builder().uuid(TEST_UUID).documentNumber("test-document-number").build();
     when(xmlExporter.generateXml(any(DocumentUnit.class))).thenReturn(FORMATTED_XML);
 
-    when(repository.save(EXPECTED_BEFORE_SAVE)).thenReturn(Mono.just(SAVED_XML_MAIL));
+    when(repository.saveWithPendingMail(EXPECTED_BEFORE_SAVE))
+        .thenReturn(Mono.just(SAVED_XML_MAIL));
   }
 
   @Test
@@ -105,19 +99,8 @@ class XmlEMailPublishServiceTest {
                 assertThat(response).usingRecursiveComparison().isEqualTo(EXPECTED_RESPONSE))
         .verifyComplete();
 
-    verify(repository).save(EXPECTED_BEFORE_SAVE);
-    verify(mailSender)
-        .sendMail(
-            SENDER_ADDRESS,
-            RECEIVER_ADDRESS,
-            SAVED_XML_MAIL.mailSubject(),
-            "neuris",
-            Collections.singletonList(
-                Attachment.builder()
-                    .fileName(SAVED_XML_MAIL.fileName())
-                    .fileContent(SAVED_XML_MAIL.xml())
-                    .build()),
-            SAVED_XML_MAIL.documentUnitUuid().toString());
+    verify(repository).saveWithPendingMail(EXPECTED_BEFORE_SAVE);
+    verifyNoInteractions(mailSender);
   }
 
   @Test
@@ -138,9 +121,8 @@ class XmlEMailPublishServiceTest {
             response -> assertThat(response).usingRecursiveComparison().isEqualTo(expected))
         .verifyComplete();
 
-    verify(repository, times(0)).save(any(XmlPublication.class));
-    verify(mailSender, times(0))
-        .sendMail(anyString(), anyString(), anyString(), anyString(), anyList(), anyString());
+    verify(repository, times(0)).saveWithPendingMail(any(XmlPublication.class));
+    verifyNoInteractions(mailSender);
   }
 
   @Test
@@ -156,9 +138,8 @@ class XmlEMailPublishServiceTest {
                     && ex.getMessage().equals("Couldn't generate xml."))
         .verify();
 
-    verify(repository, times(0)).save(any(XmlPublication.class));
-    verify(mailSender, times(0))
-        .sendMail(anyString(), anyString(), anyString(), anyString(), anyList(), anyString());
+    verify(repository, times(0)).saveWithPendingMail(any(XmlPublication.class));
+    verifyNoInteractions(mailSender);
   }
 
   @Test
@@ -172,22 +153,21 @@ class XmlEMailPublishServiceTest {
                     && ex.getMessage().equals("No document number has set in the document unit."))
         .verify();
 
-    verify(repository, times(0)).save(any(XmlPublication.class));
-    verify(mailSender, times(0))
-        .sendMail(anyString(), anyString(), anyString(), anyString(), any(List.class), anyString());
+    verify(repository, times(0)).saveWithPendingMail(any(XmlPublication.class));
+    verifyNoInteractions(mailSender);
   }
 
   @Test
   void testPublish_withExceptionBySaving() {
-    when(repository.save(EXPECTED_BEFORE_SAVE)).thenThrow(IllegalArgumentException.class);
+    when(repository.saveWithPendingMail(EXPECTED_BEFORE_SAVE))
+        .thenThrow(IllegalArgumentException.class);
 
     StepVerifier.create(service.publish(documentUnit, RECEIVER_ADDRESS))
         .expectErrorMatches(ex -> ex instanceof IllegalArgumentException)
         .verify();
 
-    verify(repository).save(any(XmlPublication.class));
-    verify(mailSender)
-        .sendMail(anyString(), anyString(), anyString(), anyString(), anyList(), anyString());
+    verify(repository).saveWithPendingMail(any(XmlPublication.class));
+    verifyNoInteractions(mailSender);
   }
 
   @Test
@@ -200,38 +180,8 @@ class XmlEMailPublishServiceTest {
                     && ex.getMessage().equals("No receiver mail address is set"))
         .verify();
 
-    verify(repository, times(0)).save(any(XmlPublication.class));
-    verify(mailSender, times(0))
-        .sendMail(anyString(), anyString(), anyString(), anyString(), anyList(), anyString());
-  }
-
-  @Test
-  void testPublish_withExceptionBySendingEmail() {
-    doThrow(DocumentUnitPublishException.class)
-        .when(mailSender)
-        .sendMail(
-            SENDER_ADDRESS,
-            RECEIVER_ADDRESS,
-            MAIL_SUBJECT,
-            "neuris",
-            Collections.singletonList(
-                Attachment.builder().fileName("test.xml").fileContent("xml").build()),
-            TEST_UUID.toString());
-
-    StepVerifier.create(service.publish(documentUnit, RECEIVER_ADDRESS))
-        .expectErrorMatches(DocumentUnitPublishException.class::isInstance)
-        .verify();
-
-    verify(repository, times(0)).save(any(XmlPublication.class));
-    verify(mailSender)
-        .sendMail(
-            SENDER_ADDRESS,
-            RECEIVER_ADDRESS,
-            MAIL_SUBJECT,
-            "neuris",
-            Collections.singletonList(
-                Attachment.builder().fileName("test.xml").fileContent("xml").build()),
-            TEST_UUID.toString());
+    verify(repository, times(0)).saveWithPendingMail(any(XmlPublication.class));
+    verifyNoInteractions(mailSender);
   }
 
   @Test
@@ -0,0 +1,227 @@
+package de.bund.digitalservice.ris.caselaw.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseXmlPublicationMailRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.PendingXmlPublicationMailDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.XmlPublicationMailState;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.XmlPublicationMailStateCountDTO;
+import de.bund.digitalservice.ris.caselaw.domain.Attachment;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitPublishException;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitStatus;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitStatusService;
+import de.bund.digitalservice.ris.caselaw.domain.HttpMailSender;
+import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+@ExtendWith(SpringExtension.class)
+@Import({
+  XmlPublicationMailDispatcher.class,
+  SimpleMeterRegistry.class,
+  XmlPublicationMailDispatcherTest.TestConfig.class
+})
+@TestPropertySource(
+    properties = {
+      "mail.exporter.senderAddress=export@neuris",
+      "mail.exporter.outbox.max-attempts=3",
+      "mail.exporter.outbox.initial-backoff=PT30S",
+      "mail.exporter.outbox.max-backoff=PT5M"
+    })
+class XmlPublicationMailDispatcherTest {
+  private static final UUID TEST_UUID = UUID.fromString("88888888-4444-4444-4444-121212121212");
+  private static final UUID IDEMPOTENCY_KEY =
+      UUID.fromString("77777777-4444-4444-4444-121212121212");
+
+  @TestConfiguration
+  static class TestConfig {
+    @Bean
+    public ConversionService conversionService() {
+      return ApplicationConversionService.getSharedInstance();
+    }
+
+    @Bean
+    public Scheduler publicationMailScheduler() {
+      return Schedulers.immediate();
+    }
+  }
+
+  @Autowired XmlPublicationMailDispatcher dispatcher;
+
+  @Autowired SimpleMeterRegistry meterRegistry;
+
+  @MockBean DatabaseXmlPublicationMailRepository repository;
+
+  @MockBean HttpMailSender mailSender;
+
+  @MockBean DocumentUnitStatusService statusService;
+
+  @BeforeEach
+  void setUp() {
+    when(repository.markSent(anyLong(), any(Instant.class))).thenReturn(Mono.just(1));
+    when(repository.markFailedAttempt(anyLong(), anyString(), any(Instant.class), any()))
+        .thenReturn(Mono.just(1));
+  }
+
+  @Test
+  void testDispatch_shouldSendMailWithIdempotencyKeyAndMarkItSent() {
+    when(repository.claimDueMails(any(Instant.class), any(Instant.class), anyInt()))
+        .thenReturn(Flux.just(generateMail(1)));
+
+    StepVerifier.create(dispatcher.dispatch()).verifyComplete();
+
+    verify(mailSender)
+        .sendMail(
+            "export@neuris",
+            "receiver@neuris",
+            "subject",
+            "neuris",
+            Collections.singletonList(
+                Attachment.builder().fileName("test.xml").fileContent("xml").build()),
+            TEST_UUID.toString(),
+            IDEMPOTENCY_KEY.toString());
+    verify(repository).markSent(eq(1L), any(Instant.class));
+    verify(repository, never()).markFailedAttempt(anyLong(), anyString(), any(), any());
+  }
+
+  @Test
+  void testDispatch_withFailingMail_shouldRetryAfterBackoff() {
+    when(repository.claimDueMails(any(Instant.class), any(Instant.class), anyInt()))
+        .thenReturn(Flux.just(generateMail(2)));
+    doThrow(new DocumentUnitPublishException("Couldn't send email."))
+        .when(mailSender)
+        .sendMail(
+            anyString(), anyString(), anyString(), anyString(), any(), anyString(), anyString());
+    Instant before = Instant.now();
+
+    StepVerifier.create(dispatcher.dispatch()).verifyComplete();
+
+    verify(repository)
+        .markFailedAttempt(
+            eq(1L),
+            eq(XmlPublicationMailState.RETRY.name()),
+            argThat(nextAttemptAt -> !nextAttemptAt.isBefore(before.plusSeconds(60))),
+            eq("Couldn't send email."));
+    verify(repository, never()).markSent(anyLong(), any());
+    verifyNoInteractions(statusService);
+  }
+
+  @Test
+  void testDispatch_withLastFailingAttempt_shouldSetErrorStatus() {
+    when(repository.claimDueMails(any(Instant.class), any(Instant.class), anyInt()))
+        .thenReturn(Flux.just(generateMail(3)));
+    doThrow(new DocumentUnitPublishException("Couldn't send email."))
+        .when(mailSender)
+        .sendMail(
+            anyString(), anyString(), anyString(), anyString(), any(), anyString(), anyString());
+    when(statusService.getLatestStatus(TEST_UUID))
+        .thenReturn(Mono.just(PublicationStatus.PUBLISHING));
+    when(statusService.update(eq(TEST_UUID), any(DocumentUnitStatus.class)))
+        .thenReturn(Mono.empty());
+
+    StepVerifier.create(dispatcher.dispatch()).verifyComplete();
+
+    verify(repository)
+        .markFailedAttempt(
+            eq(1L),
+            eq(XmlPublicationMailState.FAILED.name()),
+            any(Instant.class),
+            eq("Couldn't send email."));
+    verify(statusService)
+        .update(
+            TEST_UUID,
+            DocumentUnitStatus.builder()
+                .publicationStatus(PublicationStatus.PUBLISHING)
+                .withError(true)
+                .build());
+  }
+
+  @Test
+  void testDispatch_shouldNotCountOutbox() {
+    when(repository.claimDueMails(any(Instant.class), any(Instant.class), anyInt()))
+        .thenReturn(Flux.empty());
+
+    StepVerifier.create(dispatcher.dispatch()).verifyComplete();
+
+    verify(repository, never()).countOpenByState();
+    verifyNoInteractions(mailSender);
+  }
+
+  @Test
+  void testUpdateStateCounts_shouldUpdateOutboxGaugesOfOpenStates() {
+    when(repository.countOpenByState())
+        .thenReturn(
+            Flux.just(
+                new XmlPublicationMailStateCountDTO(XmlPublicationMailState.PENDING, 2L),
+                new XmlPublicationMailStateCountDTO(XmlPublicationMailState.RETRY, 5L)));
+
+    StepVerifier.create(dispatcher.updateStateCounts()).verifyComplete();
+
+    assertThat(getOutboxGauge("pending")).isEqualTo(2.0);
+    assertThat(getOutboxGauge("retry")).isEqualTo(5.0);
+    assertThat(getOutboxGauge("sending")).isZero();
+    assertThat(meterRegistry.find("xml_publication.mail.outbox").tag("state", "sent").gauge())
+        .isNull();
+  }
+
+  @Test
+  void testGetBackoff_shouldDoubleUpToMaximum() {
+    assertThat(List.of(1, 2, 3, 4, 5, 100).stream().map(dispatcher::getBackoff).toList())
+        .containsExactly(
+            Duration.ofSeconds(30),
+            Duration.ofMinutes(1),
+            Duration.ofMinutes(2),
+            Duration.ofMinutes(4),
+            Duration.ofMinutes(5),
+            Duration.ofMinutes(5));
+  }
+
+  private double getOutboxGauge(String state) {
+    return meterRegistry.get("xml_publication.mail.outbox").tag("state", state).gauge().value();
+  }
+
+  private static PendingXmlPublicationMailDTO generateMail(int attempts) {
+    return PendingXmlPublicationMailDTO.builder()
+        .id(1L)
+        .idempotencyKey(IDEMPOTENCY_KEY)
+        .attempts(attempts)
+        .documentUnitUuid(TEST_UUID)
+        .receiverAddress("receiver@neuris")
+        .mailSubject("subject")
+        .xml("xml")
+        .fileName("test.xml")
+        .build();
+  }
+}
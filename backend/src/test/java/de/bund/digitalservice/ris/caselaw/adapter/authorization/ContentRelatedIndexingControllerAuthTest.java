@@ -13,8 +13,7 @@ import de.bund.digitalservice.ris.caselaw.adapter.FieldOfLawService;
 import de.bund.digitalservice.ris.caselaw.adapter.KeycloakUserService;
 import de.bund.digitalservice.ris.caselaw.adapter.KeywordService;
 import de.bund.digitalservice.ris.caselaw.config.SecurityConfig;
-import de.bund.digitalservice.ris.caselaw.domain.CoreData;
-import de.bund.digitalservice.ris.caselaw.domain.DocumentUnit;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitAccessInfo;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitStatus;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
@@ -207,12 +206,13 @@ class ContentRelatedIndexingControllerAuthTest {
   }
 
   private void mockDocumentUnit(DocumentationOffice docOffice, PublicationStatus status) {
-    when(documentUnitService.getByUuid(TEST_UUID))
+    when(documentUnitService.getAccessInfoByUuid(TEST_UUID))
         .thenReturn(
             Mono.just(
-                DocumentUnit.builder()
+                DocumentUnitAccessInfo.builder()
+                    .uuid(TEST_UUID)
                     .status(DocumentUnitStatus.builder().publicationStatus(status).build())
-                    .coreData(CoreData.builder().documentationOffice(docOffice).build())
+                    .documentationOffice(docOffice)
                     .build()));
   }
 }
@@ -17,6 +17,7 @@ import de.bund.digitalservice.ris.caselaw.adapter.KeycloakUserService;
 import de.bund.digitalservice.ris.caselaw.config.SecurityConfig;
 import de.bund.digitalservice.ris.caselaw.domain.CoreData;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnit;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitAccessInfo;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitStatus;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
@@ -63,7 +64,7 @@ class DocumentUnitControllerAuthTest {
   @Test
   void testGetByDocumentNumber_nonExistentDocumentNumber_shouldYield403Too() {
     // testGetByDocumentNumber() is also in DocumentUnitControllerAuthIntegrationTest
-    when(service.getByDocumentNumber(any(String.class))).thenReturn(Mono.empty());
+    when(service.getAccessInfoByDocumentNumber(any(String.class))).thenReturn(Mono.empty());
 
     risWebTestClient
         .withLogin(docOffice1Group)
@@ -176,7 +177,7 @@ class DocumentUnitControllerAuthTest {
         .isOk();
 
     UUID nonExistentUuid = UUID.fromString("12345678-1111-2222-3333-787878787878");
-    when(service.getByUuid(nonExistentUuid)).thenReturn(Mono.empty());
+    when(service.getAccessInfoByUuid(nonExistentUuid)).thenReturn(Mono.empty());
     uri = "/api/v1/caselaw/documentunits/" + nonExistentUuid;
 
     risWebTestClient
@@ -277,6 +278,15 @@ class DocumentUnitControllerAuthTest {
             .coreData(CoreData.builder().documentationOffice(docOffice).build())
             .build();
     when(service.getByUuid(TEST_UUID)).thenReturn(Mono.just(docUnit));
+    when(service.getAccessInfoByUuid(TEST_UUID))
+        .thenReturn(
+            Mono.just(
+                DocumentUnitAccessInfo.builder()
+                    .uuid(TEST_UUID)
+                    .s3path(s3path)
+                    .documentationOffice(docOffice)
+                    .status(status)
+                    .build()));
     return docUnit;
   }
 }
@@ -12,8 +12,7 @@ import de.bund.digitalservice.ris.caselaw.adapter.AuthService;
 import de.bund.digitalservice.ris.caselaw.adapter.KeycloakUserService;
 import de.bund.digitalservice.ris.caselaw.adapter.ProceedingDecisionController;
 import de.bund.digitalservice.ris.caselaw.config.SecurityConfig;
-import de.bund.digitalservice.ris.caselaw.domain.CoreData;
-import de.bund.digitalservice.ris.caselaw.domain.DocumentUnit;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitAccessInfo;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitLinkType;
@@ -127,12 +126,12 @@ class ProceedingDecisionControllerAuthTest {
   }
 
   private void mockDocumentUnit(DocumentationOffice docOffice) {
-    when(service.getByUuid(TEST_UUID))
+    when(service.getAccessInfoByUuid(TEST_UUID))
         .thenReturn(
             Mono.just(
-                DocumentUnit.builder()
+                DocumentUnitAccessInfo.builder()
                     .uuid(TEST_UUID)
-                    .coreData(CoreData.builder().documentationOffice(docOffice).build())
+                    .documentationOffice(docOffice)
                     .build()));
   }
 }
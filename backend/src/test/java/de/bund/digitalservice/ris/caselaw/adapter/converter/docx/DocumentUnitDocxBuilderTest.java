@@ -680,7 +680,10 @@ class DocumentUnitDocxBuilderTest {
             .build();
 
     var result =
-        DocumentUnitDocxBuilder.newInstance().setParagraph(paragraph).useStyles(styles).build();
+        DocumentUnitDocxBuilder.newInstance()
+            .setParagraph(paragraph)
+            .useContext(new ConversionContext(styles, null, null))
+            .build();
 
     assertTrue(result instanceof ParagraphElement);
     ParagraphElement paragraphElement = (ParagraphElement) result;
@@ -735,7 +738,11 @@ class DocumentUnitDocxBuilderTest {
     DocxImagePart image = new DocxImagePart("content-type", new byte[] {1, 2});
     images.put("image-ref", image);
 
-    var result = builder.setParagraph(paragraph).useImages(images).build();
+    var result =
+        builder
+            .setParagraph(paragraph)
+            .useContext(new ConversionContext(null, images, null))
+            .build();
 
     assertTrue(result instanceof ParagraphElement);
     ParagraphElement paragraphElement = (ParagraphElement) result;
@@ -765,7 +772,11 @@ class DocumentUnitDocxBuilderTest {
     DocxImagePart image = new DocxImagePart("content-type", new byte[] {1, 2});
     images.put("image-ref", image);
 
-    var result = builder.setParagraph(paragraph).useImages(images).build();
+    var result =
+        builder
+            .setParagraph(paragraph)
+            .useContext(new ConversionContext(null, images, null))
+            .build();
 
     assertTrue(result instanceof ParagraphElement);
     ParagraphElement paragraphElement = (ParagraphElement) result;
@@ -797,7 +808,11 @@ class DocumentUnitDocxBuilderTest {
     DocxImagePart image = new DocxImagePart("content-type", new byte[] {1, 2});
     images.put("image-ref", image);
 
-    var result = builder.setParagraph(paragraph).useImages(images).build();
+    var result =
+        builder
+            .setParagraph(paragraph)
+            .useContext(new ConversionContext(null, images, null))
+            .build();
 
     assertTrue(result instanceof ParagraphElement);
     ParagraphElement paragraphElement = (ParagraphElement) result;
@@ -829,7 +844,11 @@ class DocumentUnitDocxBuilderTest {
     DocxImagePart image = new DocxImagePart("content-type", new byte[] {1, 2});
     images.put("image-ref", image);
 
-    var result = builder.setParagraph(paragraph).useImages(images).build();
+    var result =
+        builder
+            .setParagraph(paragraph)
+            .useContext(new ConversionContext(null, images, null))
+            .build();
 
     assertTrue(result instanceof ParagraphElement);
     ParagraphElement paragraphElement = (ParagraphElement) result;
@@ -861,7 +880,11 @@ class DocumentUnitDocxBuilderTest {
     DocxImagePart image = new DocxImagePart("content-type", new byte[] {1, 2});
     images.put("image-ref", image);
 
-    var result = builder.setParagraph(paragraph).useImages(images).build();
+    var result =
+        builder
+            .setParagraph(paragraph)
+            .useContext(new ConversionContext(null, images, null))
+            .build();
 
     assertTrue(result instanceof ParagraphElement);
     ParagraphElement paragraphElement = (ParagraphElement) result;
@@ -891,7 +914,11 @@ class DocumentUnitDocxBuilderTest {
     DocxImagePart image = new DocxImagePart("content-type", new byte[] {1, 2});
     images.put("image-ref", image);
 
-    var result = builder.setParagraph(paragraph).useImages(images).build();
+    var result =
+        builder
+            .setParagraph(paragraph)
+            .useContext(new ConversionContext(null, images, null))
+            .build();
 
     assertTrue(result instanceof ParagraphElement);
     ParagraphElement paragraphElement = (ParagraphElement) result;
@@ -923,7 +950,11 @@ class DocumentUnitDocxBuilderTest {
     DocxImagePart image = new DocxImagePart("content-type", new byte[] {1, 2});
     images.put("image-ref", image);
 
-    var result = builder.setParagraph(paragraph).useImages(images).build();
+    var result =
+        builder
+            .setParagraph(paragraph)
+            .useContext(new ConversionContext(null, images, null))
+            .build();
 
     assertTrue(result instanceof ParagraphElement);
     ParagraphElement paragraphElement = (ParagraphElement) result;
@@ -955,7 +986,11 @@ class DocumentUnitDocxBuilderTest {
     DocxImagePart image = new DocxImagePart("content-type", new byte[] {1, 2});
     images.put("image-ref", image);
 
-    var result = builder.setParagraph(paragraph).useImages(images).build();
+    var result =
+        builder
+            .setParagraph(paragraph)
+            .useContext(new ConversionContext(null, images, null))
+            .build();
 
     assertTrue(result instanceof ParagraphElement);
     ParagraphElement paragraphElement = (ParagraphElement) result;
@@ -1039,7 +1074,7 @@ class DocumentUnitDocxBuilderTest {
     var result =
         builder
             .setParagraph(paragraph)
-            .useListNumberingDefinitions(listNumberingDefinitions)
+            .useContext(new ConversionContext(null, null, listNumberingDefinitions))
             .build();
 
     assertTrue(result instanceof NumberingListEntry);
@@ -1068,7 +1103,7 @@ class DocumentUnitDocxBuilderTest {
     var result =
         DocumentUnitDocxBuilder.newInstance()
             .setParagraph(paragraph)
-            .useImages(TestDocxBuilder.getImageMap())
+            .useContext(new ConversionContext(null, TestDocxBuilder.getImageMap(), null))
             .build();
 
     assertThat(result).isInstanceOf(ParagraphElement.class);
@@ -1094,7 +1129,7 @@ class DocumentUnitDocxBuilderTest {
     var result =
         DocumentUnitDocxBuilder.newInstance()
             .setParagraph(paragraph)
-            .useImages(TestDocxBuilder.getImageMap())
+            .useContext(new ConversionContext(null, TestDocxBuilder.getImageMap(), null))
             .build();
 
     assertThat(result).isInstanceOf(ParagraphElement.class);
@@ -1157,7 +1192,7 @@ class DocumentUnitDocxBuilderTest {
     var result =
         builder
             .setParagraph(paragraph)
-            .useListNumberingDefinitions(listNumberingDefinitions)
+            .useContext(new ConversionContext(null, null, listNumberingDefinitions))
             .build();
 
     assertTrue(result instanceof NumberingListEntry);
@@ -0,0 +1,116 @@
+package de.bund.digitalservice.ris.caselaw.adapter.converter.docx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.bund.digitalservice.ris.caselaw.domain.docx.Docx2Html;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.test.StepVerifier;
+
+class DocxConversionCacheTest {
+  @TempDir Path tempDir;
+
+  @Test
+  void testGet_withoutEntry_shouldBeEmpty() {
+    DocxConversionCache cache = new DocxConversionCache(100, null);
+
+    StepVerifier.create(cache.get("file")).verifyComplete();
+  }
+
+  @Test
+  void testGet_afterPut_shouldReturnCachedHtml() {
+    DocxConversionCache cache = new DocxConversionCache(100, null);
+
+    StepVerifier.create(cache.put("file", new Docx2Html("<p>text</p>"))).verifyComplete();
+
+    StepVerifier.create(cache.get("file"))
+        .expectNext(new Docx2Html("<p>text</p>"))
+        .verifyComplete();
+  }
+
+  @Test
+  void testPut_withExceededSize_shouldRemoveLeastRecentlyUsedEntry() {
+    DocxConversionCache cache = new DocxConversionCache(30, null);
+
+    cache.put("file1", new Docx2Html("<p>text 1</p>")).block();
+    cache.put("file2", new Docx2Html("<p>text 2</p>")).block();
+    cache.get("file1").block();
+    cache.put("file3", new Docx2Html("<p>text 3</p>")).block();
+
+    StepVerifier.create(cache.get("file1")).expectNextCount(1).verifyComplete();
+    StepVerifier.create(cache.get("file2")).verifyComplete();
+    StepVerifier.create(cache.get("file3")).expectNextCount(1).verifyComplete();
+  }
+
+  @Test
+  void testEvict_shouldRemoveEntry() {
+    DocxConversionCache cache = new DocxConversionCache(100, null);
+    cache.put("file", new Docx2Html("<p>text</p>")).block();
+
+    StepVerifier.create(cache.evict("file")).verifyComplete();
+
+    StepVerifier.create(cache.get("file")).verifyComplete();
+  }
+
+  @Test
+  void testGet_withEntryOnlyInStore_shouldLoadHtmlFromStore() {
+    DocxConversionStore store = new DirectoryDocxConversionStore(tempDir);
+    new DocxConversionCache(100, store).put("file", new Docx2Html("<p>text</p>")).block();
+
+    DocxConversionCache cache = new DocxConversionCache(100, store);
+
+    StepVerifier.create(cache.get("file"))
+        .expectNext(new Docx2Html("<p>text</p>"))
+        .verifyComplete();
+  }
+
+  @Test
+  void testGet_withEmptyHtmlInStore_shouldReturnEmptyDocx2Html() {
+    DocxConversionStore store = new DirectoryDocxConversionStore(tempDir);
+    new DocxConversionCache(100, store).put("file", Docx2Html.EMPTY).block();
+
+    DocxConversionCache cache = new DocxConversionCache(100, store);
+
+    StepVerifier.create(cache.get("file")).expectNext(Docx2Html.EMPTY).verifyComplete();
+  }
+
+  @Test
+  void testEvict_shouldDeleteHtmlInStore() {
+    DocxConversionStore store = new DirectoryDocxConversionStore(tempDir);
+    DocxConversionCache cache = new DocxConversionCache(100, store);
+    cache.put("file", new Docx2Html("<p>text</p>")).block();
+    assertThat(tempDir.resolve("file/" + DocxConverter.VERSION + ".html")).exists();
+
+    StepVerifier.create(cache.evict("file")).verifyComplete();
+
+    assertThat(Files.exists(tempDir.resolve("file/" + DocxConverter.VERSION + ".html"))).isFalse();
+    StepVerifier.create(new DocxConversionCache(100, store).get("file")).verifyComplete();
+  }
+
+  @Test
+  void testEvict_shouldDeleteHtmlOfOtherConverterVersionsInStore() {
+    DocxConversionStore store = new DirectoryDocxConversionStore(tempDir);
+    store.store("file/0.html", "<p>old text</p>").block();
+    store.store("file2/0.html", "<p>other file</p>").block();
+    DocxConversionCache cache = new DocxConversionCache(100, store);
+
+    StepVerifier.create(cache.evict("file")).verifyComplete();
+
+    assertThat(tempDir.resolve("file/0.html")).doesNotExist();
+    assertThat(tempDir.resolve("file2/0.html")).exists();
+  }
+
+  @Test
+  void testPut_shouldDeleteHtmlOfOtherConverterVersionsInStore() {
+    DocxConversionStore store = new DirectoryDocxConversionStore(tempDir);
+    store.store("file/0.html", "<p>old text</p>").block();
+    DocxConversionCache cache = new DocxConversionCache(100, store);
+
+    StepVerifier.create(cache.put("file", new Docx2Html("<p>text</p>"))).verifyComplete();
+
+    assertThat(tempDir.resolve("file/0.html")).doesNotExist();
+    assertThat(tempDir.resolve("file/" + DocxConverter.VERSION + ".html")).exists();
+  }
+}
@@ -27,7 +27,7 @@ class DocxParagraphDocxConverterTest {
     Tbl table = new Tbl();
     JAXBElement<Tbl> tblElement = new JAXBElement<>(new QName("table"), Tbl.class, table);
 
-    var result = converter.convert(tblElement);
+    var result = converter.convert(tblElement, ConversionContext.empty());
 
     assertTrue(result instanceof TableElement);
   }
@@ -42,7 +42,7 @@ class DocxParagraphDocxConverterTest {
     run.getContent().add(element);
     paragraph.getContent().add(run);
 
-    var result = converter.convert(paragraph);
+    var result = converter.convert(paragraph, ConversionContext.empty());
 
     assertTrue(result instanceof TextElement);
   }
@@ -50,7 +50,7 @@ class DocxParagraphDocxConverterTest {
   @Test
   void testConvert_withUnknownElement() {
 
-    var result = converter.convert(new Object());
+    var result = converter.convert(new Object(), ConversionContext.empty());
 
     assertEquals("unknown element: java.lang.Object", result.toString());
   }
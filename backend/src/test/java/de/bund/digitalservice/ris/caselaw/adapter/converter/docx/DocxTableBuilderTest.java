@@ -203,7 +203,11 @@ class DocxTableBuilderTest {
     style.setTblPr(externalTblPr);
     styles.put("external-style", style);
 
-    var result = DocxTableBuilder.newInstance().setTable(table).useStyles(styles).build();
+    var result =
+        DocxTableBuilder.newInstance()
+            .setTable(table)
+            .useContext(new ConversionContext(styles, null, null))
+            .build();
 
     assertThat(result).isInstanceOf(TableElement.class);
     TableElement tableElement = (TableElement) result;
@@ -238,7 +242,11 @@ class DocxTableBuilderTest {
     internalTblBorder.setLeft(internalLeftBorder);
     tblPr.setTblBorders(internalTblBorder);
 
-    var result = DocxTableBuilder.newInstance().setTable(table).useStyles(styles).build();
+    var result =
+        DocxTableBuilder.newInstance()
+            .setTable(table)
+            .useContext(new ConversionContext(styles, null, null))
+            .build();
 
     assertThat(result).isInstanceOf(TableElement.class);
     TableElement tableElement = (TableElement) result;
@@ -276,7 +284,11 @@ class DocxTableBuilderTest {
     style.setRPr(styleRPr);
     styles.put("external-style", style);
 
-    var result = DocxTableBuilder.newInstance().setTable(table).useStyles(styles).build();
+    var result =
+        DocxTableBuilder.newInstance()
+            .setTable(table)
+            .useContext(new ConversionContext(styles, null, null))
+            .build();
 
     assertThat(result).isInstanceOf(TableElement.class);
     TableElement tableElement = (TableElement) result;
@@ -301,7 +313,11 @@ class DocxTableBuilderTest {
     putTableStylePrToStyle(style);
     styles.put("external-style", style);
 
-    var result = DocxTableBuilder.newInstance().setTable(table).useStyles(styles).build();
+    var result =
+        DocxTableBuilder.newInstance()
+            .setTable(table)
+            .useContext(new ConversionContext(styles, null, null))
+            .build();
 
     assertThat(result).isInstanceOf(TableElement.class);
     TableElement tableElement = (TableElement) result;
@@ -347,7 +363,10 @@ class DocxTableBuilderTest {
       tcJAXBElement.getValue().setTcPr(tcPr);
       styles.put("external-style", style);
 
-      return DocxTableBuilder.newInstance().setTable(table).useStyles(styles).build();
+      return DocxTableBuilder.newInstance()
+          .setTable(table)
+          .useContext(new ConversionContext(styles, null, null))
+          .build();
     }
 
     @Test
@@ -0,0 +1,57 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(SpringExtension.class)
+@Import({DocumentUnitIdCache.class})
+class DocumentUnitIdCacheTest {
+  @Autowired DocumentUnitIdCache cache;
+
+  @MockBean DatabaseDocumentUnitRepository repository;
+
+  @Test
+  void testGetId_shouldLoadIdOnce() {
+    UUID uuid = UUID.randomUUID();
+    when(repository.findIdByUuid(uuid)).thenReturn(Mono.just(1L));
+
+    StepVerifier.create(cache.getId(uuid)).expectNext(1L).verifyComplete();
+    StepVerifier.create(cache.getId(uuid)).expectNext(1L).verifyComplete();
+
+    verify(repository, times(1)).findIdByUuid(uuid);
+  }
+
+  @Test
+  void testGetId_withUnknownDocumentUnit_shouldNotCacheMiss() {
+    UUID uuid = UUID.randomUUID();
+    when(repository.findIdByUuid(uuid)).thenReturn(Mono.empty());
+
+    StepVerifier.create(cache.getId(uuid)).verifyComplete();
+    StepVerifier.create(cache.getId(uuid)).verifyComplete();
+
+    verify(repository, times(2)).findIdByUuid(uuid);
+  }
+
+  @Test
+  void testEvict_shouldLoadIdAgain() {
+    UUID uuid = UUID.randomUUID();
+    when(repository.findIdByUuid(uuid)).thenReturn(Mono.just(1L), Mono.just(2L));
+
+    StepVerifier.create(cache.getId(uuid)).expectNext(1L).verifyComplete();
+    cache.evict(uuid);
+    StepVerifier.create(cache.getId(uuid)).expectNext(2L).verifyComplete();
+
+    verify(repository, times(2)).findIdByUuid(uuid);
+  }
+}
@@ -1,5 +1,8 @@
 package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseCitationStyleRepository;
@@ -7,9 +10,12 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.Dat
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseDocumentTypeRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseFieldOfLawRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseNormAbbreviationRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.LookupTableCache;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.StateRepository;
 import de.bund.digitalservice.ris.caselaw.domain.DataSource;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitListCursor;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
+import java.time.Instant;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,12 +48,19 @@ class PostgresDocumentUnitRepositoryImplTest {
   @MockBean private DatabaseKeywordRepository keywordRepository;
   @MockBean private DatabaseDocumentUnitNormRepository documentUnitNormRepository;
   @MockBean private DatabaseDocumentationOfficeRepository documentationOfficeRepository;
-  @MockBean private DatabaseDocumentUnitStatusRepository databaseDocumentUnitStatusRepository;
+  @MockBean private DatabaseDocumentUnitLatestStatusRepository latestStatusRepository;
   @MockBean private DatabaseNormAbbreviationRepository normAbbreviationRepository;
   @MockBean private DatabaseCitationStyleRepository citationStyleRepository;
+  @MockBean private DatabaseFileConversionRepository fileConversionRepository;
 
   @BeforeEach
   public void setup() {
+    Mockito.when(databaseDocumentTypeRepository.findAll()).thenReturn(Flux.empty());
+    Mockito.when(databaseCourtRepository.findAll()).thenReturn(Flux.empty());
+    Mockito.when(stateRepository.findAll()).thenReturn(Flux.empty());
+    Mockito.when(citationStyleRepository.findAll()).thenReturn(Flux.empty());
+    Mockito.when(documentationOfficeRepository.findAll()).thenReturn(Flux.empty());
+
     this.postgresDocumentUnitRepository =
         new PostgresDocumentUnitRepositoryImpl(
             repository,
@@ -56,18 +69,21 @@ class PostgresDocumentUnitRepositoryImplTest {
             deviatingEcliRepository,
             deviatingDecisionDateRepository,
             incorrectCourtRepository,
-            databaseCourtRepository,
-            stateRepository,
-            databaseDocumentTypeRepository,
             fieldOfLawRepository,
             documentUnitFieldsOfLawRepository,
             keywordRepository,
             documentUnitNormRepository,
-            documentationOfficeRepository,
-            databaseDocumentUnitStatusRepository,
+            latestStatusRepository,
             normAbbreviationRepository,
             documentationUnitLinkRepository,
-            citationStyleRepository);
+            fileConversionRepository,
+            new LookupTableCache(
+                databaseDocumentTypeRepository,
+                databaseCourtRepository,
+                stateRepository,
+                citationStyleRepository,
+                documentationOfficeRepository),
+            new DocumentUnitIdCache(repository));
   }
 
   @Test
@@ -93,4 +109,94 @@ class PostgresDocumentUnitRepositoryImplTest {
         .findAllByDataSourceAndDocumentationOfficeId(
             DataSource.NEURIS.name(), documentationOfficeId, 10, 0L);
   }
+
+  @Test
+  void testFindAll_withCachedDocumentationOffice_shouldNotQueryDocumentationOffice() {
+    var documentationOfficeId = UUID.randomUUID();
+    Mockito.when(documentationOfficeRepository.findAll())
+        .thenReturn(
+            Flux.just(
+                DocumentationOfficeDTO.builder().id(documentationOfficeId).label("Test").build()));
+    Mockito.when(
+            metadataRepository.findAllByDataSourceAndDocumentationOfficeId(
+                DataSource.NEURIS.name(), documentationOfficeId, 10, 0L))
+        .thenReturn(Flux.empty());
+
+    StepVerifier.create(
+            postgresDocumentUnitRepository.findAll(
+                PageRequest.of(0, 10), DocumentationOffice.builder().label("Test").build()))
+        .verifyComplete();
+
+    verify(documentationOfficeRepository, never()).findByLabel("Test");
+    verify(metadataRepository)
+        .findAllByDataSourceAndDocumentationOfficeId(
+            DataSource.NEURIS.name(), documentationOfficeId, 10, 0L);
+  }
+
+  @Test
+  void testFindAllAfter_withoutCursor_shouldLoadFirstPage() {
+    var documentationOfficeId = UUID.randomUUID();
+    Instant creationTimestamp = Instant.parse("2023-06-01T10:00:00Z");
+    Mockito.when(documentationOfficeRepository.findAll())
+        .thenReturn(
+            Flux.just(
+                DocumentationOfficeDTO.builder().id(documentationOfficeId).label("Test").build()));
+    Mockito.when(
+            metadataRepository.findFirstListEntriesByDataSourceAndDocumentationOfficeId(
+                DataSource.NEURIS.name(), documentationOfficeId, 2))
+        .thenReturn(
+            Flux.just(
+                DocumentUnitListEntryDTO.builder()
+                    .id(2L)
+                    .creationtimestamp(creationTimestamp)
+                    .build(),
+                DocumentUnitListEntryDTO.builder()
+                    .id(1L)
+                    .creationtimestamp(creationTimestamp)
+                    .build()));
+
+    StepVerifier.create(
+            postgresDocumentUnitRepository.findAllAfter(
+                null, 1, DocumentationOffice.builder().label("Test").build()))
+        .consumeNextWith(
+            slice -> {
+              assertThat(slice.content()).hasSize(1);
+              assertThat(slice.nextCursor())
+                  .isEqualTo(new DocumentUnitListCursor(creationTimestamp, 2L).encode());
+            })
+        .verifyComplete();
+
+    verify(metadataRepository, never())
+        .findListEntriesByDataSourceAndDocumentationOfficeIdAfter(
+            any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void testFindAllAfter_withCursor_shouldLoadPageAfterCursor() {
+    var documentationOfficeId = UUID.randomUUID();
+    Instant creationTimestamp = Instant.parse("2023-06-01T10:00:00Z");
+    Mockito.when(documentationOfficeRepository.findAll())
+        .thenReturn(
+            Flux.just(
+                DocumentationOfficeDTO.builder().id(documentationOfficeId).label("Test").build()));
+    Mockito.when(
+            metadataRepository.findListEntriesByDataSourceAndDocumentationOfficeIdAfter(
+                DataSource.NEURIS.name(), documentationOfficeId, creationTimestamp, 2L, 11))
+        .thenReturn(Flux.empty());
+
+    StepVerifier.create(
+            postgresDocumentUnitRepository.findAllAfter(
+                new DocumentUnitListCursor(creationTimestamp, 2L),
+                10,
+                DocumentationOffice.builder().label("Test").build()))
+        .consumeNextWith(
+            slice -> {
+              assertThat(slice.content()).isEmpty();
+              assertThat(slice.nextCursor()).isNull();
+            })
+        .verifyComplete();
+
+    verify(metadataRepository, never())
+        .findFirstListEntriesByDataSourceAndDocumentationOfficeId(any(), any(), any());
+  }
 }
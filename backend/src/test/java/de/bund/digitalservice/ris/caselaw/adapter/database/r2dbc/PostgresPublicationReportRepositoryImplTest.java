@@ -13,7 +13,6 @@ import org.mockito.Mockito;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 @ExtendWith(SpringExtension.class)
@@ -21,31 +20,26 @@ class PostgresPublicationReportRepositoryImplTest {
 
   PostgresPublicationReportRepositoryImpl reportRepository;
   @MockBean private DatabasePublicationReportRepository publicationReportRepository;
-  @MockBean private DatabaseDocumentUnitRepository documentUnitRepository;
 
   @BeforeEach
   public void setup() {
     this.reportRepository =
-        new PostgresPublicationReportRepositoryImpl(
-            publicationReportRepository, documentUnitRepository);
+        new PostgresPublicationReportRepositoryImpl(publicationReportRepository);
   }
 
   @Test
   void saveAll() {
-    var docUnit = DocumentUnitDTO.builder().uuid(UUID.randomUUID()).build();
     Instant received = Instant.now();
 
-    Mockito.when(documentUnitRepository.findByDocumentnumber("ABC126543712683"))
-        .thenReturn(Mono.just(docUnit));
-
-    Mockito.when(publicationReportRepository.saveAll(Mockito.any(Iterable.class)))
+    Mockito.when(
+            publicationReportRepository.insertAllByDocumentNumber(
+                Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
         .thenReturn(
             Flux.just(
                 PublicationReportDTO.builder()
                     .content("report content")
-                    .newEntry(true)
                     .receivedDate(received)
-                    .documentUnitId(docUnit.getUuid())
+                    .documentUnitId(UUID.randomUUID())
                     .id(UUID.randomUUID())
                     .build()));
 
@@ -65,14 +59,17 @@ class PostgresPublicationReportRepositoryImplTest {
         .verifyComplete();
 
     Mockito.verify(publicationReportRepository)
-        .saveAll(
-            Collections.singletonList(
-                PublicationReportDTO.builder()
-                    .content("report content")
-                    .newEntry(true)
-                    .receivedDate(received)
-                    .documentUnitId(docUnit.getUuid())
-                    .id(Mockito.any())
-                    .build()));
+        .insertAllByDocumentNumber(
+            Mockito.argThat(ids -> ids.length == 1 && ids[0] != null),
+            Mockito.eq(new String[] {"ABC126543712683"}),
+            Mockito.eq(new String[] {"report content"}),
+            Mockito.eq(new String[] {received.toString()}));
+  }
+
+  @Test
+  void saveAll_withoutReports_shouldNotQueryDatabase() {
+    StepVerifier.create(reportRepository.saveAll(Collections.emptyList())).verifyComplete();
+
+    Mockito.verifyNoInteractions(publicationReportRepository);
   }
 }
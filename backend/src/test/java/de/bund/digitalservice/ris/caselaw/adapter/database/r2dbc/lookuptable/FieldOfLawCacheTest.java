@@ -0,0 +1,238 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.FieldOfLaw;
+import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.Keyword;
+import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.Norm;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(SpringExtension.class)
+@Import({FieldOfLawCache.class})
+class FieldOfLawCacheTest {
+  @Autowired FieldOfLawCache cache;
+
+  @MockBean DatabaseFieldOfLawRepository fieldOfLawRepository;
+  @MockBean FieldOfLawKeywordRepository keywordRepository;
+  @MockBean NormRepository normRepository;
+  @MockBean FieldOfLawLinkRepository linkRepository;
+
+  @BeforeEach
+  void setUp() {
+    when(fieldOfLawRepository.findAll())
+        .thenReturn(
+            Flux.just(
+                FieldOfLawDTO.builder()
+                    .id(2L)
+                    .parentId(4L)
+                    .identifier("AR-02")
+                    .text("Kündigung")
+                    .build(),
+                FieldOfLawDTO.builder()
+                    .id(1L)
+                    .parentId(4L)
+                    .identifier("AR-01")
+                    .text("Arbeitsvertrag")
+                    .build(),
+                FieldOfLawDTO.builder().id(3L).identifier("SR-01").text("Steuerrecht").build(),
+                FieldOfLawDTO.builder().id(4L).identifier("AR").build()));
+    when(keywordRepository.findAll())
+        .thenReturn(
+            Flux.just(FieldOfLawKeywordDTO.builder().fieldOfLawId(1L).value("Vertrag").build()));
+    when(normRepository.findAll())
+        .thenReturn(
+            Flux.just(
+                NormDTO.builder()
+                    .fieldOfLawId(2L)
+                    .abbreviation("KSchG")
+                    .singleNormDescription("§ 1")
+                    .build()));
+    when(linkRepository.findAll())
+        .thenReturn(
+            Flux.just(FieldOfLawLinkDTO.builder().fieldOfLawId(2L).linkedFieldOfLawId(1L).build()));
+    cache.invalidate();
+  }
+
+  @Test
+  void testFindBySearchTerms_shouldFindFieldsOfLawWithAllTerms() {
+    StepVerifier.create(search(new String[] {"ar", "VERTRAG"}, null, PageRequest.of(0, 10)))
+        .consumeNextWith(
+            page -> {
+              assertThat(page.getContent())
+                  .extracting(FieldOfLaw::identifier)
+                  .containsExactly("AR-01");
+              assertThat(page.getContent().get(0).keywords())
+                  .containsExactly(new Keyword("Vertrag"));
+            })
+        .verifyComplete();
+  }
+
+  @Test
+  void testFindBySearchTerms_shouldOrderByScoreAndIdentifier() {
+    StepVerifier.create(search(new String[] {"ar-"}, null, PageRequest.of(0, 10)))
+        .consumeNextWith(
+            page -> {
+              assertThat(page.getContent())
+                  .extracting(FieldOfLaw::identifier)
+                  .containsExactly("AR-01", "AR-02");
+              assertThat(page.getContent()).extracting(FieldOfLaw::score).containsExactly(7, 7);
+            })
+        .verifyComplete();
+
+    StepVerifier.create(search(new String[] {"kündigung"}, null, PageRequest.of(0, 10)))
+        .consumeNextWith(
+            page -> {
+              assertThat(page.getContent())
+                  .extracting(FieldOfLaw::identifier)
+                  .containsExactly("AR-02");
+              assertThat(page.getContent().get(0).score()).isEqualTo(13);
+            })
+        .verifyComplete();
+  }
+
+  @Test
+  void testFindBySearchTerms_shouldCountAllMatchesAndReturnOnlyRequestedPage() {
+    StepVerifier.create(search(new String[] {"r"}, null, PageRequest.of(1, 2)))
+        .consumeNextWith(
+            page -> {
+              // AR-01 and SR-01 score 3, AR and AR-02 score 2
+              assertThat(page.getTotalElements()).isEqualTo(4);
+              assertThat(page.getContent())
+                  .extracting(FieldOfLaw::identifier)
+                  .containsExactly("AR", "AR-02");
+            })
+        .verifyComplete();
+
+    StepVerifier.create(search(new String[] {"ar"}, null, PageRequest.of(5, 5)))
+        .consumeNextWith(page -> assertThat(page.getContent()).isEmpty())
+        .verifyComplete();
+  }
+
+  @Test
+  void testFindByNormStr_shouldFindFieldsOfLawWithNormAndLinks() {
+    StepVerifier.create(search(null, "kschg § 1", PageRequest.of(0, 10)))
+        .consumeNextWith(
+            page -> {
+              List<FieldOfLaw> result = page.getContent();
+              assertThat(result).extracting(FieldOfLaw::identifier).containsExactly("AR-02");
+              assertThat(result.get(0).norms()).containsExactly(new Norm("KSchG", "§ 1"));
+              assertThat(result.get(0).linkedFields()).containsExactly("AR-01");
+            })
+        .verifyComplete();
+  }
+
+  @Test
+  void testFindByNormStrAndSearchTerms_shouldOnlyCompareDescriptionFirst() {
+    StepVerifier.create(search(new String[] {"kündigung"}, "§ 1 kschg", PageRequest.of(0, 10)))
+        .consumeNextWith(page -> assertThat(page.getContent()).hasSize(1))
+        .verifyComplete();
+
+    StepVerifier.create(search(new String[] {"kündigung"}, "kschg § 1", PageRequest.of(0, 10)))
+        .consumeNextWith(page -> assertThat(page.getContent()).isEmpty())
+        .verifyComplete();
+  }
+
+  @Test
+  void testFindByIdentifierSearch_shouldOrderByStartAndLengthOfIdentifier() {
+    StepVerifier.create(cache.findByIdentifierSearch("01"))
+        .consumeNextWith(
+            result ->
+                assertThat(result)
+                    .extracting(FieldOfLaw::identifier)
+                    .containsExactly("AR-01", "SR-01"))
+        .verifyComplete();
+
+    StepVerifier.create(cache.findByIdentifierSearch("ar"))
+        .consumeNextWith(
+            result ->
+                assertThat(result)
+                    .extracting(FieldOfLaw::identifier)
+                    .containsExactly("AR", "AR-01", "AR-02"))
+        .verifyComplete();
+  }
+
+  @Test
+  void testFindAllByOrderByIdentifierAsc_shouldReturnRequestedPage() {
+    StepVerifier.create(cache.findAllByOrderByIdentifierAsc(PageRequest.of(1, 2)))
+        .consumeNextWith(
+            result ->
+                assertThat(result)
+                    .extracting(FieldOfLaw::identifier)
+                    .containsExactly("AR-02", "SR-01"))
+        .verifyComplete();
+
+    StepVerifier.create(cache.count()).expectNext(4L).verifyComplete();
+  }
+
+  @Test
+  void testGetTopLevelNodes_shouldReturnFieldsOfLawWithoutParent() {
+    StepVerifier.create(cache.getTopLevelNodes())
+        .consumeNextWith(
+            result ->
+                assertThat(result)
+                    .extracting(FieldOfLaw::identifier)
+                    .containsExactly("AR", "SR-01"))
+        .verifyComplete();
+  }
+
+  @Test
+  void testFindChildrenByParentIdentifier_shouldReturnOrderedChildren() {
+    StepVerifier.create(cache.findChildrenByParentIdentifier("AR"))
+        .consumeNextWith(
+            result ->
+                assertThat(result)
+                    .extracting(FieldOfLaw::identifier)
+                    .containsExactly("AR-01", "AR-02"))
+        .verifyComplete();
+
+    StepVerifier.create(cache.findChildrenByParentIdentifier("SR-01"))
+        .consumeNextWith(result -> assertThat(result).isEmpty())
+        .verifyComplete();
+  }
+
+  @Test
+  void testFindParentByChildIdentifier() {
+    StepVerifier.create(cache.findParentByChildIdentifier("AR-02"))
+        .consumeNextWith(parent -> assertThat(parent.identifier()).isEqualTo("AR"))
+        .verifyComplete();
+
+    StepVerifier.create(cache.findParentByChildIdentifier("AR"))
+        .consumeNextWith(parent -> assertThat(parent.identifier()).isEqualTo("AR"))
+        .verifyComplete();
+
+    StepVerifier.create(cache.findParentByChildIdentifier("XY")).verifyComplete();
+  }
+
+  @Test
+  void testSearch_shouldLoadCatalogueOnceAndReturnCopies() {
+    List<FieldOfLaw> first =
+        search(new String[] {"ar-01"}, null, Pageable.unpaged()).block().getContent();
+    first.get(0).children().add(FieldOfLaw.builder().identifier("AR-01-01").build());
+
+    List<FieldOfLaw> second =
+        search(new String[] {"ar-01"}, null, Pageable.unpaged()).block().getContent();
+
+    assertThat(second.get(0).children()).isEmpty();
+    verify(fieldOfLawRepository, times(1)).findAll();
+  }
+
+  private Mono<Page<FieldOfLaw>> search(String[] searchTerms, String normStr, Pageable pageable) {
+    return cache.findBySearchTermsAndNormStrOrderByScore(searchTerms, normStr, pageable);
+  }
+}
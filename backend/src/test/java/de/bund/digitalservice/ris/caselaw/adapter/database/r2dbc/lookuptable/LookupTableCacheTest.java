@@ -0,0 +1,122 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentationOfficeRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(SpringExtension.class)
+@Import({LookupTableCache.class})
+class LookupTableCacheTest {
+  @Autowired LookupTableCache cache;
+
+  @MockBean DatabaseDocumentTypeRepository documentTypeRepository;
+  @MockBean DatabaseCourtRepository courtRepository;
+  @MockBean StateRepository stateRepository;
+  @MockBean DatabaseCitationStyleRepository citationStyleRepository;
+  @MockBean DatabaseDocumentationOfficeRepository documentationOfficeRepository;
+
+  private final DocumentTypeDTO documentType =
+      DocumentTypeDTO.builder().id(1L).jurisShortcut("Ur").label("Urteil").build();
+
+  @BeforeEach
+  void setUp() {
+    when(documentTypeRepository.findAll()).thenReturn(Flux.just(documentType));
+    when(courtRepository.findAll()).thenReturn(Flux.empty());
+    when(stateRepository.findAll()).thenReturn(Flux.empty());
+    when(citationStyleRepository.findAll()).thenReturn(Flux.empty());
+    when(documentationOfficeRepository.findAll()).thenReturn(Flux.empty());
+    cache.invalidate();
+  }
+
+  @Test
+  void testFindDocumentType_shouldLoadTablesOnce() {
+    StepVerifier.create(cache.findDocumentTypeById(1L)).expectNext(documentType).verifyComplete();
+    StepVerifier.create(cache.findDocumentTypeByJurisShortcut("Ur"))
+        .expectNext(documentType)
+        .verifyComplete();
+
+    verify(documentTypeRepository, times(1)).findAll();
+    verify(documentTypeRepository, never()).findById(1L);
+    verify(documentTypeRepository, never()).findByJurisShortcut("Ur");
+  }
+
+  @Test
+  void testFindDocumentType_withUnknownId_shouldAskRepository() {
+    DocumentTypeDTO newDocumentType = DocumentTypeDTO.builder().id(2L).build();
+    when(documentTypeRepository.findById(2L)).thenReturn(Mono.just(newDocumentType));
+
+    StepVerifier.create(cache.findDocumentTypeById(2L))
+        .expectNext(newDocumentType)
+        .verifyComplete();
+
+    verify(documentTypeRepository).findById(2L);
+  }
+
+  @Test
+  void testFindDocumentType_withDuplicateShortcut_shouldAskRepository() {
+    DocumentTypeDTO duplicate = DocumentTypeDTO.builder().id(2L).jurisShortcut("Ur").build();
+    when(documentTypeRepository.findAll()).thenReturn(Flux.just(documentType, duplicate));
+    when(documentTypeRepository.findByJurisShortcut("Ur")).thenReturn(Mono.empty());
+
+    StepVerifier.create(cache.findDocumentTypeByJurisShortcut("Ur")).verifyComplete();
+
+    verify(documentTypeRepository).findByJurisShortcut("Ur");
+  }
+
+  @Test
+  void testSearchCaselawDocumentTypes_shouldOnlyFindCaselawDocumentTypes() {
+    DocumentTypeDTO caselaw =
+        DocumentTypeDTO.builder()
+            .id(2L)
+            .jurisShortcut("Bes")
+            .label("Beschluss")
+            .documentType('R')
+            .build();
+    DocumentTypeDTO norm =
+        DocumentTypeDTO.builder()
+            .id(3L)
+            .jurisShortcut("BesV")
+            .label("Beschluss")
+            .documentType('N')
+            .build();
+    when(documentTypeRepository.findAll()).thenReturn(Flux.just(documentType, caselaw, norm));
+
+    StepVerifier.create(cache.searchCaselawDocumentTypes("bes"))
+        .expectNext(List.of(caselaw))
+        .verifyComplete();
+  }
+
+  @Test
+  void testInvalidate_shouldLoadTablesAgain() {
+    cache.findDocumentTypeById(1L).block();
+
+    cache.invalidate();
+    cache.findDocumentTypeById(1L).block();
+
+    verify(documentTypeRepository, times(2)).findAll();
+  }
+
+  @Test
+  void testFind_withFailingLoad_shouldAskRepository() {
+    when(stateRepository.findAll()).thenReturn(Flux.error(new IllegalStateException()));
+    when(documentTypeRepository.findById(1L)).thenReturn(Mono.just(documentType));
+
+    StepVerifier.create(cache.findDocumentTypeById(1L)).expectNext(documentType).verifyComplete();
+
+    verify(documentTypeRepository).findById(1L);
+  }
+}
@@ -0,0 +1,59 @@
+package de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class LookupTableSearchIndexTest {
+
+  @Test
+  void testSearch_shouldRankByPriorityClassAndLabel() {
+    LookupTableSearchIndex<String> index =
+        new LookupTableSearchIndex<>(
+            List.of(
+                "Kammer für Baulandsachen Ulm",
+                "Gericht Potsdam",
+                "Landsitzungskammer Hamburg",
+                "Verwaltungsgericht der Landeskirche Frankfurt",
+                "England Court",
+                "Landgericht Amberg",
+                "Jugendgericht des Haupt-Landes München"),
+            Function.identity());
+
+    assertThat(index.search("land"))
+        .containsExactly(
+            "Landgericht Amberg",
+            "Landsitzungskammer Hamburg",
+            "Jugendgericht des Haupt-Landes München",
+            "Verwaltungsgericht der Landeskirche Frankfurt",
+            "England Court",
+            "Kammer für Baulandsachen Ulm");
+  }
+
+  @Test
+  void testSearch_shouldIgnoreCaseOfUmlauts() {
+    LookupTableSearchIndex<String> index =
+        new LookupTableSearchIndex<>(
+            List.of("Amtsgericht München", "Amtsgericht Berlin"), Function.identity());
+
+    assertThat(index.search("MÜN")).containsExactly("Amtsgericht München");
+  }
+
+  @Test
+  void testSearch_withNullLabel_shouldNotFail() {
+    LookupTableSearchIndex<String> index =
+        new LookupTableSearchIndex<>(List.of("BGH", "AG Berlin"), label -> null);
+
+    assertThat(index.search("BGH")).isEmpty();
+  }
+
+  @Test
+  void testSearch_withoutMatch_shouldReturnEmptyList() {
+    LookupTableSearchIndex<String> index =
+        new LookupTableSearchIndex<>(List.of("BGH", "AG Berlin"), Function.identity());
+
+    assertThat(index.search("Hamburg")).isEmpty();
+  }
+}
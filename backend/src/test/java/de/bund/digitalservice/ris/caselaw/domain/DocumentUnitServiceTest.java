@@ -74,6 +74,10 @@ class DocumentUnitServiceTest {
 
   @MockBean private DatabaseDocumentUnitStatusService documentUnitStatusService;
 
+  @MockBean private ConverterService converterService;
+
+  @MockBean private FileConversionService fileConversionService;
+
   @MockBean private Validator validator;
 
   @Test
@@ -118,6 +122,10 @@ class DocumentUnitServiceTest {
     when(repository.attachFile(TEST_UUID, TEST_UUID.toString(), "docx", "testfile.docx"))
         .thenReturn(Mono.just(savedDocumentUnit));
     when(repository.findByUuid(TEST_UUID)).thenReturn(Mono.just(savedDocumentUnit));
+    when(converterService.invalidateConvertedObject(TEST_UUID.toString()))
+        .thenReturn(Mono.empty());
+    when(fileConversionService.requestConversion(TEST_UUID, TEST_UUID.toString()))
+        .thenReturn(Mono.empty());
 
     doNothing().when(service).checkDocx(any(ByteBuffer.class));
     when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
@@ -147,6 +155,8 @@ class DocumentUnitServiceTest {
           .expectNext(ByteBuffer.wrap(new byte[] {}))
           .verifyComplete();
       verify(repository).attachFile(TEST_UUID, TEST_UUID.toString(), "docx", "testfile.docx");
+      verify(converterService).invalidateConvertedObject(TEST_UUID.toString());
+      verify(fileConversionService).requestConversion(TEST_UUID, TEST_UUID.toString());
     }
   }
 
@@ -166,6 +176,8 @@ class DocumentUnitServiceTest {
     when(repository.removeFile(TEST_UUID)).thenReturn(Mono.just(documentUnitAfter));
     when(s3AsyncClient.deleteObject(any(DeleteObjectRequest.class)))
         .thenReturn(buildEmptyDeleteObjectResponse());
+    when(converterService.invalidateConvertedObject(TEST_UUID.toString()))
+        .thenReturn(Mono.empty());
 
     StepVerifier.create(service.removeFileFromDocumentUnit(TEST_UUID))
         .consumeNextWith(
@@ -176,6 +188,7 @@ class DocumentUnitServiceTest {
         .verifyComplete();
 
     verify(repository).removeFile(TEST_UUID);
+    verify(converterService).invalidateConvertedObject(TEST_UUID.toString());
   }
 
   @Test
@@ -450,6 +463,32 @@ class DocumentUnitServiceTest {
     verify(publishService).getPublications(TEST_UUID);
   }
 
+  @Test
+  void testGetPagedPublicationHistory() {
+    PageRequest pageRequest = PageRequest.of(1, 2);
+    PublicationHistoryEntry entry =
+        PublicationHistoryEntry.builder()
+            .id("1")
+            .type(PublicationHistoryRecordType.PUBLICATION)
+            .date(Instant.now())
+            .statusCode("200")
+            .build();
+    when(publishService.getPublicationHistory(TEST_UUID, pageRequest))
+        .thenReturn(Flux.just(entry));
+    when(publishService.countPublicationHistory(TEST_UUID)).thenReturn(Mono.just(3L));
+
+    StepVerifier.create(service.getPublicationHistory(TEST_UUID, pageRequest))
+        .consumeNextWith(
+            page -> {
+              assertThat(page.getContent()).containsExactly(entry);
+              assertThat(page.getTotalElements()).isEqualTo(3);
+              assertThat(page.getNumber()).isEqualTo(1);
+            })
+        .verifyComplete();
+    verify(publishService, never()).getPublications(TEST_UUID);
+    verify(publicationReportRepository, never()).getAllByDocumentUnitUuid(TEST_UUID);
+  }
+
   @Test
   void testSearchByProceedingDecision() {
     ProceedingDecision proceedingDecision = ProceedingDecision.builder().build();
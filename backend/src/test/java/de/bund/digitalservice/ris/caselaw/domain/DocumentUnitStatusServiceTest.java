@@ -1,10 +1,12 @@
 package de.bund.digitalservice.ris.caselaw.domain;
 
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyBoolean;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import de.bund.digitalservice.ris.caselaw.adapter.DatabaseDocumentUnitStatusService;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentUnitLatestStatusRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentUnitStatusRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitStatusDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.PostgresDocumentUnitRepositoryImpl;
@@ -25,6 +27,8 @@ class DocumentUnitStatusServiceTest {
 
   @MockBean private DatabaseDocumentUnitStatusRepository repository;
 
+  @MockBean private DatabaseDocumentUnitLatestStatusRepository latestStatusRepository;
+
   @MockBean private PostgresDocumentUnitRepositoryImpl documentUnitRepository;
 
   @Test
@@ -34,6 +38,8 @@ class DocumentUnitStatusServiceTest {
 
     when(repository.save(any(DocumentUnitStatusDTO.class)))
         .thenReturn(Mono.just(documentUnitStatusDTO));
+    when(latestStatusRepository.upsert(any(), any(), anyBoolean(), any()))
+        .thenReturn(Mono.just(1));
     when(documentUnitRepository.findByUuid(documentUnit.uuid()))
         .thenReturn(Mono.just(documentUnit));
 
@@ -41,6 +47,7 @@ class DocumentUnitStatusServiceTest {
 
     verify(service).setInitialStatus(documentUnit);
     verify(repository).save(any(DocumentUnitStatusDTO.class));
+    verify(latestStatusRepository).upsert(any(), any(), anyBoolean(), any());
     verify(documentUnitRepository).findByUuid(documentUnit.uuid());
   }
 }
@@ -1,15 +1,21 @@
 package de.bund.digitalservice.ris.caselaw.domain;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import de.bund.digitalservice.ris.caselaw.adapter.DocxConverterService;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.ConversionContext;
+import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConversionCache;
 import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConverter;
 import de.bund.digitalservice.ris.caselaw.adapter.converter.docx.DocxConverterException;
 import de.bund.digitalservice.ris.caselaw.config.ConverterConfig;
@@ -25,15 +31,21 @@ import de.bund.digitalservice.ris.caselaw.domain.docx.RunTextElement;
 import de.bund.digitalservice.ris.caselaw.domain.docx.TableCellElement;
 import de.bund.digitalservice.ris.caselaw.domain.docx.TableElement;
 import de.bund.digitalservice.ris.caselaw.domain.docx.TableRowElement;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
 import javax.xml.parsers.DocumentBuilderFactory;
 import org.docx4j.openpackaging.exceptions.Docx4JException;
 import org.docx4j.openpackaging.exceptions.InvalidFormatException;
@@ -62,9 +74,15 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
@@ -76,9 +94,35 @@ import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
 @ExtendWith(SpringExtension.class)
-@Import({DocxConverterService.class, ConverterConfig.class})
+@Import({
+  DocxConverterService.class,
+  SimpleMeterRegistry.class,
+  DocxConverterServiceTest.TestConfig.class
+})
 class DocxConverterServiceTest {
 
+  /**
+   * Convert on the calling thread. The static mocks of {@link WordprocessingMLPackage} only apply
+   * to the thread of the test.
+   */
+  @TestConfiguration
+  static class TestConfig {
+    @Bean
+    public Scheduler docxConversionScheduler() {
+      return Schedulers.immediate();
+    }
+
+    @Bean
+    public DocxConversionCache docxConversionCache() {
+      return new DocxConversionCache(100_000_000L, null);
+    }
+
+    @Bean
+    public DocumentBuilderFactory documentBuilderFactory() {
+      return new ConverterConfig().documentBuilderFactory();
+    }
+  }
+
   @Autowired DocxConverterService service;
 
   @MockBean S3AsyncClient client;
@@ -89,11 +133,18 @@ class DocxConverterServiceTest {
 
   @Autowired DocumentBuilderFactory documentBuilderFactory;
 
+  @Autowired SimpleMeterRegistry meterRegistry;
+
+  @Autowired DocxConversionCache conversionCache;
+
   @MockBean DocxConverter converter;
 
-  @Captor ArgumentCaptor<Map<String, Style>> styleMapCaptor;
+  @Captor ArgumentCaptor<ConversionContext> contextCaptor;
 
-  @Captor ArgumentCaptor<Map<String, DocxImagePart>> imageMapCaptor;
+  @BeforeEach
+  void setUp() {
+    conversionCache.evict("test.docx").block();
+  }
 
   @Test
   void testGetOriginalText() {
@@ -126,6 +177,22 @@ class DocxConverterServiceTest {
         .verifyComplete();
   }
 
+  @Test
+  void testGetDocxFiles_shouldExcludeConvertedHtml() {
+    ListObjectsV2Response response =
+        ListObjectsV2Response.builder()
+            .contents(
+                S3Object.builder().key("test.docx").build(),
+                S3Object.builder().key("converted/test.docx/1.html").build())
+            .build();
+    when(client.listObjectsV2(any(ListObjectsV2Request.class)))
+        .thenReturn(CompletableFuture.completedFuture(response));
+
+    StepVerifier.create(service.getDocxFiles())
+        .consumeNextWith(stringList -> assertEquals(List.of("test.docx"), stringList))
+        .verifyComplete();
+  }
+
   @Test
   void testGetHtml() {
     new TestDocumentGenerator(client, responseBytes, mlPackage, converter)
@@ -159,6 +226,157 @@ class DocxConverterServiceTest {
     }
   }
 
+  @Test
+  void testGetHtml_withSaturatedConversionScheduler_shouldBeRejected() {
+    when(client.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class)))
+        .thenReturn(CompletableFuture.completedFuture(responseBytes));
+    Scheduler saturatedScheduler =
+        Schedulers.fromExecutor(
+            command -> {
+              throw new RejectedExecutionException();
+            });
+    DocxConverterService saturatedService =
+        new DocxConverterService(
+            client,
+            documentBuilderFactory,
+            converter,
+            saturatedScheduler,
+            new DocxConversionCache(0, null),
+            meterRegistry);
+
+    StepVerifier.create(saturatedService.getConvertedObject("test.docx"))
+        .expectErrorSatisfies(
+            ex -> {
+              assertTrue(ex instanceof ResponseStatusException);
+              assertEquals(
+                  HttpStatus.TOO_MANY_REQUESTS, ((ResponseStatusException) ex).getStatusCode());
+            })
+        .verify();
+    verify(responseBytes, never()).asInputStream();
+  }
+
+  @Test
+  void testGetHtml_twice_shouldConvertOnlyOnce() {
+    new TestDocumentGenerator(client, responseBytes, mlPackage, converter)
+        .addContent("1", generateText("test"))
+        .generate();
+
+    try (MockedStatic<WordprocessingMLPackage> mockedMLPackageStatic =
+        mockStatic(WordprocessingMLPackage.class)) {
+      mockedMLPackageStatic
+          .when(() -> WordprocessingMLPackage.load(any(InputStream.class)))
+          .thenReturn(mlPackage);
+
+      StepVerifier.create(service.getConvertedObject("test.docx"))
+          .consumeNextWith(docx2Html -> assertEquals("<p>test</p>", docx2Html.content()))
+          .verifyComplete();
+      StepVerifier.create(service.getConvertedObject("test.docx"))
+          .consumeNextWith(docx2Html -> assertEquals("<p>test</p>", docx2Html.content()))
+          .verifyComplete();
+
+      verify(client, times(1))
+          .getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class));
+      mockedMLPackageStatic.verify(
+          () -> WordprocessingMLPackage.load(any(InputStream.class)), times(1));
+    }
+  }
+
+  @Test
+  void testGetHtml_afterInvalidation_shouldConvertAgain() {
+    new TestDocumentGenerator(client, responseBytes, mlPackage, converter)
+        .addContent("1", generateText("test"))
+        .generate();
+
+    try (MockedStatic<WordprocessingMLPackage> mockedMLPackageStatic =
+        mockStatic(WordprocessingMLPackage.class)) {
+      mockedMLPackageStatic
+          .when(() -> WordprocessingMLPackage.load(any(InputStream.class)))
+          .thenReturn(mlPackage);
+
+      StepVerifier.create(service.getConvertedObject("test.docx"))
+          .expectNextCount(1)
+          .verifyComplete();
+      StepVerifier.create(service.invalidateConvertedObject("test.docx")).verifyComplete();
+      StepVerifier.create(service.getConvertedObject("test.docx"))
+          .expectNextCount(1)
+          .verifyComplete();
+
+      verify(client, times(2))
+          .getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class));
+    }
+  }
+
+  @Test
+  void testGetConvertedHtml_shouldStreamHtmlAsUtf8() {
+    new TestDocumentGenerator(client, responseBytes, mlPackage, converter)
+        .addContent("1", generateText("täst"))
+        .addContent("2", generateBorderNumber("1"))
+        .addContent("3", generateText("border number 1"))
+        .generate();
+
+    try (MockedStatic<WordprocessingMLPackage> mockedMLPackageStatic =
+        mockStatic(WordprocessingMLPackage.class)) {
+      mockedMLPackageStatic
+          .when(() -> WordprocessingMLPackage.load(any(InputStream.class)))
+          .thenReturn(mlPackage);
+
+      StepVerifier.create(
+              service
+                  .getConvertedHtml("test.docx")
+                  .map(StandardCharsets.UTF_8::decode)
+                  .map(CharBuffer::toString)
+                  .collect(Collectors.joining()))
+          .expectNext(
+              "<p>täst</p>"
+                  + "<border-number><number>1</number><content><p>border number 1</p></content></border-number>")
+          .verifyComplete();
+    }
+  }
+
+  @Test
+  void testGetConvertedHtml_withSurrogatePairAtChunkBoundary_shouldKeepUtf8Bytes() {
+    String html = "a".repeat(64 * 1024 - 1) + "\uD83D\uDE00" + "b".repeat(100);
+    conversionCache.put("test.docx", new Docx2Html(html)).block();
+
+    List<ByteBuffer> chunks = service.getConvertedHtml("test.docx").collectList().block();
+
+    assertNotNull(chunks);
+    assertEquals(2, chunks.size());
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    chunks.forEach(
+        chunk -> {
+          byte[] chunkBytes = new byte[chunk.remaining()];
+          chunk.get(chunkBytes);
+          bytes.writeBytes(chunkBytes);
+        });
+    assertArrayEquals(html.getBytes(StandardCharsets.UTF_8), bytes.toByteArray());
+  }
+
+  @Test
+  void testGetHtml_shouldRecordConversionMetrics() {
+    long queueWaitCount = meterRegistry.get("docx.conversion.queue.wait").timer().count();
+    long durationCount = meterRegistry.get("docx.conversion.duration").timer().count();
+    new TestDocumentGenerator(client, responseBytes, mlPackage, converter)
+        .addContent("1", generateText("test"))
+        .generate();
+
+    try (MockedStatic<WordprocessingMLPackage> mockedMLPackageStatic =
+        mockStatic(WordprocessingMLPackage.class)) {
+      mockedMLPackageStatic
+          .when(() -> WordprocessingMLPackage.load(any(InputStream.class)))
+          .thenReturn(mlPackage);
+
+      StepVerifier.create(service.getConvertedObject("test.docx"))
+          .consumeNextWith(Assertions::assertNotNull)
+          .verifyComplete();
+    }
+
+    assertEquals(
+        queueWaitCount + 1, meterRegistry.get("docx.conversion.queue.wait").timer().count());
+    assertEquals(
+        durationCount + 1, meterRegistry.get("docx.conversion.duration").timer().count());
+  }
+
   @Test
   void testGetHtml_withStyleInformation() {
     when(client.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class)))
@@ -173,7 +391,7 @@ class DocxConverterServiceTest {
     when(styleDefinitionsPart.getJaxbElement()).thenReturn(styles);
     when(mainDocumentPart.getStyleDefinitionsPart()).thenReturn(styleDefinitionsPart);
     when(mlPackage.getMainDocumentPart()).thenReturn(mainDocumentPart);
-    when(mainDocumentPart.getContent()).thenReturn(Collections.emptyList());
+    when(mainDocumentPart.getContent()).thenReturn(List.of("1"));
 
     try (MockedStatic<WordprocessingMLPackage> mockedMLPackageStatic =
         mockStatic(WordprocessingMLPackage.class)) {
@@ -185,9 +403,10 @@ class DocxConverterServiceTest {
           .consumeNextWith(Assertions::assertNotNull)
           .verifyComplete();
 
-      verify(converter).setStyles(styleMapCaptor.capture());
-      assertTrue(styleMapCaptor.getValue().containsKey("test-style"));
-      assertEquals(style, styleMapCaptor.getValue().get("test-style"));
+      verify(converter).convert(eq("1"), contextCaptor.capture());
+      Map<String, Style> styleMapValue = contextCaptor.getValue().styles();
+      assertTrue(styleMapValue.containsKey("test-style"));
+      assertEquals(style, styleMapValue.get("test-style"));
     }
   }
 
@@ -225,7 +444,7 @@ class DocxConverterServiceTest {
     when(parts.getParts()).thenReturn(partMap);
     when(mlPackage.getParts()).thenReturn(parts);
     when(mlPackage.getMainDocumentPart()).thenReturn(mainDocumentPart);
-    when(mainDocumentPart.getContent()).thenReturn(Collections.emptyList());
+    when(mainDocumentPart.getContent()).thenReturn(List.of("1"));
 
     try (MockedStatic<WordprocessingMLPackage> mockedMLPackageStatic =
         mockStatic(WordprocessingMLPackage.class)) {
@@ -237,8 +456,8 @@ class DocxConverterServiceTest {
           .consumeNextWith(Assertions::assertNotNull)
           .verifyComplete();
 
-      verify(converter).setImages(imageMapCaptor.capture());
-      Map<String, DocxImagePart> imageMapValue = imageMapCaptor.getValue();
+      verify(converter).convert(eq("1"), contextCaptor.capture());
+      Map<String, DocxImagePart> imageMapValue = contextCaptor.getValue().images();
       assertEquals(3, imageMapValue.values().size());
       assertTrue(imageMapValue.containsKey("emfPart"));
       assertEquals("image/x-emf", imageMapValue.get("emfPart").contentType());
@@ -1737,7 +1956,7 @@ class DocxConverterServiceTest {
 
     private TestDocumentGenerator addContent(String id, DocumentUnitDocx documentUnitDocx) {
       ids.add(id);
-      when(converter.convert(id)).thenReturn(documentUnitDocx);
+      when(converter.convert(eq(id), any(ConversionContext.class))).thenReturn(documentUnitDocx);
 
       return this;
     }
@@ -24,6 +24,8 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.Dat
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseCourtRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseDocumentTypeRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseFieldOfLawRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.FieldOfLawCache;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.LookupTableCache;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.StateDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.StateRepository;
 import java.nio.ByteBuffer;
@@ -65,6 +67,10 @@ class LookupTableImporterServiceTest {
 
   @MockBean private JPAFieldOfLawLinkRepository jpaFieldOfLawLinkRepository;
 
+  @MockBean private LookupTableCache lookupTableCache;
+
+  @MockBean private FieldOfLawCache fieldOfLawCache;
+
   @Test
   void testImportDocumentTypeLookupTable() {
     when(databaseDocumentTypeRepository.deleteAll()).thenReturn(Mono.empty());
@@ -187,6 +193,7 @@ class LookupTableImporterServiceTest {
 
     verify(stateRepository).deleteAll();
     verify(stateRepository).saveAll(anyCollection());
+    verify(lookupTableCache).invalidate();
   }
 
   @Test
@@ -236,6 +243,7 @@ class LookupTableImporterServiceTest {
 
     verify(databaseCitationStyleRepository).deleteAll();
     verify(databaseCitationStyleRepository).saveAll(citationStyleDTOS);
+    verify(lookupTableCache).invalidate();
   }
 
   @Test
@@ -312,5 +320,6 @@ class LookupTableImporterServiceTest {
     verify(jpaFieldOfLawRepository, atMostOnce()).saveAll(jpaFieldOfLawDTOS);
     verify(fieldOfLawRepository, never()).deleteAll();
     verify(fieldOfLawRepository, never()).saveAll(anyCollection());
+    verify(fieldOfLawCache).invalidate();
   }
 }
@@ -1,6 +1,8 @@
 package de.bund.digitalservice.ris.caselaw.domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -11,6 +13,7 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.Dat
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseDocumentTypeRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DocumentTypeDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.FieldOfLawKeywordRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.LookupTableCache;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.NormRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.PostgresCitationStyleRepositoryImpl;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.PostgresCourtRepositoryImpl;
@@ -28,6 +31,7 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 @ExtendWith(SpringExtension.class)
@@ -47,6 +51,7 @@ class LookupTableServiceTest {
   @MockBean private FieldOfLawRepository fieldOfLawRepository;
   @MockBean private NormRepository normRepository;
   @MockBean private FieldOfLawKeywordRepository fieldOfLawKeywordRepository;
+  @MockBean private LookupTableCache lookupTableCache;
 
   @Test
   void testGetDocumentTypes() {
@@ -96,6 +101,40 @@ class LookupTableServiceTest {
     verify(databaseCourtRepository).findAllByOrderByCourttypeAscCourtlocationAsc();
   }
 
+  @Test
+  void testGetCourtsWithSearchQuery_shouldSearchInLookupTableCache() {
+    CourtDTO court = new CourtDTO();
+    court.setCourttype("LG");
+    court.setCourtlocation("Hamburg");
+    court.setSuperiorcourt("Nein");
+    court.setForeigncountry("Nein");
+
+    when(lookupTableCache.searchCourts("Ham")).thenReturn(Mono.just(List.of(court)));
+
+    StepVerifier.create(service.getCourts(Optional.of("Ham")))
+        .expectNext(new Court("LG", "Hamburg", "LG Hamburg", null))
+        .verifyComplete();
+
+    verify(databaseCourtRepository, never()).findBySearchStr(anyString());
+  }
+
+  @Test
+  void testGetCourtsWithSearchQuery_withFailingLookupTableCache_shouldSearchInDatabase() {
+    CourtDTO court = new CourtDTO();
+    court.setCourttype("LG");
+    court.setCourtlocation("Hamburg");
+    court.setSuperiorcourt("Nein");
+    court.setForeigncountry("Nein");
+
+    when(lookupTableCache.searchCourts("Ham"))
+        .thenReturn(Mono.error(new IllegalStateException("no connection")));
+    when(databaseCourtRepository.findBySearchStr("Ham")).thenReturn(Flux.just(court));
+
+    StepVerifier.create(service.getCourts(Optional.of("Ham")))
+        .expectNext(new Court("LG", "Hamburg", "LG Hamburg", null))
+        .verifyComplete();
+  }
+
   @Test
   void testGetCitationStyles() {
     UUID TEST_UUID = UUID.randomUUID();
@@ -15,13 +15,16 @@ import de.bund.digitalservice.ris.caselaw.adapter.DocumentUnitController;
 import de.bund.digitalservice.ris.caselaw.adapter.DocxConverterService;
 import de.bund.digitalservice.ris.caselaw.adapter.KeycloakUserService;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentUnitRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentUnitLatestStatusRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentUnitStatusRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentationOfficeRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabasePublicationReportRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitIdCache;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitStatusDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.PostgresDocumentUnitRepositoryImpl;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.PostgresPublicationReportRepositoryImpl;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.LookupTableCache;
 import de.bund.digitalservice.ris.caselaw.config.FlywayConfig;
 import de.bund.digitalservice.ris.caselaw.config.PostgresConfig;
 import de.bund.digitalservice.ris.caselaw.config.SecurityConfig;
@@ -29,6 +32,7 @@ import de.bund.digitalservice.ris.caselaw.domain.DataSource;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitStatus;
 import de.bund.digitalservice.ris.caselaw.domain.EmailPublishService;
+import de.bund.digitalservice.ris.caselaw.domain.FileConversionService;
 import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -61,6 +65,8 @@ import software.amazon.awssdk.services.s3.S3AsyncClient;
       DatabaseDocumentNumberService.class,
       DatabaseDocumentUnitStatusService.class,
       PostgresDocumentUnitRepositoryImpl.class,
+      LookupTableCache.class,
+      DocumentUnitIdCache.class,
       PostgresPublicationReportRepositoryImpl.class,
       FlywayConfig.class,
       PostgresConfig.class,
@@ -94,12 +100,14 @@ class DocumentUnitControllerAuthIntegrationTest {
   @Autowired private RisWebTestClient risWebTestClient;
   @Autowired private DatabaseDocumentUnitRepository repository;
   @Autowired private DatabaseDocumentUnitStatusRepository statusRepository;
+  @Autowired private DatabaseDocumentUnitLatestStatusRepository latestStatusRepository;
   @Autowired private DatabaseDocumentationOfficeRepository documentationOfficeRepository;
 
   @Autowired private DatabasePublicationReportRepository databasePublishReportRepository;
 
   @MockBean private S3AsyncClient s3AsyncClient;
   @MockBean private EmailPublishService publishService;
+  @MockBean private FileConversionService fileConversionService;
   @MockBean DocxConverterService docxConverterService;
   @MockBean ReactiveClientRegistrationRepository clientRegistrationRepository;
 
@@ -300,6 +308,24 @@ class DocumentUnitControllerAuthIntegrationTest {
     assertThat(extractUuid(result.getResponseBody())).hasToString(docUnit1.getUuid().toString());
   }
 
+  @Test
+  void testDocumentUnitWithoutStatusIsAccessibleForOtherOffice() {
+    DocumentUnitDTO docUnit = createNewDocumentUnitDTO(UUID.randomUUID(), docOffice1Id);
+
+    EntityExchangeResult<String> result =
+        risWebTestClient
+            .withLogin(docOffice2Group)
+            .get()
+            .uri("/api/v1/caselaw/documentunits/" + docUnit.getDocumentnumber())
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBody(String.class)
+            .returnResult();
+
+    assertThat(extractUuid(result.getResponseBody())).hasToString(docUnit.getUuid().toString());
+  }
+
   private DocumentUnitDTO createNewDocumentUnitDTO(
       UUID documentationUnitUuid, UUID documentationOfficeId) {
     String documentNumber =
@@ -329,6 +355,9 @@ class DocumentUnitControllerAuthIntegrationTest {
                 .newEntry(true)
                 .build())
         .block();
+    latestStatusRepository
+        .upsert(docUnitDTO.getUuid(), status.publicationStatus(), status.withError(), createdAt)
+        .block();
   }
 
   private String extractStatusByUuid(String responseBody, UUID uuid) {
@@ -16,20 +16,33 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumen
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentationOfficeRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitFieldsOfLawDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitIdCache;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentationOfficeDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.PostgresDocumentUnitRepositoryImpl;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.PostgresFieldOfLawRepositoryImpl;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.PostgresKeywordRepositoryImpl;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseFieldOfLawRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.FieldOfLawCache;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.FieldOfLawDTO;
-import de.bund.digitalservice.ris.caselaw.adapter.transformer.DocumentUnitTransformer;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.FieldOfLawKeywordDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.FieldOfLawKeywordRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.FieldOfLawLinkDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.FieldOfLawLinkRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.LookupTableCache;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.NormDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.NormRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.transformer.DocumentationOfficeTransformer;
 import de.bund.digitalservice.ris.caselaw.config.FlywayConfig;
 import de.bund.digitalservice.ris.caselaw.config.PostgresConfig;
 import de.bund.digitalservice.ris.caselaw.config.SecurityConfig;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitAccessInfo;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitService;
 import de.bund.digitalservice.ris.caselaw.domain.UserService;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.FieldOfLaw;
+import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.Keyword;
+import de.bund.digitalservice.ris.caselaw.domain.lookuptable.fieldoflaw.Norm;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -52,8 +65,11 @@ import reactor.test.StepVerifier;
       FlywayConfig.class,
       PostgresConfig.class,
       PostgresDocumentUnitRepositoryImpl.class,
+      LookupTableCache.class,
+      DocumentUnitIdCache.class,
       PostgresKeywordRepositoryImpl.class,
       PostgresFieldOfLawRepositoryImpl.class,
+      FieldOfLawCache.class,
       SecurityConfig.class,
       AuthService.class,
       TestConfig.class
@@ -77,6 +93,9 @@ class DocumentUnitFieldOfLawIntegrationTest {
   @Autowired private DatabaseDocumentUnitRepository documentUnitRepository;
   @Autowired private DatabaseDocumentUnitFieldsOfLawRepository documentUnitFieldsOfLawRepository;
   @Autowired private DatabaseDocumentationOfficeRepository documentationOfficeRepository;
+  @Autowired private FieldOfLawKeywordRepository keywordRepository;
+  @Autowired private NormRepository normRepository;
+  @Autowired private FieldOfLawLinkRepository linkRepository;
 
   @MockBean private DocumentUnitService documentUnitService;
   @MockBean private UserService userService;
@@ -94,6 +113,9 @@ class DocumentUnitFieldOfLawIntegrationTest {
 
   @AfterEach
   void cleanUp() {
+    keywordRepository.deleteAll().block();
+    normRepository.deleteAll().block();
+    linkRepository.deleteAll().block();
     fieldOfLawRepository.deleteAll().block();
     documentUnitRepository.deleteAll().block();
     documentUnitFieldsOfLawRepository.deleteAll().block();
@@ -114,8 +136,8 @@ class DocumentUnitFieldOfLawIntegrationTest {
                         .build())
             .block();
 
-    when(documentUnitService.getByUuid(documentUnitUuid))
-        .thenReturn(Mono.just(DocumentUnitTransformer.transformDTO(documentUnitDTO)));
+    when(documentUnitService.getAccessInfoByUuid(documentUnitUuid))
+        .thenReturn(Mono.just(buildAccessInfo(documentUnitDTO)));
 
     generateFieldsOfLaw("SF-01", "SF-02");
 
@@ -148,8 +170,8 @@ class DocumentUnitFieldOfLawIntegrationTest {
                     .build())
             .block();
 
-    when(documentUnitService.getByUuid(documentUnitUuid))
-        .thenReturn(Mono.just(DocumentUnitTransformer.transformDTO(documentUnitDTO)));
+    when(documentUnitService.getAccessInfoByUuid(documentUnitUuid))
+        .thenReturn(Mono.just(buildAccessInfo(documentUnitDTO)));
 
     assertThat(documentUnitDTO).isNotNull();
 
@@ -188,8 +210,8 @@ class DocumentUnitFieldOfLawIntegrationTest {
                     .build())
             .block();
 
-    when(documentUnitService.getByUuid(documentUnitUuid))
-        .thenReturn(Mono.just(DocumentUnitTransformer.transformDTO(documentUnitDTO)));
+    when(documentUnitService.getAccessInfoByUuid(documentUnitUuid))
+        .thenReturn(Mono.just(buildAccessInfo(documentUnitDTO)));
 
     assertThat(documentUnitDTO).isNotNull();
 
@@ -213,11 +235,81 @@ class DocumentUnitFieldOfLawIntegrationTest {
                     .containsExactly("AR-02", "SF-01", "XR-01-02", "XR-03"));
   }
 
+  @Test
+  void testGetAllFieldsOfLawForDocumentUnit_shouldReturnKeywordsNormsAndLinkedFieldsOfLaw() {
+    UUID documentUnitUuid = UUID.randomUUID();
+    DocumentUnitDTO documentUnitDTO =
+        documentUnitRepository
+            .save(
+                DocumentUnitDTO.builder()
+                    .uuid(documentUnitUuid)
+                    .documentationOffice(docOfficeDTO)
+                    .documentnumber("docnr12345678")
+                    .creationtimestamp(Instant.now())
+                    .build())
+            .block();
+
+    when(documentUnitService.getAccessInfoByUuid(documentUnitUuid))
+        .thenReturn(Mono.just(buildAccessInfo(documentUnitDTO)));
+
+    assertThat(documentUnitDTO).isNotNull();
+
+    generateAndAddFieldsOfLaw(documentUnitDTO.getId(), "SF-01", "SF-02");
+    FieldOfLawDTO first = fieldOfLawRepository.findByIdentifier("SF-01").block();
+    FieldOfLawDTO second = fieldOfLawRepository.findByIdentifier("SF-02").block();
+    FieldOfLawDTO linked = generateFieldOfLaw("AR-01");
+    keywordRepository
+        .saveAll(
+            List.of(
+                FieldOfLawKeywordDTO.builder().fieldOfLawId(first.getId()).value("b").build(),
+                FieldOfLawKeywordDTO.builder().fieldOfLawId(first.getId()).value("a").build()))
+        .blockLast();
+    normRepository
+        .save(
+            NormDTO.builder()
+                .fieldOfLawId(second.getId())
+                .abbreviation("BGB")
+                .singleNormDescription("§ 1")
+                .build())
+        .block();
+    linkRepository
+        .save(
+            FieldOfLawLinkDTO.builder()
+                .fieldOfLawId(second.getId())
+                .linkedFieldOfLawId(linked.getId())
+                .build())
+        .block();
+
+    risWebTestClient
+        .withDefaultLogin()
+        .get()
+        .uri(
+            "/api/v1/caselaw/documentunits/"
+                + documentUnitUuid
+                + "/contentrelatedindexing/fieldsoflaw")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(FieldOfLaw[].class)
+        .consumeWith(
+            response -> {
+              FieldOfLaw[] fieldsOfLaw = response.getResponseBody();
+              assertThat(fieldsOfLaw).extracting("identifier").containsExactly("SF-01", "SF-02");
+              assertThat(fieldsOfLaw[0].keywords())
+                  .containsExactly(new Keyword("a"), new Keyword("b"));
+              assertThat(fieldsOfLaw[0].norms()).isEmpty();
+              assertThat(fieldsOfLaw[0].linkedFields()).isEmpty();
+              assertThat(fieldsOfLaw[1].keywords()).isEmpty();
+              assertThat(fieldsOfLaw[1].norms()).containsExactly(new Norm("BGB", "§ 1"));
+              assertThat(fieldsOfLaw[1].linkedFields()).containsExactly("AR-01");
+            });
+  }
+
   @Test
   void testGetAllFieldsOfLawForDocumentUnit_forNotExistingDocumentUnit_shouldReturnForbidden() {
     UUID documentUnitUuid = UUID.randomUUID();
 
-    when(documentUnitService.getByUuid(documentUnitUuid)).thenReturn(Mono.empty());
+    when(documentUnitService.getAccessInfoByUuid(documentUnitUuid)).thenReturn(Mono.empty());
 
     risWebTestClient
         .withDefaultLogin()
@@ -245,8 +337,8 @@ class DocumentUnitFieldOfLawIntegrationTest {
                     .build())
             .block();
 
-    when(documentUnitService.getByUuid(documentUnitUuid))
-        .thenReturn(Mono.just(DocumentUnitTransformer.transformDTO(documentUnitDTO)));
+    when(documentUnitService.getAccessInfoByUuid(documentUnitUuid))
+        .thenReturn(Mono.just(buildAccessInfo(documentUnitDTO)));
 
     assertThat(documentUnitDTO).isNotNull();
 
@@ -286,8 +378,8 @@ class DocumentUnitFieldOfLawIntegrationTest {
                     .build())
             .block();
 
-    when(documentUnitService.getByUuid(documentUnitUuid))
-        .thenReturn(Mono.just(DocumentUnitTransformer.transformDTO(documentUnitDTO)));
+    when(documentUnitService.getAccessInfoByUuid(documentUnitUuid))
+        .thenReturn(Mono.just(buildAccessInfo(documentUnitDTO)));
 
     assertThat(documentUnitDTO).isNotNull();
 
@@ -316,7 +408,7 @@ class DocumentUnitFieldOfLawIntegrationTest {
   void testAddFieldsOfLawForDocumentUnit_withNotExistingDocumentUnit_shouldReturnForbidden() {
     UUID documentUnitUuid = UUID.randomUUID();
 
-    when(documentUnitService.getByUuid(documentUnitUuid)).thenReturn(Mono.empty());
+    when(documentUnitService.getAccessInfoByUuid(documentUnitUuid)).thenReturn(Mono.empty());
 
     risWebTestClient
         .withDefaultLogin()
@@ -343,8 +435,8 @@ class DocumentUnitFieldOfLawIntegrationTest {
             .build();
     documentUnitDTO = documentUnitRepository.save(documentUnitDTO).block();
 
-    when(documentUnitService.getByUuid(documentUnitUuid))
-        .thenReturn(Mono.just(DocumentUnitTransformer.transformDTO(documentUnitDTO)));
+    when(documentUnitService.getAccessInfoByUuid(documentUnitUuid))
+        .thenReturn(Mono.just(buildAccessInfo(documentUnitDTO)));
 
     assertThat(documentUnitDTO).isNotNull();
 
@@ -383,8 +475,8 @@ class DocumentUnitFieldOfLawIntegrationTest {
                     .build())
             .block();
 
-    when(documentUnitService.getByUuid(documentUnitUuid))
-        .thenReturn(Mono.just(DocumentUnitTransformer.transformDTO(documentUnitDTO)));
+    when(documentUnitService.getAccessInfoByUuid(documentUnitUuid))
+        .thenReturn(Mono.just(buildAccessInfo(documentUnitDTO)));
 
     assertThat(documentUnitDTO).isNotNull();
 
@@ -420,8 +512,8 @@ class DocumentUnitFieldOfLawIntegrationTest {
                     .build())
             .block();
 
-    when(documentUnitService.getByUuid(documentUnitUuid))
-        .thenReturn(Mono.just(DocumentUnitTransformer.transformDTO(documentUnitDTO)));
+    when(documentUnitService.getAccessInfoByUuid(documentUnitUuid))
+        .thenReturn(Mono.just(buildAccessInfo(documentUnitDTO)));
 
     assertThat(documentUnitDTO).isNotNull();
 
@@ -461,8 +553,8 @@ class DocumentUnitFieldOfLawIntegrationTest {
                     .build())
             .block();
 
-    when(documentUnitService.getByUuid(documentUnitUuid))
-        .thenReturn(Mono.just(DocumentUnitTransformer.transformDTO(documentUnitDTO)));
+    when(documentUnitService.getAccessInfoByUuid(documentUnitUuid))
+        .thenReturn(Mono.just(buildAccessInfo(documentUnitDTO)));
 
     assertThat(documentUnitDTO).isNotNull();
 
@@ -491,7 +583,7 @@ class DocumentUnitFieldOfLawIntegrationTest {
   void testRemoveFieldsOfLawForDocumentUnit_withNotExistingDocumentUnit_shouldReturnForbidden() {
     UUID documentUnitUuid = UUID.randomUUID();
 
-    when(documentUnitService.getByUuid(documentUnitUuid)).thenReturn(Mono.empty());
+    when(documentUnitService.getAccessInfoByUuid(documentUnitUuid)).thenReturn(Mono.empty());
 
     risWebTestClient
         .withDefaultLogin()
@@ -517,8 +609,8 @@ class DocumentUnitFieldOfLawIntegrationTest {
             .build();
     DocumentUnitDTO savedDocumentUnitDTO = documentUnitRepository.save(documentUnitDTO).block();
 
-    when(documentUnitService.getByUuid(documentUnitUuid))
-        .thenReturn(Mono.just(DocumentUnitTransformer.transformDTO(documentUnitDTO)));
+    when(documentUnitService.getAccessInfoByUuid(documentUnitUuid))
+        .thenReturn(Mono.just(buildAccessInfo(documentUnitDTO)));
 
     FieldOfLawDTO fieldOfLawDTO = FieldOfLawDTO.builder().identifier("SF-01").build();
     FieldOfLawDTO savedFieldOfLawDTO = fieldOfLawRepository.save(fieldOfLawDTO).block();
@@ -558,8 +650,8 @@ class DocumentUnitFieldOfLawIntegrationTest {
             .build();
     DocumentUnitDTO savedDocumentUnitDTO = documentUnitRepository.save(documentUnitDTO).block();
 
-    when(documentUnitService.getByUuid(documentUnitUuid))
-        .thenReturn(Mono.just(DocumentUnitTransformer.transformDTO(documentUnitDTO)));
+    when(documentUnitService.getAccessInfoByUuid(documentUnitUuid))
+        .thenReturn(Mono.just(buildAccessInfo(documentUnitDTO)));
 
     FieldOfLawDTO fieldOfLawDTO = FieldOfLawDTO.builder().identifier("SF-01").build();
     FieldOfLawDTO savedFieldOfLawDTO = fieldOfLawRepository.save(fieldOfLawDTO).block();
@@ -610,4 +702,13 @@ class DocumentUnitFieldOfLawIntegrationTest {
     FieldOfLawDTO fieldOfLawDTO1 = FieldOfLawDTO.builder().identifier(fieldOfLawIdentifier).build();
     return fieldOfLawRepository.save(fieldOfLawDTO1).block();
   }
+
+  private DocumentUnitAccessInfo buildAccessInfo(DocumentUnitDTO documentUnitDTO) {
+    return DocumentUnitAccessInfo.builder()
+        .uuid(documentUnitDTO.getUuid())
+        .documentNumber(documentUnitDTO.getDocumentnumber())
+        .documentationOffice(
+            DocumentationOfficeTransformer.transformDTO(documentUnitDTO.getDocumentationOffice()))
+        .build();
+  }
 }
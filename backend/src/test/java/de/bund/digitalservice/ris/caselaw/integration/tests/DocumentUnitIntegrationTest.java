@@ -18,14 +18,18 @@ import de.bund.digitalservice.ris.caselaw.adapter.DocxConverterService;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDeviatingDecisionDateRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentUnitMetadataRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentUnitRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentUnitLatestStatusRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentUnitStatusRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentationOfficeRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseFileConversionRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseIncorrectCourtRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabasePublicationReportRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DeviatingDecisionDateDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DeviatingEcliDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DeviatingEcliRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitIdCache;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitLatestStatusDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitStatusDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.FileNumberDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.FileNumberRepository;
@@ -36,6 +40,7 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.Cou
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseCourtRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseDocumentTypeRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DocumentTypeDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.LookupTableCache;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.StateDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.StateRepository;
 import de.bund.digitalservice.ris.caselaw.config.FlywayConfig;
@@ -46,6 +51,7 @@ import de.bund.digitalservice.ris.caselaw.domain.DocumentUnit;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitService;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
 import de.bund.digitalservice.ris.caselaw.domain.EmailPublishService;
+import de.bund.digitalservice.ris.caselaw.domain.FileConversionService;
 import de.bund.digitalservice.ris.caselaw.domain.LegalEffect;
 import de.bund.digitalservice.ris.caselaw.domain.ProceedingDecision;
 import de.bund.digitalservice.ris.caselaw.domain.Texts;
@@ -80,6 +86,8 @@ import software.amazon.awssdk.services.s3.S3AsyncClient;
       DatabaseDocumentNumberService.class,
       DatabaseDocumentUnitStatusService.class,
       PostgresDocumentUnitRepositoryImpl.class,
+      LookupTableCache.class,
+      DocumentUnitIdCache.class,
       PostgresPublicationReportRepositoryImpl.class,
       FlywayConfig.class,
       PostgresConfig.class,
@@ -112,12 +120,16 @@ class DocumentUnitIntegrationTest {
   @Autowired private DatabaseDocumentTypeRepository databaseDocumentTypeRepository;
   @Autowired private DatabaseIncorrectCourtRepository incorrectCourtRepository;
   @Autowired private DatabaseDocumentUnitStatusRepository documentUnitStatusRepository;
+  @Autowired private DatabaseDocumentUnitLatestStatusRepository latestStatusRepository;
   @Autowired private DatabaseDocumentationOfficeRepository documentationOfficeRepository;
 
   @Autowired private DatabasePublicationReportRepository databasePublishReportRepository;
+  @Autowired private DatabaseFileConversionRepository fileConversionRepository;
+  @Autowired private LookupTableCache lookupTableCache;
 
   @MockBean private S3AsyncClient s3AsyncClient;
   @MockBean private EmailPublishService publishService;
+  @MockBean private FileConversionService fileConversionService;
   @MockBean private DocxConverterService docxConverterService;
   @MockBean private UserService userService;
   @MockBean private ReactiveClientRegistrationRepository clientRegistrationRepository;
@@ -153,6 +165,7 @@ class DocumentUnitIntegrationTest {
     databaseDocumentTypeRepository.deleteAll().block();
     documentUnitStatusRepository.deleteAll().block();
     databasePublishReportRepository.deleteAll().block();
+    lookupTableCache.invalidate();
   }
 
   // TODO: write a test for add a document type with a wrong shortcut
@@ -187,6 +200,11 @@ class DocumentUnitIntegrationTest {
     assertThat(status.getPublicationStatus()).isEqualTo(UNPUBLISHED);
     assertThat(status.getDocumentUnitId()).isEqualTo(documentUnitDTO.getUuid());
     assertThat(status.getCreatedAt()).isEqualTo(documentUnitDTO.getCreationtimestamp());
+
+    DocumentUnitLatestStatusDTO latestStatus =
+        latestStatusRepository.findById(documentUnitDTO.getUuid()).block();
+    assertThat(latestStatus).isNotNull();
+    assertThat(latestStatus.getPublicationStatus()).isEqualTo(UNPUBLISHED);
   }
 
   @Test
@@ -921,4 +939,70 @@ class DocumentUnitIntegrationTest {
                   .isEqualTo(PUBLISHED);
             });
   }
+
+  @Test
+  void testGetDocumentUnit_withBrokenFile_shouldShowConversionError() {
+    DocumentUnitDTO dto =
+        repository
+            .save(
+                DocumentUnitDTO.builder()
+                    .uuid(UUID.randomUUID())
+                    .creationtimestamp(Instant.now())
+                    .documentnumber("1234567890123")
+                    .documentationOfficeId(documentationOfficeUuid)
+                    .s3path("broken.docx")
+                    .build())
+            .block();
+    fileConversionRepository
+        .upsert(dto.getUuid(), "broken.docx", 12L, "Couldn't load docx file!", Instant.now())
+        .block();
+
+    risWebTestClient
+        .withDefaultLogin()
+        .get()
+        .uri("/api/v1/caselaw/documentunits/" + dto.getDocumentnumber())
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(DocumentUnit.class)
+        .consumeWith(
+            response -> {
+              assertThat(response.getResponseBody()).isNotNull();
+              assertThat(response.getResponseBody().fileConversion().errorMessage())
+                  .isEqualTo("Couldn't load docx file!");
+            });
+  }
+
+  @Test
+  void testGetDocumentUnit_withReplacedFile_shouldIgnoreOldConversion() {
+    DocumentUnitDTO dto =
+        repository
+            .save(
+                DocumentUnitDTO.builder()
+                    .uuid(UUID.randomUUID())
+                    .creationtimestamp(Instant.now())
+                    .documentnumber("1234567890123")
+                    .documentationOfficeId(documentationOfficeUuid)
+                    .s3path("broken.docx")
+                    .build())
+            .block();
+    fileConversionRepository
+        .upsert(dto.getUuid(), "broken.docx", 12L, "Couldn't load docx file!", Instant.now())
+        .block();
+    repository.save(dto.toBuilder().s3path("new.docx").build()).block();
+
+    risWebTestClient
+        .withDefaultLogin()
+        .get()
+        .uri("/api/v1/caselaw/documentunits/" + dto.getDocumentnumber())
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(DocumentUnit.class)
+        .consumeWith(
+            response -> {
+              assertThat(response.getResponseBody()).isNotNull();
+              assertThat(response.getResponseBody().fileConversion()).isNull();
+            });
+  }
 }
@@ -15,16 +15,19 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumen
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentationOfficeRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseKeywordRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitIdCache;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentationOfficeDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.KeywordDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.PostgresDocumentUnitRepositoryImpl;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.PostgresFieldOfLawRepositoryImpl;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.PostgresKeywordRepositoryImpl;
-import de.bund.digitalservice.ris.caselaw.adapter.transformer.DocumentUnitTransformer;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.FieldOfLawCache;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.LookupTableCache;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.DocumentationOfficeTransformer;
 import de.bund.digitalservice.ris.caselaw.config.FlywayConfig;
 import de.bund.digitalservice.ris.caselaw.config.PostgresConfig;
 import de.bund.digitalservice.ris.caselaw.config.SecurityConfig;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitAccessInfo;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitService;
 import de.bund.digitalservice.ris.caselaw.domain.UserService;
 import java.time.Instant;
@@ -49,8 +52,11 @@ import reactor.core.publisher.Mono;
       FlywayConfig.class,
       PostgresConfig.class,
       PostgresDocumentUnitRepositoryImpl.class,
+      LookupTableCache.class,
+      DocumentUnitIdCache.class,
       PostgresKeywordRepositoryImpl.class,
       PostgresFieldOfLawRepositoryImpl.class,
+      FieldOfLawCache.class,
       SecurityConfig.class,
       AuthService.class,
       TestConfig.class
@@ -73,6 +79,7 @@ class DocumentUnitKeywordIntegrationTest {
   @Autowired private DatabaseKeywordRepository keywordRepository;
   @Autowired private DatabaseDocumentUnitRepository documentUnitRepository;
   @Autowired private DatabaseDocumentationOfficeRepository documentationOfficeRepository;
+  @Autowired private DocumentUnitIdCache documentUnitIdCache;
 
   @MockBean private DocumentUnitService documentUnitService;
   @MockBean private UserService userService;
@@ -94,6 +101,7 @@ class DocumentUnitKeywordIntegrationTest {
   void cleanUp() {
     keywordRepository.deleteAll().block();
     documentUnitRepository.deleteAll().block();
+    documentUnitIdCache.evict(TEST_UUID);
   }
 
   @Test
@@ -109,8 +117,8 @@ class DocumentUnitKeywordIntegrationTest {
                     .build())
             .block();
 
-    when(documentUnitService.getByUuid(TEST_UUID))
-        .thenReturn(Mono.just(DocumentUnitTransformer.transformDTO(documentUnitDTO)));
+    when(documentUnitService.getAccessInfoByUuid(TEST_UUID))
+        .thenReturn(Mono.just(buildAccessInfo(documentUnitDTO)));
 
     risWebTestClient
         .withDefaultLogin()
@@ -136,8 +144,8 @@ class DocumentUnitKeywordIntegrationTest {
                     .build())
             .block();
 
-    when(documentUnitService.getByUuid(TEST_UUID))
-        .thenReturn(Mono.just(DocumentUnitTransformer.transformDTO(documentUnitDTO)));
+    when(documentUnitService.getAccessInfoByUuid(TEST_UUID))
+        .thenReturn(Mono.just(buildAccessInfo(documentUnitDTO)));
 
     KeywordDTO keywordDTO01 =
         KeywordDTO.builder().documentUnitId(documentUnitDTO.getId()).keyword("keyword01").build();
@@ -162,7 +170,7 @@ class DocumentUnitKeywordIntegrationTest {
 
   @Test
   void testGetAllKeywordsForDocumentUnit_forNonExistingDocumentUnit_shouldReturnForbidden() {
-    when(documentUnitService.getByUuid(TEST_UUID)).thenReturn(Mono.empty());
+    when(documentUnitService.getAccessInfoByUuid(TEST_UUID)).thenReturn(Mono.empty());
 
     risWebTestClient
         .withDefaultLogin()
@@ -186,8 +194,8 @@ class DocumentUnitKeywordIntegrationTest {
                     .build())
             .block();
 
-    when(documentUnitService.getByUuid(TEST_UUID))
-        .thenReturn(Mono.just(DocumentUnitTransformer.transformDTO(documentUnitDTO)));
+    when(documentUnitService.getAccessInfoByUuid(TEST_UUID))
+        .thenReturn(Mono.just(buildAccessInfo(documentUnitDTO)));
 
     risWebTestClient
         .withDefaultLogin()
@@ -206,7 +214,7 @@ class DocumentUnitKeywordIntegrationTest {
 
   @Test
   void testAddKeywordForNonExistingDocumentUnit_shouldReturnForbidden() {
-    when(documentUnitService.getByUuid(TEST_UUID)).thenReturn(Mono.empty());
+    when(documentUnitService.getAccessInfoByUuid(TEST_UUID)).thenReturn(Mono.empty());
 
     risWebTestClient
         .withDefaultLogin()
@@ -234,8 +242,8 @@ class DocumentUnitKeywordIntegrationTest {
                     .build())
             .block();
 
-    when(documentUnitService.getByUuid(TEST_UUID))
-        .thenReturn(Mono.just(DocumentUnitTransformer.transformDTO(documentUnitDTO)));
+    when(documentUnitService.getAccessInfoByUuid(TEST_UUID))
+        .thenReturn(Mono.just(buildAccessInfo(documentUnitDTO)));
 
     KeywordDTO keywordDTO01 =
         KeywordDTO.builder().documentUnitId(documentUnitDTO.getId()).keyword("keyword01").build();
@@ -269,8 +277,8 @@ class DocumentUnitKeywordIntegrationTest {
                     .build())
             .block();
 
-    when(documentUnitService.getByUuid(TEST_UUID))
-        .thenReturn(Mono.just(DocumentUnitTransformer.transformDTO(documentUnitDTO)));
+    when(documentUnitService.getAccessInfoByUuid(TEST_UUID))
+        .thenReturn(Mono.just(buildAccessInfo(documentUnitDTO)));
 
     KeywordDTO keywordDTO01 =
         KeywordDTO.builder().documentUnitId(documentUnitDTO.getId()).keyword("keyword01").build();
@@ -303,8 +311,8 @@ class DocumentUnitKeywordIntegrationTest {
                     .build())
             .block();
 
-    when(documentUnitService.getByUuid(TEST_UUID))
-        .thenReturn(Mono.just(DocumentUnitTransformer.transformDTO(documentUnitDTO)));
+    when(documentUnitService.getAccessInfoByUuid(TEST_UUID))
+        .thenReturn(Mono.just(buildAccessInfo(documentUnitDTO)));
 
     KeywordDTO keywordDTO01 =
         KeywordDTO.builder().documentUnitId(documentUnitDTO.getId()).keyword("keyword01").build();
@@ -324,4 +332,13 @@ class DocumentUnitKeywordIntegrationTest {
         .consumeWith(
             response -> assertThat(response.getResponseBody()).containsExactly("keyword01"));
   }
+
+  private DocumentUnitAccessInfo buildAccessInfo(DocumentUnitDTO documentUnitDTO) {
+    return DocumentUnitAccessInfo.builder()
+        .uuid(documentUnitDTO.getUuid())
+        .documentNumber(documentUnitDTO.getDocumentnumber())
+        .documentationOffice(
+            DocumentationOfficeTransformer.transformDTO(documentUnitDTO.getDocumentationOffice()))
+        .build();
+  }
 }
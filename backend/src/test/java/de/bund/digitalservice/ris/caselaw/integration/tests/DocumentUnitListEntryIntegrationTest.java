@@ -18,11 +18,13 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumen
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentUnitStatusRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentationOfficeRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitIdCache;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentationOfficeDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.FileNumberDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.FileNumberRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.PostgresDocumentUnitRepositoryImpl;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.PostgresPublicationReportRepositoryImpl;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.LookupTableCache;
 import de.bund.digitalservice.ris.caselaw.adapter.transformer.DocumentationOfficeTransformer;
 import de.bund.digitalservice.ris.caselaw.config.FlywayConfig;
 import de.bund.digitalservice.ris.caselaw.config.PostgresConfig;
@@ -30,6 +32,7 @@ import de.bund.digitalservice.ris.caselaw.config.SecurityConfig;
 import de.bund.digitalservice.ris.caselaw.domain.DataSource;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitService;
 import de.bund.digitalservice.ris.caselaw.domain.EmailPublishService;
+import de.bund.digitalservice.ris.caselaw.domain.FileConversionService;
 import de.bund.digitalservice.ris.caselaw.domain.UserService;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -60,6 +63,8 @@ import software.amazon.awssdk.services.s3.S3AsyncClient;
       DatabaseDocumentUnitStatusService.class,
       DatabaseDocumentNumberService.class,
       PostgresDocumentUnitRepositoryImpl.class,
+      LookupTableCache.class,
+      DocumentUnitIdCache.class,
       PostgresPublicationReportRepositoryImpl.class,
       FlywayConfig.class,
       PostgresConfig.class,
@@ -90,6 +95,7 @@ class DocumentUnitListEntryIntegrationTest {
 
   @MockBean S3AsyncClient s3AsyncClient;
   @MockBean EmailPublishService publishService;
+  @MockBean FileConversionService fileConversionService;
   @MockBean DocxConverterService docxConverterService;
   @MockBean UserService userService;
   @MockBean ReactiveClientRegistrationRepository clientRegistrationRepository;
@@ -250,4 +256,75 @@ class DocumentUnitListEntryIntegrationTest {
     Integer totalElements = JsonPath.read(result.getResponseBody(), "$.totalElements");
     assertThat(totalElements).isEqualTo(99);
   }
+
+  @Test
+  void testForCorrectKeysetPagination() {
+    Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    List<DocumentUnitDTO> documents =
+        IntStream.range(0, 7)
+            .mapToObj(
+                i ->
+                    DocumentUnitDTO.builder()
+                        .uuid(UUID.randomUUID())
+                        // two documentation units with the same timestamp on each page border
+                        .creationtimestamp(now.minus(i / 2, ChronoUnit.DAYS))
+                        .documentnumber("123456780" + i)
+                        .dataSource(DataSource.NEURIS)
+                        .documentationOfficeId(docOfficeDTO.getId())
+                        .build())
+            .collect(Collectors.toList());
+    repository.saveAll(documents).blockLast();
+
+    List<String> documentNumbers = new ArrayList<>();
+    String cursor = null;
+    int pageCount = 0;
+    do {
+      String uri = "/api/v1/caselaw/documentunits?sz=3&count=true";
+      if (cursor != null) {
+        uri += "&cursor=" + cursor;
+      }
+
+      EntityExchangeResult<String> result =
+          risWebTestClient
+              .withDefaultLogin()
+              .get()
+              .uri(uri)
+              .exchange()
+              .expectStatus()
+              .isOk()
+              .expectBody(String.class)
+              .returnResult();
+
+      List<String> pageDocumentNumbers =
+          JsonPath.read(result.getResponseBody(), "$.content[*].documentNumber");
+      documentNumbers.addAll(pageDocumentNumbers);
+      Integer totalElements = JsonPath.read(result.getResponseBody(), "$.totalElements");
+      assertThat(totalElements).isEqualTo(7);
+      cursor = JsonPath.read(result.getResponseBody(), "$.nextCursor");
+      pageCount++;
+    } while (cursor != null);
+
+    assertThat(pageCount).isEqualTo(3);
+    // ordered by the creation timestamp and then by the id of the saved documentation units
+    assertThat(documentNumbers)
+        .containsExactly(
+            "1234567801",
+            "1234567800",
+            "1234567803",
+            "1234567802",
+            "1234567805",
+            "1234567804",
+            "1234567806");
+  }
+
+  @Test
+  void testKeysetPagination_withInvalidCursor_shouldReturnUnprocessableEntity() {
+    risWebTestClient
+        .withDefaultLogin()
+        .get()
+        .uri("/api/v1/caselaw/documentunits?sz=3&cursor=invalid")
+        .exchange()
+        .expectStatus()
+        .isEqualTo(422);
+  }
 }
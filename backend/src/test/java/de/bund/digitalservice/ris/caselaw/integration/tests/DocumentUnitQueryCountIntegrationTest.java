@@ -0,0 +1,380 @@
+package de.bund.digitalservice.ris.caselaw.integration.tests;
+
+import static de.bund.digitalservice.ris.caselaw.AuthUtils.buildDefaultDocOffice;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.bund.digitalservice.ris.caselaw.StatementCountingConfig;
+import de.bund.digitalservice.ris.caselaw.StatementCountingConnectionFactory;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentUnitNormRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentUnitRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentationOfficeRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentationUnitLinkRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseKeywordRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitIdCache;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitNormDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentationUnitLinkDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.FileNumberDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.FileNumberRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.KeywordDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.PostgresDocumentUnitRepositoryImpl;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.CitationStyleDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseCitationStyleRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseNormAbbreviationRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.LookupTableCache;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.NormAbbreviationDTO;
+import de.bund.digitalservice.ris.caselaw.config.FlywayConfig;
+import de.bund.digitalservice.ris.caselaw.config.PostgresConfig;
+import de.bund.digitalservice.ris.caselaw.domain.DataSource;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnit;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitAccessInfo;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitStatus;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationOffice;
+import de.bund.digitalservice.ris.caselaw.domain.DocumentationUnitLinkType;
+import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
+import io.r2dbc.spi.ConnectionFactory;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.oauth2.client.registration.ReactiveClientRegistrationRepository;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+
+/**
+ * Counts the statements which are needed to load one documentation unit. The number of statements
+ * has to be independent of the number of entries in the child collections.
+ */
+@RISIntegrationTest(
+    imports = {
+      PostgresDocumentUnitRepositoryImpl.class,
+      LookupTableCache.class,
+      DocumentUnitIdCache.class,
+      FlywayConfig.class,
+      PostgresConfig.class,
+      StatementCountingConfig.class
+    })
+class DocumentUnitQueryCountIntegrationTest {
+  @Container
+  static PostgreSQLContainer<?> postgreSQLContainer = new PostgreSQLContainer<>("postgres:12");
+
+  @DynamicPropertySource
+  static void registerDynamicProperties(DynamicPropertyRegistry registry) {
+    registry.add("database.user", () -> postgreSQLContainer.getUsername());
+    registry.add("database.password", () -> postgreSQLContainer.getPassword());
+    registry.add("database.host", () -> postgreSQLContainer.getHost());
+    registry.add("database.port", () -> postgreSQLContainer.getFirstMappedPort());
+    registry.add("database.database", () -> postgreSQLContainer.getDatabaseName());
+  }
+
+  @Autowired private PostgresDocumentUnitRepositoryImpl documentUnitRepository;
+  @Autowired private DatabaseDocumentUnitRepository repository;
+  @Autowired private FileNumberRepository fileNumberRepository;
+  @Autowired private DatabaseKeywordRepository keywordRepository;
+  @Autowired private DatabaseDocumentUnitNormRepository normRepository;
+  @Autowired private DatabaseNormAbbreviationRepository normAbbreviationRepository;
+  @Autowired private DatabaseDocumentationOfficeRepository documentationOfficeRepository;
+  @Autowired private DatabaseDocumentationUnitLinkRepository linkRepository;
+  @Autowired private DatabaseCitationStyleRepository citationStyleRepository;
+  @Autowired private ConnectionFactory connectionFactory;
+  @Autowired private LookupTableCache lookupTableCache;
+
+  @MockBean private ReactiveClientRegistrationRepository clientRegistrationRepository;
+
+  private final DocumentationOffice docOffice = buildDefaultDocOffice();
+  private UUID documentationOfficeUuid;
+  private UUID citationStyleUuid;
+
+  @BeforeEach
+  void setUp() {
+    documentationOfficeUuid =
+        documentationOfficeRepository.findByLabel(docOffice.label()).block().getId();
+    citationStyleUuid = UUID.randomUUID();
+    citationStyleRepository
+        .save(
+            CitationStyleDTO.builder()
+                .uuid(citationStyleUuid)
+                .newEntry(true)
+                .jurisId(1L)
+                .changeIndicator('N')
+                .version("1.0")
+                .jurisShortcut("Vgl")
+                .label("Vergleiche")
+                .documentType('R')
+                .citationDocumentType('R')
+                .build())
+        .block();
+    lookupTableCache.reload().block();
+  }
+
+  @AfterEach
+  void cleanUp() {
+    linkRepository.deleteAll().block();
+    citationStyleRepository.deleteAll().block();
+    keywordRepository.deleteAll().block();
+    fileNumberRepository.deleteAll().block();
+    normRepository.deleteAll().block();
+    normAbbreviationRepository.deleteAll().block();
+    repository.deleteAll().block();
+  }
+
+  @Test
+  void testFindByUuid_statementCountIndependentOfChildCollectionSize() {
+    DocumentUnitDTO small = createDocumentUnit("SMALL00000001", 1);
+    DocumentUnitDTO large = createDocumentUnit("LARGE00000001", 9);
+
+    int smallStatementCount = countStatementsForFindByUuid(small.getUuid());
+    int largeStatementCount = countStatementsForFindByUuid(large.getUuid());
+
+    assertThat(largeStatementCount).isEqualTo(smallStatementCount);
+  }
+
+  @Test
+  void testFindByUuid_loadsAllChildren() {
+    DocumentUnitDTO documentUnitDTO = createDocumentUnit("LARGE00000001", 9);
+
+    DocumentUnit documentUnit =
+        documentUnitRepository.findByUuid(documentUnitDTO.getUuid()).block();
+
+    assertThat(documentUnit).isNotNull();
+    assertThat(documentUnit.coreData().fileNumbers()).hasSize(9);
+    assertThat(documentUnit.contentRelatedIndexing().keywords()).hasSize(9);
+    assertThat(documentUnit.contentRelatedIndexing().norms())
+        .hasSize(9)
+        .allSatisfy(norm -> assertThat(norm.normAbbreviation()).isNotNull());
+    assertThat(documentUnit.contentRelatedIndexing().activeCitations())
+        .hasSize(9)
+        .allSatisfy(
+            activeCitation ->
+                assertThat(activeCitation.getCitationStyle().uuid()).isEqualTo(citationStyleUuid));
+    assertThat(documentUnit.contentRelatedIndexing().activeCitations())
+        .extracting("fileNumber")
+        .containsExactly("AC 0", "AC 1", "AC 2", "AC 3", "AC 4", "AC 5", "AC 6", "AC 7", "AC 8");
+  }
+
+  @Test
+  void testSave_unchangedChildCollectionsCauseNoWrites() {
+    DocumentUnitDTO small = createDocumentUnit("SMALL00000001", 1, false);
+    DocumentUnitDTO large = createDocumentUnit("LARGE00000001", 9, false);
+
+    int smallStatementCount = countStatementsForSave(small.getUuid());
+    List<String> smallWriteStatements = getWriteStatements();
+    int largeStatementCount = countStatementsForSave(large.getUuid());
+    List<String> largeWriteStatements = getWriteStatements();
+
+    assertThat(largeStatementCount).isEqualTo(smallStatementCount);
+    // only the documentation unit row itself is written
+    assertThat(smallWriteStatements)
+        .singleElement()
+        .satisfies(sql -> assertThat(sql).startsWithIgnoringCase("UPDATE doc_unit"));
+    assertThat(largeWriteStatements)
+        .singleElement()
+        .satisfies(sql -> assertThat(sql).startsWithIgnoringCase("UPDATE doc_unit"));
+  }
+
+  @Test
+  void testSave_changedFirstFileNumber_shouldKeepOrder() {
+    DocumentUnitDTO documentUnitDTO = createDocumentUnit("LARGE00000001", 3, false);
+    DocumentUnit documentUnit =
+        documentUnitRepository.findByUuid(documentUnitDTO.getUuid()).block();
+
+    documentUnitRepository
+        .save(
+            documentUnit.toBuilder()
+                .coreData(
+                    documentUnit.coreData().toBuilder()
+                        .fileNumbers(List.of("AZ changed", "AZ 1", "AZ 2"))
+                        .build())
+                .build())
+        .block();
+
+    DocumentUnit loadedDocumentUnit =
+        documentUnitRepository.findByUuid(documentUnitDTO.getUuid()).block();
+    assertThat(loadedDocumentUnit.coreData().fileNumbers())
+        .containsExactly("AZ changed", "AZ 1", "AZ 2");
+  }
+
+  @Test
+  void testSave_changedFileNumber() {
+    DocumentUnitDTO documentUnitDTO = createDocumentUnit("LARGE00000001", 3, false);
+    DocumentUnit documentUnit =
+        documentUnitRepository.findByUuid(documentUnitDTO.getUuid()).block();
+
+    DocumentUnit savedDocumentUnit =
+        documentUnitRepository
+            .save(
+                documentUnit.toBuilder()
+                    .coreData(
+                        documentUnit.coreData().toBuilder()
+                            .fileNumbers(List.of("AZ 0", "AZ changed"))
+                            .build())
+                    .build())
+            .block();
+
+    assertThat(savedDocumentUnit.coreData().fileNumbers()).containsExactly("AZ 0", "AZ changed");
+    assertThat(savedDocumentUnit.contentRelatedIndexing().norms()).hasSize(3);
+    assertThat(
+            fileNumberRepository.findAllByDocumentUnitId(documentUnitDTO.getId()).count().block())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void testFindAccessInfoByUuid_usesOneStatement() {
+    DocumentUnitDTO documentUnitDTO = createDocumentUnit("LARGE00000001", 9);
+
+    StatementCountingConnectionFactory countingConnectionFactory =
+        (StatementCountingConnectionFactory) connectionFactory;
+    countingConnectionFactory.reset();
+
+    DocumentUnitAccessInfo accessInfo =
+        documentUnitRepository.findAccessInfoByUuid(documentUnitDTO.getUuid()).block();
+
+    assertThat(countingConnectionFactory.getStatementCount()).isEqualTo(1);
+    assertThat(accessInfo).isNotNull();
+    assertThat(accessInfo.uuid()).isEqualTo(documentUnitDTO.getUuid());
+    assertThat(accessInfo.documentNumber()).isEqualTo("LARGE00000001");
+    assertThat(accessInfo.documentationOffice()).isEqualTo(docOffice);
+    assertThat(accessInfo.status())
+        .isEqualTo(
+            DocumentUnitStatus.builder()
+                .publicationStatus(PublicationStatus.PUBLISHED)
+                .withError(false)
+                .build());
+  }
+
+  @Test
+  void testFindAccessInfoByDocumentNumber() {
+    DocumentUnitDTO documentUnitDTO = createDocumentUnit("SMALL00000001", 1);
+
+    DocumentUnitAccessInfo accessInfo =
+        documentUnitRepository.findAccessInfoByDocumentNumber("SMALL00000001").block();
+
+    assertThat(accessInfo).isNotNull();
+    assertThat(accessInfo.uuid()).isEqualTo(documentUnitDTO.getUuid());
+    assertThat(accessInfo.documentationOffice()).isEqualTo(docOffice);
+    assertThat(documentUnitRepository.findAccessInfoByDocumentNumber("UNKNOWN").block()).isNull();
+  }
+
+  private int countStatementsForSave(UUID uuid) {
+    DocumentUnit documentUnit = documentUnitRepository.findByUuid(uuid).block();
+
+    StatementCountingConnectionFactory countingConnectionFactory =
+        (StatementCountingConnectionFactory) connectionFactory;
+    countingConnectionFactory.reset();
+
+    documentUnitRepository.save(documentUnit).block();
+
+    return countingConnectionFactory.getStatementCount();
+  }
+
+  private List<String> getWriteStatements() {
+    return ((StatementCountingConnectionFactory) connectionFactory).getWriteStatements();
+  }
+
+  private int countStatementsForFindByUuid(UUID uuid) {
+    StatementCountingConnectionFactory countingConnectionFactory =
+        (StatementCountingConnectionFactory) connectionFactory;
+    countingConnectionFactory.reset();
+
+    documentUnitRepository.findByUuid(uuid).block();
+
+    return countingConnectionFactory.getStatementCount();
+  }
+
+  private DocumentUnitDTO createDocumentUnit(String documentNumber, int childCount) {
+    return createDocumentUnit(documentNumber, childCount, true);
+  }
+
+  private DocumentUnitDTO createDocumentUnit(
+      String documentNumber, int childCount, boolean withActiveCitations) {
+    DocumentUnitDTO documentUnitDTO =
+        repository
+            .save(
+                DocumentUnitDTO.builder()
+                    .uuid(UUID.randomUUID())
+                    .creationtimestamp(Instant.now())
+                    .documentnumber(documentNumber)
+                    .documentationOfficeId(documentationOfficeUuid)
+                    .build())
+            .block();
+
+    for (int i = 0; i < childCount; i++) {
+      fileNumberRepository
+          .save(
+              FileNumberDTO.builder()
+                  .documentUnitId(documentUnitDTO.getId())
+                  .fileNumber("AZ " + i)
+                  .isDeviating(false)
+                  .build())
+          .block();
+      keywordRepository
+          .save(
+              KeywordDTO.builder()
+                  .documentUnitId(documentUnitDTO.getId())
+                  .keyword("keyword " + i)
+                  .build())
+          .block();
+
+      NormAbbreviationDTO normAbbreviationDTO =
+          normAbbreviationRepository
+              .save(
+                  NormAbbreviationDTO.builder()
+                      .id(UUID.randomUUID())
+                      .newEntity(true)
+                      .abbreviation(documentNumber + " " + i)
+                      .documentId(i)
+                      .build())
+              .block();
+      normRepository
+          .save(
+              DocumentUnitNormDTO.builder()
+                  .documentUnitId(documentUnitDTO.getId())
+                  .normAbbreviationUuid(normAbbreviationDTO.getId())
+                  .build())
+          .block();
+
+      if (withActiveCitations) {
+        addActiveCitation(documentUnitDTO, documentNumber + "AC" + i, "AC " + i);
+      }
+    }
+
+    return documentUnitDTO;
+  }
+
+  private void addActiveCitation(
+      DocumentUnitDTO parentDTO, String documentNumber, String fileNumber) {
+    DocumentUnitDTO childDTO =
+        repository
+            .save(
+                DocumentUnitDTO.builder()
+                    .uuid(UUID.randomUUID())
+                    .creationtimestamp(Instant.now())
+                    .documentnumber(documentNumber)
+                    .dataSource(DataSource.ACTIVE_CITATION)
+                    .build())
+            .block();
+    fileNumberRepository
+        .save(
+            FileNumberDTO.builder()
+                .documentUnitId(childDTO.getId())
+                .fileNumber(fileNumber)
+                .isDeviating(false)
+                .build())
+        .block();
+    linkRepository
+        .save(
+            DocumentationUnitLinkDTO.builder()
+                .parentDocumentationUnitUuid(parentDTO.getUuid())
+                .childDocumentationUnitUuid(childDTO.getUuid())
+                .type(DocumentationUnitLinkType.ACTIVE_CITATION)
+                .citationStyleUuid(citationStyleUuid)
+                .build())
+        .block();
+  }
+}
@@ -8,8 +8,10 @@ import de.bund.digitalservice.ris.caselaw.TestConfig;
 import de.bund.digitalservice.ris.caselaw.adapter.AuthService;
 import de.bund.digitalservice.ris.caselaw.adapter.FieldOfLawController;
 import de.bund.digitalservice.ris.caselaw.adapter.FieldOfLawService;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitIdCache;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.PostgresFieldOfLawRepositoryImpl;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseFieldOfLawRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.FieldOfLawCache;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.FieldOfLawDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.NormDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.NormRepository;
@@ -40,6 +42,8 @@ import org.testcontainers.junit.jupiter.Container;
       FlywayConfig.class,
       PostgresConfig.class,
       PostgresFieldOfLawRepositoryImpl.class,
+      DocumentUnitIdCache.class,
+      FieldOfLawCache.class,
       SecurityConfig.class,
       AuthService.class,
       TestConfig.class
@@ -61,6 +65,7 @@ class FieldOfLawIntegrationTest {
   @Autowired private RisWebTestClient risWebTestClient;
   @Autowired private DatabaseFieldOfLawRepository repository;
   @Autowired private NormRepository normRepository;
+  @Autowired private FieldOfLawCache fieldOfLawCache;
 
   @MockBean private UserService userService;
   @MockBean ReactiveClientRegistrationRepository clientRegistrationRepository;
@@ -70,6 +75,7 @@ class FieldOfLawIntegrationTest {
   void cleanUp() {
     repository.deleteAll().block();
     normRepository.deleteAll().block();
+    fieldOfLawCache.invalidate();
   }
 
   @Test
@@ -135,7 +141,7 @@ class FieldOfLawIntegrationTest {
     assertThat((Boolean) JsonPath.read(str, "$.first")).isTrue();
     assertThat((Boolean) JsonPath.read(str, "$.last")).isFalse();
     List<String> identifiers = JsonPath.read(str, "$.content[*].identifier");
-    assertThat(identifiers).containsExactly("FL-01-01", "FL-04", "FL-02");
+    assertThat(identifiers).containsExactly("FL-01", "FL-01-01", "FL-02");
 
     result =
         risWebTestClient
@@ -157,7 +163,7 @@ class FieldOfLawIntegrationTest {
     assertThat((Boolean) JsonPath.read(str, "$.first")).isFalse();
     assertThat((Boolean) JsonPath.read(str, "$.last")).isTrue();
     identifiers = JsonPath.read(str, "$.content[*].identifier");
-    assertThat(identifiers).containsExactly("FL-01", "FL-03");
+    assertThat(identifiers).containsExactly("FL-03", "FL-04");
 
     result =
         risWebTestClient
@@ -374,6 +380,8 @@ class FieldOfLawIntegrationTest {
             .changeIndicator('N')
             .build();
     repository.save(fieldOfLawDTO).block();
+
+    fieldOfLawCache.reload().block();
   }
 
   @Test
@@ -408,6 +416,7 @@ class FieldOfLawIntegrationTest {
               .build();
       normRepository.save(normDTO).block();
     }
+    fieldOfLawCache.reload().block();
 
     EntityExchangeResult<String> result =
         risWebTestClient
@@ -441,6 +450,7 @@ class FieldOfLawIntegrationTest {
           FieldOfLawDTO.builder().id((long) i + 1).isNew(true).identifier(identifier[i]).build();
       repository.save(fieldOfLawDTO).block();
     }
+    fieldOfLawCache.reload().block();
 
     EntityExchangeResult<String> result =
         risWebTestClient
@@ -11,6 +11,7 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.Cou
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseCitationStyleRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseCourtRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.DatabaseDocumentTypeRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.LookupTableCache;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.PostgresCitationStyleRepositoryImpl;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.PostgresCourtRepositoryImpl;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.PostgresDocumentTypeRepositoryImpl;
@@ -48,6 +49,7 @@ import software.amazon.awssdk.services.s3.S3AsyncClient;
       PostgresDocumentTypeRepositoryImpl.class,
       PostgresCourtRepositoryImpl.class,
       PostgresCitationStyleRepositoryImpl.class,
+      LookupTableCache.class,
       SecurityConfig.class,
       AuthService.class,
       TestConfig.class
@@ -70,6 +72,7 @@ class LookupTableIntegrationTest {
   @Autowired private DatabaseCourtRepository databaseCourtRepository;
   @Autowired private DatabaseDocumentTypeRepository databaseDocumentTypeRepository;
   @Autowired private DatabaseCitationStyleRepository databaseCitationStyleRepository;
+  @Autowired private LookupTableCache lookupTableCache;
 
   @MockBean private FieldOfLawRepository fieldOfLawRepository;
   @MockBean private S3AsyncClient s3AsyncClient;
@@ -83,6 +86,7 @@ class LookupTableIntegrationTest {
     databaseCourtRepository.deleteAll().block();
     databaseCitationStyleRepository.deleteAll().block();
     databaseDocumentTypeRepository.deleteAll().block();
+    lookupTableCache.invalidate();
   }
 
   @Test
@@ -131,6 +135,7 @@ class LookupTableIntegrationTest {
           .save(CourtDTO.builder().courttype(court[0]).courtlocation(court[1]).build())
           .block();
     }
+    lookupTableCache.reload().block();
 
     // expected order: alphabetically within 3 priority classes:
     List<String> expectedOrder =
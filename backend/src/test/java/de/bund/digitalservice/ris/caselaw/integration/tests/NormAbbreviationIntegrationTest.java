@@ -30,6 +30,7 @@ import de.bund.digitalservice.ris.caselaw.domain.lookuptable.DocumentTypeNew;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.NormAbbreviation;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.NormAbbreviation.NormAbbreviationBuilder;
 import de.bund.digitalservice.ris.caselaw.domain.lookuptable.Region;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.time.Month;
 import java.time.ZoneId;
@@ -53,6 +54,7 @@ import software.amazon.awssdk.services.s3.S3AsyncClient;
       FlywayConfig.class,
       PostgresConfig.class,
       PostgresNormAbbreviationRepositoryImpl.class,
+      SimpleMeterRegistry.class,
       SecurityConfig.class,
       AuthService.class,
       TestConfig.class
@@ -101,6 +103,7 @@ class NormAbbreviationIntegrationTest {
   @Autowired private DatabaseDocumentTypeNewRepository documentTypeRepository;
   @Autowired private DatabaseDocumentCategoryRepository documentCategoryRepository;
   @Autowired private DatabaseRegionRepository regionRepository;
+  @Autowired private SimpleMeterRegistry meterRegistry;
 
   @Autowired
   private DatabaseNormAbbreviationDocumentTypeRepository normAbbreviationDocumentTypeRepository;
@@ -335,6 +338,81 @@ class NormAbbreviationIntegrationTest {
             });
   }
 
+  @Test
+  void testGetNormAbbreviationByAwesomeSearchQuery_returnEveryMatchOnce() {
+    generateLookupValues();
+    repository.refreshMaterializedViews().block();
+
+    risWebTestClient
+        .withDefaultLogin()
+        .get()
+        .uri("/api/v1/caselaw/normabbreviation/search?q=search&pg=0&sz=30")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(NormAbbreviation[].class)
+        .consumeWith(
+            response -> {
+              assertThat(response.getResponseBody())
+                  .extracting("id")
+                  .containsExactly(
+                      NORM_ABBREVIATION_UUID_6,
+                      NORM_ABBREVIATION_UUID_5,
+                      NORM_ABBREVIATION_UUID_7,
+                      NORM_ABBREVIATION_UUID_2,
+                      NORM_ABBREVIATION_UUID_4,
+                      NORM_ABBREVIATION_UUID_3);
+            });
+  }
+
+  @Test
+  void testGetNormAbbreviationByAwesomeSearchQuery_returnRequestedPage() {
+    generateLookupValues();
+    repository.refreshMaterializedViews().block();
+
+    risWebTestClient
+        .withDefaultLogin()
+        .get()
+        .uri("/api/v1/caselaw/normabbreviation/search?q=search&pg=1&sz=2")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(NormAbbreviation[].class)
+        .consumeWith(
+            response -> {
+              assertThat(response.getResponseBody())
+                  .extracting("id")
+                  .containsExactly(NORM_ABBREVIATION_UUID_7, NORM_ABBREVIATION_UUID_2);
+            });
+  }
+
+  @Test
+  void testRefreshMaterializedViews_shouldFindNewNormAbbreviations() {
+    generateLookupValues();
+
+    risWebTestClient
+        .withDefaultLogin()
+        .put()
+        .uri("/api/v1/caselaw/normabbreviation/refreshMaterializedViews")
+        .exchange()
+        .expectStatus()
+        .isOk();
+
+    risWebTestClient
+        .withDefaultLogin()
+        .get()
+        .uri("/api/v1/caselaw/normabbreviation/search?q=letter abbreviation query&pg=0&sz=30")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody(NormAbbreviation[].class)
+        .consumeWith(response -> assertThat(response.getResponseBody()).hasSize(3));
+
+    assertThat(meterRegistry.get("norm_abbreviation.search.age").gauge().value())
+        .isNotNaN()
+        .isLessThan(60);
+  }
+
   private void generateLookupValues() {
     NormAbbreviationDTO normAbbreviationDTO =
         NormAbbreviationDTO.builder()
@@ -17,20 +17,28 @@ import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumen
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentUnitStatusRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseDocumentationOfficeRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabasePublicationReportRepository;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseXmlPublicationMailRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DatabaseXmlPublicationRepository;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitIdCache;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.DocumentUnitStatusDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.PostgresDocumentUnitRepositoryImpl;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.PostgresPublicationReportRepositoryImpl;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.PostgresXmlPublicationRepositoryImpl;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.PublicationReportDTO;
 import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.XmlPublicationDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.XmlPublicationMailDTO;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.XmlPublicationMailState;
+import de.bund.digitalservice.ris.caselaw.adapter.database.r2dbc.lookuptable.LookupTableCache;
 import de.bund.digitalservice.ris.caselaw.config.FlywayConfig;
 import de.bund.digitalservice.ris.caselaw.config.PostgresConfig;
 import de.bund.digitalservice.ris.caselaw.config.SecurityConfig;
 import de.bund.digitalservice.ris.caselaw.domain.DocumentUnitService;
+import de.bund.digitalservice.ris.caselaw.domain.FileConversionService;
 import de.bund.digitalservice.ris.caselaw.domain.HttpMailSender;
 import de.bund.digitalservice.ris.caselaw.domain.PublicationHistoryRecordType;
+import de.bund.digitalservice.ris.caselaw.domain.PublicationReport;
+import de.bund.digitalservice.ris.caselaw.domain.PublicationReportRepository;
 import de.bund.digitalservice.ris.caselaw.domain.PublicationStatus;
 import de.bund.digitalservice.ris.caselaw.domain.XmlPublication;
 import java.time.Clock;
@@ -60,6 +68,8 @@ import software.amazon.awssdk.services.s3.S3AsyncClient;
       KeycloakUserService.class,
       DatabaseDocumentNumberService.class,
       PostgresDocumentUnitRepositoryImpl.class,
+      LookupTableCache.class,
+      DocumentUnitIdCache.class,
       PostgresXmlPublicationRepositoryImpl.class,
       PostgresPublicationReportRepositoryImpl.class,
       XmlEMailPublishService.class,
@@ -92,14 +102,17 @@ class PublishDocumentUnitIntegrationTest {
   @Autowired private RisWebTestClient risWebTestClient;
   @Autowired private DatabaseDocumentUnitRepository repository;
   @Autowired private DatabaseXmlPublicationRepository xmlPublicationRepository;
+  @Autowired private DatabaseXmlPublicationMailRepository xmlPublicationMailRepository;
   @Autowired private DatabaseDocumentUnitStatusRepository documentUnitStatusRepository;
   @Autowired private DatabaseDocumentationOfficeRepository documentationOfficeRepository;
   @Autowired private DatabasePublicationReportRepository databasePublishReportRepository;
+  @Autowired private PublicationReportRepository publicationReportRepository;
 
   @MockBean ReactiveClientRegistrationRepository clientRegistrationRepository;
   @MockBean private S3AsyncClient s3AsyncClient;
   @MockBean private HttpMailSender mailSender;
   @MockBean DocxConverterService docxConverterService;
+  @MockBean FileConversionService fileConversionService;
 
   private UUID docOfficeUuid;
 
@@ -183,6 +196,12 @@ class PublishDocumentUnitIntegrationTest {
         .ignoringFields("publishDate", "id")
         .isEqualTo(expectedXmlPublicationDTO);
 
+    XmlPublicationMailDTO xmlPublicationMailDTO =
+        xmlPublicationMailRepository.findByXmlPublicationId(xmlPublicationDTO.id()).block();
+    assertThat(xmlPublicationMailDTO.state()).isEqualTo(XmlPublicationMailState.PENDING);
+    assertThat(xmlPublicationMailDTO.attempts()).isZero();
+    assertThat(xmlPublicationMailDTO.idempotencyKey()).isNotNull();
+
     List<DocumentUnitStatusDTO> statusList =
         documentUnitStatusRepository.findAll().collectList().block();
     DocumentUnitStatusDTO status = statusList.get(statusList.size() - 1);
@@ -366,4 +385,149 @@ class PublishDocumentUnitIntegrationTest {
         .isEqualTo(PublicationHistoryRecordType.PUBLICATION.name())
         .consumeWith(System.out::println);
   }
+
+  @Test
+  void testSaveAllPublicationReports_shouldResolveDocumentNumbersInOneInsert() {
+    DocumentUnitDTO savedDocumentUnitDTO =
+        repository
+            .save(
+                DocumentUnitDTO.builder()
+                    .uuid(UUID.randomUUID())
+                    .documentationOfficeId(docOfficeUuid)
+                    .documentnumber("docnr12345678")
+                    .creationtimestamp(Instant.now())
+                    .build())
+            .block();
+    Instant receivedDate = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+    List<PublicationReport> savedReports =
+        publicationReportRepository
+            .saveAll(
+                List.of(
+                    PublicationReport.builder()
+                        .documentNumber("docnr12345678")
+                        .content("<HTML>success!</HTML>")
+                        .receivedDate(receivedDate)
+                        .build(),
+                    PublicationReport.builder()
+                        .documentNumber("unknown")
+                        .content("<HTML>unknown!</HTML>")
+                        .receivedDate(receivedDate)
+                        .build()))
+            .collectList()
+            .block();
+
+    assertThat(savedReports)
+        .extracting(PublicationReport::content)
+        .containsExactly("<HTML>success!</HTML>");
+    assertThat(
+            databasePublishReportRepository
+                .findAllByDocumentUnitId(savedDocumentUnitDTO.getUuid())
+                .collectList()
+                .block())
+        .singleElement()
+        .satisfies(
+            report -> {
+              assertThat(report.getContent()).isEqualTo("<HTML>success!</HTML>");
+              assertThat(report.getReceivedDate()).isEqualTo(receivedDate);
+            });
+    assertThat(databasePublishReportRepository.count().block()).isEqualTo(1);
+  }
+
+  @Test
+  void testPagedPublicationHistory_shouldMergeSummariesAndLoadPayloadById() {
+    DocumentUnitDTO savedDocumentUnitDTO =
+        repository
+            .save(
+                DocumentUnitDTO.builder()
+                    .uuid(UUID.randomUUID())
+                    .documentationOfficeId(docOfficeUuid)
+                    .documentnumber("docnr12345678")
+                    .creationtimestamp(Instant.now())
+                    .build())
+            .block();
+    Instant publishDate = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    XmlPublicationDTO savedXmlPublication =
+        xmlPublicationRepository
+            .save(
+                new XmlPublicationDTO(
+                    null,
+                    savedDocumentUnitDTO.getId(),
+                    "exporter@neuris.de",
+                    "mailSubject",
+                    "xml",
+                    "200",
+                    "message 1|message 2",
+                    "test.xml",
+                    publishDate))
+            .block();
+    UUID newestReportUuid = UUID.randomUUID();
+    for (PublicationReportDTO report :
+        List.of(
+            new PublicationReportDTO(
+                newestReportUuid,
+                savedDocumentUnitDTO.getUuid(),
+                "<HTML>newest</HTML>",
+                publishDate.plus(2, ChronoUnit.HOURS),
+                true),
+            new PublicationReportDTO(
+                UUID.randomUUID(),
+                savedDocumentUnitDTO.getUuid(),
+                "<HTML>oldest</HTML>",
+                publishDate.minus(1, ChronoUnit.HOURS),
+                true))) {
+      databasePublishReportRepository.save(report).block();
+    }
+
+    String historyUri =
+        "/api/v1/caselaw/documentunits/" + savedDocumentUnitDTO.getUuid() + "/publish/history";
+    risWebTestClient
+        .withDefaultLogin()
+        .get()
+        .uri(historyUri + "?pg=0&sz=2")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.totalElements")
+        .isEqualTo(3)
+        .jsonPath("$.content.length()")
+        .isEqualTo(2)
+        .jsonPath("$.content[0].id")
+        .isEqualTo(newestReportUuid.toString())
+        .jsonPath("$.content[0].type")
+        .isEqualTo(PublicationHistoryRecordType.PUBLICATION_REPORT.name())
+        .jsonPath("$.content[0].content")
+        .doesNotExist()
+        .jsonPath("$.content[1].id")
+        .isEqualTo(savedXmlPublication.id().toString())
+        .jsonPath("$.content[1].type")
+        .isEqualTo(PublicationHistoryRecordType.PUBLICATION.name())
+        .jsonPath("$.content[1].statusMessages[1]")
+        .isEqualTo("message 2")
+        .jsonPath("$.content[1].xml")
+        .doesNotExist();
+
+    risWebTestClient
+        .withDefaultLogin()
+        .get()
+        .uri(historyUri + "/publications/" + savedXmlPublication.id())
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.xml")
+        .isEqualTo("xml");
+
+    risWebTestClient
+        .withDefaultLogin()
+        .get()
+        .uri(historyUri + "/reports/" + newestReportUuid)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.content")
+        .isEqualTo("<HTML>newest</HTML>");
+  }
 }